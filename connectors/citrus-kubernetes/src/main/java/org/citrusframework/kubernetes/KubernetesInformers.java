@@ -0,0 +1,230 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.kubernetes;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.base.ResourceDefinitionContext;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import org.citrusframework.api.common.ShutdownPhase;
+import org.citrusframework.context.TestContext;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.spi.ReferenceResolver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Registry of shared informers. Keeps one informer per Kubernetes client, resource type and namespace, so concurrent
+ * tests waiting for resources of the same type share a single watch connection and local resource cache.
+ * <p>
+ * Conditions are evaluated on the cached resources and on each change event instead of polling the API server.
+ * <p>
+ * The registry is bound to the reference resolver of the Citrus context. All informers get stopped when the Citrus
+ * context is closed.
+ */
+public final class KubernetesInformers implements ShutdownPhase {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(KubernetesInformers.class);
+
+    /** Bean name of the registry in the reference resolver */
+    public static final String BEAN_NAME = "kubernetesInformers";
+
+    /** Informers by key, the future completes once the informer has been started */
+    private final Map<InformerKey, CompletableFuture<SharedIndexInformer<? extends HasMetadata>>> informers = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the informer registry bound to the reference resolver of given test context. Creates and binds a new registry
+     * when there is none yet.
+     * @param context
+     * @return
+     */
+    public static KubernetesInformers lookup(TestContext context) {
+        ReferenceResolver referenceResolver = context.getReferenceResolver();
+        synchronized (KubernetesInformers.class) {
+            if (referenceResolver.isResolvable(KubernetesInformers.class)) {
+                return referenceResolver.resolve(KubernetesInformers.class);
+            }
+
+            KubernetesInformers informers = new KubernetesInformers();
+            referenceResolver.bind(BEAN_NAME, informers);
+            return informers;
+        }
+    }
+
+    /**
+     * Gets the shared pod informer for given namespace.
+     * @param k8sClient
+     * @param namespace
+     * @return
+     */
+    public SharedIndexInformer<Pod> pods(KubernetesClient k8sClient, String namespace) {
+        return getOrCreate(new InformerKey(k8sClient, namespace, "pods"),
+                () -> k8sClient.pods().inNamespace(namespace).inform());
+    }
+
+    /**
+     * Gets the shared informer for given resource type and namespace.
+     * @param k8sClient
+     * @param namespace
+     * @param resourceType
+     * @return
+     */
+    public <T extends HasMetadata> SharedIndexInformer<T> resources(KubernetesClient k8sClient, String namespace, Class<T> resourceType) {
+        return getOrCreate(new InformerKey(k8sClient, namespace, resourceType.getName()),
+                () -> k8sClient.resources(resourceType).inNamespace(namespace).inform());
+    }
+
+    /**
+     * Gets the shared informer for given custom resource definition context and namespace.
+     * @param k8sClient
+     * @param namespace
+     * @param crdContext
+     * @return
+     */
+    public SharedIndexInformer<GenericKubernetesResource> resources(KubernetesClient k8sClient, String namespace, ResourceDefinitionContext crdContext) {
+        String resource = String.format("%s.%s/%s", crdContext.getPlural(), crdContext.getGroup(), crdContext.getVersion());
+        return getOrCreate(new InformerKey(k8sClient, namespace, resource),
+                () -> k8sClient.genericKubernetesResources(crdContext).inNamespace(namespace).inform());
+    }
+
+    /**
+     * Waits for a resource in the informer cache that matches the given condition. Evaluates the condition on all cached resources
+     * and on every resource change event. Returns the matching resource or null when the timeout is exceeded.
+     * @param informer
+     * @param condition
+     * @param timeout time to wait in milliseconds
+     * @return
+     */
+    public static <T extends HasMetadata> T await(SharedIndexInformer<T> informer, Predicate<T> condition, long timeout) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        ResourceEventHandler<T> handler = new ResourceEventHandler<>() {
+            @Override
+            public void onAdd(T resource) {
+                evaluate(resource);
+            }
+
+            @Override
+            public void onUpdate(T oldResource, T newResource) {
+                evaluate(newResource);
+            }
+
+            @Override
+            public void onDelete(T resource, boolean deletedFinalStateUnknown) {
+            }
+
+            private void evaluate(T resource) {
+                if (!result.isDone() && condition.test(resource)) {
+                    result.complete(resource);
+                }
+            }
+        };
+
+        informer.addEventHandler(handler);
+        try {
+            informer.getStore().list().stream()
+                    .filter(condition)
+                    .findFirst()
+                    .ifPresent(result::complete);
+
+            return result.get(timeout, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            throw new CitrusRuntimeException("Failed to evaluate resource condition", e.getCause());
+        } finally {
+            informer.removeEventHandler(handler);
+        }
+    }
+
+    /**
+     * Stops and removes all shared informers. Informers that are still starting get stopped as soon as they are started.
+     */
+    @Override
+    public void destroy() {
+        informers.forEach((key, informer) -> informer.thenAccept(started -> {
+            logger.debug("Stopping shared informer for '{}' in namespace '{}'", key.resource(), key.namespace());
+            started.stop();
+        }));
+        informers.clear();
+    }
+
+    /**
+     * Gets the running informer for given key or starts a new one. The informer is started outside the map so
+     * starting the informer, which waits for the initial resource list, does not block other keys. Concurrent
+     * callers for the same key wait for the informer started by the first caller.
+     */
+    @SuppressWarnings("unchecked")
+    private <T extends HasMetadata> SharedIndexInformer<T> getOrCreate(InformerKey key, Supplier<SharedIndexInformer<T>> factory) {
+        while (true) {
+            CompletableFuture<SharedIndexInformer<? extends HasMetadata>> existing = informers.get(key);
+            SharedIndexInformer<? extends HasMetadata> informer = existing != null ? join(existing) : null;
+            if (informer != null && !informer.stopped().toCompletableFuture().isDone()) {
+                return (SharedIndexInformer<T>) informer;
+            }
+
+            CompletableFuture<SharedIndexInformer<? extends HasMetadata>> created = new CompletableFuture<>();
+            boolean registered = existing != null ? informers.replace(key, existing, created) : informers.putIfAbsent(key, created) == null;
+            if (!registered) {
+                // another caller has started a new informer in the meantime
+                continue;
+            }
+
+            logger.debug("Starting shared informer for '{}' in namespace '{}'", key.resource(), key.namespace());
+            try {
+                SharedIndexInformer<T> started = factory.get();
+                created.complete(started);
+                return started;
+            } catch (RuntimeException e) {
+                informers.remove(key, created);
+                created.completeExceptionally(e);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Waits for the informer to be started.
+     * @return the started informer or null when starting the informer has failed
+     */
+    private static SharedIndexInformer<? extends HasMetadata> join(CompletableFuture<SharedIndexInformer<? extends HasMetadata>> informer) {
+        try {
+            return informer.join();
+        } catch (CompletionException e) {
+            return null;
+        }
+    }
+
+    private record InformerKey(KubernetesClient k8sClient, String namespace, String resource) {
+    }
+}
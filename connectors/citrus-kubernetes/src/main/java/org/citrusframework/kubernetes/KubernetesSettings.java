@@ -128,6 +128,16 @@ public class KubernetesSettings {
     private static final String PRINT_POD_LOGS_ENV = KUBERNETES_ENV_PREFIX + "PRINT_POD_LOGS";
     private static final String PRINT_POD_LOGS_DEFAULT = "true";
 
+    @CitrusConfigProperty(description = "Enable streaming pod logs while waiting for a pod log message instead of polling the full pod log.", type = "java.lang.Boolean", defaultValue = "false")
+    private static final String STREAM_POD_LOGS_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "stream.pod.logs";
+    private static final String STREAM_POD_LOGS_ENV = KUBERNETES_ENV_PREFIX + "STREAM_POD_LOGS";
+    private static final String STREAM_POD_LOGS_DEFAULT = "false";
+
+    @CitrusConfigProperty(description = "Enable shared informers that watch resources when waiting for pod states and resource conditions instead of polling.", type = "java.lang.Boolean", defaultValue = "false")
+    private static final String USE_INFORMERS_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "use.informers";
+    private static final String USE_INFORMERS_ENV = KUBERNETES_ENV_PREFIX + "USE_INFORMERS";
+    private static final String USE_INFORMERS_DEFAULT = "false";
+
     @CitrusConfigProperty(description = "Duration in milliseconds to watch pod logs.", type = "java.lang.Long", defaultValue = "60000")
     private static final String WATCH_LOGS_TIMEOUT_PROPERTY = KUBERNETES_PROPERTY_PREFIX + "watch.logs.timeout";
     private static final String WATCH_LOGS_TIMEOUT_ENV = KUBERNETES_ENV_PREFIX + "WATCH_LOGS_TIMEOUT";
@@ -284,6 +294,24 @@ public class KubernetesSettings {
                 System.getenv(PRINT_POD_LOGS_ENV) != null ? System.getenv(PRINT_POD_LOGS_ENV) : PRINT_POD_LOGS_DEFAULT));
     }
 
+    /**
+     * When set to true test will stream pod logs and match log messages incrementally instead of polling the full pod log.
+     * @return
+     */
+    public static boolean isStreamPodLogs() {
+        return Boolean.parseBoolean(System.getProperty(STREAM_POD_LOGS_PROPERTY,
+                System.getenv(STREAM_POD_LOGS_ENV) != null ? System.getenv(STREAM_POD_LOGS_ENV) : STREAM_POD_LOGS_DEFAULT));
+    }
+
+    /**
+     * When set to true test will use shared informers watching resources when waiting for pod states and resource conditions.
+     * @return
+     */
+    public static boolean isUseInformers() {
+        return Boolean.parseBoolean(System.getProperty(USE_INFORMERS_PROPERTY,
+                System.getenv(USE_INFORMERS_ENV) != null ? System.getenv(USE_INFORMERS_ENV) : USE_INFORMERS_DEFAULT));
+    }
+
     /**
      * Maximum number of attempts when polling for running state and log messages.
      * @return
@@ -31,6 +31,7 @@ import tools.jackson.databind.json.JsonMapper;
 import io.fabric8.kubernetes.api.model.ContainerStatus;
 import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
 import io.fabric8.kubernetes.api.model.GenericKubernetesResourceList;
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.Service;
 import io.fabric8.kubernetes.client.KubernetesClient;
@@ -170,6 +171,14 @@ public final class KubernetesSupport {
                 .list();
     }
 
+    public static GenericKubernetesResourceList getResources(KubernetesClient k8sClient, String namespace,
+                                                             ResourceDefinitionContext context, Map<String, String> labelSelector) {
+        return k8sClient.genericKubernetesResources(context)
+                .inNamespace(namespace)
+                .withLabels(labelSelector)
+                .list();
+    }
+
     public static <T> void createResource(KubernetesClient k8sClient, String namespace,
                                    ResourceDefinitionContext context, T resource) {
         createResource(k8sClient, namespace, context, yaml().dumpAsMap(resource));
@@ -213,6 +222,29 @@ public final class KubernetesSupport {
                 pod.getStatus().getContainerStatuses().stream().allMatch(ContainerStatus::getReady);
     }
 
+    /**
+     * Parses label expression of the form "key=value" to a label selector.
+     * Expressions without value select the label key with an empty value.
+     * @param labelExpression
+     * @return
+     */
+    public static Map<String, String> labelSelector(String labelExpression) {
+        String[] tokens = labelExpression.split("=");
+        return Map.of(tokens[0], tokens.length > 1 ? tokens[1] : "");
+    }
+
+    /**
+     * Checks if given resource has all labels of given label selector.
+     * @param resource
+     * @param labelSelector
+     * @return
+     */
+    public static boolean hasLabels(HasMetadata resource, Map<String, String> labelSelector) {
+        Map<String, String> labels = resource.getMetadata().getLabels();
+        return labels != null && labelSelector.entrySet().stream()
+                .allMatch(label -> label.getValue().equals(labels.get(label.getKey())));
+    }
+
     /**
      * Try to get the cluster IP address of given service.
      * Resolves service by its name in given namespace and retrieves the cluster IP setting from the service spec.
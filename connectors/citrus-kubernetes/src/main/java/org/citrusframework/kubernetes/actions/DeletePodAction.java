@@ -21,6 +21,7 @@ import java.util.List;
 import io.fabric8.kubernetes.api.model.Pod;
 import org.citrusframework.api.actions.kubernetes.KubernetesPodDeleteActionBuilder;
 import org.citrusframework.context.TestContext;
+import org.citrusframework.kubernetes.KubernetesSupport;
 
 public class DeletePodAction extends AbstractKubernetesAction {
 
@@ -42,13 +43,9 @@ public class DeletePodAction extends AbstractKubernetesAction {
                     .withName(context.replaceDynamicContentInString(podName))
                     .delete();
         } else if (labelExpression != null) {
-            String[] tokens = context.replaceDynamicContentInString(labelExpression).split("=");
-            String labelKey = tokens[0];
-            String labelValue = tokens.length > 1 ? tokens[1] : "";
-
             getKubernetesClient().pods()
                     .inNamespace(namespace(context))
-                    .withLabel(labelKey, labelValue)
+                    .withLabels(KubernetesSupport.labelSelector(context.replaceDynamicContentInString(labelExpression)))
                     .delete();
         } else {
             // delete all pods in current namespace
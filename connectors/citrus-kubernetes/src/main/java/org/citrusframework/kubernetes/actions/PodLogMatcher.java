@@ -0,0 +1,176 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.kubernetes.actions;
+
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Incremental matcher for streamed pod logs. Log content is fed chunk by chunk as it arrives, so the full log
+ * never needs to be held in memory. Chunks may split lines and messages at arbitrary positions.
+ * <p>
+ * Literal messages are searched in the raw log stream and may span multiple lines. Regular expressions are
+ * evaluated on each complete log line. Memory is bounded by the chunk size plus the maximum line length.
+ */
+public class PodLogMatcher {
+
+    /** Maximum number of characters kept for a single log line */
+    static final int MAX_LINE_LENGTH = 64 * 1024;
+
+    private final String message;
+    private final Pattern pattern;
+
+    /** Optional handler receiving each complete log line */
+    private final Consumer<String> lineHandler;
+
+    /** Trailing content of the previous chunks not yet completed by a line break */
+    private final StringBuilder pendingLine = new StringBuilder();
+
+    /** Trailing content of the previous chunks that may be the start of the literal message */
+    private String tail = "";
+
+    private boolean matched;
+
+    private PodLogMatcher(String message, Pattern pattern, Consumer<String> lineHandler) {
+        this.message = message;
+        this.pattern = pattern;
+        this.lineHandler = lineHandler;
+    }
+
+    /**
+     * Creates matcher searching for the given literal message.
+     * @param message
+     * @param lineHandler optional handler receiving each complete log line, may be null
+     * @return
+     */
+    public static PodLogMatcher literal(String message, Consumer<String> lineHandler) {
+        return new PodLogMatcher(message, null, lineHandler);
+    }
+
+    /**
+     * Creates matcher searching for log lines matching the given regular expression.
+     * @param regex
+     * @param lineHandler optional handler receiving each complete log line, may be null
+     * @return
+     */
+    public static PodLogMatcher regex(String regex, Consumer<String> lineHandler) {
+        return new PodLogMatcher(null, Pattern.compile(regex), lineHandler);
+    }
+
+    /**
+     * Feeds the next chunk of log content to this matcher.
+     * @param chunk
+     * @return true when the log has matched so far
+     */
+    public boolean accept(CharSequence chunk) {
+        if (message != null && !matched) {
+            matchLiteral(chunk);
+        }
+
+        int start = 0;
+        for (int i = 0; i < chunk.length(); i++) {
+            if (chunk.charAt(i) == '\n') {
+                appendPending(chunk, start, i);
+                completeLine();
+                start = i + 1;
+            }
+        }
+
+        appendPending(chunk, start, chunk.length());
+        return matched;
+    }
+
+    /**
+     * Marks the end of the log stream and evaluates the last log line when not terminated by a line break.
+     * @return true when the log has matched
+     */
+    public boolean complete() {
+        if (!pendingLine.isEmpty()) {
+            completeLine();
+        }
+
+        return matched;
+    }
+
+    /**
+     * Evaluates the given log content at once.
+     * @param log
+     * @return true when the log matches
+     */
+    public boolean matches(String log) {
+        accept(log);
+        return complete();
+    }
+
+    /**
+     * Gets the matched state.
+     * @return
+     */
+    public boolean isMatched() {
+        return matched;
+    }
+
+    /**
+     * Gets the message or regular expression this matcher is looking for.
+     * @return
+     */
+    public String getExpression() {
+        return message != null ? message : pattern.pattern();
+    }
+
+    private void matchLiteral(CharSequence chunk) {
+        String content = tail + chunk;
+        if (content.contains(message)) {
+            matched = true;
+            tail = "";
+            return;
+        }
+
+        // Keep just enough content to find a message split across chunk boundaries
+        int keep = Math.min(content.length(), Math.max(message.length() - 1, 0));
+        tail = content.substring(content.length() - keep);
+    }
+
+    private void appendPending(CharSequence chunk, int start, int end) {
+        if (start >= end) {
+            return;
+        }
+
+        pendingLine.append(chunk, start, end);
+        if (pendingLine.length() > MAX_LINE_LENGTH) {
+            pendingLine.delete(0, pendingLine.length() - MAX_LINE_LENGTH);
+        }
+    }
+
+    private void completeLine() {
+        int length = pendingLine.length();
+        if (length > 0 && pendingLine.charAt(length - 1) == '\r') {
+            pendingLine.setLength(length - 1);
+        }
+
+        String line = pendingLine.toString();
+        pendingLine.setLength(0);
+
+        if (lineHandler != null) {
+            lineHandler.accept(line);
+        }
+
+        if (pattern != null && !matched && pattern.matcher(line).find()) {
+            matched = true;
+        }
+    }
+}
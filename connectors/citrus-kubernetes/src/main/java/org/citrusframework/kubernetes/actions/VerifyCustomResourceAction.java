@@ -21,13 +21,16 @@ import io.fabric8.kubernetes.api.model.GenericKubernetesResourceList;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.CustomResource;
+import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.dsl.base.ResourceDefinitionContext;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
 import io.fabric8.kubernetes.model.annotation.Group;
 import io.fabric8.kubernetes.model.annotation.Version;
 import org.citrusframework.api.actions.kubernetes.KubernetesCustomResourceVerifyActionBuilder;
 import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.ActionTimeoutException;
 import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.kubernetes.KubernetesInformers;
 import org.citrusframework.kubernetes.KubernetesSettings;
 import org.citrusframework.kubernetes.KubernetesSupport;
 import org.springframework.util.StringUtils;
@@ -37,12 +40,16 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
  * Test action verifies that given Kubernetes resource matches a given condition (e.g. condition=ready). Raises errors
  * when either the resource is not found or not in expected condition state. Both operations are automatically retried
  * for a given amount of attempts.
+ * <p>
+ * By default, the action watches the resources with a shared informer and evaluates the condition on each resource change.
+ * The action falls back to polling when the resources cannot be watched.
  */
 public class VerifyCustomResourceAction extends AbstractKubernetesAction {
 
@@ -94,6 +101,21 @@ public class VerifyCustomResourceAction extends AbstractKubernetesAction {
      * @return
      */
     private void verifyResource(String name, String labelExpression, String condition, TestContext context) {
+        if (KubernetesSettings.isUseInformers()) {
+            try {
+                if (awaitResource(name, labelExpression, condition, context) != null) {
+                    logger.info("Verified resource '{}' state '{}'!", getNameOrLabel(name, labelExpression), condition);
+                    return;
+                }
+
+                throw new ActionTimeoutException((maxAttempts * delayBetweenAttempts),
+                        new CitrusRuntimeException(String.format("Failed to verify resource '%s' - " +
+                                "is not in state '%s' after %d ms", getNameOrLabel(name, labelExpression), condition, maxAttempts * delayBetweenAttempts)));
+            } catch (KubernetesClientException e) {
+                logger.warn("Failed to watch resource '{}' - continue with polling", getNameOrLabel(name, labelExpression), e);
+            }
+        }
+
         for (int i = 0; i < maxAttempts; i++) {
             HasMetadata resource;
             if (name != null && !name.isEmpty()) {
@@ -120,6 +142,66 @@ public class VerifyCustomResourceAction extends AbstractKubernetesAction {
                         "is not in state '%s' after %d attempts", getNameOrLabel(name, labelExpression), condition, maxAttempts)));
     }
 
+    /**
+     * Wait for resource to match given condition using a shared informer. Returns null on timeout.
+     * @param name
+     * @param labelExpression
+     * @param condition
+     * @param context
+     * @return
+     */
+    private HasMetadata awaitResource(String name, String labelExpression, String condition, TestContext context) {
+        long timeout = maxAttempts * delayBetweenAttempts;
+        Predicate<HasMetadata> selected = selector(name, labelExpression);
+        KubernetesInformers informers = KubernetesInformers.lookup(context);
+
+        if (resourceType != null) {
+            return awaitResource(informers.resources(getKubernetesClient(), namespace(context), resourceType),
+                    resource -> selected.test(resource) && verifyCustomResourceStatus(resource, condition), timeout);
+        }
+
+        return KubernetesInformers.await(informers.resources(getKubernetesClient(), namespace(context), getCrdContext(context)),
+                resource -> selected.test(resource) && verifyResourceStatus(resource.getAdditionalProperties(), condition), timeout);
+    }
+
+    private static <T extends HasMetadata> T awaitResource(SharedIndexInformer<T> informer, Predicate<HasMetadata> condition, long timeout) {
+        return KubernetesInformers.await(informer, condition::test, timeout);
+    }
+
+    /**
+     * Selects resources by name or label expression.
+     * @param name
+     * @param labelExpression
+     * @return
+     */
+    private static Predicate<HasMetadata> selector(String name, String labelExpression) {
+        if (name != null && !name.isEmpty()) {
+            return resource -> name.equals(resource.getMetadata().getName());
+        }
+
+        if (labelExpression == null || labelExpression.isEmpty()) {
+            return resource -> false;
+        }
+
+        Map<String, String> labelSelector = KubernetesSupport.labelSelector(labelExpression);
+        return resource -> KubernetesSupport.hasLabels(resource, labelSelector);
+    }
+
+    /**
+     * Checks typed custom resource status with expected condition.
+     * @param resource
+     * @param condition
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    private boolean verifyCustomResourceStatus(HasMetadata resource, String condition) {
+        if (resource instanceof CustomResource<?, ?> customResource && customResource.getStatus() == null) {
+            return false;
+        }
+
+        return verifyResourceStatus(KubernetesSupport.json().convertValue(resource, Map.class), condition);
+    }
+
     /**
      * Retrieve resource given state.
      * @param name
@@ -161,14 +243,12 @@ public class VerifyCustomResourceAction extends AbstractKubernetesAction {
             return null;
         }
 
-        String[] tokens = labelExpression.split("=");
-        String labelKey = tokens[0];
-        String labelValue = tokens.length > 1 ? tokens[1] : "";
+        Map<String, String> labelSelector = KubernetesSupport.labelSelector(labelExpression);
 
         if (resourceType != null) {
             KubernetesResourceList<? extends CustomResource<?, ?>> resourceList = getKubernetesClient().resources(resourceType)
                     .inNamespace(namespace(context))
-                    .withLabel(labelKey, labelValue)
+                    .withLabels(labelSelector)
                     .list();
 
             for (CustomResource<?, ?> listItem : resourceList.getItems()) {
@@ -181,7 +261,7 @@ public class VerifyCustomResourceAction extends AbstractKubernetesAction {
         } else {
             GenericKubernetesResourceList resourceList = KubernetesSupport.getResources(getKubernetesClient(),
                     namespace(context),
-                    getCrdContext(context), labelKey, labelValue);
+                    getCrdContext(context), labelSelector);
 
             return resourceList.getItems().stream()
                     .filter(resource -> this.verifyResourceStatus(resource.getAdditionalProperties(), condition))
@@ -16,13 +16,25 @@
 
 package org.citrusframework.kubernetes.actions;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.LogWatch;
 import io.fabric8.kubernetes.client.dsl.PodResource;
 import org.citrusframework.api.actions.kubernetes.KubernetesPodVerifyActionBuilder;
 import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.ActionTimeoutException;
 import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.kubernetes.KubernetesInformers;
 import org.citrusframework.kubernetes.KubernetesSettings;
 import org.citrusframework.kubernetes.KubernetesSupport;
 import org.citrusframework.util.StringUtils;
@@ -33,6 +45,10 @@ import org.slf4j.LoggerFactory;
  * Test action verifies pod phase in running/stopped state and optionally waits for a log message to be present. Raises errors
  * when either the pod is not in expected state or the log message is not available. Both operations are automatically retried
  * for a given amount of attempts.
+ * <p>
+ * Pod states are watched with a shared informer, so state changes are detected without polling the API server.
+ * When log streaming is enabled, the pod log is streamed and matched incrementally, so the action completes as soon
+ * as the message appears. Log streaming falls back to polling the full pod log when the log watch is not available.
  */
 public class VerifyPodAction extends AbstractKubernetesAction {
 
@@ -42,11 +58,13 @@ public class VerifyPodAction extends AbstractKubernetesAction {
     private final String podName;
     private final String labelExpression;
     private final String logMessage;
+    private final String logPattern;
     private final int maxAttempts;
     private final long delayBetweenAttempts;
 
     private final String phase;
     private final boolean printLogs;
+    private final boolean streamLogs;
 
     /**
      * Constructor using given builder.
@@ -57,9 +75,11 @@ public class VerifyPodAction extends AbstractKubernetesAction {
         this.labelExpression = builder.labelExpression;
         this.phase = builder.phase;
         this.logMessage = builder.logMessage;
+        this.logPattern = builder.logPattern;
         this.maxAttempts = builder.maxAttempts;
         this.delayBetweenAttempts = builder.delayBetweenAttempts;
         this.printLogs = builder.printLogs;
+        this.streamLogs = builder.streamLogs;
     }
 
     @Override
@@ -67,25 +87,119 @@ public class VerifyPodAction extends AbstractKubernetesAction {
         String resolvedPodName = context.replaceDynamicContentInString(podName);
         String resolvedLabelExpression = context.replaceDynamicContentInString(labelExpression);
         Pod pod = verifyPod(resolvedPodName, resolvedLabelExpression,
-                context.replaceDynamicContentInString(phase), namespace(context));
+                context.replaceDynamicContentInString(phase), namespace(context), context);
+
+        if (logMessage != null || logPattern != null) {
+            String nameOrLabel = getNameOrLabel(resolvedPodName, resolvedLabelExpression);
+            String message = logMessage != null ? context.replaceDynamicContentInString(logMessage) : null;
+            String pattern = logPattern != null ? context.replaceDynamicContentInString(logPattern) : null;
+
+            if (printLogs) {
+                POD_LOG.info("Waiting for pod '{}' to log message", nameOrLabel);
+            }
+
+            int attempts = maxAttempts;
+            long start = System.currentTimeMillis();
+            if (streamLogs) {
+                if (streamPodLogs(pod, namespace(context), createMatcher(message, pattern, printLogs ? POD_LOG::info : null), start)) {
+                    logger.info("Verified pod logs - All values OK!");
+                    return;
+                }
+
+                // Log stream closed before the message has been logged - verify the remaining time with polling
+                attempts = Math.max(maxAttempts - (int) ((System.currentTimeMillis() - start) / Math.max(delayBetweenAttempts, 1L)), 1);
+            }
+
+            verifyPodLogs(pod, nameOrLabel, namespace(context), message, pattern, attempts, start);
+        }
+    }
 
-        if (logMessage != null) {
-            verifyPodLogs(pod, getNameOrLabel(resolvedPodName, resolvedLabelExpression), namespace(context), context.replaceDynamicContentInString(logMessage));
+    /**
+     * Creates log matcher for either given literal message or regular expression.
+     */
+    private static PodLogMatcher createMatcher(String message, String pattern, Consumer<String> lineHandler) {
+        if (message != null) {
+            return PodLogMatcher.literal(message, lineHandler);
         }
+
+        return PodLogMatcher.regex(pattern, lineHandler);
     }
 
     /**
-     * Wait for pod to log given message.
+     * Streams the pod log and matches the log content incrementally. Returns as soon as the log matches. The log watch is
+     * closed when the overall timeout is exceeded. Returns false when the log stream has been closed before the log matched.
      */
-    private void verifyPodLogs(Pod pod, String nameOrLabel, String namespace, String message) {
-        if (printLogs) {
-            POD_LOG.info("Waiting for pod '{}' to log message", nameOrLabel);
+    private boolean streamPodLogs(Pod pod, String namespace, PodLogMatcher matcher, long streamStart) {
+        long timeout = maxAttempts * delayBetweenAttempts;
+
+        LogWatch logWatch;
+        try {
+            logWatch = watchPodLogs(pod, namespace);
+        } catch (KubernetesClientException e) {
+            logger.warn("Failed to stream logs of pod '{}' - continue with polling pod logs", pod.getMetadata().getName(), e);
+            return false;
         }
 
+        // Closes the log watch when the timeout is exceeded, cancelled as soon as the stream has been processed
+        CompletableFuture<Void> timer = new CompletableFuture<>();
+        timer.completeOnTimeout(null, timeout, TimeUnit.MILLISECONDS).thenRun(logWatch::close);
+
+        try (Reader reader = new InputStreamReader(logWatch.getOutput(), StandardCharsets.UTF_8)) {
+            CharBuffer buffer = CharBuffer.allocate(8192);
+            while (reader.read(buffer) != -1) {
+                buffer.flip();
+                if (matcher.accept(buffer)) {
+                    return true;
+                }
+                buffer.clear();
+            }
+
+            if (matcher.complete()) {
+                return true;
+            }
+        } catch (IOException e) {
+            if (System.currentTimeMillis() - streamStart < timeout) {
+                logger.warn("Failed to read logs of pod '{}'", pod.getMetadata().getName(), e);
+            }
+        } finally {
+            timer.cancel(false);
+            logWatch.close();
+        }
+
+        if (System.currentTimeMillis() - streamStart >= timeout) {
+            throw new ActionTimeoutException(timeout,
+                    new CitrusRuntimeException(String.format("Failed to verify pod '%s' - " +
+                            "has not printed message '%s' after %d ms", pod.getMetadata().getName(), matcher.getExpression(), timeout)));
+        }
+
+        return false;
+    }
+
+    /**
+     * Opens log watch on given pod.
+     */
+    private LogWatch watchPodLogs(Pod pod, String namespace) {
+        PodResource podRes = getKubernetesClient().pods()
+                .inNamespace(namespace)
+                .withName(pod.getMetadata().getName());
+
+        String containerName = getContainerName(pod);
+        if (containerName != null) {
+            return podRes.inContainer(containerName).watchLog();
+        } else {
+            return podRes.watchLog();
+        }
+    }
+
+    /**
+     * Wait for pod to log given message by polling the pod log. The timeout reports the time elapsed since given start time
+     * so time already spent on streaming the pod log is included.
+     */
+    private void verifyPodLogs(Pod pod, String nameOrLabel, String namespace, String message, String pattern, int attempts, long start) {
         String log;
         int offset = 0;
 
-        for (int i = 0; i < maxAttempts; i++) {
+        for (int i = 0; i < attempts; i++) {
             log = getPodLogs(pod, namespace);
 
             if (printLogs && (offset < log.length())) {
@@ -93,7 +207,7 @@ public class VerifyPodAction extends AbstractKubernetesAction {
                 offset = log.length();
             }
 
-            if (log.contains(message)) {
+            if (message != null ? log.contains(message) : createMatcher(null, pattern, null).matches(log)) {
                 logger.info("Verified pod logs - All values OK!");
                 return;
             }
@@ -109,9 +223,9 @@ public class VerifyPodAction extends AbstractKubernetesAction {
             }
         }
 
-        throw new ActionTimeoutException((maxAttempts * delayBetweenAttempts),
+        throw new ActionTimeoutException(System.currentTimeMillis() - start,
                 new CitrusRuntimeException(String.format("Failed to verify pod '%s' - " +
-                        "has not printed message '%s' after %d attempts", nameOrLabel, logMessage, maxAttempts)));
+                        "has not printed message '%s' after %d attempts", nameOrLabel, message != null ? message : pattern, attempts)));
     }
 
     /**
@@ -122,10 +236,7 @@ public class VerifyPodAction extends AbstractKubernetesAction {
                 .inNamespace(namespace)
                 .withName(pod.getMetadata().getName());
 
-        String containerName = null;
-        if (pod.getSpec() != null && pod.getSpec().getContainers() != null && pod.getSpec().getContainers().size() > 1) {
-            containerName = pod.getSpec().getContainers().get(0).getName();
-        }
+        String containerName = getContainerName(pod);
 
         String logs;
         if (containerName != null) {
@@ -136,16 +247,46 @@ public class VerifyPodAction extends AbstractKubernetesAction {
         return logs;
     }
 
+    /**
+     * Selects the first container of multi container pods.
+     */
+    private static String getContainerName(Pod pod) {
+        if (pod.getSpec() != null && pod.getSpec().getContainers() != null && pod.getSpec().getContainers().size() > 1) {
+            return pod.getSpec().getContainers().get(0).getName();
+        }
+
+        return null;
+    }
+
     /**
      * Wait for given pod to be in given state.
      */
-    private Pod verifyPod(String name, String labelExpression, String phase, String namespace) {
+    private Pod verifyPod(String name, String labelExpression, String phase, String namespace, TestContext context) {
         if (StringUtils.hasText(name)) {
             POD_STATUS_LOG.debug("Waiting for pod '{}' to be in state '{}'", name, phase);
         } else {
             POD_STATUS_LOG.debug("Waiting for pod with label '{}' to be in state '{}'", labelExpression, phase);
         }
 
+        if (KubernetesSettings.isUseInformers()) {
+            try {
+                Pod pod = KubernetesInformers.await(KubernetesInformers.lookup(context).pods(getKubernetesClient(), namespace),
+                        candidate -> isSelected(candidate, name, labelExpression) && KubernetesSupport.verifyPodStatus(candidate, phase),
+                        maxAttempts * delayBetweenAttempts);
+
+                if (pod != null) {
+                    logger.debug("Verified pod '{}' state '{}'!", getNameOrLabel(name, labelExpression), phase);
+                    return pod;
+                }
+
+                throw new ActionTimeoutException((maxAttempts * delayBetweenAttempts),
+                        new CitrusRuntimeException(String.format("Failed to verify pod '%s' - " +
+                                "is not in state '%s' after %d ms", getNameOrLabel(name, labelExpression), phase, maxAttempts * delayBetweenAttempts)));
+            } catch (KubernetesClientException e) {
+                logger.warn("Failed to watch pods in namespace '{}' - continue with polling", namespace, e);
+            }
+        }
+
         for (int i = 0; i < maxAttempts; i++) {
             Pod pod;
             if (StringUtils.hasText(name)) {
@@ -172,6 +313,21 @@ public class VerifyPodAction extends AbstractKubernetesAction {
                         "is not in state '%s' after %d attempts", getNameOrLabel(name, labelExpression), phase, maxAttempts)));
     }
 
+    /**
+     * Checks if given pod is selected by name or label expression.
+     */
+    private static boolean isSelected(Pod pod, String name, String labelExpression) {
+        if (StringUtils.hasText(name)) {
+            return name.equals(pod.getMetadata().getName());
+        }
+
+        if (labelExpression == null || labelExpression.isEmpty()) {
+            return false;
+        }
+
+        return KubernetesSupport.hasLabels(pod, KubernetesSupport.labelSelector(labelExpression));
+    }
+
     /**
      * Retrieve pod given state.
      */
@@ -198,13 +354,9 @@ public class VerifyPodAction extends AbstractKubernetesAction {
             return null;
         }
 
-        String[] tokens = labelExpression.split("=");
-        String labelKey = tokens[0];
-        String labelValue = tokens.length > 1 ? tokens[1] : "";
-
         PodList pods = getKubernetesClient().pods()
                 .inNamespace(namespace)
-                .withLabel(labelKey, labelValue)
+                .withLabels(KubernetesSupport.labelSelector(labelExpression))
                 .list();
 
         if (pods.getItems().isEmpty()) {
@@ -245,12 +397,14 @@ public class VerifyPodAction extends AbstractKubernetesAction {
         private String podName;
         private String labelExpression;
         private String logMessage;
+        private String logPattern;
 
         private int maxAttempts = KubernetesSettings.getMaxAttempts();
         private long delayBetweenAttempts = KubernetesSettings.getDelayBetweenAttempts();
 
         private String phase = "Running";
         private boolean printLogs = true;
+        private boolean streamLogs = KubernetesSettings.isStreamPodLogs();
 
         @Override
         public Builder phase(String phase) {
@@ -294,6 +448,18 @@ public class VerifyPodAction extends AbstractKubernetesAction {
             return this;
         }
 
+        @Override
+        public Builder waitForLogPattern(String logPattern) {
+            this.logPattern = logPattern;
+            return this;
+        }
+
+        @Override
+        public Builder streamLogs(boolean streamLogs) {
+            this.streamLogs = streamLogs;
+            return this;
+        }
+
         @Override
         public Builder maxAttempts(int maxAttempts) {
             this.maxAttempts = maxAttempts;
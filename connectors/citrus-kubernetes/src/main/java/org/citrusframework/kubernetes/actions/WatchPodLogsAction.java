@@ -29,6 +29,7 @@ import io.fabric8.kubernetes.client.dsl.PodResource;
 import org.citrusframework.api.actions.kubernetes.KubernetesPodWatchLogsActionBuilder;
 import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.kubernetes.KubernetesSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -142,13 +143,9 @@ public class WatchPodLogsAction extends AbstractKubernetesAction {
             return null;
         }
 
-        String[] tokens = labelExpression.split("=");
-        String labelKey = tokens[0];
-        String labelValue = tokens.length > 1 ? tokens[1] : "";
-
         PodList pods = getKubernetesClient().pods()
                 .inNamespace(namespace)
-                .withLabel(labelKey, labelValue)
+                .withLabels(KubernetesSupport.labelSelector(labelExpression))
                 .list();
 
         return pods.getItems().stream()
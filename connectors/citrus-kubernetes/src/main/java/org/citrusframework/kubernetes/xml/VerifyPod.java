@@ -62,6 +62,16 @@ public class VerifyPod extends AbstractKubernetesAction.Builder<VerifyPodAction,
         this.delegate.waitForLogMessage(message);
     }
 
+    @XmlAttribute(name = "log-pattern")
+    public void setLogPattern(String pattern) {
+        this.delegate.waitForLogPattern(pattern);
+    }
+
+    @XmlAttribute(name = "stream-logs")
+    public void setStreamLogs(boolean streamLogs) {
+        this.delegate.streamLogs(streamLogs);
+    }
+
     @XmlAttribute(name = "print-logs")
     public void setPrintLogs(boolean printLogs) {
         this.delegate.printLogs(printLogs);
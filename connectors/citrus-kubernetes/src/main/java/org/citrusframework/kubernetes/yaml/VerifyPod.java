@@ -54,6 +54,16 @@ public class VerifyPod extends AbstractKubernetesAction.Builder<VerifyPodAction,
         this.delegate.waitForLogMessage(message);
     }
 
+    @SchemaProperty
+    public void setLogPattern(String pattern) {
+        this.delegate.waitForLogPattern(pattern);
+    }
+
+    @SchemaProperty
+    public void setStreamLogs(boolean streamLogs) {
+        this.delegate.streamLogs(streamLogs);
+    }
+
     @SchemaProperty
     public void setPrintLogs(boolean printLogs) {
         this.delegate.printLogs(printLogs);
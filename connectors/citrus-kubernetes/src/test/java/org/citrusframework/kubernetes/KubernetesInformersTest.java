@@ -0,0 +1,141 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.kubernetes;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import io.fabric8.kubernetes.api.model.ContainerStatusBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.server.mock.KubernetesCrudDispatcher;
+import io.fabric8.kubernetes.client.server.mock.KubernetesMockServer;
+import io.fabric8.mockwebserver.Context;
+import io.fabric8.mockwebserver.MockWebServer;
+import org.citrusframework.context.TestContext;
+import org.citrusframework.context.TestContextFactory;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+@Test(singleThreaded = true)
+public class KubernetesInformersTest {
+
+    private final KubernetesMockServer k8sServer = new KubernetesMockServer(new Context(), new MockWebServer(),
+            new HashMap<>(), new KubernetesCrudDispatcher(), false);
+
+    private KubernetesClient k8sClient;
+    private KubernetesInformers informers;
+
+    @BeforeClass
+    public void setupMocks() {
+        k8sServer.init();
+        k8sClient = k8sServer.createClient();
+        informers = new KubernetesInformers();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stop() {
+        informers.destroy();
+        k8sServer.destroy();
+    }
+
+    public void shouldShareInformerPerNamespace() {
+        Assert.assertSame(informers.pods(k8sClient, "shared"), informers.pods(k8sClient, "shared"));
+        Assert.assertNotSame(informers.pods(k8sClient, "shared"), informers.pods(k8sClient, "other"));
+    }
+
+    public void shouldShareInformerAcrossThreads() throws Exception {
+        List<CompletableFuture<SharedIndexInformer<Pod>>> results = IntStream.range(0, 4)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> informers.pods(k8sClient, "concurrent")))
+                .toList();
+
+        SharedIndexInformer<Pod> informer = informers.pods(k8sClient, "concurrent");
+        for (CompletableFuture<SharedIndexInformer<Pod>> result : results) {
+            Assert.assertSame(result.get(10000L, TimeUnit.MILLISECONDS), informer);
+        }
+    }
+
+    public void shouldBindInformersToContext() {
+        TestContext context = TestContextFactory.newInstance().getObject();
+
+        KubernetesInformers contextInformers = KubernetesInformers.lookup(context);
+        Assert.assertSame(KubernetesInformers.lookup(context), contextInformers);
+        Assert.assertSame(context.getReferenceResolver().resolve(KubernetesInformers.BEAN_NAME, KubernetesInformers.class), contextInformers);
+
+        SharedIndexInformer<Pod> informer = contextInformers.pods(k8sClient, "context");
+        Assert.assertFalse(informer.stopped().toCompletableFuture().isDone());
+
+        context.getReferenceResolver().destroy();
+        Assert.assertTrue(informer.stopped().toCompletableFuture().isDone());
+        Assert.assertNotSame(contextInformers.pods(k8sClient, "context"), informer);
+        contextInformers.destroy();
+    }
+
+    public void shouldMatchCachedResource() {
+        k8sClient.pods().inNamespace("cached").resource(pod("my-pod", "Running")).create();
+
+        Pod pod = KubernetesInformers.await(informers.pods(k8sClient, "cached"),
+                candidate -> KubernetesSupport.verifyPodStatus(candidate, "Running"), 5000L);
+
+        Assert.assertNotNull(pod);
+        Assert.assertEquals(pod.getMetadata().getName(), "my-pod");
+    }
+
+    public void shouldMatchOnResourceChange() throws Exception {
+        k8sClient.pods().inNamespace("changes").resource(pod("my-pod", "Pending")).create();
+
+        CompletableFuture<Pod> result = CompletableFuture.supplyAsync(() ->
+                KubernetesInformers.await(informers.pods(k8sClient, "changes"),
+                        candidate -> KubernetesSupport.verifyPodStatus(candidate, "Running"), 10000L));
+
+        Thread.sleep(200L);
+        Assert.assertFalse(result.isDone());
+
+        k8sClient.pods().inNamespace("changes").resource(pod("my-pod", "Running")).update();
+
+        Pod pod = result.get(10000L, TimeUnit.MILLISECONDS);
+        Assert.assertNotNull(pod);
+        Assert.assertEquals(pod.getStatus().getPhase(), "Running");
+    }
+
+    public void shouldReturnNullOnTimeout() {
+        Assert.assertNull(KubernetesInformers.await(informers.pods(k8sClient, "timeout"),
+                candidate -> KubernetesSupport.verifyPodStatus(candidate, "Running"), 100L));
+    }
+
+    private static Pod pod(String name, String phase) {
+        return new PodBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                .endMetadata()
+                .withNewStatus()
+                    .withPhase(phase)
+                    .withContainerStatuses(new ContainerStatusBuilder()
+                            .withName("container")
+                            .withReady(true)
+                            .build())
+                .endStatus()
+                .build();
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.kubernetes.actions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class PodLogMatcherTest {
+
+    @Test
+    public void shouldMatchLiteralMessage() {
+        PodLogMatcher matcher = PodLogMatcher.literal("Something interesting", null);
+
+        Assert.assertFalse(matcher.accept("Starting application\n"));
+        Assert.assertTrue(matcher.accept("Something interesting happened\n"));
+        Assert.assertTrue(matcher.isMatched());
+    }
+
+    @Test
+    public void shouldMatchLiteralMessageAcrossChunks() {
+        PodLogMatcher matcher = PodLogMatcher.literal("Something interesting", null);
+
+        Assert.assertFalse(matcher.accept("Starting application\nSome"));
+        Assert.assertFalse(matcher.accept("thing inter"));
+        Assert.assertTrue(matcher.accept("esting happened\n"));
+    }
+
+    @Test
+    public void shouldMatchMultiLineLiteralMessage() {
+        PodLogMatcher matcher = PodLogMatcher.literal("first\nsecond", null);
+
+        Assert.assertFalse(matcher.accept("first"));
+        Assert.assertFalse(matcher.accept("\n"));
+        Assert.assertTrue(matcher.accept("second\n"));
+    }
+
+    @Test
+    public void shouldMatchRegexAcrossChunks() {
+        PodLogMatcher matcher = PodLogMatcher.regex("Started .* in \\d+ms", null);
+
+        Assert.assertFalse(matcher.accept("Starting application\nStarted my-app in 1"));
+        Assert.assertFalse(matcher.accept("2"));
+        Assert.assertTrue(matcher.accept("3ms\n"));
+    }
+
+    @Test
+    public void shouldMatchRegexOnLastLineWithoutLineBreak() {
+        PodLogMatcher matcher = PodLogMatcher.regex("^Done$", null);
+
+        Assert.assertFalse(matcher.accept("Working\nDone"));
+        Assert.assertTrue(matcher.complete());
+    }
+
+    @Test
+    public void shouldNotMatchRegexAcrossLines() {
+        PodLogMatcher matcher = PodLogMatcher.regex("foo.*bar", null);
+
+        Assert.assertFalse(matcher.matches("foo\nbar\n"));
+    }
+
+    @Test
+    public void shouldHandleCompleteLines() {
+        List<String> lines = new ArrayList<>();
+        PodLogMatcher matcher = PodLogMatcher.literal("never", lines::add);
+
+        matcher.accept("line 1\r\nli");
+        matcher.accept("ne 2\n");
+        matcher.accept("line 3");
+        Assert.assertEquals(lines, List.of("line 1", "line 2"));
+
+        Assert.assertFalse(matcher.complete());
+        Assert.assertEquals(lines, List.of("line 1", "line 2", "line 3"));
+    }
+
+    @Test
+    public void shouldBoundLineLength() {
+        List<String> lines = new ArrayList<>();
+        PodLogMatcher matcher = PodLogMatcher.regex("x$", lines::add);
+
+        String chunk = "a".repeat(PodLogMatcher.MAX_LINE_LENGTH);
+        matcher.accept(chunk);
+        matcher.accept(chunk);
+        Assert.assertTrue(matcher.accept("x\n"));
+
+        Assert.assertEquals(lines.size(), 1);
+        Assert.assertEquals(lines.get(0).length(), PodLogMatcher.MAX_LINE_LENGTH);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.citrusframework.kubernetes.actions;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import io.fabric8.kubernetes.api.model.ContainerStatusBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.LogWatch;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.PodResource;
+import org.citrusframework.testng.AbstractTestNGUnitTest;
+import org.mockito.Mockito;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class VerifyPodActionTest extends AbstractTestNGUnitTest {
+
+    private final KubernetesClient kubernetesClient = Mockito.mock(KubernetesClient.class);
+    private final MixedOperation podOperation = Mockito.mock(MixedOperation.class);
+    private final PodResource podResource = Mockito.mock(PodResource.class);
+    private final LogWatch logWatch = Mockito.mock(LogWatch.class);
+
+    @BeforeMethod
+    public void setupMocks() {
+        Mockito.reset(kubernetesClient, podOperation, podResource, logWatch);
+
+        when(kubernetesClient.pods()).thenReturn(podOperation);
+        when(podOperation.inNamespace("test")).thenReturn(podOperation);
+        when(podOperation.withName("my-pod")).thenReturn(podResource);
+        when(podResource.get()).thenReturn(pod());
+        when(podResource.watchLog()).thenReturn(logWatch);
+    }
+
+    @Test
+    public void shouldVerifyStreamedPodLogs() {
+        when(logWatch.getOutput()).thenReturn(log("Starting application\nApplication started in 12ms\n"));
+
+        verifyPod("Application started").execute(context);
+
+        verify(logWatch).close();
+        verify(podResource, never()).getLog();
+    }
+
+    @Test
+    public void shouldPollPodLogsWhenStreamIsClosed() {
+        when(logWatch.getOutput()).thenReturn(log("Starting application\n"));
+        when(podResource.getLog()).thenReturn("Starting application\nApplication started in 12ms\n");
+
+        verifyPod("Application started").execute(context);
+
+        verify(logWatch).close();
+        verify(podResource).getLog();
+    }
+
+    private VerifyPodAction verifyPod(String message) {
+        return new VerifyPodAction.Builder()
+                .client(kubernetesClient)
+                .inNamespace("test")
+                .podName("my-pod")
+                .waitForLogMessage(message)
+                .streamLogs(true)
+                .printLogs(false)
+                .maxAttempts(3)
+                .delayBetweenAttempts(100L)
+                .build();
+    }
+
+    private static ByteArrayInputStream log(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Pod pod() {
+        return new PodBuilder()
+                .withNewMetadata()
+                    .withName("my-pod")
+                .endMetadata()
+                .withNewStatus()
+                    .withPhase("Running")
+                    .withContainerStatuses(new ContainerStatusBuilder()
+                            .withName("container")
+                            .withReady(true)
+                            .build())
+                .endStatus()
+                .build();
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.openapi;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.apicurio.datamodels.openapi.models.OasDocument;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.citrusframework.openapi.model.OasModelHelper;
+import org.citrusframework.openapi.validation.OpenApiValidationContext;
+import org.citrusframework.openapi.validation.OpenApiValidationContextLoader;
+import org.citrusframework.openapi.validation.OpenApiValidationContextLoader.ParsedSpec;
+import org.citrusframework.openapi.validation.OpenApiValidationPolicy;
+
+/**
+ * Process wide cache of parsed Open API documents keyed by the SHA-256 hash of the specification content.
+ * The same specification loaded by several tests or repositories is parsed only once. The cache holds the
+ * most recently used documents up to {@link OpenApiSettings#SPEC_CACHE_MAX_DOCUMENTS_PROPERTY}, older entries
+ * get evicted.
+ * <p>
+ * Cached documents and validation models are shared between specification instances and are never modified.
+ * Everything that is individual to a specification (aliases, context path, validation settings) is kept on
+ * the {@link OpenApiSpecification} and its {@link OpenApiValidationContext}.
+ * <p>
+ * The cache can be disabled with {@link OpenApiSettings#SPEC_CACHE_ENABLED_PROPERTY}.
+ */
+public final class OpenApiDocumentCache {
+
+    private static final Map<String, LoadedDocument> documents = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, LoadedDocument> eldest) {
+            return size() > OpenApiSettings.getSpecCacheMaxDocuments();
+        }
+    };
+
+    private OpenApiDocumentCache() {
+        // Static access only
+    }
+
+    /**
+     * Gets the parsed document for the given specification content. Parses the content on first access.
+     */
+    static LoadedDocument load(String content) {
+        if (!OpenApiSettings.isSpecCacheEnabled()) {
+            return new LoadedDocument(content, OpenApiResourceLoader.fromString(content));
+        }
+
+        String hash = DigestUtils.sha256Hex(content);
+        synchronized (documents) {
+            LoadedDocument cached = documents.get(hash);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        // Parse outside the lock so loading different specifications is not serialized
+        LoadedDocument loaded = new LoadedDocument(content, OpenApiResourceLoader.fromString(content));
+        synchronized (documents) {
+            return documents.computeIfAbsent(hash, key -> loaded);
+        }
+    }
+
+    /**
+     * Gets the number of cached documents.
+     */
+    static int size() {
+        synchronized (documents) {
+            return documents.size();
+        }
+    }
+
+    /**
+     * Removes all cached documents and validation models.
+     */
+    public static void clear() {
+        synchronized (documents) {
+            documents.clear();
+        }
+    }
+
+    /**
+     * Parsed document with its lazily created Json representation and validation models. Each of them is
+     * created at most once per document.
+     */
+    static final class LoadedDocument {
+
+        private final String content;
+
+        private final OasDocument document;
+
+        private volatile String json;
+
+        private volatile ParsedSpec parsedSpec;
+
+        private volatile ParsedSpec parsedContentSpec;
+
+        LoadedDocument(OasDocument document) {
+            this(null, document);
+        }
+
+        LoadedDocument(String content, OasDocument document) {
+            this.content = content;
+            this.document = document;
+        }
+
+        OasDocument getDocument() {
+            return document;
+        }
+
+        String toJson() {
+            String result = json;
+            if (result == null) {
+                synchronized (this) {
+                    result = json;
+                    if (result == null) {
+                        result = OasModelHelper.toJson(document);
+                        json = result;
+                    }
+                }
+            }
+
+            return result;
+        }
+
+        /**
+         * Creates a new validation context for this document. The underlying validation model is parsed
+         * on first access and shared by all contexts, the validation settings are individual per context.
+         */
+        OpenApiValidationContext createValidationContext(OpenApiValidationPolicy openApiValidationPolicy) {
+            ParsedSpec result = parsedSpec;
+            if (result == null) {
+                synchronized (this) {
+                    result = parsedSpec;
+                    if (result == null) {
+                        result = OpenApiValidationContextLoader.parse(toJson());
+                        parsedSpec = result;
+                    }
+                }
+            }
+
+            return OpenApiValidationContextLoader.fromParsedSpec(result, openApiValidationPolicy);
+        }
+
+        /**
+         * Creates a new validation context from the original specification content instead of the Json
+         * written from the document. Falls back to the Json representation when the content is unknown.
+         */
+        OpenApiValidationContext createContentValidationContext(OpenApiValidationPolicy openApiValidationPolicy) {
+            if (content == null) {
+                return createValidationContext(openApiValidationPolicy);
+            }
+
+            ParsedSpec result = parsedContentSpec;
+            if (result == null) {
+                synchronized (this) {
+                    result = parsedContentSpec;
+                    if (result == null) {
+                        result = OpenApiValidationContextLoader.parse(content);
+                        parsedContentSpec = result;
+                    }
+                }
+            }
+
+            return OpenApiValidationContextLoader.fromParsedSpec(result, openApiValidationPolicy);
+        }
+    }
+}
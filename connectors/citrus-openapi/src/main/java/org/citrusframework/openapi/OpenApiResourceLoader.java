@@ -106,14 +106,21 @@ public final class OpenApiResourceLoader {
         return fromFile(resource, RAW_RESOLVER);
     }
 
-    private static <T> T fromFile(Resource resource, Resolver<T> resolver) {
+    /**
+     * Reads the specification content from a resource as is, without parsing it.
+     */
+    public static String contentFromFile(Resource resource) {
         try {
-            return resolve(readToString(resource), resolver);
+            return readToString(resource);
         } catch (IOException e) {
             throw new IllegalStateException("Failed to parse Open API specification: " + resource, e);
         }
     }
 
+    private static <T> T fromFile(Resource resource, Resolver<T> resolver) {
+        return resolve(contentFromFile(resource), resolver);
+    }
+
     /**
      * Loads specification from given web URL location.
      */
@@ -129,6 +136,13 @@ public final class OpenApiResourceLoader {
     }
 
     private static <T> T fromWebResource(URL url, Resolver<T> resolver) {
+        return resolve(contentFromWebResource(url), resolver);
+    }
+
+    /**
+     * Reads the specification content from given web URL location as is, without parsing it.
+     */
+    public static String contentFromWebResource(URL url) {
         URLConnection connection = null;
         try {
             connection = url.openConnection();
@@ -146,7 +160,7 @@ public final class OpenApiResourceLoader {
             }
 
             try (InputStream inputStream = connection.getInputStream()) {
-                return resolve(readToString(inputStream), resolver);
+                return readToString(inputStream);
             }
         } catch (IOException e) {
             throw new IllegalStateException("Failed to retrieve Open API specification: " + url, e);
@@ -172,6 +186,14 @@ public final class OpenApiResourceLoader {
     }
 
     private static <T> T fromSecuredWebResource(URL url, Resolver<T> resolver) {
+        return resolve(contentFromSecuredWebResource(url), resolver);
+    }
+
+    /**
+     * Reads the specification content from given web URL location using secured Http connection
+     * as is, without parsing it.
+     */
+    public static String contentFromSecuredWebResource(URL url) {
         Objects.requireNonNull(url);
 
         HttpsURLConnection connection = null;
@@ -193,7 +215,7 @@ public final class OpenApiResourceLoader {
                 throw new IllegalStateException("Failed to retrieve Open API specification: " + url,
                         new IOException(readToString(connection.getErrorStream())));
             } else {
-                return resolve(readToString(connection.getInputStream()), resolver);
+                return readToString(connection.getInputStream());
             }
         } catch (NoSuchAlgorithmException | KeyStoreException | KeyManagementException e) {
             throw new IllegalStateException("Failed to create https client for ssl connection", e);
@@ -54,6 +54,11 @@ public class OpenApiSettings {
     public static final String RESPONSE_VALIDATION_ENABLED_ENV = transformPropertyToEnv(
         RESPONSE_VALIDATION_ENABLED_PROPERTY);
 
+    @CitrusConfigProperty(description = "Enable verification that OpenAPI requests resolve to the expected operation.", type = "java.lang.Boolean", defaultValue = "false")
+    public static final String REQUEST_OPERATION_VALIDATION_ENABLED_PROPERTY = "citrus.openapi.validation.enabled.request.operation";
+    public static final String REQUEST_OPERATION_VALIDATION_ENABLED_ENV = transformPropertyToEnv(
+        REQUEST_OPERATION_VALIDATION_ENABLED_PROPERTY);
+
     @CitrusConfigProperty(description = "Enable neglecting the OpenAPI base path.", type = "java.lang.Boolean", defaultValue = "false")
     public static final String NEGLECT_OPEN_API_BASE_PATH_ENABLED_PROPERTY = "citrus.openapi.neglect.base.path";
     public static final String NEGLECT_OPEN_API_BASE_PATH_ENABLED_ENV = transformPropertyToEnv(
@@ -74,6 +79,25 @@ public class OpenApiSettings {
     public static final String OPEN_API_VALIDATION_POLICY_ENV = transformPropertyToEnv(
         OPEN_API_VALIDATION_POLICY_PROPERTY);
 
+    @CitrusConfigProperty(description = "Enable process wide caching of parsed OpenAPI specifications.", type = "java.lang.Boolean", defaultValue = "true")
+    public static final String SPEC_CACHE_ENABLED_PROPERTY = "citrus.openapi.spec.cache.enabled";
+    public static final String SPEC_CACHE_ENABLED_ENV = transformPropertyToEnv(
+        SPEC_CACHE_ENABLED_PROPERTY);
+
+    @CitrusConfigProperty(description = "Maximum number of parsed OpenAPI specifications kept in the process wide cache.", type = "java.lang.Integer", defaultValue = "64")
+    public static final String SPEC_CACHE_MAX_DOCUMENTS_PROPERTY = "citrus.openapi.spec.cache.max.documents";
+    public static final String SPEC_CACHE_MAX_DOCUMENTS_ENV = transformPropertyToEnv(
+        SPEC_CACHE_MAX_DOCUMENTS_PROPERTY);
+
+    @CitrusConfigProperty(description = "Generate concrete random values instead of Citrus function expressions in OpenAPI messages.", type = "java.lang.Boolean", defaultValue = "false")
+    public static final String CONCRETE_RANDOM_VALUES_ENABLED_PROPERTY = "citrus.openapi.random.values.concrete";
+    public static final String CONCRETE_RANDOM_VALUES_ENABLED_ENV = transformPropertyToEnv(
+        CONCRETE_RANDOM_VALUES_ENABLED_PROPERTY);
+
+    @CitrusConfigProperty(description = "Seed for reproducible concrete random values in OpenAPI messages.", type = "java.lang.Long")
+    public static final String RANDOM_SEED_PROPERTY = "citrus.openapi.random.seed";
+    public static final String RANDOM_SEED_ENV = transformPropertyToEnv(
+        RANDOM_SEED_PROPERTY);
 
     private OpenApiSettings() {
         // static access only
@@ -112,6 +136,19 @@ public class OpenApiSettings {
             RESPONSE_VALIDATION_ENABLED_ENV, true);
     }
 
+    /**
+     * Request validation reports requests that resolve to another operation than the expected one.
+     */
+    public static boolean isRequestOperationValidationEnabled() {
+        return isRequestOperationValidationEnabled(SYSTEM_PROVIDER);
+    }
+
+    @VisibleForTesting
+    static boolean isRequestOperationValidationEnabled(SystemProvider systemProvider) {
+        return booleanPropertyOrDefault(systemProvider, REQUEST_OPERATION_VALIDATION_ENABLED_PROPERTY,
+            REQUEST_OPERATION_VALIDATION_ENABLED_ENV, false);
+    }
+
     public static boolean isNeglectBasePathEnabled() {
         return parseBoolean(System.getProperty(
             NEGLECT_OPEN_API_BASE_PATH_ENABLED_PROPERTY, System.getenv(
@@ -125,6 +162,63 @@ public class OpenApiSettings {
             NEGLECT_OPEN_API_BASE_PATH_ENABLED_ENV, false);
     }
 
+    /**
+     * Parsed specifications and validation models are cached by content so loading the same
+     * specification multiple times does not parse it again.
+     */
+    public static boolean isSpecCacheEnabled() {
+        return isSpecCacheEnabled(SYSTEM_PROVIDER);
+    }
+
+    @VisibleForTesting
+    static boolean isSpecCacheEnabled(SystemProvider systemProvider) {
+        return booleanPropertyOrDefault(systemProvider, SPEC_CACHE_ENABLED_PROPERTY,
+            SPEC_CACHE_ENABLED_ENV, true);
+    }
+
+    /**
+     * Maximum number of specifications kept in the cache, the least recently used specifications get evicted.
+     */
+    public static int getSpecCacheMaxDocuments() {
+        return getSpecCacheMaxDocuments(SYSTEM_PROVIDER);
+    }
+
+    @VisibleForTesting
+    static int getSpecCacheMaxDocuments(SystemProvider systemProvider) {
+        String maxDocuments = systemProvider.getProperty(SPEC_CACHE_MAX_DOCUMENTS_PROPERTY)
+            .orElseGet(() -> systemProvider.getEnv(SPEC_CACHE_MAX_DOCUMENTS_ENV).orElse(null));
+        return maxDocuments != null && !maxDocuments.isBlank() ?
+            Math.max(Integer.parseInt(maxDocuments.trim()), 1) : 64;
+    }
+
+    /**
+     * Concrete random values are generated directly from a compiled schema plan instead of emitting
+     * Citrus function expressions that get evaluated when the message is sent.
+     */
+    public static boolean isConcreteRandomValuesEnabled() {
+        return isConcreteRandomValuesEnabled(SYSTEM_PROVIDER);
+    }
+
+    @VisibleForTesting
+    static boolean isConcreteRandomValuesEnabled(SystemProvider systemProvider) {
+        return booleanPropertyOrDefault(systemProvider, CONCRETE_RANDOM_VALUES_ENABLED_PROPERTY,
+            CONCRETE_RANDOM_VALUES_ENABLED_ENV, false);
+    }
+
+    /**
+     * Optional seed for concrete random values. Returns null when no seed is configured.
+     */
+    public static Long getRandomSeed() {
+        return getRandomSeed(SYSTEM_PROVIDER);
+    }
+
+    @VisibleForTesting
+    static Long getRandomSeed(SystemProvider systemProvider) {
+        String seed = systemProvider.getProperty(RANDOM_SEED_PROPERTY)
+            .orElseGet(() -> systemProvider.getEnv(RANDOM_SEED_ENV).orElse(null));
+        return seed != null && !seed.isBlank() ? Long.valueOf(seed.trim()) : null;
+    }
+
     /**
      * The default AutoFillType for request is set to REQUIRED to support backwards compatibility.
      */
@@ -21,31 +21,40 @@ import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
 import java.net.URLDecoder;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Supplier;
+import java.util.concurrent.ThreadLocalRandom;
 
 import io.apicurio.datamodels.core.models.Extension;
 import io.apicurio.datamodels.core.models.common.Info;
 import io.apicurio.datamodels.openapi.models.OasDocument;
 import io.apicurio.datamodels.openapi.models.OasOperation;
 import io.apicurio.datamodels.openapi.models.OasPathItem;
+import io.apicurio.datamodels.openapi.models.OasSchema;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.citrusframework.api.openapi.AutoFillType;
 import org.citrusframework.api.openapi.Specification;
 import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.http.client.HttpClient;
+import org.citrusframework.http.message.HttpMessage;
+import org.citrusframework.http.message.HttpMessageHeaders;
+import org.citrusframework.message.Message;
 import org.citrusframework.openapi.model.OasModelHelper;
 import org.citrusframework.openapi.model.OperationPathAdapter;
+import org.citrusframework.openapi.model.OperationRouter;
+import org.citrusframework.openapi.model.OperationRouter.OperationMatch;
+import org.citrusframework.openapi.random.RandomValuePlan;
 import org.citrusframework.openapi.util.OpenApiUtils;
 import org.citrusframework.openapi.validation.OpenApiValidationContext;
-import org.citrusframework.openapi.validation.OpenApiValidationContextLoader;
 import org.citrusframework.openapi.validation.OpenApiValidationPolicy;
 import org.citrusframework.spi.Resource;
 import org.citrusframework.spi.Resources;
@@ -108,6 +117,11 @@ public class OpenApiSpecification implements Specification {
      */
     private final Map<String, OperationPathAdapter> operationKeyToOperationPathAdapter = new ConcurrentHashMap<>();
 
+    /**
+     * Routing table resolving operations by request method and path, compiled once the document is loaded.
+     */
+    private volatile OperationRouter operationRouter;
+
     /**
      * Stores the unique identifier (uniqueId) of an operation, derived from its HTTP method and
      * path. This identifier can always be determined and is therefore safe to use, even for
@@ -149,6 +163,7 @@ public class OpenApiSpecification implements Specification {
     private String rootContextPath;
 
     private OasDocument openApiDoc;
+    private OpenApiDocumentCache.LoadedDocument loadedDocument;
     private OpenApiValidationContext openApiValidationContext;
 
     /**
@@ -156,6 +171,21 @@ public class OpenApiSpecification implements Specification {
      */
     private boolean generateOptionalFields = OpenApiSettings.isGenerateOptionalFieldsEnabled();
 
+    /**
+     * Generate concrete random values instead of Citrus function expressions when generating random schema objects.
+     */
+    private boolean concreteRandomValues = OpenApiSettings.isConcreteRandomValuesEnabled();
+
+    /**
+     * Seeded source for reproducible concrete random values, null when values should not be reproducible.
+     */
+    private Random seededRandom = Optional.ofNullable(OpenApiSettings.getRandomSeed()).map(Random::new).orElse(null);
+
+    /**
+     * Compiled random value plans cached per schema.
+     */
+    private final Map<OasSchema, RandomValuePlan> randomValuePlans = new ConcurrentHashMap<>();
+
     /**
      * Autofill parameters and body of request with random data.
      */
@@ -245,23 +275,21 @@ public class OpenApiSpecification implements Specification {
     public static OpenApiSpecification from(URL specUrl,
         OpenApiValidationPolicy openApiValidationPolicy) {
         OpenApiSpecification specification = new OpenApiSpecification(openApiValidationPolicy);
-        OasDocument openApiDoc;
-        OpenApiValidationContext openApiValidationContext;
+        String content;
         if (specUrl.getProtocol().startsWith(HTTPS)) {
-            openApiDoc = OpenApiResourceLoader.fromSecuredWebResource(specUrl);
+            content = OpenApiResourceLoader.contentFromSecuredWebResource(specUrl);
         } else {
-            openApiDoc = OpenApiResourceLoader.fromWebResource(specUrl);
+            content = OpenApiResourceLoader.contentFromWebResource(specUrl);
         }
 
-        openApiValidationContext = OpenApiValidationContextLoader.fromSpec(
-            OasModelHelper.toJson(openApiDoc), openApiValidationPolicy);
-        specification.setOpenApiValidationContext(openApiValidationContext);
+        OpenApiDocumentCache.LoadedDocument loadedDocument = OpenApiDocumentCache.load(content);
+        specification.setOpenApiValidationContext(
+            loadedDocument.createValidationContext(openApiValidationPolicy));
 
         determineUrlAlias(specUrl).ifPresent(specification::addAlias);
 
         specification.setSpecUrl(specUrl.toString());
-        specification.initPathLookups();
-        specification.setOpenApiDoc(openApiDoc);
+        specification.initApiDoc(loadedDocument);
         specification.setRequestUrl(
             format("%s://%s%s%s", specUrl.getProtocol(), specUrl.getHost(),
                 specUrl.getPort() > 0 ? ":" + specUrl.getPort() : "",
@@ -292,12 +320,13 @@ public class OpenApiSpecification implements Specification {
     public static OpenApiSpecification from(Resource resource, OpenApiValidationPolicy openApiValidationPolicy) {
         OpenApiSpecification specification = new OpenApiSpecification(openApiValidationPolicy);
 
-        OasDocument openApiDoc = OpenApiResourceLoader.fromFile(resource);
+        OpenApiDocumentCache.LoadedDocument loadedDocument =
+            OpenApiDocumentCache.load(OpenApiResourceLoader.contentFromFile(resource));
+        OasDocument openApiDoc = loadedDocument.getDocument();
 
         specification.setOpenApiValidationContext(
-            OpenApiValidationContextLoader.fromSpec(OasModelHelper.toJson(openApiDoc),
-                openApiValidationPolicy));
-        specification.setOpenApiDoc(openApiDoc);
+            loadedDocument.createValidationContext(openApiValidationPolicy));
+        specification.initApiDoc(loadedDocument);
 
         determineResourceAlias(resource).ifPresent(specification::addAlias);
 
@@ -324,11 +353,13 @@ public class OpenApiSpecification implements Specification {
      */
     public static OpenApiSpecification fromString(String openApi) {
         OpenApiSpecification specification = new OpenApiSpecification();
-        OasDocument openApiDoc = OpenApiResourceLoader.fromString(openApi);
 
-        specification.setOpenApiDoc(openApiDoc);
+        OpenApiDocumentCache.LoadedDocument loadedDocument = OpenApiDocumentCache.load(openApi);
+        OasDocument openApiDoc = loadedDocument.getDocument();
+
+        specification.initApiDoc(loadedDocument);
         specification.setOpenApiValidationContext(
-            OpenApiValidationContextLoader.fromSpec(openApi, OpenApiSettings.getOpenApiValidationPolicy()));
+            loadedDocument.createContentValidationContext(OpenApiSettings.getOpenApiValidationPolicy()));
 
         String schemeToUse = Optional.ofNullable(OasModelHelper.getSchemes(openApiDoc))
             .orElse(singletonList(HTTP))
@@ -392,9 +423,11 @@ public class OpenApiSpecification implements Specification {
             if (resolvedSpecUrl.startsWith(HTTP)) {
                 URL specWebResource = toSpecUrl(resolvedSpecUrl);
                 if (resolvedSpecUrl.startsWith(HTTPS)) {
-                    initApiDoc(() -> OpenApiResourceLoader.fromSecuredWebResource(specWebResource));
+                    initApiDoc(OpenApiDocumentCache.load(
+                        OpenApiResourceLoader.contentFromSecuredWebResource(specWebResource)));
                 } else {
-                    initApiDoc(() -> OpenApiResourceLoader.fromWebResource(specWebResource));
+                    initApiDoc(OpenApiDocumentCache.load(
+                        OpenApiResourceLoader.contentFromWebResource(specWebResource)));
                 }
 
                 if (requestUrl == null) {
@@ -406,7 +439,7 @@ public class OpenApiSpecification implements Specification {
 
             } else {
                 Resource resource = Resources.create(resolvedSpecUrl);
-                initApiDoc(() -> OpenApiResourceLoader.fromFile(resource));
+                initApiDoc(OpenApiDocumentCache.load(OpenApiResourceLoader.contentFromFile(resource)));
 
                 if (requestUrl == null) {
                     String schemeToUse = Optional.ofNullable(OasModelHelper.getSchemes(openApiDoc))
@@ -424,8 +457,7 @@ public class OpenApiSpecification implements Specification {
         }
 
         setOpenApiValidationContext(
-            OpenApiValidationContextLoader.fromSpec(OasModelHelper.toJson(openApiDoc),
-                openApiValidationPolicy));
+            loadedDocument.createValidationContext(openApiValidationPolicy));
 
         return openApiDoc;
     }
@@ -451,11 +483,12 @@ public class OpenApiSpecification implements Specification {
     }
 
     void setOpenApiDoc(OasDocument openApiDoc) {
-        initApiDoc(() -> openApiDoc);
+        initApiDoc(new OpenApiDocumentCache.LoadedDocument(openApiDoc));
     }
 
-    private void initApiDoc(Supplier<OasDocument> openApiDocSupplier) {
-        this.openApiDoc = openApiDocSupplier.get();
+    private void initApiDoc(OpenApiDocumentCache.LoadedDocument loadedDocument) {
+        this.loadedDocument = loadedDocument;
+        this.openApiDoc = loadedDocument.getDocument();
 
         this.aliases.addAll(collectAliases(openApiDoc));
         initPathLookups();
@@ -469,6 +502,7 @@ public class OpenApiSpecification implements Specification {
         determineUid();
 
         operationKeyToOperationPathAdapter.clear();
+        List<OperationPathAdapter> operations = new ArrayList<>();
         OasModelHelper.visitOasOperations(this.openApiDoc, (oasPathItem, oasOperation) -> {
             String path = oasPathItem.getPath();
 
@@ -479,16 +513,18 @@ public class OpenApiSpecification implements Specification {
 
             for (Map.Entry<String, OasOperation> operationEntry : OasModelHelper.getOperationMap(
                 oasPathItem).entrySet()) {
-                storeOperationPathAdapter(operationEntry.getValue(), oasPathItem);
+                operations.add(storeOperationPathAdapter(operationEntry.getValue(), oasPathItem));
             }
         });
+
+        operationRouter = OperationRouter.compile(operations);
     }
 
     private void determineUid() {
         if (uid != null) {
             aliases.remove(uid);
         }
-        uid = DigestUtils.sha256Hex(OasModelHelper.toJson(openApiDoc) + getFullContextPath());
+        uid = DigestUtils.sha256Hex(loadedDocument.toJson() + getFullContextPath());
         aliases.add(uid);
     }
 
@@ -501,8 +537,9 @@ public class OpenApiSpecification implements Specification {
      *
      * @param operation The {@link OperationPathAdapter} to store.
      * @param pathItem  The path item of the operation, including the method.
+     * @return the stored operation path adapter
      */
-    private void storeOperationPathAdapter(OasOperation operation, OasPathItem pathItem) {
+    private OperationPathAdapter storeOperationPathAdapter(OasOperation operation, OasPathItem pathItem) {
 
         String fullContextPath = getFullContextPath();
         String fullOperationPath = getFullPath(pathItem);
@@ -520,6 +557,8 @@ public class OpenApiSpecification implements Specification {
         if (hasText(operation.operationId)) {
             operationKeyToOperationPathAdapter.put(operation.operationId, operationPathAdapter);
         }
+
+        return operationPathAdapter;
     }
 
     public String getSpecUrl() {
@@ -578,6 +617,47 @@ public class OpenApiSpecification implements Specification {
 
     public void setGenerateOptionalFields(boolean generateOptionalFields) {
         this.generateOptionalFields = generateOptionalFields;
+        randomValuePlans.clear();
+    }
+
+    public boolean isConcreteRandomValues() {
+        return concreteRandomValues;
+    }
+
+    public void setConcreteRandomValues(boolean concreteRandomValues) {
+        this.concreteRandomValues = concreteRandomValues;
+    }
+
+    public OpenApiSpecification concreteRandomValues(boolean concreteRandomValues) {
+        setConcreteRandomValues(concreteRandomValues);
+        return this;
+    }
+
+    /**
+     * Sets the seed for concrete random values. Payloads generated in the same order produce the same values.
+     */
+    public synchronized void setRandomSeed(long seed) {
+        this.seededRandom = new Random(seed);
+    }
+
+    public OpenApiSpecification randomSeed(long seed) {
+        setRandomSeed(seed);
+        return this;
+    }
+
+    /**
+     * Gets the random number generator for the next generated payload. When a seed is set each payload uses
+     * its own generator derived from the seeded source, so payloads are reproducible in generation order.
+     */
+    public synchronized Random nextRandom() {
+        return seededRandom != null ? new Random(seededRandom.nextLong()) : ThreadLocalRandom.current();
+    }
+
+    /**
+     * Gets the compiled random value plan for the given schema. Plans are compiled once and cached per schema.
+     */
+    public RandomValuePlan getRandomValuePlan(OasSchema schema) {
+        return randomValuePlans.computeIfAbsent(schema, key -> RandomValuePlan.compile(key, this));
     }
 
     public AutoFillType getRequestAutoFill() {
@@ -681,6 +761,65 @@ public class OpenApiSpecification implements Specification {
         return Optional.ofNullable(operationKeyToOperationPathAdapter.get(operationKey));
     }
 
+    /**
+     * Resolves the operation for an incoming request by its method and request path using the
+     * precompiled routing table. The request path is expected to include the full context path.
+     *
+     * @param method  the HTTP request method
+     * @param path    the request path, optionally with query parameters
+     * @param context the test context
+     * @return the matching operation along with the path parameter values
+     */
+    public Optional<OperationMatch> routeOperation(String method, String path, TestContext context) {
+        initOpenApiDoc(context);
+
+        OperationRouter router = operationRouter;
+        if (router == null) {
+            return Optional.empty();
+        }
+
+        return router.route(method, path);
+    }
+
+    /**
+     * Resolves the operation for an incoming HTTP request message using the precompiled routing table.
+     * The request method and path are read from the message, requests without method or request URI
+     * do not resolve to any operation.
+     *
+     * @param request the request message
+     * @param context the test context
+     * @return the matching operation along with the path parameter values
+     */
+    public Optional<OperationMatch> routeOperation(Message request, TestContext context) {
+        initOpenApiDoc(context);
+        return routeOperation(request);
+    }
+
+    /**
+     * Resolves the operation for an incoming HTTP request message without a test context. The specification
+     * document is not loaded by this method, so a specification that loads its document lazily from the
+     * specification URL does not resolve any operation until the document has been loaded.
+     *
+     * @param request the request message
+     * @return the matching operation along with the path parameter values
+     */
+    public Optional<OperationMatch> routeOperation(Message request) {
+        String method = null;
+        if (request instanceof HttpMessage httpMessage && httpMessage.getRequestMethod() != null) {
+            method = httpMessage.getRequestMethod().name();
+        } else if (request.getHeader(HttpMessageHeaders.HTTP_REQUEST_METHOD) != null) {
+            method = request.getHeader(HttpMessageHeaders.HTTP_REQUEST_METHOD).toString();
+        }
+
+        Object requestUri = request.getHeader(HttpMessageHeaders.HTTP_REQUEST_URI);
+        OperationRouter router = operationRouter;
+        if (method == null || requestUri == null || router == null) {
+            return Optional.empty();
+        }
+
+        return router.route(method, requestUri.toString());
+    }
+
     public void initOpenApiDoc(TestContext context) {
         if (openApiDoc == null) {
             getOpenApiDoc(context);
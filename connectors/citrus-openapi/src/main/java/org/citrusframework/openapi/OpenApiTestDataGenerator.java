@@ -31,9 +31,14 @@ public final class OpenApiTestDataGenerator {
     }
 
     /**
-     * Creates payload from schema for outbound message.
+     * Creates payload from schema for outbound message. Depending on the specification the payload holds either
+     * Citrus function expressions or concrete random values.
      */
     public static String createOutboundPayload(OasSchema schema, OpenApiSpecification specification) {
+        if (specification.isConcreteRandomValues()) {
+            return specification.getRandomValuePlan(schema).toJson(specification.nextRandom());
+        }
+
         RandomContext randomContext = new RandomContext(specification, true);
         randomContext.generate(schema);
         return randomContext.getRandomModelBuilder().writeToJson();
@@ -47,6 +52,10 @@ public final class OpenApiTestDataGenerator {
             return CitrusSettings.VARIABLE_PREFIX + name + CitrusSettings.VARIABLE_SUFFIX;
         }
 
+        if (specification.isConcreteRandomValues()) {
+            return specification.getRandomValuePlan(schema).toValue(specification.nextRandom());
+        }
+
         RandomContext randomContext = new RandomContext(specification, false);
         randomContext.generate(schema);
         return randomContext.getRandomModelBuilder().writeToJson();
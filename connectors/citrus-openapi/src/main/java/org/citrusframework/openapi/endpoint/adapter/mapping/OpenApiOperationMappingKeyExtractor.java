@@ -0,0 +1,86 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.openapi.endpoint.adapter.mapping;
+
+import org.citrusframework.endpoint.adapter.mapping.AbstractMappingKeyExtractor;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.http.message.HttpMessageHeaders;
+import org.citrusframework.message.Message;
+import org.citrusframework.openapi.OpenApiSpecification;
+import org.citrusframework.openapi.model.OperationPathAdapter;
+import org.citrusframework.openapi.model.OperationRouter.OperationMatch;
+import org.citrusframework.util.StringUtils;
+
+/**
+ * Mapping key extractor resolves the OpenAPI operation of an incoming HTTP request by its request method and path.
+ * The operation is looked up in the precompiled routing table of the specification. The mapping key is the
+ * operationId or the unique operation identifier (e.g. {@code GET_/api/pets/{petId}}) in case the operation has
+ * no operationId. The specification document must have been loaded, e.g. by creating the specification from a
+ * resource, because the extractor has no test context to load it.
+ * <p>
+ * Can be used with a request dispatching endpoint adapter on a HTTP server to dispatch requests by OpenAPI operation.
+ */
+public class OpenApiOperationMappingKeyExtractor extends AbstractMappingKeyExtractor {
+
+    /** The OpenAPI specification */
+    private OpenApiSpecification openApiSpecification;
+
+    /**
+     * Default constructor.
+     */
+    public OpenApiOperationMappingKeyExtractor() {
+        super();
+    }
+
+    /**
+     * Constructor using OpenAPI specification.
+     * @param openApiSpecification
+     */
+    public OpenApiOperationMappingKeyExtractor(OpenApiSpecification openApiSpecification) {
+        this.openApiSpecification = openApiSpecification;
+    }
+
+    @Override
+    protected String getMappingKey(Message request) {
+        if (openApiSpecification == null) {
+            throw new CitrusRuntimeException("Missing OpenAPI specification for operation mapping key extraction");
+        }
+
+        OperationPathAdapter operation = openApiSpecification.routeOperation(request)
+                .map(OperationMatch::operation)
+                .orElseThrow(() -> new CitrusRuntimeException("Unable to identify OpenAPI operation for request '%s %s'"
+                        .formatted(request.getHeader(HttpMessageHeaders.HTTP_REQUEST_METHOD), request.getHeader(HttpMessageHeaders.HTTP_REQUEST_URI))));
+
+        return StringUtils.hasText(operation.operation().operationId) ? operation.operation().operationId : operation.uniqueOperationId();
+    }
+
+    /**
+     * Sets the OpenAPI specification.
+     * @param openApiSpecification
+     */
+    public void setOpenApiSpecification(OpenApiSpecification openApiSpecification) {
+        this.openApiSpecification = openApiSpecification;
+    }
+
+    /**
+     * Gets the OpenAPI specification.
+     * @return
+     */
+    public OpenApiSpecification getOpenApiSpecification() {
+        return openApiSpecification;
+    }
+}
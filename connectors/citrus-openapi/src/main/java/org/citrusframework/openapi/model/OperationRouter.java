@@ -0,0 +1,302 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.openapi.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import io.apicurio.datamodels.openapi.models.OasOperation;
+import io.apicurio.datamodels.openapi.models.OasParameter;
+import io.apicurio.datamodels.openapi.models.OasPathItem;
+import org.citrusframework.util.StringUtils;
+
+/**
+ * Routing table that resolves the OpenAPI operation for a request method and path. The table is compiled once
+ * per specification into a trie of path segments per HTTP method, so resolving an operation takes time
+ * proportional to the number of path segments instead of testing every path template of the specification.
+ * <p>
+ * Literal path segments take precedence over templated segments, e.g. {@code /pets/mine} is preferred over
+ * {@code /pets/{petId}}. Templated segments may mix literal text and parameters such as {@code {file}.{ext}}.
+ * <p>
+ * The path parameter definitions of each operation are resolved when the table is compiled, so a route lookup
+ * provides the parameter values along with their definitions without visiting the OpenAPI document again.
+ */
+public final class OperationRouter {
+
+    private static final Pattern PARAMETER_PATTERN = Pattern.compile("\\{([^}/]+)}");
+
+    /** Root node per upper case HTTP method */
+    private final Map<String, Node> routes = new HashMap<>();
+
+    private OperationRouter() {
+    }
+
+    /**
+     * Compiles the routing table for given operations. The operations are routed by their full path.
+     * @param operations
+     * @return
+     */
+    public static OperationRouter compile(Collection<OperationPathAdapter> operations) {
+        OperationRouter router = new OperationRouter();
+        for (OperationPathAdapter operation : operations) {
+            router.add(operation);
+        }
+
+        router.routes.values().forEach(Node::sortTemplates);
+        return router;
+    }
+
+    /**
+     * Resolves the operation for given request method and path. Query parameters on the path are ignored.
+     * @param method the HTTP request method
+     * @param path the request path
+     * @return the matching operation with the path parameter values, or empty when no operation matches
+     */
+    public Optional<OperationMatch> route(String method, String path) {
+        if (method == null || path == null) {
+            return Optional.empty();
+        }
+
+        Node root = routes.get(method.toUpperCase(Locale.ROOT));
+        if (root == null) {
+            return Optional.empty();
+        }
+
+        int queryStart = path.indexOf('?');
+        List<String> segments = segments(queryStart >= 0 ? path.substring(0, queryStart) : path);
+        List<String> values = new ArrayList<>();
+
+        Node match = root.match(segments, 0, values);
+        if (match == null) {
+            return Optional.empty();
+        }
+
+        Route route = match.route;
+        Map<String, String> pathParameters = new LinkedHashMap<>();
+        for (int i = 0; i < values.size(); i++) {
+            pathParameters.put(route.parameterNames().get(i), values.get(i));
+        }
+
+        return Optional.of(new OperationMatch(route.operation(), Collections.unmodifiableMap(pathParameters), route.parameters()));
+    }
+
+    private void add(OperationPathAdapter operationPathAdapter) {
+        Node node = routes.computeIfAbsent(operationPathAdapter.operation().getMethod().toUpperCase(Locale.ROOT), k -> new Node());
+        List<String> parameterNames = new ArrayList<>();
+
+        for (String segment : segments(operationPathAdapter.fullPath())) {
+            if (segment.indexOf('{') < 0) {
+                node = node.literals.computeIfAbsent(segment, k -> new Node());
+            } else {
+                TemplateSegment template = TemplateSegment.compile(segment);
+                parameterNames.addAll(template.names());
+                node = node.template(template);
+            }
+        }
+
+        // First operation wins in case of duplicate path templates
+        if (node.route == null) {
+            node.route = new Route(operationPathAdapter, List.copyOf(parameterNames),
+                    resolvePathParameters(operationPathAdapter.operation()));
+        }
+    }
+
+    /**
+     * Resolves the path parameter definitions of given operation by their name. Parameters defined on the
+     * operation override the parameters of the enclosing path item.
+     */
+    private static Map<String, OasParameter> resolvePathParameters(OasOperation operation) {
+        Map<String, OasParameter> parameters = new LinkedHashMap<>();
+        if (operation.parent() instanceof OasPathItem pathItem) {
+            addPathParameters(pathItem.parameters, parameters);
+        }
+        addPathParameters(operation.parameters, parameters);
+
+        return Collections.unmodifiableMap(parameters);
+    }
+
+    private static void addPathParameters(List<OasParameter> candidates, Map<String, OasParameter> parameters) {
+        if (candidates == null) {
+            return;
+        }
+
+        for (OasParameter parameter : candidates) {
+            if ("path".equals(parameter.in) && StringUtils.hasText(parameter.name)) {
+                parameters.put(parameter.name, parameter);
+            }
+        }
+    }
+
+    /**
+     * Splits the path into its non-empty segments.
+     */
+    static List<String> segments(String path) {
+        List<String> segments = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i <= path.length(); i++) {
+            if (i == path.length() || path.charAt(i) == '/') {
+                if (i > start) {
+                    segments.add(path.substring(start, i));
+                }
+                start = i + 1;
+            }
+        }
+
+        return segments;
+    }
+
+    /**
+     * Result of a successful route lookup.
+     *
+     * @param operation      the matching operation
+     * @param pathParameters the path parameter values by parameter name
+     * @param parameters     the path parameter definitions of the operation by parameter name
+     */
+    public record OperationMatch(OperationPathAdapter operation, Map<String, String> pathParameters,
+                                 Map<String, OasParameter> parameters) {
+
+        /**
+         * Checks if the matching operation is identified by given operation key. The key is either the
+         * operationId or the unique operation identifier.
+         * @param operationKey the operation key
+         * @return true when the key identifies the matching operation
+         */
+        public boolean isOperation(String operationKey) {
+            return operationKey != null && (operationKey.equals(operation.uniqueOperationId())
+                    || operationKey.equals(operation.operation().operationId));
+        }
+    }
+
+    /**
+     * Compiled route of an operation.
+     */
+    private record Route(OperationPathAdapter operation, List<String> parameterNames, Map<String, OasParameter> parameters) {
+    }
+
+    /**
+     * Path segment holding one or more parameters. Segments consisting of a single parameter match any value,
+     * all other segments are matched with a regular expression.
+     */
+    private record TemplateSegment(String template, List<String> names, Pattern pattern) {
+
+        static TemplateSegment compile(String segment) {
+            List<String> names = new ArrayList<>();
+            StringBuilder regex = new StringBuilder();
+            Matcher matcher = PARAMETER_PATTERN.matcher(segment);
+
+            int last = 0;
+            while (matcher.find()) {
+                regex.append(Pattern.quote(segment.substring(last, matcher.start()))).append("(.+?)");
+                names.add(matcher.group(1));
+                last = matcher.end();
+            }
+            regex.append(Pattern.quote(segment.substring(last)));
+
+            boolean single = names.size() == 1 && segment.equals("{" + names.get(0) + "}");
+            return new TemplateSegment(segment, List.copyOf(names), single ? null : Pattern.compile(regex.toString()));
+        }
+
+        boolean match(String segment, List<String> values) {
+            if (pattern == null) {
+                values.add(segment);
+                return true;
+            }
+
+            Matcher matcher = pattern.matcher(segment);
+            if (!matcher.matches()) {
+                return false;
+            }
+
+            for (int i = 1; i <= matcher.groupCount(); i++) {
+                values.add(matcher.group(i));
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Node in the routing trie.
+     */
+    private static final class Node {
+
+        private final Map<String, Node> literals = new HashMap<>();
+        private final List<Map.Entry<TemplateSegment, Node>> templates = new ArrayList<>();
+
+        private Route route;
+
+        Node template(TemplateSegment segment) {
+            for (Map.Entry<TemplateSegment, Node> entry : templates) {
+                if (entry.getKey().pattern() == null && segment.pattern() == null
+                        || entry.getKey().template().equals(segment.template())) {
+                    return entry.getValue();
+                }
+            }
+
+            Node node = new Node();
+            templates.add(Map.entry(segment, node));
+            return node;
+        }
+
+        /**
+         * Templates with literal parts are more specific and therefore tried first.
+         */
+        void sortTemplates() {
+            templates.sort(Comparator.comparing(entry -> entry.getKey().pattern() == null));
+            literals.values().forEach(Node::sortTemplates);
+            templates.forEach(entry -> entry.getValue().sortTemplates());
+        }
+
+        Node match(List<String> segments, int index, List<String> values) {
+            if (index == segments.size()) {
+                return route != null ? this : null;
+            }
+
+            String segment = segments.get(index);
+            Node literal = literals.get(segment);
+            if (literal != null) {
+                Node match = literal.match(segments, index + 1, values);
+                if (match != null) {
+                    return match;
+                }
+            }
+
+            for (Map.Entry<TemplateSegment, Node> entry : templates) {
+                int mark = values.size();
+                if (entry.getKey().match(segment, values)) {
+                    Node match = entry.getValue().match(segments, index + 1, values);
+                    if (match != null) {
+                        return match;
+                    }
+                }
+
+                values.subList(mark, values.size()).clear();
+            }
+
+            return null;
+        }
+    }
+}
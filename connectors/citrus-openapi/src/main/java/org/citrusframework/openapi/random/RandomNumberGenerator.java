@@ -57,7 +57,7 @@ public class RandomNumberGenerator extends RandomGenerator {
     /**
      * Determine some reasonable bounds for a random number
      */
-    private static BigDecimal[] determineBounds(OasSchema schema) {
+    static BigDecimal[] determineBounds(OasSchema schema) {
         Number maximum = schema.maximum;
         Number minimum = schema.minimum;
         Number multipleOf = schema.multipleOf;
@@ -141,7 +141,7 @@ public class RandomNumberGenerator extends RandomGenerator {
      * returns the maximum number of decimal places found between the minimum and maximum values,
      * with a minimum of 2 decimal places.
      */
-    private int determineDecimalPlaces(OasSchema schema, BigDecimal minimum, BigDecimal maximum) {
+    static int determineDecimalPlaces(OasSchema schema, BigDecimal minimum, BigDecimal maximum) {
         if (TYPE_INTEGER.equals(schema.type)) {
             return 0;
         } else {
@@ -155,7 +155,7 @@ public class RandomNumberGenerator extends RandomGenerator {
         }
     }
 
-    int findLeastSignificantDecimalPlace(BigDecimal number) {
+    static int findLeastSignificantDecimalPlace(BigDecimal number) {
         number = number.stripTrailingZeros();
 
         String[] parts = number.toPlainString().split("\\.");
@@ -0,0 +1,417 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.openapi.random;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import com.mifmif.common.regex.Generex;
+import io.apicurio.datamodels.openapi.models.OasSchema;
+import org.citrusframework.openapi.OpenApiSpecification;
+
+/**
+ * Node of a compiled {@link RandomValuePlan}. Each node holds the schema constraints in a prepared form and writes
+ * a concrete random value as JSON to the output.
+ */
+interface RandomValueNode {
+
+    /**
+     * Node for schemas that do not produce any value, e.g. recursive object references or unsupported types.
+     */
+    RandomValueNode EMPTY = (out, random, quote) -> {
+        // Do nothing
+    };
+
+    /**
+     * Writes a random value to the given output.
+     * @param out the output to append the value to
+     * @param random the random number generator
+     * @param quote whether to write string values as quoted JSON strings
+     */
+    void write(StringBuilder out, Random random, boolean quote);
+
+    /**
+     * Appends given text as quoted and escaped JSON string.
+     */
+    static void appendQuoted(StringBuilder out, String text) {
+        out.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        out.append('"');
+    }
+
+    /**
+     * Random alphanumeric string with a length between min and max. The first character is always a letter.
+     */
+    final class StringNode implements RandomValueNode {
+
+        private static final char[] LETTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray();
+        private static final char[] ALPHANUMERIC = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789".toCharArray();
+
+        private final int minLength;
+        private final int maxLength;
+
+        StringNode(int minLength, int maxLength) {
+            this.minLength = minLength;
+            this.maxLength = Math.max(minLength, maxLength);
+        }
+
+        @Override
+        public void write(StringBuilder out, Random random, boolean quote) {
+            int length = minLength + random.nextInt(maxLength - minLength + 1);
+
+            if (quote) {
+                out.append('"');
+            }
+
+            out.append(LETTERS[random.nextInt(LETTERS.length)]);
+            for (int i = 1; i < length; i++) {
+                out.append(ALPHANUMERIC[random.nextInt(ALPHANUMERIC.length)]);
+            }
+
+            if (quote) {
+                out.append('"');
+            }
+        }
+    }
+
+    /**
+     * Random string matching a regular expression. The automaton is built once when the plan is compiled.
+     */
+    final class PatternNode implements RandomValueNode {
+
+        private final Generex generex;
+
+        PatternNode(String pattern) {
+            if (!Generex.isValidPattern(pattern)) {
+                throw new IllegalArgumentException("Unable to create random value for pattern: " + pattern);
+            }
+
+            this.generex = new Generex(pattern);
+        }
+
+        @Override
+        public void write(StringBuilder out, Random random, boolean quote) {
+            String value;
+            synchronized (generex) {
+                generex.setSeed(random.nextLong());
+                value = generex.random();
+            }
+
+            if (quote) {
+                appendQuoted(out, value);
+            } else {
+                out.append(value);
+            }
+        }
+    }
+
+    /**
+     * Random value out of a fixed list of enumeration values.
+     */
+    final class EnumNode implements RandomValueNode {
+
+        private final List<String> values;
+        private final boolean stringValues;
+
+        EnumNode(List<String> values, boolean stringValues) {
+            this.values = List.copyOf(values);
+            this.stringValues = stringValues;
+        }
+
+        @Override
+        public void write(StringBuilder out, Random random, boolean quote) {
+            if (values.isEmpty()) {
+                return;
+            }
+
+            String value = values.get(random.nextInt(values.size()));
+            if (quote && stringValues) {
+                appendQuoted(out, value);
+            } else {
+                out.append(value);
+            }
+        }
+    }
+
+    /**
+     * Random boolean value.
+     */
+    final class BooleanNode implements RandomValueNode {
+
+        @Override
+        public void write(StringBuilder out, Random random, boolean quote) {
+            out.append(random.nextBoolean());
+        }
+    }
+
+    /**
+     * Random version 4 UUID.
+     */
+    final class UuidNode implements RandomValueNode {
+
+        private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+        @Override
+        public void write(StringBuilder out, Random random, boolean quote) {
+            long most = (random.nextLong() & 0xffffffffffff0fffL) | 0x0000000000004000L;
+            long least = (random.nextLong() & 0x3fffffffffffffffL) | 0x8000000000000000L;
+
+            if (quote) {
+                out.append('"');
+            }
+
+            appendHex(out, most >>> 32, 8);
+            out.append('-');
+            appendHex(out, most >>> 16, 4);
+            out.append('-');
+            appendHex(out, most, 4);
+            out.append('-');
+            appendHex(out, least >>> 48, 4);
+            out.append('-');
+            appendHex(out, least, 12);
+
+            if (quote) {
+                out.append('"');
+            }
+        }
+
+        private static void appendHex(StringBuilder out, long value, int digits) {
+            for (int shift = (digits - 1) * 4; shift >= 0; shift -= 4) {
+                out.append(HEX[(int) ((value >>> shift) & 0xf)]);
+            }
+        }
+    }
+
+    /**
+     * Random date or date time between 2000-01-01 and 2099-12-31 (UTC) formatted with the given formatter.
+     * The value is derived from the random number generator only, so seeded plans produce the same dates.
+     */
+    final class DateNode implements RandomValueNode {
+
+        private static final long MIN_EPOCH_SECOND = OffsetDateTime.of(2000, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC).toEpochSecond();
+        private static final long MAX_EPOCH_SECOND = OffsetDateTime.of(2100, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC).toEpochSecond();
+
+        private final DateTimeFormatter formatter;
+
+        DateNode(DateTimeFormatter formatter) {
+            this.formatter = formatter;
+        }
+
+        @Override
+        public void write(StringBuilder out, Random random, boolean quote) {
+            long epochSecond = MIN_EPOCH_SECOND + random.nextLong(MAX_EPOCH_SECOND - MIN_EPOCH_SECOND);
+            String value = formatter.format(Instant.ofEpochSecond(epochSecond).atOffset(ZoneOffset.UTC));
+            if (quote) {
+                out.append('"').append(value).append('"');
+            } else {
+                out.append(value);
+            }
+        }
+    }
+
+    /**
+     * Schema the plan does not support, e.g. arrays with items having different schemas. Delegates to the
+     * generators in {@link RandomConfiguration}, which write Citrus function expressions that get resolved when
+     * the message is sent. These values do not use the random number generator of the plan.
+     */
+    final class GeneratorNode implements RandomValueNode {
+
+        private final OasSchema schema;
+        private final OpenApiSpecification specification;
+
+        GeneratorNode(OasSchema schema, OpenApiSpecification specification) {
+            this.schema = schema;
+            this.specification = specification;
+        }
+
+        @Override
+        public void write(StringBuilder out, Random random, boolean quote) {
+            RandomContext randomContext = new RandomContext(specification, quote);
+            randomContext.generate(schema);
+            out.append(randomContext.getRandomModelBuilder().writeToJson());
+        }
+    }
+
+    /**
+     * Random number within prepared bounds. Bounds are already adjusted for exclusive minimum and maximum.
+     */
+    final class NumberNode implements RandomValueNode {
+
+        private final BigDecimal minimum;
+        private final BigDecimal maximum;
+        private final BigDecimal multipleOf;
+        private final int decimalPlaces;
+
+        NumberNode(BigDecimal minimum, BigDecimal maximum, BigDecimal multipleOf, int decimalPlaces) {
+            this.minimum = minimum;
+            this.maximum = maximum;
+            this.multipleOf = multipleOf;
+            this.decimalPlaces = decimalPlaces;
+        }
+
+        @Override
+        public void write(StringBuilder out, Random random, boolean quote) {
+            BigDecimal value;
+            if (multipleOf != null) {
+                long factors = maximum.subtract(minimum).divide(multipleOf, 0, RoundingMode.DOWN).longValue();
+                long factor = factors > 0 ? random.nextLong(factors + 1) : 0L;
+                value = minimum.add(multipleOf.multiply(BigDecimal.valueOf(factor)));
+            } else {
+                value = minimum.add(maximum.subtract(minimum).multiply(BigDecimal.valueOf(random.nextDouble())));
+            }
+
+            out.append(value.setScale(decimalPlaces, RoundingMode.HALF_UP).toPlainString());
+        }
+    }
+
+    /**
+     * Array with a random number of items between min and max.
+     */
+    final class ArrayNode implements RandomValueNode {
+
+        private final int minItems;
+        private final int maxItems;
+        private final RandomValueNode items;
+
+        ArrayNode(int minItems, int maxItems, RandomValueNode items) {
+            this.minItems = minItems;
+            this.maxItems = Math.max(minItems, maxItems);
+            this.items = items;
+        }
+
+        @Override
+        public void write(StringBuilder out, Random random, boolean quote) {
+            out.append('[');
+            if (items != EMPTY) {
+                int size = minItems + random.nextInt(maxItems - minItems + 1);
+                for (int i = 0; i < size; i++) {
+                    if (i > 0) {
+                        out.append(',');
+                    }
+                    items.write(out, random, true);
+                }
+            }
+            out.append(']');
+        }
+    }
+
+    /**
+     * Object with a fixed list of properties. Property names are escaped once when the plan is compiled.
+     */
+    final class ObjectNode implements RandomValueNode {
+
+        private final Map<String, RandomValueNode> properties;
+        private final List<String> prefixes = new ArrayList<>();
+        private final List<RandomValueNode> values = new ArrayList<>();
+
+        ObjectNode(Map<String, RandomValueNode> properties) {
+            this.properties = properties;
+            properties.forEach((name, value) -> {
+                if (value != EMPTY) {
+                    StringBuilder prefix = new StringBuilder();
+                    appendQuoted(prefix, name);
+                    prefixes.add(prefix.append(':').toString());
+                    values.add(value);
+                }
+            });
+        }
+
+        Map<String, RandomValueNode> getProperties() {
+            return properties;
+        }
+
+        @Override
+        public void write(StringBuilder out, Random random, boolean quote) {
+            out.append('{');
+            for (int i = 0; i < values.size(); i++) {
+                if (i > 0) {
+                    out.append(',');
+                }
+                out.append(prefixes.get(i));
+                values.get(i).write(out, random, true);
+            }
+            out.append('}');
+        }
+    }
+
+    /**
+     * Composite of alternative schemas. Picks one alternative (oneOf) or a random non-empty subset of
+     * alternatives (anyOf). Subsets of object alternatives are merged into a single object.
+     */
+    final class ChoiceNode implements RandomValueNode {
+
+        private final List<RandomValueNode> alternatives;
+        private final boolean any;
+        private final boolean objects;
+
+        ChoiceNode(List<RandomValueNode> alternatives, boolean any) {
+            this.alternatives = List.copyOf(alternatives);
+            this.any = any;
+            this.objects = alternatives.stream().allMatch(ObjectNode.class::isInstance);
+        }
+
+        @Override
+        public void write(StringBuilder out, Random random, boolean quote) {
+            if (alternatives.isEmpty()) {
+                return;
+            }
+
+            if (!any || !objects) {
+                alternatives.get(random.nextInt(alternatives.size())).write(out, random, quote);
+                return;
+            }
+
+            Map<String, RandomValueNode> merged = new LinkedHashMap<>();
+            for (RandomValueNode alternative : alternatives) {
+                if (random.nextBoolean()) {
+                    ((ObjectNode) alternative).getProperties().forEach(merged::putIfAbsent);
+                }
+            }
+
+            if (merged.isEmpty()) {
+                alternatives.get(random.nextInt(alternatives.size())).write(out, random, quote);
+            } else {
+                new ObjectNode(merged).write(out, random, quote);
+            }
+        }
+    }
+}
@@ -0,0 +1,335 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.openapi.random;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import io.apicurio.datamodels.openapi.models.OasSchema;
+import io.apicurio.datamodels.openapi.v3.models.Oas30Schema;
+import jakarta.annotation.Nullable;
+import org.citrusframework.openapi.OpenApiSpecification;
+import org.citrusframework.openapi.model.OasModelHelper;
+import org.citrusframework.openapi.random.RandomValueNode.ArrayNode;
+import org.citrusframework.openapi.random.RandomValueNode.BooleanNode;
+import org.citrusframework.openapi.random.RandomValueNode.ChoiceNode;
+import org.citrusframework.openapi.random.RandomValueNode.DateNode;
+import org.citrusframework.openapi.random.RandomValueNode.EnumNode;
+import org.citrusframework.openapi.random.RandomValueNode.GeneratorNode;
+import org.citrusframework.openapi.random.RandomValueNode.NumberNode;
+import org.citrusframework.openapi.random.RandomValueNode.ObjectNode;
+import org.citrusframework.openapi.random.RandomValueNode.PatternNode;
+import org.citrusframework.openapi.random.RandomValueNode.StringNode;
+import org.citrusframework.openapi.random.RandomValueNode.UuidNode;
+import org.citrusframework.openapi.util.OpenApiUtils;
+
+import static org.citrusframework.openapi.OpenApiConstants.FORMAT_DATE;
+import static org.citrusframework.openapi.OpenApiConstants.FORMAT_DATE_TIME;
+import static org.citrusframework.openapi.OpenApiConstants.FORMAT_UUID;
+import static org.citrusframework.openapi.OpenApiConstants.TYPE_BOOLEAN;
+import static org.citrusframework.openapi.OpenApiConstants.TYPE_OBJECT;
+import static org.citrusframework.openapi.OpenApiConstants.TYPE_STRING;
+import static org.citrusframework.openapi.model.OasModelHelper.isArrayType;
+import static org.citrusframework.openapi.model.OasModelHelper.isCompositeSchema;
+import static org.citrusframework.openapi.util.OpenApiUtils.isAnyNumberScheme;
+import static org.springframework.util.CollectionUtils.isEmpty;
+
+/**
+ * Compiled generation plan for random values of an OpenAPI schema. In contrast to {@link RandomContext}, which
+ * produces Citrus function expressions that get parsed and evaluated later on, the plan writes concrete values
+ * directly to the JSON output.
+ * <p>
+ * References, constraints, patterns and property names are resolved once when the plan is compiled, so the
+ * plan is meant to be cached per schema and reused for each generated payload. A plan is thread safe.
+ * Using a seeded {@link Random} produces reproducible payloads.
+ * <p>
+ * The plan follows the same schema rules as the generators in {@link RandomConfiguration}.
+ */
+public final class RandomValuePlan {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssXXX");
+
+    private final RandomValueNode root;
+
+    private RandomValuePlan(RandomValueNode root) {
+        this.root = root;
+    }
+
+    /**
+     * Compiles the generation plan for given schema. Referenced schemas are resolved using the given specification.
+     *
+     * @param schema        the schema to compile
+     * @param specification the OpenAPI specification, may be null in case the schema does not use references
+     * @return the compiled plan
+     */
+    public static RandomValuePlan compile(OasSchema schema, @Nullable OpenApiSpecification specification) {
+        return new RandomValuePlan(new Compiler(specification).compile(schema));
+    }
+
+    /**
+     * Generates a random value as JSON.
+     *
+     * @param random the random number generator to use
+     * @return the generated JSON
+     */
+    public String toJson(Random random) {
+        StringBuilder out = new StringBuilder();
+        writeJson(out, random);
+        return out.toString();
+    }
+
+    /**
+     * Generates a random value as JSON and appends it to the given output.
+     *
+     * @param out    the output
+     * @param random the random number generator to use
+     */
+    public void writeJson(StringBuilder out, Random random) {
+        root.write(out, random, true);
+    }
+
+    /**
+     * Generates a random value where simple string values are not quoted, e.g. for usage as header or query
+     * parameter value. Objects and arrays are written as JSON.
+     *
+     * @param random the random number generator to use
+     * @return the generated value
+     */
+    public String toValue(Random random) {
+        StringBuilder out = new StringBuilder();
+        root.write(out, random, false);
+        return out.toString();
+    }
+
+    /**
+     * Compiles schemas to plan nodes. Keeps track of the objects being compiled to stop on recursive schemas.
+     */
+    private static class Compiler {
+
+        private final OpenApiSpecification specification;
+        private final Deque<OasSchema> objectStack = new ArrayDeque<>();
+        private Map<String, OasSchema> schemaDefinitions;
+
+        Compiler(OpenApiSpecification specification) {
+            this.specification = specification;
+        }
+
+        RandomValueNode compile(OasSchema schema) {
+            OasSchema resolved = resolve(schema);
+            if (resolved == null) {
+                return RandomValueNode.EMPTY;
+            }
+
+            if (resolved.enum_ != null) {
+                return new EnumNode(resolved.enum_, resolved.type == null || TYPE_STRING.equals(resolved.type));
+            }
+
+            if (TYPE_STRING.equals(resolved.type)) {
+                return compileString(resolved);
+            }
+
+            if (TYPE_BOOLEAN.equals(resolved.type)) {
+                return new BooleanNode();
+            }
+
+            if (isCompositeSchema(resolved)) {
+                return compileComposite(resolved);
+            }
+
+            if (isAnyNumberScheme(resolved)) {
+                return compileNumber(resolved);
+            }
+
+            if (TYPE_OBJECT.equals(resolved.type)) {
+                return compileObject(resolved);
+            }
+
+            if (isArrayType(resolved)) {
+                return compileArray(resolved);
+            }
+
+            return RandomValueNode.EMPTY;
+        }
+
+        private RandomValueNode compileString(OasSchema schema) {
+            if (schema.format != null) {
+                switch (schema.format) {
+                    case FORMAT_DATE:
+                        return new DateNode(DATE_FORMATTER);
+                    case FORMAT_DATE_TIME:
+                        return new DateNode(DATE_TIME_FORMATTER);
+                    case FORMAT_UUID:
+                        return new UuidNode();
+                    default:
+                        String pattern = RandomConfiguration.getFormatPattern(schema.format);
+                        if (pattern != null) {
+                            return new PatternNode(pattern);
+                        }
+                }
+            }
+
+            if (schema.pattern != null) {
+                return new PatternNode(schema.pattern);
+            }
+
+            int min = 1;
+            int max = 10;
+
+            if (schema.minLength != null && schema.minLength.intValue() > 0) {
+                min = schema.minLength.intValue();
+            }
+
+            if (schema.maxLength != null && schema.maxLength.intValue() > 0) {
+                max = schema.maxLength.intValue();
+            }
+
+            return new StringNode(min, max);
+        }
+
+        private RandomValueNode compileNumber(OasSchema schema) {
+            BigDecimal[] bounds = RandomNumberGenerator.determineBounds(schema);
+            BigDecimal minimum = bounds[0];
+            BigDecimal maximum = bounds[1];
+            int decimalPlaces = RandomNumberGenerator.determineDecimalPlaces(schema, minimum, maximum);
+
+            if (schema.multipleOf != null) {
+                BigDecimal multipleOf = new BigDecimal(schema.multipleOf.toString()).abs();
+                BigDecimal lowest = minimum.divide(multipleOf, 0, RoundingMode.CEILING).multiply(multipleOf);
+                BigDecimal highest = maximum.divide(multipleOf, 0, RoundingMode.FLOOR).multiply(multipleOf);
+
+                if (Boolean.TRUE.equals(schema.exclusiveMinimum) && lowest.compareTo(minimum) == 0) {
+                    lowest = lowest.add(multipleOf);
+                }
+
+                if (Boolean.TRUE.equals(schema.exclusiveMaximum) && highest.compareTo(maximum) == 0) {
+                    highest = highest.subtract(multipleOf);
+                }
+
+                if (lowest.compareTo(highest) > 0) {
+                    throw new IllegalArgumentException("Unable to create random value for number schema - no multiple of %s between %s and %s"
+                            .formatted(multipleOf, minimum, maximum));
+                }
+
+                return new NumberNode(lowest, highest, multipleOf, decimalPlaces);
+            }
+
+            BigDecimal step = BigDecimal.ONE.movePointLeft(decimalPlaces);
+            if (Boolean.TRUE.equals(schema.exclusiveMinimum)) {
+                minimum = minimum.add(step);
+            }
+
+            if (Boolean.TRUE.equals(schema.exclusiveMaximum)) {
+                maximum = maximum.subtract(step);
+            }
+
+            return new NumberNode(minimum, maximum.max(minimum), null, decimalPlaces);
+        }
+
+        private RandomValueNode compileObject(OasSchema schema) {
+            if (objectStack.contains(schema)) {
+                // If we are already compiling this schema, we are very likely in a recursion and need to stop.
+                return RandomValueNode.EMPTY;
+            }
+
+            objectStack.push(schema);
+            try {
+                Map<String, RandomValueNode> properties = new LinkedHashMap<>();
+                if (schema.properties != null) {
+                    boolean optionalFields = specification == null || specification.isGenerateOptionalFields();
+                    for (Map.Entry<String, OasSchema> entry : schema.properties.entrySet()) {
+                        if (optionalFields || OpenApiUtils.isRequired(schema, entry.getKey())) {
+                            properties.put(entry.getKey(), compile(entry.getValue()));
+                        }
+                    }
+                }
+
+                return new ObjectNode(properties);
+            } finally {
+                objectStack.pop();
+            }
+        }
+
+        private RandomValueNode compileArray(OasSchema schema) {
+            if (!(schema.items instanceof OasSchema itemsSchema)) {
+                return new GeneratorNode(schema, specification);
+            }
+
+            int minItems = schema.minItems != null ? schema.minItems.intValue() : 1;
+            int maxItems = schema.maxItems != null ? schema.maxItems.intValue() : 10;
+
+            return new ArrayNode(minItems, maxItems, compile(itemsSchema));
+        }
+
+        private RandomValueNode compileComposite(OasSchema schema) {
+            if (!isEmpty(schema.allOf)) {
+                // Merge all object schemas into a single object
+                Map<String, RandomValueNode> properties = new LinkedHashMap<>();
+                for (OasSchema oneSchema : schema.allOf) {
+                    if (compile(oneSchema) instanceof ObjectNode objectNode) {
+                        objectNode.getProperties().forEach(properties::putIfAbsent);
+                    }
+                }
+
+                return new ObjectNode(properties);
+            }
+
+            if (schema instanceof Oas30Schema oas30Schema && !isEmpty(oas30Schema.anyOf)) {
+                return new ChoiceNode(compileAll(oas30Schema.anyOf), true);
+            }
+
+            if (schema instanceof Oas30Schema oas30Schema && !isEmpty(oas30Schema.oneOf)) {
+                return new ChoiceNode(compileAll(oas30Schema.oneOf), false);
+            }
+
+            return RandomValueNode.EMPTY;
+        }
+
+        private List<RandomValueNode> compileAll(List<OasSchema> schemas) {
+            List<RandomValueNode> nodes = new ArrayList<>(schemas.size());
+            for (OasSchema oneSchema : schemas) {
+                RandomValueNode node = compile(oneSchema);
+                if (node != RandomValueNode.EMPTY) {
+                    nodes.add(node);
+                }
+            }
+
+            return nodes;
+        }
+
+        private OasSchema resolve(OasSchema schema) {
+            if (OasModelHelper.isReferenceType(schema)) {
+                if (schemaDefinitions == null) {
+                    schemaDefinitions = specification != null ?
+                            OasModelHelper.getSchemaDefinitions(specification.getOpenApiDoc(null)) : Collections.emptyMap();
+                }
+                return schemaDefinitions.get(OasModelHelper.getReferenceName(schema.$ref));
+            }
+
+            return schema;
+        }
+    }
+}
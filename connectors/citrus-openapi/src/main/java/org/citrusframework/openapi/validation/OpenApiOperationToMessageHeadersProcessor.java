@@ -16,11 +16,15 @@
 
 package org.citrusframework.openapi.validation;
 
+import java.util.Optional;
+
 import org.citrusframework.context.TestContext;
 import org.citrusframework.message.Message;
 import org.citrusframework.message.MessageProcessor;
 import org.citrusframework.openapi.OpenApiMessageType;
 import org.citrusframework.openapi.OpenApiSpecification;
+import org.citrusframework.openapi.model.OperationPathAdapter;
+import org.citrusframework.openapi.model.OperationRouter.OperationMatch;
 
 import static org.citrusframework.openapi.OpenApiMessageHeaders.OAS_MESSAGE_TYPE;
 import static org.citrusframework.openapi.OpenApiMessageHeaders.OAS_SPECIFICATION_ID;
@@ -48,8 +52,7 @@ public class OpenApiOperationToMessageHeadersProcessor implements MessageProcess
 
     @Override
     public void process(Message message, TestContext context) {
-        openApiSpecification
-                .getOperation(operationKey, context)
+        resolveOperation(message, context)
                 .ifPresent(operationPathAdapter -> {
                     message.setHeader(OAS_SPECIFICATION_ID, openApiSpecification.getUid());
                     // Store the uniqueId of the operation, rather than the operationKey, to avoid clashes.
@@ -57,4 +60,21 @@ public class OpenApiOperationToMessageHeadersProcessor implements MessageProcess
                     message.setHeader(OAS_MESSAGE_TYPE, type.toHeaderName());
                 });
     }
+
+    /**
+     * Request messages are resolved with the routing table of the specification by their request method and path.
+     * The operation is looked up by its key when the request does not route to the expected operation.
+     */
+    private Optional<OperationPathAdapter> resolveOperation(Message message, TestContext context) {
+        if (type == OpenApiMessageType.REQUEST) {
+            Optional<OperationPathAdapter> routed = openApiSpecification.routeOperation(message, context)
+                    .filter(match -> match.isOperation(operationKey))
+                    .map(OperationMatch::operation);
+            if (routed.isPresent()) {
+                return routed;
+            }
+        }
+
+        return openApiSpecification.getOperation(operationKey, context);
+    }
 }
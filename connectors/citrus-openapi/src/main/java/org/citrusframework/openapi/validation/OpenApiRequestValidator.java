@@ -22,6 +22,7 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import com.atlassian.oai.validator.model.Request;
 import com.atlassian.oai.validator.model.SimpleRequest;
@@ -32,6 +33,7 @@ import org.citrusframework.http.message.HttpMessageHeaders;
 import org.citrusframework.http.message.HttpMessageUtils;
 import org.citrusframework.openapi.OpenApiSpecification;
 import org.citrusframework.openapi.model.OperationPathAdapter;
+import org.citrusframework.openapi.model.OperationRouter.OperationMatch;
 import org.citrusframework.util.StringUtils;
 import org.springframework.util.MultiValueMap;
 
@@ -44,8 +46,11 @@ import static org.citrusframework.util.FileUtils.getDefaultCharset;
  */
 public class OpenApiRequestValidator extends OpenApiValidator {
 
+    private final OpenApiSpecification openApiSpecification;
+
     public OpenApiRequestValidator(OpenApiSpecification openApiSpecification) {
         super(openApiSpecification);
+        this.openApiSpecification = openApiSpecification;
     }
 
     @Override
@@ -56,8 +61,7 @@ public class OpenApiRequestValidator extends OpenApiValidator {
     public void validateRequest(OperationPathAdapter operationPathAdapter,
         HttpMessage requestMessage) {
         if (openApiInteractionValidator != null) {
-            ValidationReport validationReport = openApiInteractionValidator.validateRequest(
-                createRequestFromMessage(operationPathAdapter, requestMessage));
+            ValidationReport validationReport = validateRequestToReport(operationPathAdapter, requestMessage);
             if (validationReport.hasErrors()) {
                 throw new ValidationException(
                     constructErrorMessage(operationPathAdapter, validationReport));
@@ -68,13 +72,56 @@ public class OpenApiRequestValidator extends OpenApiValidator {
     public ValidationReport validateRequestToReport(OperationPathAdapter operationPathAdapter,
         HttpMessage requestMessage) {
         if (openApiInteractionValidator != null) {
-            return openApiInteractionValidator.validateRequest(
+            return validateRequestToReport(operationPathAdapter,
+                isRequestOperationValidationEnabled() ? openApiSpecification.routeOperation(requestMessage) : Optional.empty(),
+                requestMessage);
+        }
+
+        return ValidationReport.empty();
+    }
+
+    /**
+     * Validates the request with the operation that has already been resolved for the request
+     * method and path with the routing table of the specification.
+     */
+    public ValidationReport validateRequestToReport(OperationPathAdapter operationPathAdapter,
+        Optional<OperationMatch> operationMatch, HttpMessage requestMessage) {
+        if (openApiInteractionValidator != null) {
+            ValidationReport operationReport = validateOperation(operationPathAdapter, operationMatch, requestMessage);
+            ValidationReport validationReport = openApiInteractionValidator.validateRequest(
                 createRequestFromMessage(operationPathAdapter, requestMessage));
+            return operationReport.hasErrors() ? operationReport.merge(validationReport) : validationReport;
         }
 
         return ValidationReport.empty();
     }
 
+    /**
+     * Verifies that the operation resolved for the request method and path is the expected
+     * operation when enabled with {@link OpenApiValidationContext#isRequestOperationValidationEnabled()}.
+     * Requests that do not resolve to any operation are left to the schema validation which reports
+     * unknown paths.
+     */
+    ValidationReport validateOperation(OperationPathAdapter operationPathAdapter,
+        Optional<OperationMatch> operationMatch, HttpMessage requestMessage) {
+        if (!isRequestOperationValidationEnabled()) {
+            return ValidationReport.empty();
+        }
+
+        return operationMatch
+            .filter(match -> !match.operation().uniqueOperationId().equals(operationPathAdapter.uniqueOperationId()))
+            .map(match -> ValidationReport.singleton(ValidationReport.Message.create(
+                "validation.request.operation.mismatch",
+                "Request '%s %s' resolves to operation %s".formatted(requestMessage.getRequestMethod(),
+                    requestMessage.getHeader(HttpMessageHeaders.HTTP_REQUEST_URI), match.operation())).build()))
+            .orElseGet(ValidationReport::empty);
+    }
+
+    private boolean isRequestOperationValidationEnabled() {
+        OpenApiValidationContext openApiValidationContext = openApiSpecification.getOpenApiValidationContext();
+        return openApiValidationContext != null && openApiValidationContext.isRequestOperationValidationEnabled();
+    }
+
     Request createRequestFromMessage(OperationPathAdapter operationPathAdapter,
         HttpMessage httpMessage) {
         var payload = httpMessage.getPayload();
@@ -31,6 +31,7 @@ import com.atlassian.oai.validator.whitelist.ValidationErrorsWhitelist;
 import com.atlassian.oai.validator.whitelist.rule.WhitelistRule;
 import io.swagger.v3.oas.models.OpenAPI;
 import jakarta.annotation.Nonnull;
+import org.citrusframework.openapi.OpenApiSettings;
 
 /**
  * Represents the context for OpenAPI validation, providing configuration and validators for request and response validation.
@@ -45,22 +46,25 @@ public class OpenApiValidationContext {
         IgnoreByKeyWhitelistRule.ignoreByKey("Allow unknown response status rule", "validation.response.status.unknown")
     );
 
-    private final OpenAPI openApi;
-
-    private OpenApiInteractionValidator openApiInteractionValidator;
-
-    private SchemaValidator schemaValidator;
+    /** Validators may be shared with other contexts created for the same specification content */
+    private final Validators validators;
 
     private boolean responseValidationEnabled = isResponseValidationEnabled();
 
     private boolean requestValidationEnabled = isRequestValidationEnabled();
 
+    private boolean requestOperationValidationEnabled = OpenApiSettings.isRequestOperationValidationEnabled();
+
     public OpenApiValidationContext(OpenAPI openApi) {
-        this.openApi = openApi;
+        this(new Validators(openApi));
+    }
+
+    OpenApiValidationContext(Validators validators) {
+        this.validators = validators;
     }
 
     public OpenAPI getSwaggerOpenApi() {
-        return openApi;
+        return validators.openApi;
     }
 
     private static final ValidationErrorsWhitelist validationErrorsWhitelist;
@@ -73,18 +77,12 @@ public class OpenApiValidationContext {
         validationErrorsWhitelist = whiteList;
     }
 
-    public synchronized @Nonnull OpenApiInteractionValidator getOpenApiInteractionValidator() {
-        if (openApiInteractionValidator == null) {
-            openApiInteractionValidator = new OpenApiInteractionValidator.Builder().withApi(openApi).withWhitelist(validationErrorsWhitelist).build();
-        }
-        return openApiInteractionValidator;
+    public @Nonnull OpenApiInteractionValidator getOpenApiInteractionValidator() {
+        return validators.getOpenApiInteractionValidator();
     }
 
-    public synchronized @Nonnull SchemaValidator getSchemaValidator() {
-        if (schemaValidator == null) {
-            schemaValidator = new SchemaValidator(openApi, new MessageResolver(), SwaggerV20Library::schemaFactory);
-        }
-        return schemaValidator;
+    public @Nonnull SchemaValidator getSchemaValidator() {
+        return validators.getSchemaValidator();
     }
 
     public boolean isResponseValidationEnabled() {
@@ -103,6 +101,45 @@ public class OpenApiValidationContext {
         this.requestValidationEnabled = requestValidationEnabled;
     }
 
+    public boolean isRequestOperationValidationEnabled() {
+        return requestOperationValidationEnabled;
+    }
+
+    public void setRequestOperationValidationEnabled(boolean requestOperationValidationEnabled) {
+        this.requestOperationValidationEnabled = requestOperationValidationEnabled;
+    }
+
+    /**
+     * Lazily created validators for an OpenAPI model. Validators are stateless with regard to the validation
+     * settings of a context, so the same instance can be used by all contexts of the same specification.
+     */
+    static final class Validators {
+
+        private final OpenAPI openApi;
+
+        private OpenApiInteractionValidator openApiInteractionValidator;
+
+        private SchemaValidator schemaValidator;
+
+        Validators(OpenAPI openApi) {
+            this.openApi = openApi;
+        }
+
+        synchronized OpenApiInteractionValidator getOpenApiInteractionValidator() {
+            if (openApiInteractionValidator == null) {
+                openApiInteractionValidator = new OpenApiInteractionValidator.Builder().withApi(openApi).withWhitelist(validationErrorsWhitelist).build();
+            }
+            return openApiInteractionValidator;
+        }
+
+        synchronized SchemaValidator getSchemaValidator() {
+            if (schemaValidator == null) {
+                schemaValidator = new SchemaValidator(openApi, new MessageResolver(), SwaggerV20Library::schemaFactory);
+            }
+            return schemaValidator;
+        }
+    }
+
     private record IgnoreByKeyWhitelistRule(String name, String key) implements WhitelistRule {
 
             private IgnoreByKeyWhitelistRule(@Nonnull String name, @Nonnull String key) {
@@ -63,10 +63,35 @@ public final class OpenApiValidationContextLoader {
      */
     public static OpenApiValidationContext fromSpec(String openApiSpecAsString,
         OpenApiValidationPolicy openApiValidationPolicy) {
-        OpenAPIParser openAPIParser = new OpenAPIParser();
-        return createValidationContext(
-            handleSwaggerParserResult(openApiSpecAsString, openAPIParser.readContents(openApiSpecAsString, emptyList(),
-                defaultParseOptions()), openApiValidationPolicy));
+        return fromParsedSpec(parse(openApiSpecAsString), openApiValidationPolicy);
+    }
+
+    /**
+     * Parses the given open api string into a validation model that can be shared by several
+     * validation contexts.
+     *
+     * @param openApiSpecAsString the string representation of an OpenAPI
+     * @return the parsed specification
+     */
+    public static ParsedSpec parse(String openApiSpecAsString) {
+        SwaggerParseResult parseResult = new OpenAPIParser().readContents(openApiSpecAsString, emptyList(),
+            defaultParseOptions());
+        return new ParsedSpec(openApiSpecAsString, parseResult,
+            new OpenApiValidationContext.Validators(parseResult != null ? parseResult.getOpenAPI() : null));
+    }
+
+    /**
+     * Creates an OpenApiValidationContext from a parsed specification. The context shares the validators
+     * of the parsed specification but keeps its own validation settings.
+     *
+     * @param parsedSpec the parsed specification
+     * @param openApiValidationPolicy the policy to be used for parsing
+     * @return the OpenApiValidationContext
+     */
+    public static OpenApiValidationContext fromParsedSpec(ParsedSpec parsedSpec,
+        OpenApiValidationPolicy openApiValidationPolicy) {
+        handleSwaggerParserResult(parsedSpec.identifier, parsedSpec.parseResult, openApiValidationPolicy);
+        return new OpenApiValidationContext(parsedSpec.validators);
     }
 
     private static OpenAPI handleSwaggerParserResult(String identifier,
@@ -114,10 +139,6 @@ public final class OpenApiValidationContextLoader {
         }
     }
 
-    private static OpenApiValidationContext createValidationContext(OpenAPI openApi) {
-        return new OpenApiValidationContext(openApi);
-    }
-
     private static ParseOptions defaultParseOptions() {
         final ParseOptions parseOptions = new ParseOptions();
         parseOptions.setResolve(true);
@@ -125,4 +146,21 @@ public final class OpenApiValidationContextLoader {
         parseOptions.setResolveCombinators(false);
         return parseOptions;
     }
+
+    /**
+     * Result of parsing a specification with its lazily created validators.
+     */
+    public static final class ParsedSpec {
+
+        private final String identifier;
+        private final SwaggerParseResult parseResult;
+        private final OpenApiValidationContext.Validators validators;
+
+        private ParsedSpec(String identifier, SwaggerParseResult parseResult,
+            OpenApiValidationContext.Validators validators) {
+            this.identifier = identifier;
+            this.parseResult = parseResult;
+            this.validators = validators;
+        }
+    }
 }
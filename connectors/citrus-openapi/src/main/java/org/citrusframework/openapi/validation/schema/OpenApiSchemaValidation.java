@@ -33,6 +33,7 @@ import org.citrusframework.openapi.OpenApiMessageHeaders;
 import org.citrusframework.openapi.OpenApiRepository;
 import org.citrusframework.openapi.OpenApiSpecification;
 import org.citrusframework.openapi.model.OperationPathAdapter;
+import org.citrusframework.openapi.model.OperationRouter.OperationMatch;
 import org.citrusframework.openapi.util.OpenApiUtils;
 import org.citrusframework.openapi.validation.OpenApiMessageValidationContext;
 import org.citrusframework.openapi.validation.OpenApiMessageValidationContext.Builder;
@@ -162,8 +163,15 @@ public class OpenApiSchemaValidation implements SchemaValidator<OpenApiMessageVa
                 OpenApiUtils.getKnownOpenApiAliases(context.getReferenceResolver())));
         }
 
-        OperationPathAdapter operationPathAdapter = openApiSpecification.getOperation(
-                operationKey, context)
+        // Requests are resolved with the routing table, the key lookup is only required when the request routes to another operation
+        Optional<OperationMatch> operationMatch = isRequestMessage(message)
+            ? openApiSpecification.routeOperation(message, context)
+            : Optional.empty();
+
+        OperationPathAdapter operationPathAdapter = operationMatch
+            .filter(match -> match.isOperation(operationKey))
+            .map(OperationMatch::operation)
+            .or(() -> openApiSpecification.getOperation(operationKey, context))
             .orElseThrow(() -> new CitrusRuntimeException(
                 "Unexpectedly could not resolve operation path adapter for operationKey: "
                     + operationKey));
@@ -172,7 +180,7 @@ public class OpenApiSchemaValidation implements SchemaValidator<OpenApiMessageVa
         if (isRequestMessage(message)) {
             ValidationReport validationReport = new OpenApiRequestValidator(
                 openApiSpecification)
-                .validateRequestToReport(operationPathAdapter, message);
+                .validateRequestToReport(operationPathAdapter, operationMatch, message);
             validationReportData = new ValidationReportData(operationPathAdapter, "request",
                 validationReport);
         } else if (isResponseMessage(message)) {
@@ -0,0 +1,129 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.openapi;
+
+import org.citrusframework.openapi.validation.OpenApiValidationPolicy;
+import org.citrusframework.spi.Resource;
+import org.citrusframework.spi.Resources.ClasspathResource;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class OpenApiDocumentCacheTest {
+
+    private final Resource pingApi = new ClasspathResource("classpath:org/citrusframework/openapi/ping/ping-api.yaml");
+
+    @AfterMethod
+    public void clearCache() {
+        OpenApiDocumentCache.clear();
+    }
+
+    @Test
+    public void shouldParseSameContentOnlyOnce() {
+        String content = OpenApiResourceLoader.contentFromFile(pingApi);
+
+        OpenApiDocumentCache.LoadedDocument first = OpenApiDocumentCache.load(content);
+        OpenApiDocumentCache.LoadedDocument second = OpenApiDocumentCache.load(content);
+
+        assertSame(second, first);
+        assertSame(second.getDocument(), first.getDocument());
+        assertSame(second.toJson(), first.toJson());
+    }
+
+    @Test
+    public void shouldReparseAfterClear() {
+        String content = OpenApiResourceLoader.contentFromFile(pingApi);
+
+        OpenApiDocumentCache.LoadedDocument first = OpenApiDocumentCache.load(content);
+        OpenApiDocumentCache.clear();
+
+        assertNotSame(OpenApiDocumentCache.load(content).getDocument(), first.getDocument());
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedDocuments() {
+        String content = OpenApiResourceLoader.contentFromFile(pingApi);
+
+        OpenApiDocumentCache.LoadedDocument first = OpenApiDocumentCache.load(content);
+        for (int i = 1; i <= OpenApiSettings.getSpecCacheMaxDocuments(); i++) {
+            OpenApiDocumentCache.load(content.replace("title: Ping API", "title: Ping API " + i));
+        }
+
+        assertEquals(OpenApiDocumentCache.size(), OpenApiSettings.getSpecCacheMaxDocuments());
+        assertNotSame(OpenApiDocumentCache.load(content), first);
+    }
+
+    @Test
+    public void shouldParseValidationModelOnlyOnce() {
+        String content = OpenApiResourceLoader.contentFromFile(pingApi);
+
+        OpenApiDocumentCache.LoadedDocument loadedDocument = OpenApiDocumentCache.load(content);
+
+        assertSame(loadedDocument.createValidationContext(OpenApiValidationPolicy.REPORT).getSwaggerOpenApi(),
+                loadedDocument.createValidationContext(OpenApiValidationPolicy.REPORT).getSwaggerOpenApi());
+    }
+
+    @Test
+    public void shouldParseContentValidationModelOnlyOnce() {
+        String content = OpenApiResourceLoader.contentFromFile(pingApi);
+
+        OpenApiDocumentCache.LoadedDocument loadedDocument = OpenApiDocumentCache.load(content);
+
+        assertSame(loadedDocument.createContentValidationContext(OpenApiValidationPolicy.REPORT).getSwaggerOpenApi(),
+                loadedDocument.createContentValidationContext(OpenApiValidationPolicy.REPORT).getSwaggerOpenApi());
+        assertNotSame(loadedDocument.createContentValidationContext(OpenApiValidationPolicy.REPORT).getSwaggerOpenApi(),
+                loadedDocument.createValidationContext(OpenApiValidationPolicy.REPORT).getSwaggerOpenApi());
+    }
+
+    @Test
+    public void shouldValidateStringSpecificationContent() {
+        String content = OpenApiResourceLoader.contentFromFile(pingApi);
+
+        OpenApiSpecification first = OpenApiSpecification.fromString(content);
+        OpenApiSpecification second = OpenApiSpecification.fromString(content);
+
+        assertSame(second.getOpenApiValidationContext().getSwaggerOpenApi(),
+                first.getOpenApiValidationContext().getSwaggerOpenApi());
+        assertSame(first.getOpenApiValidationContext().getSwaggerOpenApi(),
+                OpenApiDocumentCache.load(content).createContentValidationContext(OpenApiValidationPolicy.REPORT).getSwaggerOpenApi());
+    }
+
+    @Test
+    public void shouldShareParsedSpecificationBetweenInstances() {
+        OpenApiSpecification first = OpenApiSpecification.from(pingApi);
+        OpenApiSpecification second = OpenApiSpecification.from(pingApi);
+
+        assertSame(second.getOpenApiDoc(null), first.getOpenApiDoc(null));
+        assertSame(second.getOpenApiValidationContext().getSwaggerOpenApi(),
+                first.getOpenApiValidationContext().getSwaggerOpenApi());
+        assertSame(second.getOpenApiValidationContext().getOpenApiInteractionValidator(),
+                first.getOpenApiValidationContext().getOpenApiInteractionValidator());
+        assertEquals(second.getUid(), first.getUid());
+
+        // Validation settings are still individual per specification
+        first.setApiRequestValidationEnabled(false);
+        second.setApiRequestValidationEnabled(true);
+
+        assertFalse(first.getOpenApiValidationContext().isRequestValidationEnabled());
+        assertTrue(second.getOpenApiValidationContext().isRequestValidationEnabled());
+    }
+}
@@ -33,12 +33,18 @@ import static org.citrusframework.openapi.OpenApiSettings.OPEN_API_VALIDATION_PO
 import static org.citrusframework.openapi.OpenApiSettings.OPEN_API_VALIDATION_POLICY_PROPERTY;
 import static org.citrusframework.openapi.OpenApiSettings.REQUEST_AUTO_FILL_RANDOM_VALUES_ENV;
 import static org.citrusframework.openapi.OpenApiSettings.REQUEST_AUTO_FILL_RANDOM_VALUES_PROPERTY;
+import static org.citrusframework.openapi.OpenApiSettings.REQUEST_OPERATION_VALIDATION_ENABLED_ENV;
+import static org.citrusframework.openapi.OpenApiSettings.REQUEST_OPERATION_VALIDATION_ENABLED_PROPERTY;
 import static org.citrusframework.openapi.OpenApiSettings.REQUEST_VALIDATION_ENABLED_ENV;
 import static org.citrusframework.openapi.OpenApiSettings.REQUEST_VALIDATION_ENABLED_PROPERTY;
 import static org.citrusframework.openapi.OpenApiSettings.RESPONSE_AUTO_FILL_RANDOM_VALUES_ENV;
 import static org.citrusframework.openapi.OpenApiSettings.RESPONSE_AUTO_FILL_RANDOM_VALUES_PROPERTY;
 import static org.citrusframework.openapi.OpenApiSettings.RESPONSE_VALIDATION_ENABLED_ENV;
 import static org.citrusframework.openapi.OpenApiSettings.RESPONSE_VALIDATION_ENABLED_PROPERTY;
+import static org.citrusframework.openapi.OpenApiSettings.SPEC_CACHE_ENABLED_ENV;
+import static org.citrusframework.openapi.OpenApiSettings.SPEC_CACHE_ENABLED_PROPERTY;
+import static org.citrusframework.openapi.OpenApiSettings.SPEC_CACHE_MAX_DOCUMENTS_ENV;
+import static org.citrusframework.openapi.OpenApiSettings.SPEC_CACHE_MAX_DOCUMENTS_PROPERTY;
 import static org.citrusframework.openapi.validation.OpenApiValidationPolicy.IGNORE;
 import static org.citrusframework.openapi.validation.OpenApiValidationPolicy.REPORT;
 import static org.citrusframework.openapi.validation.OpenApiValidationPolicy.STRICT;
@@ -177,6 +183,57 @@ public class OpenApiSettingsTest {
         assertFalse(OpenApiSettings.isNeglectBasePathEnabled());
     }
 
+    @Test
+    public void testRequestOperationValidationEnabledByProperty()  {
+        doReturn(Optional.of("true")).when(systemProvider).getProperty(REQUEST_OPERATION_VALIDATION_ENABLED_PROPERTY);
+        assertTrue(OpenApiSettings.isRequestOperationValidationEnabled(systemProvider));
+    }
+
+    @Test
+    public void testRequestOperationValidationEnabledByEnvVar()  {
+        doReturn(Optional.of("true")).when(systemProvider).getEnv(REQUEST_OPERATION_VALIDATION_ENABLED_ENV);
+        assertTrue(OpenApiSettings.isRequestOperationValidationEnabled(systemProvider));
+    }
+
+    @Test
+    public void testRequestOperationValidationDisabledByDefault() {
+        assertFalse(OpenApiSettings.isRequestOperationValidationEnabled());
+    }
+
+    @Test
+    public void testSpecCacheDisabledByProperty()  {
+        doReturn(Optional.of("false")).when(systemProvider).getProperty(SPEC_CACHE_ENABLED_PROPERTY);
+        assertFalse(OpenApiSettings.isSpecCacheEnabled(systemProvider));
+    }
+
+    @Test
+    public void testSpecCacheDisabledByEnvVar()  {
+        doReturn(Optional.of("false")).when(systemProvider).getEnv(SPEC_CACHE_ENABLED_ENV);
+        assertFalse(OpenApiSettings.isSpecCacheEnabled(systemProvider));
+    }
+
+    @Test
+    public void testSpecCacheEnabledByDefault() {
+        assertTrue(OpenApiSettings.isSpecCacheEnabled());
+    }
+
+    @Test
+    public void testSpecCacheMaxDocumentsByProperty()  {
+        doReturn(Optional.of("16")).when(systemProvider).getProperty(SPEC_CACHE_MAX_DOCUMENTS_PROPERTY);
+        assertEquals(OpenApiSettings.getSpecCacheMaxDocuments(systemProvider), 16);
+    }
+
+    @Test
+    public void testSpecCacheMaxDocumentsByEnvVar()  {
+        doReturn(Optional.of("8")).when(systemProvider).getEnv(SPEC_CACHE_MAX_DOCUMENTS_ENV);
+        assertEquals(OpenApiSettings.getSpecCacheMaxDocuments(systemProvider), 8);
+    }
+
+    @Test
+    public void testSpecCacheMaxDocumentsByDefault() {
+        assertEquals(OpenApiSettings.getSpecCacheMaxDocuments(systemProvider), 64);
+    }
+
     @Test
     public void testRequestAutoFillRandomValuesAllByProperty()  {
         doReturn(Optional.of("ALL")).when(systemProvider).getProperty(REQUEST_AUTO_FILL_RANDOM_VALUES_PROPERTY);
@@ -0,0 +1,96 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.citrusframework.openapi.endpoint.adapter.mapping;
+
+import org.citrusframework.context.TestContext;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.http.message.HttpMessage;
+import org.citrusframework.http.message.HttpMessageHeaders;
+import org.citrusframework.message.DefaultMessage;
+import org.citrusframework.openapi.OpenApiSpecification;
+import org.citrusframework.openapi.model.OperationPathAdapter;
+import org.citrusframework.spi.Resources;
+import org.springframework.http.HttpMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+
+public class OpenApiOperationMappingKeyExtractorTest {
+
+    private OpenApiSpecification openApiSpecification;
+    private String petPath;
+
+    @BeforeClass
+    public void setup() {
+        openApiSpecification = OpenApiSpecification.from(
+                Resources.fromClasspath("org/citrusframework/openapi/petstore/petstore-v3.json"));
+
+        petPath = openApiSpecification.getOperation("getPetById", new TestContext())
+                .map(OperationPathAdapter::fullPath)
+                .orElseThrow()
+                .replace("{petId}", "1001");
+    }
+
+    @Test
+    public void shouldExtractOperationId() {
+        OpenApiOperationMappingKeyExtractor mappingKeyExtractor = new OpenApiOperationMappingKeyExtractor(openApiSpecification);
+
+        assertEquals(mappingKeyExtractor.extractMappingKey(new HttpMessage()
+                .method(HttpMethod.GET)
+                .uri(petPath)), "getPetById");
+        assertEquals(mappingKeyExtractor.extractMappingKey(new HttpMessage()
+                .method(HttpMethod.DELETE)
+                .uri(petPath + "?verbose=true")), "deletePet");
+    }
+
+    @Test
+    public void shouldExtractOperationIdFromMessageHeaders() {
+        OpenApiOperationMappingKeyExtractor mappingKeyExtractor = new OpenApiOperationMappingKeyExtractor();
+        mappingKeyExtractor.setOpenApiSpecification(openApiSpecification);
+        mappingKeyExtractor.setMappingKeyPrefix("pets.");
+
+        DefaultMessage request = new DefaultMessage()
+                .setHeader(HttpMessageHeaders.HTTP_REQUEST_METHOD, "GET")
+                .setHeader(HttpMessageHeaders.HTTP_REQUEST_URI, petPath);
+
+        assertEquals(mappingKeyExtractor.extractMappingKey(request), "pets.getPetById");
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class,
+            expectedExceptionsMessageRegExp = "Unable to identify OpenAPI operation for request 'PATCH .*'")
+    public void shouldFailOnUnknownOperation() {
+        new OpenApiOperationMappingKeyExtractor(openApiSpecification).extractMappingKey(new HttpMessage()
+                .method(HttpMethod.PATCH)
+                .uri(petPath));
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class,
+            expectedExceptionsMessageRegExp = "Unable to identify OpenAPI operation for request 'null null'")
+    public void shouldFailOnMissingRequestLine() {
+        new OpenApiOperationMappingKeyExtractor(openApiSpecification).extractMappingKey(new DefaultMessage("Hello"));
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class,
+            expectedExceptionsMessageRegExp = "Missing OpenAPI specification for operation mapping key extraction")
+    public void shouldFailOnMissingSpecification() {
+        new OpenApiOperationMappingKeyExtractor().extractMappingKey(new HttpMessage()
+                .method(HttpMethod.GET)
+                .uri(petPath));
+    }
+}
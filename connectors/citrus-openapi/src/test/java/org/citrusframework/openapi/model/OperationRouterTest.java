@@ -0,0 +1,132 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.openapi.model;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import io.apicurio.datamodels.openapi.v3.models.Oas30Operation;
+import org.citrusframework.context.TestContext;
+import org.citrusframework.http.message.HttpMessage;
+import org.citrusframework.openapi.OpenApiSpecification;
+import org.citrusframework.openapi.endpoint.adapter.mapping.OpenApiOperationMappingKeyExtractor;
+import org.citrusframework.openapi.model.OperationRouter.OperationMatch;
+import org.citrusframework.spi.Resources;
+import org.springframework.http.HttpMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class OperationRouterTest {
+
+    private OperationRouter router;
+
+    @BeforeClass
+    public void setup() {
+        router = OperationRouter.compile(List.of(
+                operation("get", "/api/pets", "listPets"),
+                operation("get", "/api/pets/{petId}", "getPet"),
+                operation("get", "/api/pets/mine", "getMyPets"),
+                operation("delete", "/api/pets/{petId}", "deletePet"),
+                operation("get", "/api/pets/{petId}/photos/{photoId}", "getPhoto"),
+                operation("get", "/api/files/{name}.{ext}", "getFile"),
+                operation("get", "/api/files/{id}", "getFileById")));
+    }
+
+    @Test
+    public void shouldRouteLiteralPath() {
+        assertRoute("GET", "/api/pets", "listPets", Map.of());
+        assertRoute("GET", "/api/pets/", "listPets", Map.of());
+    }
+
+    @Test
+    public void shouldRouteTemplatedPath() {
+        assertRoute("GET", "/api/pets/1001", "getPet", Map.of("petId", "1001"));
+        assertRoute("DELETE", "/api/pets/1001", "deletePet", Map.of("petId", "1001"));
+        assertRoute("get", "/api/pets/1001/photos/7", "getPhoto", Map.of("petId", "1001", "photoId", "7"));
+    }
+
+    @Test
+    public void shouldPreferLiteralSegments() {
+        assertRoute("GET", "/api/pets/mine", "getMyPets", Map.of());
+    }
+
+    @Test
+    public void shouldRouteMixedSegments() {
+        assertRoute("GET", "/api/files/report.pdf", "getFile", Map.of("name", "report", "ext", "pdf"));
+        assertRoute("GET", "/api/files/report", "getFileById", Map.of("id", "report"));
+    }
+
+    @Test
+    public void shouldIgnoreQueryParameters() {
+        assertRoute("GET", "/api/pets/1001?verbose=true", "getPet", Map.of("petId", "1001"));
+    }
+
+    @Test
+    public void shouldNotRouteUnknownOperations() {
+        assertFalse(router.route("POST", "/api/pets").isPresent());
+        assertFalse(router.route("GET", "/api/owners").isPresent());
+        assertFalse(router.route("GET", "/api/pets/1001/photos").isPresent());
+        assertFalse(router.route(null, "/api/pets").isPresent());
+    }
+
+    @Test
+    public void shouldRouteSpecificationOperations() {
+        OpenApiSpecification openApiSpecification = OpenApiSpecification.from(
+                Resources.fromClasspath("org/citrusframework/openapi/petstore/petstore-v3.json"));
+        TestContext context = new TestContext();
+
+        String getPetByIdPath = openApiSpecification.getOperation("getPetById", context)
+                .map(OperationPathAdapter::fullPath)
+                .orElseThrow();
+        String requestPath = getPetByIdPath.replace("{petId}", "1001");
+
+        Optional<OperationMatch> match = openApiSpecification.routeOperation("GET", requestPath, context);
+        assertTrue(match.isPresent());
+        assertEquals(match.get().operation().operation().operationId, "getPetById");
+        assertEquals(match.get().pathParameters(), Map.of("petId", "1001"));
+        assertEquals(match.get().parameters().keySet(), Set.of("petId"));
+        assertEquals(match.get().parameters().get("petId").in, "path");
+        assertTrue(match.get().isOperation("getPetById"));
+        assertTrue(match.get().isOperation(match.get().operation().uniqueOperationId()));
+        assertFalse(match.get().isOperation("deletePet"));
+
+        HttpMessage request = new HttpMessage()
+                .method(HttpMethod.DELETE)
+                .uri(requestPath);
+        OpenApiOperationMappingKeyExtractor mappingKeyExtractor = new OpenApiOperationMappingKeyExtractor(openApiSpecification);
+        assertEquals(mappingKeyExtractor.extractMappingKey(request), "deletePet");
+    }
+
+    private void assertRoute(String method, String path, String operationId, Map<String, String> pathParameters) {
+        Optional<OperationMatch> match = router.route(method, path);
+        assertTrue(match.isPresent(), "Missing route for %s %s".formatted(method, path));
+        assertEquals(match.get().operation().operation().operationId, operationId);
+        assertEquals(match.get().pathParameters(), pathParameters);
+    }
+
+    private static OperationPathAdapter operation(String method, String path, String operationId) {
+        Oas30Operation operation = new Oas30Operation(method);
+        operation.operationId = operationId;
+        return new OperationPathAdapter(path, "", path, operation, operationId);
+    }
+}
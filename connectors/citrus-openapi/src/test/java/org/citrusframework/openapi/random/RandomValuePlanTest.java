@@ -0,0 +1,277 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.openapi.random;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import com.atlassian.oai.validator.report.ValidationReport;
+import com.atlassian.oai.validator.schema.SchemaValidator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.apicurio.datamodels.openapi.models.OasSchema;
+import io.apicurio.datamodels.openapi.v3.models.Oas30Schema;
+import io.swagger.v3.oas.models.media.Schema;
+import org.citrusframework.openapi.OpenApiSpecification;
+import org.citrusframework.openapi.OpenApiTestDataGenerator;
+import org.citrusframework.openapi.model.OasModelHelper;
+import org.citrusframework.spi.Resources;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import static org.citrusframework.openapi.OpenApiConstants.FORMAT_DATE;
+import static org.citrusframework.openapi.OpenApiConstants.FORMAT_DATE_TIME;
+import static org.citrusframework.openapi.OpenApiConstants.FORMAT_UUID;
+import static org.citrusframework.openapi.OpenApiConstants.TYPE_ARRAY;
+import static org.citrusframework.openapi.OpenApiConstants.TYPE_INTEGER;
+import static org.citrusframework.openapi.OpenApiConstants.TYPE_NUMBER;
+import static org.citrusframework.openapi.OpenApiConstants.TYPE_OBJECT;
+import static org.citrusframework.openapi.OpenApiConstants.TYPE_STRING;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+public class RandomValuePlanTest {
+
+    private OpenApiSpecification openApiSpecification;
+
+    private SchemaValidator schemaValidator;
+
+    @BeforeClass
+    public void beforeClass() {
+        openApiSpecification = OpenApiSpecification.from(
+                Resources.fromClasspath("org/citrusframework/openapi/ping/ping-api.yaml"))
+                .concreteRandomValues(true);
+        schemaValidator = openApiSpecification.getOpenApiValidationContext()
+                .getSchemaValidator();
+    }
+
+    @DataProvider(name = "testPingApiSchemas")
+    public static Object[][] testPingApiSchemas() {
+        return new Object[][]{
+                {"OneOfType"},
+                {"StringsType"},
+                {"DatesType"},
+                {"NumbersType"},
+                {"PingReqType"},
+                {"Detail1"},
+                {"Detail2"},
+                {"BooleanType"},
+                {"EnumType"},
+                {"NestedType"},
+                {"MultipleOfType"},
+                {"SimpleArrayType"},
+                {"ComplexArrayType"},
+                {"ArrayOfArraysType"},
+                {"NullableType"},
+                {"DefaultValueType"},
+        };
+    }
+
+    @Test(dataProvider = "testPingApiSchemas")
+    public void testPingApiSchemas(String schemaType) throws Exception {
+        OasSchema schema = OasModelHelper.getSchemaDefinitions(
+                openApiSpecification.getOpenApiDoc(null)).get(schemaType);
+
+        Schema<?> swaggerValidationSchema = openApiSpecification.getOpenApiValidationContext()
+                .getSwaggerOpenApi().getComponents().getSchemas().get(schemaType);
+
+        for (int i = 0; i < 100; i++) {
+            String json = OpenApiTestDataGenerator.createOutboundPayload(schema, openApiSpecification);
+            assertFalse(json.contains("citrus:"), "Unexpected function expression in " + json);
+
+            JsonNode valueNode = new JsonMapper().readTree(json);
+            ValidationReport validationReport = schemaValidator.validate(() -> valueNode,
+                    swaggerValidationSchema, null);
+
+            assertFalse(validationReport.hasErrors(), "Json '%s' is invalid according to schema: %s".formatted(json,
+                    validationReport.getMessages().stream()
+                            .map(ValidationReport.Message::getMessage)
+                            .collect(Collectors.joining("\n"))));
+        }
+    }
+
+    @Test
+    public void testPlanIsCachedPerSchema() {
+        OasSchema schema = OasModelHelper.getSchemaDefinitions(
+                openApiSpecification.getOpenApiDoc(null)).get("NestedType");
+
+        assertSame(openApiSpecification.getRandomValuePlan(schema), openApiSpecification.getRandomValuePlan(schema));
+    }
+
+    @DataProvider(name = "seededSchemas")
+    public static Object[][] seededSchemas() {
+        return new Object[][]{
+                {"ComplexArrayType"},
+                {"DatesType"},
+        };
+    }
+
+    @Test(dataProvider = "seededSchemas")
+    public void testSeededGenerationIsReproducible(String schemaType) {
+        OasSchema schema = OasModelHelper.getSchemaDefinitions(
+                openApiSpecification.getOpenApiDoc(null)).get(schemaType);
+        RandomValuePlan plan = RandomValuePlan.compile(schema, openApiSpecification);
+
+        assertEquals(plan.toJson(new Random(1234L)), plan.toJson(new Random(1234L)));
+
+        OpenApiSpecification first = OpenApiSpecification.from(
+                Resources.fromClasspath("org/citrusframework/openapi/ping/ping-api.yaml"))
+                .concreteRandomValues(true)
+                .randomSeed(42L);
+        OpenApiSpecification second = OpenApiSpecification.from(
+                Resources.fromClasspath("org/citrusframework/openapi/ping/ping-api.yaml"))
+                .concreteRandomValues(true)
+                .randomSeed(42L);
+
+        String firstPayload = OpenApiTestDataGenerator.createOutboundPayload(schema, first);
+        assertEquals(OpenApiTestDataGenerator.createOutboundPayload(schema, second), firstPayload);
+        assertNotEquals(OpenApiTestDataGenerator.createOutboundPayload(schema, first), firstPayload);
+    }
+
+    @Test
+    public void testRandomNumber() {
+        Oas30Schema schema = new Oas30Schema();
+        schema.type = TYPE_NUMBER;
+        schema.minimum = 21.122d;
+        schema.maximum = 21.124d;
+        schema.exclusiveMinimum = true;
+
+        RandomValuePlan plan = RandomValuePlan.compile(schema, null);
+        for (int i = 0; i < 1000; i++) {
+            BigDecimal value = new BigDecimal(plan.toJson(ThreadLocalRandom.current()));
+            assertTrue(value.compareTo(new BigDecimal("21.122")) > 0, "Expected %s to be larger than 21.122".formatted(value));
+            assertTrue(value.compareTo(new BigDecimal("21.124")) <= 0, "Expected %s to be lower or equal than 21.124".formatted(value));
+        }
+    }
+
+    @Test
+    public void testRandomMultipleOf() {
+        Oas30Schema schema = new Oas30Schema();
+        schema.type = TYPE_INTEGER;
+        schema.multipleOf = 19;
+        schema.minimum = -20;
+        schema.maximum = 0;
+        schema.exclusiveMinimum = true;
+        schema.exclusiveMaximum = true;
+
+        RandomValuePlan plan = RandomValuePlan.compile(schema, null);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(plan.toJson(ThreadLocalRandom.current()), "-19");
+        }
+    }
+
+    @Test
+    public void testStringValues() {
+        Oas30Schema uuidSchema = new Oas30Schema();
+        uuidSchema.type = TYPE_STRING;
+        uuidSchema.format = FORMAT_UUID;
+
+        RandomValuePlan uuidPlan = RandomValuePlan.compile(uuidSchema, null);
+        assertTrue(uuidPlan.toJson(ThreadLocalRandom.current())
+                .matches("\"[0-9a-f]{8}-[0-9a-f]{4}-4[0-9a-f]{3}-[89ab][0-9a-f]{3}-[0-9a-f]{12}\""));
+
+        Oas30Schema patternSchema = new Oas30Schema();
+        patternSchema.type = TYPE_STRING;
+        patternSchema.pattern = "[0-3]([a-c]|[e-g]{1,2})";
+
+        RandomValuePlan patternPlan = RandomValuePlan.compile(patternSchema, null);
+        assertTrue(patternPlan.toValue(ThreadLocalRandom.current()).matches("[0-3]([a-c]|[e-g]{1,2})"));
+        assertTrue(patternPlan.toJson(ThreadLocalRandom.current()).matches("\"[0-3]([a-c]|[e-g]{1,2})\""));
+
+        Oas30Schema stringSchema = new Oas30Schema();
+        stringSchema.type = TYPE_STRING;
+        stringSchema.minLength = 5;
+        stringSchema.maxLength = 5;
+
+        assertTrue(RandomValuePlan.compile(stringSchema, null).toValue(ThreadLocalRandom.current()).matches("[a-zA-Z][a-zA-Z0-9]{4}"));
+    }
+
+    @Test
+    public void testDateValues() {
+        Oas30Schema dateSchema = new Oas30Schema();
+        dateSchema.type = TYPE_STRING;
+        dateSchema.format = FORMAT_DATE;
+
+        RandomValuePlan datePlan = RandomValuePlan.compile(dateSchema, null);
+        assertTrue(datePlan.toValue(ThreadLocalRandom.current()).matches("20[0-9]{2}-[0-9]{2}-[0-9]{2}"));
+        assertEquals(datePlan.toJson(new Random(1234L)), datePlan.toJson(new Random(1234L)));
+
+        Oas30Schema dateTimeSchema = new Oas30Schema();
+        dateTimeSchema.type = TYPE_STRING;
+        dateTimeSchema.format = FORMAT_DATE_TIME;
+
+        RandomValuePlan dateTimePlan = RandomValuePlan.compile(dateTimeSchema, null);
+        assertTrue(dateTimePlan.toJson(ThreadLocalRandom.current()).matches("\"20[0-9]{2}-[0-9]{2}-[0-9]{2}T[0-9]{2}:[0-9]{2}:[0-9]{2}Z\""));
+        assertEquals(dateTimePlan.toJson(new Random(1234L)), dateTimePlan.toJson(new Random(1234L)));
+    }
+
+    @Test
+    public void testUnsupportedSchemaUsesGenerators() {
+        Oas30Schema itemSchema = new Oas30Schema();
+        itemSchema.type = TYPE_STRING;
+        itemSchema.pattern = "[a-c]{3}";
+
+        Oas30Schema arraySchema = new Oas30Schema();
+        arraySchema.type = TYPE_ARRAY;
+        arraySchema.items = List.of(itemSchema);
+
+        // Plan delegates to the array generator which does not support items having different schemas
+        RandomValuePlan plan = RandomValuePlan.compile(arraySchema, null);
+        UnsupportedOperationException exception = expectThrows(UnsupportedOperationException.class,
+                () -> plan.toJson(new Random(1L)));
+        assertEquals(exception.getMessage(),
+                "Random array creation for an array with items having different schema is currently not supported!");
+
+        StringBuilder out = new StringBuilder();
+        new RandomValueNode.GeneratorNode(itemSchema, null).write(out, ThreadLocalRandom.current(), true);
+        assertEquals(out.toString(), "\"citrus:randomPattern('[a-c]{3}')\"");
+    }
+
+    @Test
+    public void testRecursiveObject() throws Exception {
+        Oas30Schema schema = new Oas30Schema();
+        schema.type = TYPE_OBJECT;
+        schema.properties = new LinkedHashMap<>();
+
+        Oas30Schema children = new Oas30Schema();
+        children.type = TYPE_ARRAY;
+        children.items = schema;
+        children.minItems = 1;
+        children.maxItems = 1;
+
+        Oas30Schema name = new Oas30Schema();
+        name.type = TYPE_STRING;
+        name.enum_ = List.of("fo\"o");
+
+        schema.properties.put("na\"me", name);
+        schema.properties.put("self", schema);
+        schema.properties.put("children", children);
+
+        String json = RandomValuePlan.compile(schema, null).toJson(ThreadLocalRandom.current());
+        assertEquals(json, "{\"na\\\"me\":\"fo\\\"o\",\"children\":[]}");
+        assertEquals(new JsonMapper().readTree(json).get("na\"me").asText(), "fo\"o");
+    }
+}
@@ -16,14 +16,17 @@
 
 package org.citrusframework.openapi.validation;
 
+import java.util.Map;
 import java.util.Optional;
 
+import io.apicurio.datamodels.openapi.models.OasOperation;
 import org.citrusframework.context.TestContext;
 import org.citrusframework.message.Message;
 import org.citrusframework.openapi.OpenApiMessageHeaders;
 import org.citrusframework.openapi.OpenApiMessageType;
 import org.citrusframework.openapi.OpenApiSpecification;
 import org.citrusframework.openapi.model.OperationPathAdapter;
+import org.citrusframework.openapi.model.OperationRouter.OperationMatch;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
@@ -76,4 +79,43 @@ public class OpenApiOperationToMessageHeadersProcessorTest {
 
         verify(message, never()).setHeader(anyString(), anyString());
     }
+
+    @Test
+    public void testProcessRoutedRequest() {
+        OperationPathAdapter operationPathAdapter = mock(OperationPathAdapter.class);
+        OasOperation operation = mock(OasOperation.class);
+        operation.operationId = operationKey;
+        when(operationPathAdapter.operation()).thenReturn(operation);
+        when(operationPathAdapter.uniqueOperationId()).thenReturn("uniqueOperationId");
+        when(openApiSpecification.routeOperation(message, context))
+                .thenReturn(Optional.of(new OperationMatch(operationPathAdapter, Map.of(), Map.of())));
+
+        processor = new OpenApiOperationToMessageHeadersProcessor(openApiSpecification, operationKey, OpenApiMessageType.REQUEST);
+        processor.process(message, context);
+
+        verify(message).setHeader(OpenApiMessageHeaders.OAS_UNIQUE_OPERATION_ID, "uniqueOperationId");
+        verify(message).setHeader(OpenApiMessageHeaders.OAS_MESSAGE_TYPE, OpenApiMessageHeaders.REQUEST_TYPE);
+        verify(openApiSpecification, never()).getOperation(operationKey, context);
+    }
+
+    @Test
+    public void testProcessRequestRoutedToOtherOperation() {
+        OperationPathAdapter routedOperation = mock(OperationPathAdapter.class);
+        OasOperation operation = mock(OasOperation.class);
+        operation.operationId = "otherOperationId";
+        when(routedOperation.operation()).thenReturn(operation);
+        when(routedOperation.uniqueOperationId()).thenReturn("otherUniqueOperationId");
+        when(openApiSpecification.routeOperation(message, context))
+                .thenReturn(Optional.of(new OperationMatch(routedOperation, Map.of(), Map.of())));
+
+        OperationPathAdapter operationPathAdapter = mock(OperationPathAdapter.class);
+        when(operationPathAdapter.uniqueOperationId()).thenReturn("uniqueOperationId");
+        when(openApiSpecification.getOperation(operationKey, context))
+                .thenReturn(Optional.of(operationPathAdapter));
+
+        processor = new OpenApiOperationToMessageHeadersProcessor(openApiSpecification, operationKey, OpenApiMessageType.REQUEST);
+        processor.process(message, context);
+
+        verify(message).setHeader(OpenApiMessageHeaders.OAS_UNIQUE_OPERATION_ID, "uniqueOperationId");
+    }
 }
@@ -22,15 +22,18 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import com.atlassian.oai.validator.OpenApiInteractionValidator;
 import com.atlassian.oai.validator.model.Request;
 import com.atlassian.oai.validator.model.Request.Method;
 import com.atlassian.oai.validator.report.ValidationReport;
+import io.apicurio.datamodels.openapi.v3.models.Oas30Operation;
 import org.citrusframework.exceptions.ValidationException;
 import org.citrusframework.http.message.HttpMessage;
 import org.citrusframework.openapi.OpenApiSpecification;
 import org.citrusframework.openapi.model.OperationPathAdapter;
+import org.citrusframework.openapi.model.OperationRouter.OperationMatch;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.util.LinkedMultiValueMap;
@@ -48,6 +51,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertTrue;
 
@@ -176,4 +180,87 @@ public class OpenApiRequestValidatorTest {
         // Then
         assertEquals(request.getRequestBody().orElseThrow(IllegalArgumentException::new).toString(StandardCharsets.UTF_8), "name=John+Doe&age=30&city=New+York");
     }
+
+    @Test
+    public void shouldReportOperationMismatch() {
+        // Given
+        OperationPathAdapter routedOperation = new OperationPathAdapter("/pets/mine", "/api", "/api/pets/mine",
+                new Oas30Operation("get"), "GET_/api/pets/mine");
+        when(openApiValidationContextMock.isRequestOperationValidationEnabled()).thenReturn(true);
+        when(operationPathAdapterMock.uniqueOperationId()).thenReturn("GET_/api/pets/{petId}");
+        when(httpMessageMock.getHeader(HTTP_REQUEST_URI)).thenReturn("/api/pets/mine");
+        when(httpMessageMock.getRequestMethod()).thenReturn(RequestMethod.GET);
+
+        // When
+        ValidationReport report = openApiRequestValidator.validateOperation(operationPathAdapterMock,
+                Optional.of(new OperationMatch(routedOperation, Map.of(), Map.of())), httpMessageMock);
+
+        // Then
+        assertTrue(report.hasErrors());
+        assertEquals(report.getMessages().get(0).getKey(), "validation.request.operation.mismatch");
+        assertEquals(report.getMessages().get(0).getMessage(), "Request 'GET /api/pets/mine' resolves to operation GET_/pets/mine (null)");
+    }
+
+    @Test
+    public void shouldIgnoreOperationMismatchByDefault() {
+        // Given
+        OperationPathAdapter routedOperation = new OperationPathAdapter("/pets/mine", "/api", "/api/pets/mine",
+                new Oas30Operation("get"), "GET_/api/pets/mine");
+        when(operationPathAdapterMock.uniqueOperationId()).thenReturn("GET_/api/pets/{petId}");
+
+        // When
+        ValidationReport report = openApiRequestValidator.validateOperation(operationPathAdapterMock,
+                Optional.of(new OperationMatch(routedOperation, Map.of(), Map.of())), httpMessageMock);
+
+        // Then
+        assertFalse(report.hasErrors());
+        assertTrue(report.getMessages().isEmpty());
+    }
+
+    @Test
+    public void shouldAcceptRoutedOperation() {
+        // Given
+        when(openApiValidationContextMock.isRequestOperationValidationEnabled()).thenReturn(true);
+        when(operationPathAdapterMock.uniqueOperationId()).thenReturn("GET_/api/pets/{petId}");
+
+        // When
+        ValidationReport report = openApiRequestValidator.validateOperation(operationPathAdapterMock,
+                Optional.of(new OperationMatch(operationPathAdapterMock, Map.of("petId", "1001"), Map.of())), httpMessageMock);
+
+        // Then
+        assertFalse(report.hasErrors());
+    }
+
+    @Test
+    public void shouldIgnoreUnknownOperation() {
+        // When
+        ValidationReport report = openApiRequestValidator.validateOperation(operationPathAdapterMock,
+                Optional.empty(), httpMessageMock);
+
+        // Then
+        assertFalse(report.hasErrors());
+        assertTrue(report.getMessages().isEmpty());
+    }
+
+    @Test
+    public void shouldRouteRequestForValidation() {
+        // Given
+        OperationPathAdapter routedOperation = new OperationPathAdapter("/pets/mine", "/api", "/api/pets/mine",
+                new Oas30Operation("get"), "GET_/api/pets/mine");
+        when(openApiValidationContextMock.isRequestOperationValidationEnabled()).thenReturn(true);
+        when(operationPathAdapterMock.uniqueOperationId()).thenReturn("GET_/api/pets/{petId}");
+        when(openApiSpecificationMock.routeOperation(httpMessageMock))
+                .thenReturn(Optional.of(new OperationMatch(routedOperation, Map.of(), Map.of())));
+        when(httpMessageMock.getHeader(HTTP_REQUEST_URI)).thenReturn("/api/pets/mine");
+        when(httpMessageMock.getRequestMethod()).thenReturn(RequestMethod.GET);
+        when(openApiInteractionValidatorMock.validateRequest(any(Request.class)))
+                .thenReturn(ValidationReport.empty());
+
+        // When
+        ValidationReport report = openApiRequestValidator.validateRequestToReport(operationPathAdapterMock, httpMessageMock);
+
+        // Then
+        assertTrue(report.hasErrors());
+        verify(openApiSpecificationMock).routeOperation(httpMessageMock);
+    }
 }
@@ -32,6 +32,7 @@ public abstract class AbstractIteratingContainerBuilder<T extends IteratingActio
     protected Duration timeout;
     protected int index;
     protected int start = 1;
+    protected int executedActionsLimit = CitrusSettings.getContainerExecutedActionsLimit();
 
     @Override
     public S condition(String condition) {
@@ -69,6 +70,16 @@ public abstract class AbstractIteratingContainerBuilder<T extends IteratingActio
         return self;
     }
 
+    /**
+     * Sets the maximum number of recently executed actions kept by the container. Only counters and the most recent
+     * actions are tracked then, and stateless nested actions are built once and reused in all iterations.
+     * Negative value keeps all executed actions.
+     */
+    public S executedActionsLimit(int limit) {
+        this.executedActionsLimit = limit;
+        return self;
+    }
+
     /**
      * @return the condition
      */
@@ -111,6 +122,13 @@ public abstract class AbstractIteratingContainerBuilder<T extends IteratingActio
         return start;
     }
 
+    /**
+     * @return the executed actions limit
+     */
+    public int getExecutedActionsLimit() {
+        return executedActionsLimit;
+    }
+
     @Override
     public T build() {
         if (condition == null && conditionExpression == null) {
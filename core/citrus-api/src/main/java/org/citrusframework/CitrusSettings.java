@@ -279,6 +279,22 @@ public final class CitrusSettings {
     public static final String MESSAGE_TRACE_DIRECTORY_ENV = "CITRUS_MESSAGE_TRACE_DIRECTORY";
     public static final String MESSAGE_TRACE_DIRECTORY_DEFAULT = "target/citrus-logs/trace/messages";
 
+    /**
+     * Enables GZIP compression of message trace files
+     */
+    @CitrusConfigProperty(description = "Enables GZIP compression of message trace files.", type = "java.lang.Boolean", defaultValue = "false")
+    public static final String MESSAGE_TRACE_COMPRESS_PROPERTY = "citrus.message.trace.compress";
+    public static final String MESSAGE_TRACE_COMPRESS_ENV = "CITRUS_MESSAGE_TRACE_COMPRESS";
+    public static final String MESSAGE_TRACE_COMPRESS_DEFAULT = FALSE.toString();
+
+    /**
+     * Maximum size of a message trace file in bytes before the trace is rotated to a new file
+     */
+    @CitrusConfigProperty(description = "Maximum size of a message trace file in bytes before the trace is rotated to a new file. Zero disables rotation.", type = "java.lang.Long", defaultValue = "0")
+    public static final String MESSAGE_TRACE_MAX_FILE_SIZE_PROPERTY = "citrus.message.trace.max.file.size";
+    public static final String MESSAGE_TRACE_MAX_FILE_SIZE_ENV = "CITRUS_MESSAGE_TRACE_MAX_FILE_SIZE";
+    public static final String MESSAGE_TRACE_MAX_FILE_SIZE_DEFAULT = "0";
+
     /**
      * Default type converter
      */
@@ -388,6 +404,14 @@ public final class CitrusSettings {
     public static final String ALLOW_VALIDATION_MATCHER_OVERRIDE_ENV = "CITRUS_ALLOW_VALIDATION_MATCHER_OVERRIDE";
     public static final String ALLOW_VALIDATION_MATCHER_OVERRIDE_DEFAULT = TRUE.toString();
 
+    /**
+     * Maximum number of executed actions kept by iterating containers. Negative value keeps all executed actions.
+     */
+    @CitrusConfigProperty(description = "Maximum number of recently executed actions kept by iterating containers, negative value keeps all executed actions.", type = "java.lang.Integer", defaultValue = "-1")
+    public static final String CONTAINER_EXECUTED_ACTIONS_LIMIT_PROPERTY = "citrus.container.executed.actions.limit";
+    public static final String CONTAINER_EXECUTED_ACTIONS_LIMIT_ENV = "CITRUS_CONTAINER_EXECUTED_ACTIONS_LIMIT";
+    public static final String CONTAINER_EXECUTED_ACTIONS_LIMIT_DEFAULT = "-1";
+
     /**
      * Gets set of file name patterns for Groovy test files.
      */
@@ -426,6 +450,26 @@ public final class CitrusSettings {
                 MESSAGE_TRACE_DIRECTORY_DEFAULT);
     }
 
+    /**
+     * Gets the setting whether message trace files are compressed.
+     */
+    public static boolean isMessageTraceCompressEnabled() {
+        return parseBoolean(getPropertyEnvOrDefault(
+                MESSAGE_TRACE_COMPRESS_PROPERTY,
+                MESSAGE_TRACE_COMPRESS_ENV,
+                MESSAGE_TRACE_COMPRESS_DEFAULT));
+    }
+
+    /**
+     * Gets the maximum message trace file size before rotation.
+     */
+    public static long getMessageTraceMaxFileSize() {
+        return Long.parseLong(getPropertyEnvOrDefault(
+                MESSAGE_TRACE_MAX_FILE_SIZE_PROPERTY,
+                MESSAGE_TRACE_MAX_FILE_SIZE_ENV,
+                MESSAGE_TRACE_MAX_FILE_SIZE_DEFAULT));
+    }
+
     /**
      * Gets the type converter to use by default.
      */
@@ -521,6 +565,17 @@ public final class CitrusSettings {
         return getProperty(prop, getenv(env) != null ? getenv(env) : def);
     }
 
+    /**
+     * Gets the maximum number of executed actions kept by iterating containers.
+     * Negative value keeps all executed actions.
+     */
+    public static int getContainerExecutedActionsLimit() {
+        return Integer.parseInt(getPropertyEnvOrDefault(
+                CONTAINER_EXECUTED_ACTIONS_LIMIT_PROPERTY,
+                CONTAINER_EXECUTED_ACTIONS_LIMIT_ENV,
+                CONTAINER_EXECUTED_ACTIONS_LIMIT_DEFAULT));
+    }
+
     /**
      * Gets the setting that marks environment variable property binding enabled/disabled.
      * If enabled endpoints and components are configured using system properties and environment variables.
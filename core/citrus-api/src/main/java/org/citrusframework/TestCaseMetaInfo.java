@@ -16,7 +16,9 @@
 
 package org.citrusframework;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 
 /**
  * Test case meta information.
@@ -40,6 +42,9 @@ public class TestCaseMetaInfo {
     /** Last updated on */
     private Date lastUpdatedOn;
 
+    /** Shared resources this test case uses exclusively when running in parallel */
+    private List<String> resources = new ArrayList<>();
+
     /**
      * Get the test author.
      * @return the author
@@ -131,4 +136,21 @@ public class TestCaseMetaInfo {
     public Status getStatus() {
         return status;
     }
+
+    /**
+     * Get the shared resources (e.g. endpoints, server ports) this test case uses exclusively.
+     * Parallel test engines never run test cases sharing a resource at the same time.
+     * @return the resources
+     */
+    public List<String> getResources() {
+        return resources;
+    }
+
+    /**
+     * Set the shared resources this test case uses exclusively.
+     * @param resources the resources to set
+     */
+    public void setResources(List<String> resources) {
+        this.resources = resources;
+    }
 }
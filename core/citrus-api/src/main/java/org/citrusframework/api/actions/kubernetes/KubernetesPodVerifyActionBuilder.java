@@ -35,6 +35,10 @@ public interface KubernetesPodVerifyActionBuilder <T extends TestAction, B exten
 
     B waitForLogMessage(String logMessage);
 
+    B waitForLogPattern(String logPattern);
+
+    B streamLogs(boolean streamLogs);
+
     B maxAttempts(int maxAttempts);
 
     B delayBetweenAttempts(long delayBetweenAttempts);
@@ -16,6 +16,7 @@
 
 package org.citrusframework.context;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -60,6 +61,7 @@ import org.citrusframework.report.TestListeners;
 import org.citrusframework.spi.ReferenceResolver;
 import org.citrusframework.spi.ReferenceResolverAware;
 import org.citrusframework.util.TypeConverter;
+import org.citrusframework.validation.MessageValidator;
 import org.citrusframework.validation.MessageValidatorRegistry;
 import org.citrusframework.validation.matcher.ValidationMatcherRegistry;
 import org.citrusframework.variable.GlobalVariables;
@@ -839,6 +841,19 @@ public class TestContext implements ReferenceResolverAware, TestActionListenerAw
         logMessage("Send", message, MessageDirection.OUTBOUND);
     }
 
+    /**
+     * Informs message listeners if present that a message validator has been called on the received message.
+     *
+     * @param receivedMessage
+     * @param validator
+     * @param duration
+     */
+    public void onMessageValidated(Message receivedMessage, MessageValidator<?> validator, Duration duration) {
+        if (messageListeners != null && !messageListeners.isEmpty()) {
+            messageListeners.onMessageValidated(receivedMessage, validator, duration, this);
+        }
+    }
+
     /**
      * Informs message listeners if present that new outbound message is about to be sent.
      *
@@ -124,6 +124,15 @@ public abstract class AbstractEndpointComponent implements EndpointComponent {
 
     @Override
     public Map<String, String> getParameters(String endpointUri) {
+        return parseParameters(endpointUri);
+    }
+
+    /**
+     * Parses the parameters of given endpoint uri. Parameters are the key value pairs in the query part of the uri.
+     * @param endpointUri
+     * @return
+     */
+    public static Map<String, String> parseParameters(String endpointUri) {
         Map<String, String> parameters = new LinkedHashMap<>();
 
         if (endpointUri.contains("?")) {
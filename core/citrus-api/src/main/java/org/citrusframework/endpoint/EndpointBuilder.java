@@ -64,6 +64,15 @@ public interface EndpointBuilder<T extends Endpoint> {
      */
     T build();
 
+    /**
+     * Gets the endpoint configured by this builder without building it, for instance to read the endpoint name
+     * before the endpoint gets built.
+     * @return the configured endpoint or empty when the builder does not provide the endpoint before it gets built
+     */
+    default Optional<T> getConfiguredEndpoint() {
+        return Optional.empty();
+    }
+
     /**
      * Builds the endpoint from given endpoint annotations.
      */
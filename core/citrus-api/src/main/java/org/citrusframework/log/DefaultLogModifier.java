@@ -20,13 +20,15 @@ import java.util.Set;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
-import org.citrusframework.util.IsJsonPredicate;
-import org.citrusframework.util.IsXmlPredicate;
 import org.citrusframework.util.IsYamlPredicate;
 
 /**
- * Default modifier implementation uses regular expressions to mask logger output.
- * Regular expressions match on default keywords.
+ * Default modifier implementation masks logger output on default keywords.
+ * Json and XML content is masked with a single pass scanner, other content types use regular expressions.
+ * Content is treated as XML or Json when the first character after leading whitespace starts an XML element or a
+ * Json object or array, content with any other prefix such as a log message text is not masked as XML or Json.
+ * Subclasses providing custom regular expressions with {@link #createXmlPattern(Set)} or {@link #createJsonPattern(Set)}
+ * disable the scanner with {@link #isStructuredMasking()} to get their regular expressions applied.
  */
 public class DefaultLogModifier implements LogMessageModifier {
 
@@ -45,26 +47,35 @@ public class DefaultLogModifier implements LogMessageModifier {
     private Pattern yamlPattern;
     private Pattern formUrlEncodedPattern;
 
+    private StructuredLogMasker structuredLogMasker;
+
     @Override
     public String mask(String source) {
         if (!CitrusLogSettings.isLogModifierEnabled() || source == null || source.isEmpty()) {
             return source;
         }
 
-        boolean xml = maskXml && IsXmlPredicate.getInstance().test(source);
-        boolean json = maskJson && !xml && IsJsonPredicate.getInstance().test(source);
+        char first = firstNonWhitespace(source);
+        boolean xml = maskXml && first == '<';
+        boolean json = maskJson && !xml && (first == '{' || first == '[');
         boolean yaml = maskYaml && !xml && !json && IsYamlPredicate.getInstance().test(source);
         boolean formUrlEncoded = maskFormUrlEncoded && !yaml && source.contains("&") && source.contains("=");
 
         String masked = source;
-        if (xml) {
+        boolean structuredMasking = isStructuredMasking();
+        if (xml && !structuredMasking) {
             masked = createXmlPattern(keywords).matcher(masked).replaceAll("$1" + logMaskValue + "$2");
             if (maskKeyValue) {
                 // used for the attributes in the XML tags
                 masked = createKeyValuePattern(keywords).matcher(masked).replaceAll("$1" + logMaskValue);
             }
-        } else if (json) {
+        } else if (xml) {
+            // key value masking is used for the attributes in the XML tags
+            masked = createStructuredLogMasker(keywords).maskXml(masked, maskKeyValue);
+        } else if (json && !structuredMasking) {
             masked = createJsonPattern(keywords).matcher(masked).replaceAll("$1\"" + logMaskValue + "\"");
+        } else if (json) {
+            masked = createStructuredLogMasker(keywords).maskJson(masked);
         } else if (yaml) {
             masked = createYamlPattern(keywords).matcher(masked).replaceAll("$1" + logMaskValue);
         } else if (formUrlEncoded) {
@@ -76,6 +87,14 @@ public class DefaultLogModifier implements LogMessageModifier {
         return masked;
     }
 
+    private StructuredLogMasker createStructuredLogMasker(Set<String> keywords) {
+        if (structuredLogMasker == null) {
+            structuredLogMasker = new StructuredLogMasker(keywords, logMaskValue);
+        }
+
+        return structuredLogMasker;
+    }
+
     protected Pattern createKeyValuePattern(Set<String> keywords) {
         if (keyValuePattern == null) {
             String keywordExpression = createKeywordsExpression(keywords);
@@ -154,6 +173,30 @@ public class DefaultLogModifier implements LogMessageModifier {
         return keywords.stream().map(Pattern::quote).collect(Collectors.joining("|"));
     }
 
+    /**
+     * Json and XML content is masked with a single pass scanner by default. Subclasses return false in order to mask
+     * Json and XML content with the regular expressions of {@link #createJsonPattern(Set)} and {@link #createXmlPattern(Set)}.
+     * @return
+     */
+    protected boolean isStructuredMasking() {
+        return true;
+    }
+
+    /**
+     * Gets the first character that is not removed by {@link String#trim()}, so content is detected as XML or Json
+     * in the same way as with {@link org.citrusframework.util.IsXmlPredicate} and {@link org.citrusframework.util.IsJsonPredicate}.
+     */
+    private static char firstNonWhitespace(String source) {
+        for (int i = 0; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (c > ' ') {
+                return c;
+            }
+        }
+
+        return ' ';
+    }
+
     public void setMaskJson(boolean maskJson) {
         this.maskJson = maskJson;
     }
@@ -0,0 +1,314 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.log;
+
+import java.util.Set;
+
+/**
+ * Masks sensitive values in Json and XML content with a single scan over the characters.
+ * Values of matching Json keys, XML elements and XML attributes are replaced with the mask value.
+ * Scanner is lenient on malformed or truncated content and copies everything it does not understand as is.
+ */
+final class StructuredLogMasker {
+
+    private final String[] keywords;
+    private final String maskValue;
+
+    StructuredLogMasker(Set<String> keywords, String maskValue) {
+        this.keywords = keywords.stream()
+                .filter(keyword -> !keyword.isEmpty())
+                .toArray(String[]::new);
+        this.maskValue = maskValue;
+    }
+
+    /**
+     * Masks values of Json properties whose key matches one of the keywords.
+     * Object and array values are not masked.
+     * @param source
+     * @return
+     */
+    String maskJson(String source) {
+        if (keywords.length == 0) {
+            return source;
+        }
+
+        int length = source.length();
+        StringBuilder masked = new StringBuilder(length);
+
+        int i = 0;
+        while (i < length) {
+            char c = source.charAt(i);
+            if (c != '"') {
+                masked.append(c);
+                i++;
+                continue;
+            }
+
+            int end = skipJsonString(source, i);
+            masked.append(source, i, end);
+
+            int colon = skipWhitespace(source, end);
+            if (colon < length && source.charAt(colon) == ':' && isKeyword(source, i + 1, end - 1)) {
+                int valueStart = skipWhitespace(source, colon + 1);
+                int valueEnd = skipJsonScalar(source, valueStart);
+                masked.append(source, end, valueStart);
+
+                if (valueEnd > valueStart) {
+                    masked.append('"').append(maskValue).append('"');
+                }
+
+                i = valueEnd;
+            } else {
+                i = end;
+            }
+        }
+
+        return masked.toString();
+    }
+
+    /**
+     * Masks text content of XML elements whose name matches one of the keywords. When attribute masking is enabled
+     * the values of attributes whose name ends with one of the keywords are masked, too.
+     * @param source
+     * @param maskAttributes
+     * @return
+     */
+    String maskXml(String source, boolean maskAttributes) {
+        if (keywords.length == 0) {
+            return source;
+        }
+
+        int length = source.length();
+        StringBuilder masked = new StringBuilder(length);
+
+        int i = 0;
+        while (i < length) {
+            int tagStart = source.indexOf('<', i);
+            if (tagStart < 0) {
+                masked.append(source, i, length);
+                break;
+            }
+
+            masked.append(source, i, tagStart);
+
+            if (source.startsWith("<!--", tagStart)) {
+                i = appendUntil(source, tagStart, "-->", masked);
+                continue;
+            }
+
+            if (source.startsWith("<![CDATA[", tagStart)) {
+                i = appendUntil(source, tagStart, "]]>", masked);
+                continue;
+            }
+
+            int tagEnd = findTagEnd(source, tagStart);
+            if (tagEnd < 0) {
+                masked.append(source, tagStart, length);
+                break;
+            }
+
+            char first = source.charAt(tagStart + 1);
+            if (first == '/' || first == '?' || first == '!') {
+                masked.append(source, tagStart, tagEnd + 1);
+                i = tagEnd + 1;
+                continue;
+            }
+
+            int nameEnd = skipName(source, tagStart + 1, tagEnd);
+            masked.append(source, tagStart, nameEnd);
+            if (maskAttributes) {
+                appendAttributes(source, nameEnd, tagEnd, masked);
+            } else {
+                masked.append(source, nameEnd, tagEnd);
+            }
+            masked.append('>');
+            i = tagEnd + 1;
+
+            boolean selfClosing = source.charAt(tagEnd - 1) == '/';
+            if (!selfClosing && isKeyword(source, tagStart + 1, nameEnd)) {
+                int textEnd = source.indexOf('<', i);
+                if (textEnd >= 0 && source.startsWith("</", textEnd)) {
+                    int closingNameEnd = skipName(source, textEnd + 2, length);
+                    if (closingNameEnd < length && source.charAt(closingNameEnd) == '>'
+                            && isKeyword(source, textEnd + 2, closingNameEnd)) {
+                        masked.append(maskValue);
+                        i = textEnd;
+                    }
+                }
+            }
+        }
+
+        return masked.toString();
+    }
+
+    private void appendAttributes(String source, int from, int to, StringBuilder masked) {
+        int i = from;
+        while (i < to) {
+            char c = source.charAt(i);
+            if (Character.isWhitespace(c) || c == '/' || c == '=' || c == '"' || c == '\'') {
+                masked.append(c);
+                i++;
+                continue;
+            }
+
+            int nameStart = i;
+            while (i < to && !Character.isWhitespace(source.charAt(i)) && source.charAt(i) != '=' && source.charAt(i) != '/') {
+                i++;
+            }
+            int nameEnd = i;
+
+            int equals = skipWhitespace(source, nameEnd);
+            if (equals >= to || source.charAt(equals) != '=') {
+                masked.append(source, nameStart, nameEnd);
+                continue;
+            }
+
+            int quote = skipWhitespace(source, equals + 1);
+            if (quote >= to || (source.charAt(quote) != '"' && source.charAt(quote) != '\'')) {
+                masked.append(source, nameStart, nameEnd);
+                continue;
+            }
+
+            int closingQuote = source.indexOf(source.charAt(quote), quote + 1);
+            if (closingQuote < 0 || closingQuote > to) {
+                masked.append(source, nameStart, to);
+                i = to;
+                continue;
+            }
+
+            masked.append(source, nameStart, quote + 1);
+            if (closingQuote > quote + 1 && endsWithKeyword(source, nameStart, nameEnd)) {
+                masked.append(maskValue);
+            } else {
+                masked.append(source, quote + 1, closingQuote);
+            }
+            masked.append(source.charAt(closingQuote));
+            i = closingQuote + 1;
+        }
+    }
+
+    private boolean isKeyword(String source, int from, int to) {
+        int length = to - from;
+        for (String keyword : keywords) {
+            if (keyword.length() == length && source.regionMatches(true, from, keyword, 0, length)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private boolean endsWithKeyword(String source, int from, int to) {
+        for (String keyword : keywords) {
+            int length = keyword.length();
+            if (to - from >= length && source.regionMatches(true, to - length, keyword, 0, length)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static int appendUntil(String source, int from, String terminator, StringBuilder masked) {
+        int end = source.indexOf(terminator, from);
+        end = end < 0 ? source.length() : end + terminator.length();
+        masked.append(source, from, end);
+        return end;
+    }
+
+    private static int findTagEnd(String source, int tagStart) {
+        char quote = 0;
+        for (int i = tagStart + 1; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == '>') {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private static int skipName(String source, int from, int to) {
+        int i = from;
+        while (i < to) {
+            char c = source.charAt(i);
+            if (Character.isWhitespace(c) || c == '/' || c == '>') {
+                break;
+            }
+            i++;
+        }
+
+        return i;
+    }
+
+    private static int skipWhitespace(String source, int from) {
+        int i = from;
+        while (i < source.length() && Character.isWhitespace(source.charAt(i))) {
+            i++;
+        }
+
+        return i;
+    }
+
+    private static int skipJsonString(String source, int quote) {
+        int i = quote + 1;
+        while (i < source.length()) {
+            char c = source.charAt(i);
+            if (c == '\\') {
+                i += 2;
+            } else if (c == '"') {
+                return i + 1;
+            } else {
+                i++;
+            }
+        }
+
+        return source.length();
+    }
+
+    private static int skipJsonScalar(String source, int from) {
+        if (from >= source.length()) {
+            return from;
+        }
+
+        char first = source.charAt(from);
+        if (first == '"') {
+            return skipJsonString(source, from);
+        }
+
+        if (first == '{' || first == '[') {
+            return from;
+        }
+
+        int i = from;
+        while (i < source.length()) {
+            char c = source.charAt(i);
+            if (c == ',' || c == '}' || c == ']' || Character.isWhitespace(c)) {
+                break;
+            }
+            i++;
+        }
+
+        return i;
+    }
+}
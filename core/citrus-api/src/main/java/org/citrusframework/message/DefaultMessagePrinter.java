@@ -34,6 +34,9 @@ public class DefaultMessagePrinter implements MessagePrinter {
     private static final String BOX_SEPARATOR = "├─ ";
     private static final String BOX_BOTTOM_LINE = "─".repeat(56);
 
+    /** Payloads exceeding the max length by this factor are truncated without pretty printing the whole content first */
+    private static final int PRETTY_PRINT_MAX_LENGTH_FACTOR = 4;
+
     private static MessagePrinterLayout defaultLayout = retrieveLayout();
     private final MessagePrinterLayout layout;
 
@@ -161,8 +164,12 @@ public class DefaultMessagePrinter implements MessagePrinter {
             return "";
         }
 
-        String printable = MessagePayloadUtils.prettyPrint(payload.trim());
         int maxLength = CitrusLogSettings.getMessagePayloadMaxLength();
+        String printable = payload.trim();
+        if (printable.length() <= (long) maxLength * PRETTY_PRINT_MAX_LENGTH_FACTOR) {
+            printable = MessagePayloadUtils.prettyPrint(printable);
+        }
+
         if (printable.length() > maxLength) {
             printable = printable.substring(0, maxLength) + "\n ... (truncated at " + maxLength + " chars)";
         }
@@ -16,15 +16,19 @@
 
 package org.citrusframework.report;
 
+import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileWriter;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.io.Writer;
 
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 /**
  * @since 2.7.4
  */
@@ -39,7 +43,7 @@ public abstract class AbstractOutputFileReporter extends AbstractTestReporter {
             return;
         }
 
-        createReportFile(getReportFileName(), getReportContent(testResults));
+        createReportFile(getReportFileName(), testResults);
     }
 
     protected abstract boolean isEnabled();
@@ -49,11 +53,22 @@ public abstract class AbstractOutputFileReporter extends AbstractTestReporter {
     protected abstract String getReportFileName();
 
     /**
-     * Creates the HTML report file
+     * Writes the report content to the given writer. Subclasses may overwrite this method in order to stream
+     * the report content instead of building the content as String first.
+     * @param testResults
+     * @param writer
+     * @throws IOException
+     */
+    protected void writeReportContent(TestResults testResults, Writer writer) throws IOException {
+        writer.append(getReportContent(testResults));
+    }
+
+    /**
+     * Creates the report file
      * @param reportFileName The report file to write
-     * @param content The String content of the report file
+     * @param testResults The test results to write to the report file
      */
-    private void createReportFile(String reportFileName, String content) {
+    private void createReportFile(String reportFileName, TestResults testResults) {
         File targetDirectory = new File(getReportDirectory());
         if (!targetDirectory.exists()) {
             if (!targetDirectory.mkdirs()) {
@@ -61,8 +76,8 @@ public abstract class AbstractOutputFileReporter extends AbstractTestReporter {
             }
         }
 
-        try (Writer fileWriter = new FileWriter(new File(targetDirectory, reportFileName))) {
-            fileWriter.append(content);
+        try (Writer fileWriter = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(new File(targetDirectory, reportFileName)), UTF_8))) {
+            writeReportContent(testResults, fileWriter);
             fileWriter.flush();
             logger.debug("Generated test report: {}{}{}", targetDirectory, File.separator, reportFileName);
         } catch (IOException e) {
@@ -0,0 +1,274 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.report;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Append only writer streams text records to a file in the background. Callers put records into a bounded
+ * buffer and return immediately as long as the buffer has capacity, so test threads do not block on file I/O.
+ * Pending records are written by a task on a thread pool shared by all report writers, so open writers do not
+ * hold a thread while they are idle.
+ * <p>
+ * Output may be compressed with GZIP and rotated to a new file part once the configured maximum file size
+ * (in bytes) is reached. Records are never split across file parts. The size counts the UTF-8 encoded bytes
+ * written to a part, for compressed parts this is the size of the uncompressed content.
+ */
+public class AsyncReportWriter implements AutoCloseable {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(AsyncReportWriter.class);
+
+    /** Default number of records buffered before callers have to wait for the writer */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /** Marks the end of the record stream */
+    private static final Object END = new Object();
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    /** Threads writing pending records of all report writers */
+    private static final ExecutorService WRITER_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "citrus-report-writer-" + THREAD_COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final File file;
+    private final boolean compress;
+    private final long maxFileSize;
+
+    private final BlockingQueue<Object> records;
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+    private final CountDownLatch finished = new CountDownLatch(1);
+
+    private volatile IOException failure;
+
+    /** Current file part state - only accessed by the write task */
+    private CountingOutputStream out;
+    private int part;
+
+    public AsyncReportWriter(File file) {
+        this(file, DEFAULT_CAPACITY, false, 0L);
+    }
+
+    public AsyncReportWriter(File file, int capacity, boolean compress, long maxFileSize) {
+        this.file = file;
+        this.compress = compress;
+        this.maxFileSize = maxFileSize;
+        this.records = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * Adds a new record to the output. Only waits for the writer when the record buffer is full.
+     * @param record
+     */
+    public void append(String record) {
+        if (closed.get()) {
+            throw new CitrusRuntimeException(String.format("Unable to append record - report writer for file '%s' is already closed", file));
+        }
+
+        put(record);
+    }
+
+    /**
+     * Writes all pending records and closes the file. Waits for the pending records to be written.
+     */
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            put(END);
+        }
+
+        try {
+            finished.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException(String.format("Interrupted while closing report writer for file '%s'", file), e);
+        }
+
+        if (failure != null) {
+            throw new CitrusRuntimeException(String.format("Failed to write report file '%s'", file), failure);
+        }
+    }
+
+    /**
+     * Gets the file of the given part. First part uses the original file name, subsequent parts
+     * add the part number to the file name.
+     * @param part
+     * @return
+     */
+    public File getFile(int part) {
+        String fileName = file.getName();
+        if (part > 0) {
+            int extension = fileName.lastIndexOf('.');
+            if (extension > 0) {
+                fileName = fileName.substring(0, extension) + "-" + part + fileName.substring(extension);
+            } else {
+                fileName = fileName + "-" + part;
+            }
+        }
+
+        if (compress) {
+            fileName = fileName + ".gz";
+        }
+
+        return new File(file.getParentFile(), fileName);
+    }
+
+    private void put(Object record) {
+        try {
+            records.put(record);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException(String.format("Interrupted while appending record to report file '%s'", file), e);
+        }
+
+        schedule();
+    }
+
+    /**
+     * Submits the write task unless it is already scheduled.
+     */
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            WRITER_EXECUTOR.execute(this::drain);
+        }
+    }
+
+    /**
+     * Writes all pending records. Closes the file when reaching the end of the record stream.
+     */
+    private void drain() {
+        Object record;
+        while ((record = records.poll()) != null) {
+            if (record == END) {
+                closeOutput();
+                finished.countDown();
+                return;
+            }
+
+            if (failure == null) {
+                try {
+                    write((String) record);
+                } catch (IOException e) {
+                    failure = e;
+                    logger.error("Failed to write report file '{}'", file, e);
+                }
+            }
+        }
+
+        scheduled.set(false);
+
+        // Records added after the buffer was found empty and before the task got released need another run
+        if (!records.isEmpty()) {
+            schedule();
+        }
+    }
+
+    private void write(String record) throws IOException {
+        byte[] bytes = record.getBytes(UTF_8);
+
+        if (out != null && maxFileSize > 0 && out.getCount() > 0 && out.getCount() + bytes.length > maxFileSize) {
+            out.close();
+            out = null;
+            part++;
+        }
+
+        if (out == null) {
+            out = openOutput(getFile(part));
+        }
+
+        out.write(bytes);
+    }
+
+    private CountingOutputStream openOutput(File target) throws IOException {
+        OutputStream fileOut = new FileOutputStream(target);
+        if (compress) {
+            fileOut = new GZIPOutputStream(fileOut, BUFFER_SIZE);
+        }
+
+        return new CountingOutputStream(new BufferedOutputStream(fileOut, BUFFER_SIZE));
+    }
+
+    private void closeOutput() {
+        if (out == null) {
+            return;
+        }
+
+        try {
+            out.close();
+        } catch (IOException e) {
+            if (failure == null) {
+                failure = e;
+            }
+            logger.error("Failed to close report file '{}'", file, e);
+        } finally {
+            out = null;
+        }
+    }
+
+    /**
+     * Output stream counting the bytes written to the current file part.
+     */
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+
+        long getCount() {
+            return count;
+        }
+    }
+}
@@ -374,6 +374,10 @@ public class LoggingReporter extends AbstractTestReporter implements MessageList
     }
 
     private void logMessage(Message message, TestContext context, MessageDirection direction) {
+        if (!messageLogger(direction).isInfoEnabled()) {
+            return;
+        }
+
         String messageContent = message.print(context);
         String directionArrow = direction == MessageDirection.OUTBOUND
                 ? LogColors.arrow(ARROW_OUTBOUND)
@@ -383,6 +387,10 @@ public class LoggingReporter extends AbstractTestReporter implements MessageList
     }
 
     private void logMessageSummary(Message message, MessageDirection direction) {
+        if (!messageLogger(direction).isInfoEnabled()) {
+            return;
+        }
+
         String directionArrow = direction == MessageDirection.OUTBOUND
                 ? LogColors.arrow(ARROW_OUTBOUND)
                 : LogColors.arrow(ARROW_INBOUND);
@@ -16,8 +16,11 @@
 
 package org.citrusframework.report;
 
+import java.time.Duration;
+
 import org.citrusframework.context.TestContext;
 import org.citrusframework.message.Message;
+import org.citrusframework.validation.MessageValidator;
 
 public interface MessageListener {
 
@@ -38,4 +41,15 @@ public interface MessageListener {
      * @param context
      */
     void onOutboundMessage(Message message, TestContext context);
+
+    /**
+     * Invoked after a message validator has been called on a received message. The duration is the time spent
+     * in the validator, regardless of the validation outcome.
+     * @param message
+     * @param validator
+     * @param duration
+     * @param context
+     */
+    default void onMessageValidated(Message message, MessageValidator<?> validator, Duration duration, TestContext context) {
+    }
 }
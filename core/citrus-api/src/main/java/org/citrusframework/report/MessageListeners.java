@@ -16,12 +16,14 @@
 
 package org.citrusframework.report;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
 import org.citrusframework.context.TestContext;
 import org.citrusframework.message.Message;
+import org.citrusframework.validation.MessageValidator;
 
 public class MessageListeners implements MessageListenerAware {
 
@@ -58,6 +60,22 @@ public class MessageListeners implements MessageListenerAware {
         }
     }
 
+    /**
+     * Delegate to all known message listener instances.
+     *
+     * @param message
+     * @param validator
+     * @param duration
+     * @param context
+     */
+    public void onMessageValidated(Message message, MessageValidator<?> validator, Duration duration, TestContext context) {
+        if (message != null) {
+            for (MessageListener listener : messageListener) {
+                listener.onMessageValidated(message, validator, duration, context);
+            }
+        }
+    }
+
     /**
      * Save check if message listeners are present.
      *
@@ -16,14 +16,9 @@
 
 package org.citrusframework.report;
 
-import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileWriter;
-import java.io.IOException;
 import java.text.SimpleDateFormat;
-import java.util.ArrayList;
 import java.util.Date;
-import java.util.List;
 
 import org.citrusframework.CitrusSettings;
 import org.citrusframework.TestCase;
@@ -40,6 +35,9 @@ import static java.lang.System.lineSeparator;
  * Test listener collects all messages sent and received by Citrus during test execution. Listener
  * writes a trace file with all message content per test case to a output directory.
  * <p>
+ * Messages are streamed to the trace file as they occur with an {@link AsyncReportWriter}, so the listener does not
+ * hold message content in memory and file I/O happens on a background thread.
+ * <p>
  * Note: This class is not thread safe! Parallel test execution leads to behaviour that messages get mixed.
  * Proper correlation to test case is not possible here.
  *
@@ -56,8 +54,17 @@ public class MessageTracingTestListener extends AbstractTestListener implements
     /** Output directory */
     private String outputDirectory = CitrusSettings.getMessageTraceDirectory();
 
-    /** List of messages to trace */
-    private final List<String> messages = new ArrayList<>();
+    /** Enables GZIP compression of trace files */
+    private boolean compress = CitrusSettings.isMessageTraceCompressEnabled();
+
+    /** Maximum trace file size before rotation */
+    private long maxFileSize = CitrusSettings.getMessageTraceMaxFileSize();
+
+    /** Current test case */
+    private TestCase currentTest;
+
+    /** Trace writer for current test case, created with the first traced message */
+    private AsyncReportWriter traceWriter;
 
     /** Locking object for synchronization */
     private final Object lockObject = new Object();
@@ -68,46 +75,63 @@ public class MessageTracingTestListener extends AbstractTestListener implements
     @Override
     public void onTestStart(TestCase test) {
         synchronized (lockObject) {
-            messages.clear();
+            closeTraceWriter();
+            currentTest = test;
         }
     }
 
     @Override
     public void onTestExecutionEnd(TestCase test) {
-        if (messages.isEmpty()) {
-            return; // do not write empty message trace file
-        }
-
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(getTraceFile(test.getName())))) {
-            writer.write(separator() + newLine() + newLine());
-
-            synchronized (lockObject) {
-                for (String message : messages) {
-                    writer.write(message);
-                    writer.write(newLine() + separator() + newLine() + newLine());
-                }
-            }
-
-            writer.flush();
-        } catch (IOException e) {
-            throw new CitrusRuntimeException("Failed to write message trace to filesystem", e);
+        synchronized (lockObject) {
+            closeTraceWriter();
+            currentTest = null;
         }
     }
 
     @Override
     public void onInboundMessage(Message message, TestContext context) {
         if (message instanceof RawMessage) {
-            synchronized (lockObject) {
-                messages.add("INBOUND_MESSAGE:" + newLine() + newLine() + message.print(context));
-            }
+            trace("INBOUND_MESSAGE:" + newLine() + newLine() + message.print(context));
         }
     }
 
     @Override
     public void onOutboundMessage(Message message, TestContext context) {
         if (message instanceof RawMessage) {
-            synchronized (lockObject) {
-                messages.add("OUTBOUND_MESSAGE:" + newLine() + newLine() + message.print(context));
+            trace("OUTBOUND_MESSAGE:" + newLine() + newLine() + message.print(context));
+        }
+    }
+
+    /**
+     * Appends message to the trace file of the current test. Trace file is opened with the first message
+     * so no empty trace files get written.
+     */
+    private void trace(String message) {
+        synchronized (lockObject) {
+            if (currentTest == null) {
+                return;
+            }
+
+            if (traceWriter == null) {
+                traceWriter = new AsyncReportWriter(getTraceFile(currentTest.getName()), AsyncReportWriter.DEFAULT_CAPACITY, compress, maxFileSize);
+                traceWriter.append(separator() + newLine() + newLine());
+            }
+
+            traceWriter.append(message + newLine() + separator() + newLine() + newLine());
+        }
+    }
+
+    /**
+     * Closes the current trace writer waiting for pending messages to be written.
+     */
+    private void closeTraceWriter() {
+        if (traceWriter != null) {
+            try {
+                traceWriter.close();
+            } catch (CitrusRuntimeException e) {
+                throw new CitrusRuntimeException("Failed to write message trace to filesystem", e);
+            } finally {
+                traceWriter = null;
             }
         }
     }
@@ -157,4 +181,20 @@ public class MessageTracingTestListener extends AbstractTestListener implements
     public void setOutputDirectory(String outputDirectory) {
         this.outputDirectory = outputDirectory;
     }
+
+    /**
+     * Enables/disables GZIP compression of trace files.
+     * @param compress
+     */
+    public void setCompress(boolean compress) {
+        this.compress = compress;
+    }
+
+    /**
+     * Sets the maximum trace file size in bytes before the trace is rotated to a new file.
+     * @param maxFileSize
+     */
+    public void setMaxFileSize(long maxFileSize) {
+        this.maxFileSize = maxFileSize;
+    }
 }
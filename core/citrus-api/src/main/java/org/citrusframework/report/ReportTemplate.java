@@ -0,0 +1,260 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.report;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.util.FileUtils;
+
+/**
+ * Report template compiled once into a list of literal text and property segments. Uses the same property syntax
+ * as {@link org.citrusframework.util.PropertyUtils#replacePropertiesInString(String, java.util.Properties)},
+ * e.g. {@code @test.name@}, with {@code \@} escaping a literal marker.
+ * <p>
+ * Templates render straight to a writer. Property values may be plain objects or {@link Fragment} instances
+ * that write their content to the writer themselves, so nested report sections do not need to be
+ * built as intermediate strings.
+ */
+public final class ReportTemplate {
+
+    /** Constant marking a property in template files */
+    private static final char PROPERTY_MARKER = '@';
+
+    private final List<Segment> segments;
+
+    private ReportTemplate(List<Segment> segments) {
+        this.segments = Collections.unmodifiableList(segments);
+    }
+
+    /**
+     * Compiles the given template content.
+     * @param template
+     * @return
+     */
+    public static ReportTemplate compile(String template) {
+        List<Segment> segments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+
+        int startIndex = 0;
+        int searchIndex;
+        while ((searchIndex = template.indexOf(PROPERTY_MARKER, startIndex)) != -1) {
+            //first check if property Marker is escaped by '\' character
+            if (searchIndex != 0 && template.charAt(searchIndex - 1) == '\\') {
+                literal.append(template, startIndex, searchIndex - 1).append(PROPERTY_MARKER);
+                startIndex = searchIndex + 1;
+                continue;
+            }
+
+            int curIndex = searchIndex + 1;
+            boolean isVarComplete = false;
+            StringBuilder propertyName = new StringBuilder();
+            while (curIndex < template.length() && !isVarComplete) {
+                if (template.charAt(curIndex) == PROPERTY_MARKER || curIndex + 1 == template.length()) {
+                    isVarComplete = true;
+                }
+
+                if (!isVarComplete) {
+                    propertyName.append(template.charAt(curIndex));
+                }
+                ++curIndex;
+            }
+
+            literal.append(template, startIndex, searchIndex);
+            if (!literal.isEmpty()) {
+                segments.add(new Segment(literal.toString(), false));
+                literal.setLength(0);
+            }
+            segments.add(new Segment(propertyName.toString(), true));
+
+            startIndex = curIndex;
+        }
+
+        literal.append(template.substring(startIndex));
+        if (!literal.isEmpty()) {
+            segments.add(new Segment(literal.toString(), false));
+        }
+
+        return new ReportTemplate(segments);
+    }
+
+    /**
+     * Loads and compiles the template from given resource path.
+     * @param resourcePath
+     * @param trim whether to trim the template content before compilation
+     * @return
+     */
+    public static ReportTemplate fromResource(String resourcePath, boolean trim) {
+        try {
+            String content = FileUtils.readToString(FileUtils.getFileResource(resourcePath));
+            return compile(trim ? content.trim() : content);
+        } catch (IOException e) {
+            throw new CitrusRuntimeException(String.format("Failed to read report template '%s'", resourcePath), e);
+        }
+    }
+
+    /**
+     * Renders the template with given property values to the writer.
+     * @param writer
+     * @param values
+     * @throws IOException
+     */
+    public void render(Writer writer, Map<String, ?> values) throws IOException {
+        for (Segment segment : segments) {
+            if (!segment.property()) {
+                writer.write(segment.value());
+                continue;
+            }
+
+            if (!values.containsKey(segment.value())) {
+                throw new CitrusRuntimeException("No such property '"
+                        + PROPERTY_MARKER + segment.value() + PROPERTY_MARKER + "'");
+            }
+
+            Object value = values.get(segment.value());
+            if (value instanceof Fragment fragment) {
+                fragment.writeTo(writer);
+            } else if (value != null) {
+                writer.write(value.toString());
+            }
+        }
+    }
+
+    /**
+     * Renders the template with given property values to a String.
+     * @param values
+     * @return
+     */
+    public String render(Map<String, ?> values) {
+        StringWriter writer = new StringWriter();
+        try {
+            render(writer, values);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Creates a fragment that writes the XML escaped value.
+     * @param value
+     * @return
+     */
+    public static Fragment escapeXml(String value) {
+        return writer -> escapeXml(value, writer);
+    }
+
+    /**
+     * Writes XML escaped value to the writer in a single pass.
+     * @param value
+     * @param writer
+     * @throws IOException
+     */
+    public static void escapeXml(CharSequence value, Writer writer) throws IOException {
+        if (value == null) {
+            return;
+        }
+
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            String entity = switch (value.charAt(i)) {
+                case '&' -> "&amp;";
+                case '<' -> "&lt;";
+                case '>' -> "&gt;";
+                case '"' -> "&quot;";
+                case '\'' -> "&apos;";
+                default -> null;
+            };
+
+            if (entity != null) {
+                writer.append(value, start, i).write(entity);
+                start = i + 1;
+            }
+        }
+
+        writer.append(value, start, value.length());
+    }
+
+    /**
+     * Template resource that is loaded and compiled on first use. Reporters hold a loader per template, so the
+     * compiled template is reused for all reports of the reporter and released together with the reporter.
+     */
+    public static final class Loader {
+
+        private final boolean trim;
+
+        private String resourcePath;
+        private ReportTemplate template;
+
+        /**
+         * Constructor using the template resource path.
+         * @param resourcePath
+         * @param trim whether to trim the template content before compilation
+         */
+        public Loader(String resourcePath, boolean trim) {
+            this.resourcePath = resourcePath;
+            this.trim = trim;
+        }
+
+        /**
+         * Gets the compiled template. Loads and compiles the template resource on first access.
+         * @return
+         */
+        public synchronized ReportTemplate get() {
+            if (template == null) {
+                template = fromResource(resourcePath, trim);
+            }
+
+            return template;
+        }
+
+        /**
+         * Gets the template resource path.
+         * @return
+         */
+        public synchronized String getResourcePath() {
+            return resourcePath;
+        }
+
+        /**
+         * Sets the template resource path. The new template is compiled on next access.
+         * @param resourcePath
+         */
+        public synchronized void setResourcePath(String resourcePath) {
+            this.resourcePath = resourcePath;
+            this.template = null;
+        }
+    }
+
+    /**
+     * Report content that writes itself to the report writer.
+     */
+    @FunctionalInterface
+    public interface Fragment {
+        void writeTo(Writer writer) throws IOException;
+    }
+
+    private record Segment(String value, boolean property) {
+    }
+}
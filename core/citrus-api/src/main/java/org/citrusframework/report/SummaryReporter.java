@@ -16,12 +16,8 @@
 
 package org.citrusframework.report;
 
-import java.io.IOException;
-import java.util.Properties;
-
-import org.citrusframework.exceptions.CitrusRuntimeException;
-import org.citrusframework.util.FileUtils;
-import org.citrusframework.util.PropertyUtils;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Reporter creates a summary report as file.
@@ -37,23 +33,19 @@ public class SummaryReporter extends AbstractOutputFileReporter {
     private String reportFileName = SummaryReporterSettings.getReportFile();
 
     /** Static resource for the summary test report template */
-    private final String reportTemplate = SummaryReporterSettings.getReportTemplate();
+    private final ReportTemplate.Loader reportTemplate = new ReportTemplate.Loader(SummaryReporterSettings.getReportTemplate(), false);
 
     @Override
     protected String getReportContent(TestResults testResults) {
-        try {
-            Properties reportProps = new Properties();
-            reportProps.put("test.cnt", Integer.toString(testResults.getSize()));
-            reportProps.put("skipped.test.cnt", Integer.toString(testResults.getSkipped()));
-            reportProps.put("skipped.test.pct", testResults.getSkippedPercentageFormatted());
-            reportProps.put("failed.test.cnt", Integer.toString(testResults.getFailed()));
-            reportProps.put("failed.test.pct", testResults.getFailedPercentageFormatted());
-            reportProps.put("success.test.cnt", Integer.toString(testResults.getSuccess()));
-            reportProps.put("success.test.pct", testResults.getSuccessPercentageFormatted());
-            return PropertyUtils.replacePropertiesInString(FileUtils.readToString(FileUtils.getFileResource(reportTemplate)), reportProps);
-        } catch (IOException e) {
-            throw new CitrusRuntimeException("Failed to generate summary test report", e);
-        }
+        Map<String, Object> reportProps = new HashMap<>();
+        reportProps.put("test.cnt", Integer.toString(testResults.getSize()));
+        reportProps.put("skipped.test.cnt", Integer.toString(testResults.getSkipped()));
+        reportProps.put("skipped.test.pct", testResults.getSkippedPercentageFormatted());
+        reportProps.put("failed.test.cnt", Integer.toString(testResults.getFailed()));
+        reportProps.put("failed.test.pct", testResults.getFailedPercentageFormatted());
+        reportProps.put("success.test.cnt", Integer.toString(testResults.getSuccess()));
+        reportProps.put("success.test.pct", testResults.getSuccessPercentageFormatted());
+        return reportTemplate.get().render(reportProps);
     }
 
     /**
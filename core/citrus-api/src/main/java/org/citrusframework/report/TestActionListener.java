@@ -18,6 +18,8 @@ package org.citrusframework.report;
 
 import org.citrusframework.TestAction;
 import org.citrusframework.TestCase;
+import org.citrusframework.api.container.TestActionContainer;
+import org.citrusframework.context.TestContext;
 
 /**
  * Listener invoked on test action execution with success and failure.
@@ -44,4 +46,23 @@ public interface TestActionListener {
      * Invoked when test is skipped
      */
     void onTestActionSkipped(TestCase testCase, TestAction testAction);
+
+    /**
+     * Invoked when a test action container starts a nested test action. Nested test actions
+     * may run on a different thread than the container, e.g. in parallel or async containers.
+     */
+    default void onNestedTestActionStart(TestActionContainer container, TestAction testAction, TestContext context) {
+    }
+
+    /**
+     * Invoked when a nested test action has finished successfully
+     */
+    default void onNestedTestActionFinish(TestActionContainer container, TestAction testAction, TestContext context) {
+    }
+
+    /**
+     * Invoked when a nested test action has failed
+     */
+    default void onNestedTestActionFailed(TestActionContainer container, TestAction testAction, TestContext context, Throwable cause) {
+    }
 }
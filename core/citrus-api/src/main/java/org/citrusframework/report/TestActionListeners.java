@@ -22,6 +22,8 @@ import java.util.List;
 
 import org.citrusframework.TestAction;
 import org.citrusframework.TestCase;
+import org.citrusframework.api.container.TestActionContainer;
+import org.citrusframework.context.TestContext;
 
 /**
  * Class broadcasting test action events to all available test action listeners
@@ -58,6 +60,24 @@ public class TestActionListeners implements TestActionListenerAware {
         }
     }
 
+    public void onNestedTestActionStart(TestActionContainer container, TestAction testAction, TestContext context) {
+        for (TestActionListener listener : testActionListeners) {
+            listener.onNestedTestActionStart(container, testAction, context);
+        }
+    }
+
+    public void onNestedTestActionFinish(TestActionContainer container, TestAction testAction, TestContext context) {
+        for (TestActionListener listener : testActionListeners) {
+            listener.onNestedTestActionFinish(container, testAction, context);
+        }
+    }
+
+    public void onNestedTestActionFailed(TestActionContainer container, TestAction testAction, TestContext context, Throwable cause) {
+        for (TestActionListener listener : testActionListeners) {
+            listener.onNestedTestActionFailed(container, testAction, context, cause);
+        }
+    }
+
     @Override
     public void addTestActionListener(TestActionListener listener) {
         this.testActionListeners.add(listener);
@@ -0,0 +1,93 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.report;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.citrusframework.TestResult;
+
+/**
+ * Aggregated counters for a group of test results. Counters are updated when a result is added,
+ * so reading the summary is a constant time operation.
+ */
+public class TestResultSummary {
+
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicInteger success = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicInteger skipped = new AtomicInteger();
+    private final LongAdder durationMillis = new LongAdder();
+
+    /**
+     * Counts the given result.
+     */
+    void add(TestResult result) {
+        size.incrementAndGet();
+
+        if (result.isSuccess()) {
+            success.incrementAndGet();
+        } else if (result.isFailed()) {
+            failed.incrementAndGet();
+        } else if (result.isSkipped()) {
+            skipped.incrementAndGet();
+        }
+    }
+
+    /**
+     * Adds the given test duration to the total duration.
+     */
+    void addDuration(Duration duration) {
+        durationMillis.add(duration.toMillis());
+    }
+
+    /**
+     * Get number of tests in success.
+     */
+    public int getSuccess() {
+        return success.get();
+    }
+
+    /**
+     * Get number of tests failed.
+     */
+    public int getFailed() {
+        return failed.get();
+    }
+
+    /**
+     * Get number of skipped tests.
+     */
+    public int getSkipped() {
+        return skipped.get();
+    }
+
+    /**
+     * Gets the total amount of test results.
+     */
+    public int getSize() {
+        return size.get();
+    }
+
+    /**
+     * Gets the total duration of all tests.
+     */
+    public Duration getTotalDuration() {
+        return Duration.ofMillis(durationMillis.sum());
+    }
+}
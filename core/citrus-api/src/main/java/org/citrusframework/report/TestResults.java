@@ -20,17 +20,23 @@ import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.time.Duration;
 import java.util.ArrayList;
-import java.util.LinkedHashSet;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import org.citrusframework.TestResult;
 
-import static java.util.Collections.synchronizedSet;
-
 /**
  * Multiple {@link org.citrusframework.TestResult} instances combined to a {@link TestResults}.
+ * <p>
+ * Results are kept in a concurrent store without locking. Summary counters, per class and per package aggregates
+ * as well as the total duration are updated incrementally when a result is added, so reading the summary
+ * does not iterate the results.
  */
 public class TestResults {
 
@@ -41,41 +47,38 @@ public class TestResults {
     private static final String ZERO_PERCENTAGE = "0.0";
 
     /**
-     * Collected test results
+     * Collected test results with aggregated counters, replaced as a whole on clear
      */
-    private final Set<TestResult> results = synchronizedSet(new LinkedHashSet<>());
+    private volatile ResultStore store = new ResultStore();
 
     /**
      * Clear test results.
      */
     public void clear() {
-        results.clear();
+        store = new ResultStore();
     }
 
     /**
-     * Provides access to results as list generated from synchronized result list.
+     * Provides access to results as list generated from result store.
      */
     public List<TestResult> asList() {
-        List<TestResult> results = new ArrayList<>();
-        doWithResults(results::add);
-        return results;
+        return new ArrayList<>(store.results);
     }
 
     /**
      * Adds a test result to the result list.
      */
     public boolean addResult(TestResult result) {
-        return results.add(result);
+        return store.add(result);
     }
 
     /**
-     * Provides synchronized access to all test results in iteration.
+     * Provides access to all test results in iteration. Iteration does not block
+     * concurrent additions of results.
      */
     public void doWithResults(ResultCallback callback) {
-        synchronized (results) {
-            for (TestResult result : results) {
-                callback.doWithResult(result);
-            }
+        for (TestResult result : store.results) {
+            callback.doWithResult(result);
         }
     }
 
@@ -83,17 +86,7 @@ public class TestResults {
      * Get number of tests in success.
      */
     public int getSuccess() {
-        int count = 0;
-
-        synchronized (results) {
-            for (TestResult testResult : results) {
-                if (testResult.isSuccess()) {
-                    count++;
-                }
-            }
-        }
-
-        return count;
+        return store.total.getSuccess();
     }
 
     /**
@@ -106,24 +99,14 @@ public class TestResults {
     }
 
     public String getSuccessPercentageFormatted() {
-        return results.isEmpty() || getSuccess() == 0 ? ZERO_PERCENTAGE : getNewDecimalFormat().format((double) getSuccess() / (results.size()) * 100);
+        return percentage(store.total.getSuccess(), store.total.getSize());
     }
 
     /**
      * Get number of tests failed.
      */
     public int getFailed() {
-        int count = 0;
-
-        synchronized (results) {
-            for (TestResult testResult : results) {
-                if (testResult.isFailed()) {
-                    count++;
-                }
-            }
-        }
-
-        return count;
+        return store.total.getFailed();
     }
 
     /**
@@ -137,24 +120,14 @@ public class TestResults {
     }
 
     public String getFailedPercentageFormatted() {
-        return results.isEmpty() || getFailed() == 0 ? ZERO_PERCENTAGE : getNewDecimalFormat().format((double) getFailed() / (results.size()) * 100);
+        return percentage(store.total.getFailed(), store.total.getSize());
     }
 
     /**
      * Get number of skipped tests.
      */
     public int getSkipped() {
-        int count = 0;
-
-        synchronized (results) {
-            for (TestResult testResult : results) {
-                if (testResult.isSkipped()) {
-                    count++;
-                }
-            }
-        }
-
-        return count;
+        return store.total.getSkipped();
     }
 
     /**
@@ -168,7 +141,7 @@ public class TestResults {
     }
 
     public String getSkippedPercentageFormatted() {
-        return results.isEmpty() ? ZERO_PERCENTAGE : getNewDecimalFormat().format((double) getSkipped() / (results.size()) * 100);
+        return percentage(store.total.getSkipped(), store.total.getSize());
     }
 
     /**
@@ -186,17 +159,38 @@ public class TestResults {
      * Gets the total amount of test results.
      */
     public int getSize() {
-        return results.size();
+        return store.total.getSize();
     }
 
     /**
      * Gets the total duration of all tests.
      */
     public Duration getTotalDuration() {
-        return Duration.ofMillis(results.stream()
-                .filter(r -> Objects.nonNull(r.getDuration()))
-                .mapToLong(r -> r.getDuration().toMillis())
-                .sum());
+        ResultStore current = store;
+        current.resolvePendingDurations();
+        return current.total.getTotalDuration();
+    }
+
+    /**
+     * Gets the aggregated results per test class name.
+     */
+    public Map<String, TestResultSummary> getClassSummaries() {
+        ResultStore current = store;
+        current.resolvePendingDurations();
+        return Collections.unmodifiableMap(current.classSummaries);
+    }
+
+    /**
+     * Gets the aggregated results per test package name.
+     */
+    public Map<String, TestResultSummary> getPackageSummaries() {
+        ResultStore current = store;
+        current.resolvePendingDurations();
+        return Collections.unmodifiableMap(current.packageSummaries);
+    }
+
+    private String percentage(int count, int size) {
+        return size == 0 || count == 0 ? ZERO_PERCENTAGE : getNewDecimalFormat().format((double) count / size * 100);
     }
 
     private DecimalFormat getNewDecimalFormat() {
@@ -206,4 +200,68 @@ public class TestResults {
         decimalFormat.setDecimalFormatSymbols(symbol);
         return decimalFormat;
     }
+
+    /**
+     * Insertion ordered result store with incrementally updated aggregates.
+     */
+    private static class ResultStore {
+
+        /** Set of known results to avoid duplicates */
+        private final Set<TestResult> known = ConcurrentHashMap.newKeySet();
+        private final Queue<TestResult> results = new ConcurrentLinkedQueue<>();
+
+        private final TestResultSummary total = new TestResultSummary();
+        private final Map<String, TestResultSummary> classSummaries = new ConcurrentHashMap<>();
+        private final Map<String, TestResultSummary> packageSummaries = new ConcurrentHashMap<>();
+
+        /** Results that did not have a duration yet when added, duration is accumulated once available */
+        private final Queue<TestResult> pendingDurations = new ConcurrentLinkedQueue<>();
+
+        boolean add(TestResult result) {
+            if (!known.add(result)) {
+                return false;
+            }
+
+            results.add(result);
+
+            total.add(result);
+            classSummary(result).add(result);
+            packageSummary(result).add(result);
+
+            if (result.getDuration() != null) {
+                addDuration(result);
+            } else {
+                pendingDurations.add(result);
+            }
+
+            return true;
+        }
+
+        void resolvePendingDurations() {
+            Iterator<TestResult> pending = pendingDurations.iterator();
+            while (pending.hasNext()) {
+                TestResult result = pending.next();
+                if (result.getDuration() != null && pendingDurations.remove(result)) {
+                    addDuration(result);
+                }
+            }
+        }
+
+        private void addDuration(TestResult result) {
+            total.addDuration(result.getDuration());
+            classSummary(result).addDuration(result.getDuration());
+            packageSummary(result).addDuration(result.getDuration());
+        }
+
+        private TestResultSummary classSummary(TestResult result) {
+            return classSummaries.computeIfAbsent(String.valueOf(result.getClassName()), k -> new TestResultSummary());
+        }
+
+        private TestResultSummary packageSummary(TestResult result) {
+            String className = String.valueOf(result.getClassName());
+            int separator = className.lastIndexOf('.');
+            String packageName = separator > 0 ? className.substring(0, separator) : "";
+            return packageSummaries.computeIfAbsent(packageName, k -> new TestResultSummary());
+        }
+    }
 }
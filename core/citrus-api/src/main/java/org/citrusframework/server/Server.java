@@ -45,4 +45,12 @@ public interface Server extends Named, Runnable {
      * Gets the endpoint name usually the Spring bean name.
      */
     String getName();
+
+    /**
+     * Gets the port the server is listening on.
+     * @return the port or 0 when the server does not listen on a port
+     */
+    default int getPort() {
+        return 0;
+    }
 }
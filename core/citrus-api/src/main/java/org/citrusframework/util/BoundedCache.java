@@ -0,0 +1,142 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Thread safe cache holding a bounded number of entries. Lookups do not lock, each entry records its last access
+ * time instead. Once the cache grows beyond its maximum size the least recently used entries are evicted in a batch,
+ * so eviction is approximate when entries are accessed concurrently.
+ */
+public final class BoundedCache<K, V> {
+
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    private final int maxSize;
+
+    /**
+     * Constructor using the maximum number of entries.
+     * @param maxSize
+     */
+    public BoundedCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive, but was " + maxSize);
+        }
+
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Gets the cached value for given key.
+     * @param key
+     * @return the cached value or null when there is no value for the key
+     */
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+
+        entry.lastAccess = System.nanoTime();
+        return entry.value;
+    }
+
+    /**
+     * Gets the cached value for given key or computes and caches a new value. The value is computed without holding
+     * a lock, so concurrent callers may compute a value for the same key, but all callers get the value cached first.
+     * @param key
+     * @param mappingFunction
+     * @return
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        V cached = get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        Entry<V> entry = new Entry<>(mappingFunction.apply(key));
+        Entry<V> existing = entries.putIfAbsent(key, entry);
+        if (existing != null) {
+            return existing.value;
+        }
+
+        evictIfNecessary();
+        return entry.value;
+    }
+
+    /**
+     * Removes all cached entries.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Gets the number of cached entries.
+     * @return
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Gets the maximum number of cached entries.
+     * @return
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Evicts the least recently used entries when the cache has grown beyond its maximum size. Evicts a tenth of the
+     * entries at once, so the entries do not have to be sorted on every insert.
+     */
+    private void evictIfNecessary() {
+        if (entries.size() <= maxSize || !evicting.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            List<Map.Entry<K, Long>> candidates = new ArrayList<>(entries.size());
+            entries.forEach((key, entry) -> candidates.add(Map.entry(key, entry.lastAccess)));
+
+            candidates.stream()
+                    .sorted(Map.Entry.comparingByValue(Comparator.naturalOrder()))
+                    .limit(Math.max(0, candidates.size() - maxSize) + Math.max(1, maxSize / 10))
+                    .forEach(candidate -> entries.remove(candidate.getKey()));
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private volatile long lastAccess = System.nanoTime();
+
+        private Entry(V value) {
+            this.value = value;
+        }
+    }
+}
@@ -39,6 +39,9 @@ public class XmlMessageValidationContext extends DefaultMessageValidationContext
     /** Map holding control namespaces for validation */
     private final Map<String, String> controlNamespaces;
 
+    /** Validate the message payload on a stream of XML events instead of a DOM tree */
+    private final boolean streaming;
+
     /**
      * Default constructor.
      */
@@ -55,6 +58,7 @@ public class XmlMessageValidationContext extends DefaultMessageValidationContext
         this.delegate = builder.delegate;
         this.namespaces = builder.namespaces;
         this.controlNamespaces = builder.controlNamespaces;
+        this.streaming = builder.streaming;
     }
 
     @Override
@@ -118,7 +122,8 @@ public class XmlMessageValidationContext extends DefaultMessageValidationContext
                         .schemaValidation(schemaValidation)
                         .schemaRepository(schemaRepository)
                         .schema(schema)
-                        .ignore(ignoreExpressions);
+                        .ignore(ignoreExpressions)
+                        .streaming(streaming);
         }
 
         @Override
@@ -140,6 +145,8 @@ public class XmlMessageValidationContext extends DefaultMessageValidationContext
         protected Map<String, String> namespaces = new HashMap<>();
         protected final Map<String, String> controlNamespaces = new HashMap<>();
 
+        protected boolean streaming;
+
         @SuppressWarnings("unchecked")
         protected XmlValidationContextBuilder() {
             this.self = (S) this;
@@ -174,6 +181,15 @@ public class XmlMessageValidationContext extends DefaultMessageValidationContext
             this.namespaces = namespaces;
         }
 
+        /**
+         * Enables streaming validation of the message payload. The payload is read as a stream of XML events
+         * so no DOM tree is built for the received and the control message.
+         */
+        public S streaming(boolean enabled) {
+            this.streaming = enabled;
+            return self;
+        }
+
         /**
          * Sets a parent context that is updated with the status as a delegate.
          */
@@ -199,4 +215,12 @@ public class XmlMessageValidationContext extends DefaultMessageValidationContext
         return controlNamespaces;
     }
 
+    /**
+     * Gets the streaming validation mode.
+     * @return the streaming
+     */
+    public boolean isStreaming() {
+        return streaming;
+    }
+
 }
@@ -29,6 +29,11 @@ public interface XmlMessageValidationContextBuilder<T extends ValidationContext,
      */
     XpathMessageValidationContextBuilder<?, ?> xpath();
 
+    /**
+     * Enables streaming validation of very large message payloads without building a DOM tree.
+     */
+    B streaming(boolean enabled);
+
     @Deprecated
     default XpathMessageValidationContextBuilder<?, ?> expressions() {
         return xpath();
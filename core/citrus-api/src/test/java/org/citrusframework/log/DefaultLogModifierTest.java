@@ -16,6 +16,9 @@
 
 package org.citrusframework.log;
 
+import java.util.Set;
+import java.util.regex.Pattern;
+
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -87,6 +90,11 @@ public class DefaultLogModifierTest {
                 "<password>****</password><secret>****</secret><secretKey>****</secretKey>");
         Assert.assertEquals(logModifier.mask("<a>foo</a><secret>foo</secret><b>foo</b>"),
                 "<a>foo</a><secret>****</secret><b>foo</b>");
+        Assert.assertEquals(logModifier.mask("<a service_password='foo' b=\"foo\"><SECRET>foo</SECRET></a>"),
+                "<a service_password='****' b=\"foo\"><SECRET>****</SECRET></a>");
+        Assert.assertEquals(logModifier.mask("<a><!-- <password>foo</password> --></a>"),
+                "<a><!-- <password>foo</password> --></a>");
+        Assert.assertEquals(logModifier.mask("<a><password>foo"), "<a><password>foo");
     }
 
     @Test
@@ -107,6 +115,56 @@ public class DefaultLogModifierTest {
                 "{\"password\": \"****\", \"secret\": \"****\", \"secretKey\": \"****\"}");
         Assert.assertEquals(logModifier.mask("{\"a\": \"foo\", \"b\": \"foo\", \"secretKey\": \"foo\"}"),
                 "{\"a\": \"foo\", \"b\": \"foo\", \"secretKey\": \"****\"}");
+        Assert.assertEquals(logModifier.mask("{\"password\": 123, \"nested\": {\"secret\": null}, \"a\": \"pass\\\"word\"}"),
+                "{\"password\": \"****\", \"nested\": {\"secret\": \"****\"}, \"a\": \"pass\\\"word\"}");
+        Assert.assertEquals(logModifier.mask("[{\"password\": \"foo\"}, {\"password\": \"fo"),
+                "[{\"password\": \"****\"}, {\"password\": \"****\"");
+    }
+
+    @Test
+    public void testMaskPrefixedContent() {
+        Assert.assertTrue(CitrusLogSettings.isLogModifierEnabled());
+
+        DefaultLogModifier logModifier = new DefaultLogModifier();
+
+        // leading whitespace and control characters are ignored like with String#trim()
+        Assert.assertEquals(logModifier.mask("\n  <password>foo</password>"), "\n  <password>****</password>");
+        Assert.assertEquals(logModifier.mask("\u0000\t{\"password\":\"foo\"}"), "\u0000\t{\"password\":\"****\"}");
+
+        // prefixed content is not masked as XML or Json
+        Assert.assertEquals(logModifier.mask("Payload: <password>foo</password>"), "Payload: <password>foo</password>");
+        Assert.assertEquals(logModifier.mask("Payload: {\"password\":\"foo\"}"), "Payload: {\"password\":\"foo\"}");
+
+        // mixed content starting with XML is masked as XML only
+        Assert.assertEquals(logModifier.mask("<password>foo</password> {\"password\":\"foo\"}"),
+                "<password>****</password> {\"password\":\"foo\"}");
+    }
+
+    @Test
+    public void testMaskWithCustomPatterns() {
+        Assert.assertTrue(CitrusLogSettings.isLogModifierEnabled());
+
+        DefaultLogModifier logModifier = new DefaultLogModifier() {
+            @Override
+            protected boolean isStructuredMasking() {
+                return false;
+            }
+
+            @Override
+            protected Pattern createXmlPattern(Set<String> keywords) {
+                return Pattern.compile("(<token>)[^<]*(</token>)");
+            }
+
+            @Override
+            protected Pattern createJsonPattern(Set<String> keywords) {
+                return Pattern.compile("(\"token\"\\s*:\\s*)(\"[^\"]*\")");
+            }
+        };
+
+        Assert.assertEquals(logModifier.mask("<a><token>foo</token><b>foo</b></a>"),
+                "<a><token>****</token><b>foo</b></a>");
+        Assert.assertEquals(logModifier.mask("{\"token\": \"foo\", \"b\": \"foo\"}"),
+                "{\"token\": \"****\", \"b\": \"foo\"}");
     }
 
     @Test
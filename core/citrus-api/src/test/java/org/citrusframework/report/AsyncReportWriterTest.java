@@ -0,0 +1,121 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.report;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.zip.GZIPInputStream;
+
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+
+public class AsyncReportWriterTest {
+
+    private final File outputDirectory = new File("target/citrus-logs/trace/async");
+
+    @BeforeClass
+    public void setup() {
+        outputDirectory.mkdirs();
+    }
+
+    @Test
+    public void shouldWriteRecords() throws IOException {
+        File file = new File(outputDirectory, "records.txt");
+
+        try (AsyncReportWriter writer = new AsyncReportWriter(file)) {
+            for (int i = 0; i < 5000; i++) {
+                writer.append("record-" + i + "\n");
+            }
+        }
+
+        String content = Files.readString(file.toPath(), UTF_8);
+        assertEquals(content.lines().count(), 5000L);
+        assertEquals(content.lines().findFirst().orElse(""), "record-0");
+    }
+
+    @Test
+    public void shouldRotateFiles() throws IOException {
+        File file = new File(outputDirectory, "rotated.txt");
+
+        AsyncReportWriter writer = new AsyncReportWriter(file, 10, false, 10L);
+        writer.append("first\n");
+        writer.append("second\n");
+        writer.append("third\n");
+        writer.close();
+
+        assertEquals(writer.getFile(1).getName(), "rotated-1.txt");
+        assertEquals(Files.readString(writer.getFile(0).toPath(), UTF_8), "first\n");
+        assertEquals(Files.readString(writer.getFile(1).toPath(), UTF_8), "second\n");
+        assertEquals(Files.readString(writer.getFile(2).toPath(), UTF_8), "third\n");
+    }
+
+    @Test
+    public void shouldRotateFilesByBytes() throws IOException {
+        File file = new File(outputDirectory, "rotated-bytes.txt");
+
+        AsyncReportWriter writer = new AsyncReportWriter(file, 10, false, 10L);
+        writer.append("\u00e4\u00f6\u00fc\n");
+        writer.append("\u00e4\u00f6\u00fc\n");
+        writer.close();
+
+        assertEquals(writer.getFile(0).length(), 7L);
+        assertEquals(Files.readString(writer.getFile(0).toPath(), UTF_8), "\u00e4\u00f6\u00fc\n");
+        assertEquals(Files.readString(writer.getFile(1).toPath(), UTF_8), "\u00e4\u00f6\u00fc\n");
+    }
+
+    @Test
+    public void shouldCompress() throws IOException {
+        File file = new File(outputDirectory, "compressed.txt");
+
+        AsyncReportWriter writer = new AsyncReportWriter(file, 10, true, 0L);
+        writer.append("Hello ");
+        writer.append("Citrus!");
+        writer.close();
+
+        File compressed = writer.getFile(0);
+        assertEquals(compressed.getName(), "compressed.txt.gz");
+        try (InputStream in = new GZIPInputStream(new FileInputStream(compressed))) {
+            assertEquals(new String(in.readAllBytes(), UTF_8), "Hello Citrus!");
+        }
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void shouldFailToAppendAfterClose() {
+        AsyncReportWriter writer = new AsyncReportWriter(new File(outputDirectory, "closed.txt"));
+        writer.close();
+
+        writer.append("foo");
+    }
+
+    @Test
+    public void shouldNotCreateEmptyFile() {
+        File file = new File(outputDirectory, "empty.txt");
+        file.delete();
+
+        new AsyncReportWriter(file).close();
+
+        assertFalse(file.exists());
+    }
+}
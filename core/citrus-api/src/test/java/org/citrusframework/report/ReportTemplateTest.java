@@ -0,0 +1,79 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.report;
+
+import java.util.Map;
+import java.util.Properties;
+
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.util.PropertyUtils;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+public class ReportTemplateTest {
+
+    @Test
+    public void shouldRenderLikePropertyReplacement() {
+        String template = "<test name=\"@test.name@\" time=\"@test.duration@\">\\@escaped@test.name@</test>";
+
+        Properties properties = new Properties();
+        properties.put("test.name", "fooTest");
+        properties.put("test.duration", "0.100");
+
+        assertEquals(ReportTemplate.compile(template).render(Map.of("test.name", "fooTest", "test.duration", "0.100")),
+                PropertyUtils.replacePropertiesInString(template, properties));
+    }
+
+    @Test
+    public void shouldRenderFragments() {
+        ReportTemplate template = ReportTemplate.compile("<tests>@tests@</tests>");
+
+        assertEquals(template.render(Map.of("tests", (ReportTemplate.Fragment) writer -> {
+            writer.write("<test/>");
+            writer.write("<test/>");
+        })), "<tests><test/><test/></tests>");
+    }
+
+    @Test
+    public void shouldEscapeXml() {
+        ReportTemplate template = ReportTemplate.compile("<test message=\"@msg@\"/>");
+
+        assertEquals(template.render(Map.of("msg", ReportTemplate.escapeXml("a < b && \"c\" > 'd'"))),
+                "<test message=\"a &lt; b &amp;&amp; &quot;c&quot; &gt; &apos;d&apos;\"/>");
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class, expectedExceptionsMessageRegExp = "No such property '@unknown@'")
+    public void shouldFailOnUnknownProperty() {
+        ReportTemplate.compile("@unknown@").render(Map.of());
+    }
+
+    @Test
+    public void shouldLoadTemplateResourceOnce() {
+        String resource = "classpath:org/citrusframework/report/summary-report.xml";
+        ReportTemplate.Loader loader = new ReportTemplate.Loader(resource, false);
+        ReportTemplate template = loader.get();
+        assertSame(loader.get(), template);
+        assertNotSame(new ReportTemplate.Loader(resource, false).get(), template);
+
+        loader.setResourcePath(resource);
+        assertNotSame(loader.get(), template);
+        assertEquals(loader.getResourcePath(), resource);
+    }
+}
@@ -35,6 +35,7 @@ import static org.citrusframework.TestResult.success;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
@@ -150,6 +151,52 @@ public class TestResultsTest {
         assertEquals(fixture.getTotalDuration(), Duration.ofMillis(600));
     }
 
+    @Test
+    void getTotalDurationIncludesDurationSetAfterAdd() {
+        TestResult result = success("OkTest", TestResultsTest.class.getName());
+        fixture.addResult(result);
+        fixture.addResult(success("OkTest2", TestResultsTest.class.getName()).withDuration(Duration.ofMillis(100)));
+
+        assertEquals(fixture.getTotalDuration(), Duration.ofMillis(100));
+
+        result.withDuration(Duration.ofMillis(50));
+        assertEquals(fixture.getTotalDuration(), Duration.ofMillis(150));
+        assertEquals(fixture.getTotalDuration(), Duration.ofMillis(150));
+    }
+
+    @Test
+    void addResultIgnoresDuplicates() {
+        TestResult result = success("OkTest", TestResultsTest.class.getName());
+
+        assertTrue(fixture.addResult(result));
+        assertFalse(fixture.addResult(result));
+
+        assertEquals(fixture.getSize(), 1);
+        assertEquals(fixture.getSuccess(), 1);
+        assertEquals(fixture.asList().size(), 1);
+    }
+
+    @Test
+    void testClassAndPackageSummaries() {
+        fixture.addResult(success("OkTest", "org.citrusframework.FooIT").withDuration(Duration.ofMillis(100)));
+        fixture.addResult(failed("FailedTest", "org.citrusframework.FooIT", "This went wrong").withDuration(Duration.ofMillis(200)));
+        fixture.addResult(skipped("SkippedTest", "org.citrusframework.other.BarIT"));
+
+        TestResultSummary fooSummary = fixture.getClassSummaries().get("org.citrusframework.FooIT");
+        assertEquals(fooSummary.getSize(), 2);
+        assertEquals(fooSummary.getSuccess(), 1);
+        assertEquals(fooSummary.getFailed(), 1);
+        assertEquals(fooSummary.getTotalDuration(), Duration.ofMillis(300));
+
+        assertEquals(fixture.getPackageSummaries().size(), 2);
+        assertEquals(fixture.getPackageSummaries().get("org.citrusframework").getSize(), 2);
+        assertEquals(fixture.getPackageSummaries().get("org.citrusframework.other").getSkipped(), 1);
+
+        fixture.clear();
+        assertEquals(fixture.getSize(), 0);
+        assertTrue(fixture.getClassSummaries().isEmpty());
+    }
+
     @Test
     void getTotalDurationReturnsZeroByDefault() {
         assertEquals(fixture.getTotalDuration(), Duration.ZERO);
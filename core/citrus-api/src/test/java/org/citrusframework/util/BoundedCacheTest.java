@@ -0,0 +1,66 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+public class BoundedCacheTest {
+
+    @Test
+    public void testComputeIfAbsent() {
+        BoundedCache<String, String> cache = new BoundedCache<>(10);
+        AtomicInteger computed = new AtomicInteger();
+
+        assertNull(cache.get("foo"));
+        assertEquals(cache.computeIfAbsent("foo", key -> key + computed.incrementAndGet()), "foo1");
+        assertEquals(cache.computeIfAbsent("foo", key -> key + computed.incrementAndGet()), "foo1");
+        assertEquals(cache.get("foo"), "foo1");
+        assertEquals(computed.get(), 1);
+        assertEquals(cache.size(), 1);
+
+        cache.clear();
+        assertNull(cache.get("foo"));
+    }
+
+    @Test
+    public void testEvictLeastRecentlyUsed() {
+        BoundedCache<Integer, String> cache = new BoundedCache<>(100);
+        cache.computeIfAbsent(-1, String::valueOf);
+
+        for (int i = 0; i < 1000; i++) {
+            cache.computeIfAbsent(i, String::valueOf);
+            cache.get(-1);
+            assertTrue(cache.size() <= cache.getMaxSize());
+        }
+
+        assertEquals(cache.get(-1), "-1");
+        assertEquals(cache.get(999), "999");
+        assertNull(cache.get(0));
+    }
+
+    @Test
+    public void testInvalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> new BoundedCache<>(0));
+    }
+}
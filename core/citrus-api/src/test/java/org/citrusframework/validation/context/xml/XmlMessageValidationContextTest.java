@@ -36,4 +36,17 @@ public class XmlMessageValidationContextTest {
                 .isNotEmpty()
                 .contains("org.citrusframework:citrus-validation-xml");
     }
+
+    @Test
+    public void xpath_shouldKeepStreamingSetting() {
+        XpathMessageValidationContext xpathValidationContext = new XmlMessageValidationContext.Builder()
+                .streaming(true)
+                .ignore("/TestMessage/timestamp")
+                .xpath()
+                .expression("/TestMessage/text", "Hello")
+                .build();
+
+        assertThat(xpathValidationContext.isStreaming()).isTrue();
+        assertThat(xpathValidationContext.getIgnoreExpressions()).containsExactly("/TestMessage/timestamp");
+    }
 }
@@ -16,6 +16,7 @@
 
 package org.citrusframework.actions;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -291,7 +292,7 @@ public class ReceiveMessageAction extends AbstractTestAction implements MessageA
 
             if (nonNull(validators) && !validators.isEmpty()) {
                 for (MessageValidator<? extends ValidationContext> messageValidator : validators) {
-                    messageValidator.validateMessage(message, controlMessage, context, validationContexts);
+                    validate(messageValidator, message, controlMessage, context);
                 }
 
                 if (validators.parallelStream()
@@ -299,7 +300,7 @@ public class ReceiveMessageAction extends AbstractTestAction implements MessageA
                         .noneMatch(DefaultMessageHeaderValidator.class::isAssignableFrom)) {
                     MessageValidator<? extends ValidationContext> defaultMessageHeaderValidator = context.getMessageValidatorRegistry().getDefaultMessageHeaderValidator();
                     if (defaultMessageHeaderValidator != null) {
-                        defaultMessageHeaderValidator.validateMessage(message, controlMessage, context, validationContexts);
+                        validate(defaultMessageHeaderValidator, message, controlMessage, context);
                     }
                 }
             } else {
@@ -310,14 +311,14 @@ public class ReceiveMessageAction extends AbstractTestAction implements MessageA
                         context.getMessageValidatorRegistry().findMessageValidators(messageType, message, mustFindValidator);
 
                 for (MessageValidator<? extends ValidationContext> messageValidator : activeValidators) {
-                    messageValidator.validateMessage(message, controlMessage, context, validationContexts);
+                    validate(messageValidator, message, controlMessage, context);
                 }
 
                 if (CitrusSettings.isPerformDefaultValidation() &&
                         validationContexts.stream().anyMatch(validationContext -> validationContext.getStatus() == ValidationStatus.UNKNOWN)) {
                     var defaultValidator = context.getMessageValidatorRegistry().getDefaultMessageValidator();
                     if (activeValidators.stream().noneMatch(validator -> defaultValidator.getClass().isInstance(validator))) {
-                        defaultValidator.validateMessage(message, controlMessage, context, validationContexts);
+                        validate(defaultValidator, message, controlMessage, context);
                     }
                 }
             }
@@ -337,6 +338,19 @@ public class ReceiveMessageAction extends AbstractTestAction implements MessageA
         }
     }
 
+    /**
+     * Calls the message validator and informs message listeners on the time spent in the validator.
+     */
+    private void validate(MessageValidator<? extends ValidationContext> messageValidator, Message message,
+                          Message controlMessage, TestContext context) {
+        long start = System.nanoTime();
+        try {
+            messageValidator.validateMessage(message, controlMessage, context, validationContexts);
+        } finally {
+            context.onMessageValidated(message, messageValidator, Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
     private static void logUnusedValidationContext(ValidationContext validationContext) {
         if (validationContext.getCorrespondingValidationModule().isEmpty()) {
             logger.warn("Found validation context that has not been processed: {}", validationContext.getClass().getName());
@@ -16,6 +16,8 @@
 
 package org.citrusframework.base.endpoint;
 
+import java.util.Optional;
+
 import jakarta.xml.bind.annotation.XmlAttribute;
 import jakarta.xml.bind.annotation.XmlTransient;
 import org.citrusframework.TestActor;
@@ -101,6 +103,11 @@ public abstract class AbstractEndpointBuilder<T extends Endpoint> implements End
         return getEndpoint().getClass().equals(endpointType);
     }
 
+    @Override
+    public Optional<T> getConfiguredEndpoint() {
+        return Optional.ofNullable(getEndpoint());
+    }
+
     /**
      * Gets the target endpoint instance.
      */
@@ -32,7 +32,9 @@ public class DefaultTestReporters extends TestReporters {
             new TestFlowReporter(),
             new LoggingReporter(),
             new HtmlReporter(),
-            new JUnitReporter()
+            new JUnitReporter(),
+            new InstrumentationReporter(),
+            new TimelineReporter()
     );
 
     public DefaultTestReporters() {
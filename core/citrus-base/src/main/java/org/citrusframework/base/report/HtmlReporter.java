@@ -20,23 +20,25 @@ import java.io.BufferedInputStream;
 import java.io.BufferedReader;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.text.DateFormat;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Properties;
 
 import org.apache.commons.codec.binary.Base64;
 import org.citrusframework.TestCase;
 import org.citrusframework.TestCaseMetaInfo;
+import org.citrusframework.TestResult;
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.report.AbstractOutputFileReporter;
 import org.citrusframework.report.FailureStackElement;
+import org.citrusframework.report.ReportTemplate;
 import org.citrusframework.report.TestListener;
 import org.citrusframework.report.TestResults;
 import org.citrusframework.spi.Resources;
 import org.citrusframework.util.FileUtils;
-import org.citrusframework.util.PropertyUtils;
 import org.citrusframework.util.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -54,10 +56,10 @@ public class HtmlReporter extends AbstractOutputFileReporter implements TestList
     private final Map<String, ResultDetail> details = new HashMap<>();
 
     /** Static resource for the HTML test report template */
-    private String reportTemplate = HtmlReporterSettings.getReportTemplate();
+    private final ReportTemplate.Loader reportTemplate = new ReportTemplate.Loader(HtmlReporterSettings.getReportTemplate(), false);
 
     /** Test detail template */
-    private String testDetailTemplate = HtmlReporterSettings.getReportDetailTemplate();
+    private final ReportTemplate.Loader testDetailTemplate = new ReportTemplate.Loader(HtmlReporterSettings.getReportDetailTemplate(), false);
 
     /** Output directory */
     private final String outputDirectory = HtmlReporterSettings.getReportDirectory();
@@ -76,18 +78,36 @@ public class HtmlReporter extends AbstractOutputFileReporter implements TestList
 
     @Override
     public String getReportContent(TestResults testResults) {
-        final StringBuilder reportDetails = new StringBuilder();
+        StringWriter writer = new StringWriter();
+        try {
+            writeReportContent(testResults, writer);
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to generate HTML test report", e);
+        }
+        return writer.toString();
+    }
 
+    @Override
+    protected void writeReportContent(TestResults testResults, Writer writer) throws IOException {
         logger.debug("Generating HTML test report");
 
-        try {
-            final String testDetails = FileUtils.readToString(FileUtils.getFileResource(testDetailTemplate));
-            final String emptyString = "";
-
-            testResults.doWithResults(result -> {
+        ReportTemplate testDetails = testDetailTemplate.get();
+        final String emptyString = "";
+
+        Map<String, Object> reportProps = new HashMap<>();
+        reportProps.put("test.cnt", Integer.toString(testResults.getSize()));
+        reportProps.put("skipped.test.cnt", Integer.toString(testResults.getSkipped()));
+        reportProps.put("skipped.test.pct", testResults.getSkippedPercentageFormatted());
+        reportProps.put("failed.test.cnt", Integer.toString(testResults.getFailed()));
+        reportProps.put("failed.test.pct", testResults.getFailedPercentageFormatted());
+        reportProps.put("success.test.cnt", Integer.toString(testResults.getSuccess()));
+        reportProps.put("success.test.pct", testResults.getSuccessPercentageFormatted());
+        reportProps.put("logo.data", getLogoImageData());
+        reportProps.put("test.results", (ReportTemplate.Fragment) out -> {
+            Map<String, Object> detailProps = new HashMap<>();
+            for (TestResult result : testResults.asList()) {
                 ResultDetail detail = Optional.ofNullable(details.get(result.getTestName())).orElseGet(ResultDetail::new);
 
-                Properties detailProps = new Properties();
                 detailProps.put("test.style.class", result.getResult().toLowerCase());
                 detailProps.put("test.case.name", result.getTestName());
                 detailProps.put("test.author", !StringUtils.hasText(detail.getMetaInfo().getAuthor()) ? emptyString : detail.getMetaInfo().getAuthor());
@@ -98,27 +118,15 @@ public class HtmlReporter extends AbstractOutputFileReporter implements TestList
                 detailProps.put("test.description", !StringUtils.hasText(detail.getDescription()) ? emptyString : detail.getDescription());
                 detailProps.put("test.result", result.getResult());
 
-                reportDetails.append(PropertyUtils.replacePropertiesInString(testDetails, detailProps));
+                testDetails.render(out, detailProps);
 
                 if (result.isFailed() && result.getCause() != null) {
-                    reportDetails.append(getStackTraceHtml(result.getCause()));
+                    writeStackTraceHtml(result.getCause(), out);
                 }
-            });
-
-            Properties reportProps = new Properties();
-            reportProps.put("test.cnt", Integer.toString(testResults.getSize()));
-            reportProps.put("skipped.test.cnt", Integer.toString(testResults.getSkipped()));
-            reportProps.put("skipped.test.pct", testResults.getSkippedPercentageFormatted());
-            reportProps.put("failed.test.cnt", Integer.toString(testResults.getFailed()));
-            reportProps.put("failed.test.pct", testResults.getFailedPercentageFormatted());
-            reportProps.put("success.test.cnt", Integer.toString(testResults.getSuccess()));
-            reportProps.put("success.test.pct", testResults.getSuccessPercentageFormatted());
-            reportProps.put("test.results", reportDetails.toString());
-            reportProps.put("logo.data", getLogoImageData());
-            return PropertyUtils.replacePropertiesInString(FileUtils.readToString(FileUtils.getFileResource(reportTemplate)), reportProps);
-        } catch (IOException e) {
-            throw new CitrusRuntimeException("Failed to generate HTML test report", e);
-        }
+            }
+        });
+
+        reportTemplate.get().render(writer, reportProps);
     }
 
     /**
@@ -157,21 +165,18 @@ public class HtmlReporter extends AbstractOutputFileReporter implements TestList
     }
 
     /**
-     * Gets the code section from test case XML which is responsible for the
+     * Writes the code section from test case XML which is responsible for the
      * error.
      * @param cause the error cause.
+     * @param writer the report writer.
      */
-    private String getCodeSnippetHtml(Throwable cause) {
-        StringBuilder codeSnippet = new StringBuilder();
-        BufferedReader reader = null;
-
-        try {
-            if (cause instanceof CitrusRuntimeException ex) {
-                if (!ex.getFailureStack().isEmpty()) {
-                    FailureStackElement stackElement = ex.getFailureStack().pop();
-                    if (stackElement.getLineNumberStart() > 0) {
-                        reader = new BufferedReader(Resources.fromClasspath(stackElement.getTestFilePath() + FileUtils.FILE_EXTENSION_XML).getReader());
-
+    private void writeCodeSnippetHtml(Throwable cause, Writer writer) throws IOException {
+        if (cause instanceof CitrusRuntimeException ex) {
+            if (!ex.getFailureStack().isEmpty()) {
+                FailureStackElement stackElement = ex.getFailureStack().pop();
+                if (stackElement.getLineNumberStart() > 0) {
+                    try (BufferedReader reader = new BufferedReader(Resources.fromClasspath(stackElement.getTestFilePath() + FileUtils.FILE_EXTENSION_XML).getReader())) {
+                        StringWriter codeSnippet = new StringWriter();
                         codeSnippet.append("<div class=\"code-snippet\">")
                                 .append("<h2 class=\"code-title\">")
                                 .append(stackElement.getTestFilePath())
@@ -198,53 +203,62 @@ public class HtmlReporter extends AbstractOutputFileReporter implements TestList
                                 codeSnippet.append("<pre class=\"")
                                         .append(codeStyle)
                                         .append("\"><span class=\"line-number\">")
-                                        .append(lineIndex)
-                                        .append(":</span>")
-                                        .append(line.replaceAll(">", "&gt;").replaceAll("<", "&lt;"))
-                                        .append("</pre>");
+                                        .append(String.valueOf(lineIndex))
+                                        .append(":</span>");
+                                escapeTags(line, codeSnippet);
+                                codeSnippet.append("</pre>");
+                            } else if (lineIndex > stackElement.getLineNumberEnd() + snippetOffset) {
+                                break;
                             }
 
                             lineIndex++;
-
                         }
 
                         codeSnippet.append("</div>");
+                        writer.write(codeSnippet.toString());
+                    } catch (IOException e) {
+                        logger.error("Failed to construct HTML code snippet", e);
                     }
                 }
             }
-        } catch (IOException e) {
-            logger.error("Failed to construct HTML code snippet", e);
-        } finally {
-            if (reader != null) {
-                try {
-                    reader.close();
-                } catch (IOException e) {
-                    logger.warn("Failed to close test file", e);
-                }
+        }
+    }
+
+    /**
+     * Escapes tag brackets of given source code line in a single pass.
+     */
+    private static void escapeTags(String line, Writer writer) throws IOException {
+        int start = 0;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '<' || c == '>') {
+                writer.append(line, start, i).write(c == '<' ? "&lt;" : "&gt;");
+                start = i + 1;
             }
         }
 
-        return codeSnippet.toString();
+        writer.append(line, start, line.length());
     }
 
     /**
-     * Construct HTML code snippet for stack trace information.
+     * Writes HTML code snippet for stack trace information.
      * @param cause the causing error.
+     * @param writer the report writer.
      */
-    private String getStackTraceHtml(Throwable cause) {
-        StringBuilder stackTraceBuilder = new StringBuilder();
-        stackTraceBuilder.append(cause.getClass().getName())
-                        .append(": ")
-                        .append(cause.getMessage())
-                        .append("\n ");
-        for (int i = 0; i < cause.getStackTrace().length; i++) {
-            stackTraceBuilder.append("\n\t at ");
-            stackTraceBuilder.append(cause.getStackTrace()[i]);
+    private void writeStackTraceHtml(Throwable cause, Writer writer) throws IOException {
+        writer.append("<tr><td colspan=\"2\">")
+                .append("<div class=\"error-detail\"><pre>")
+                .append(cause.getClass().getName())
+                .append(": ")
+                .append(String.valueOf(cause.getMessage()))
+                .append("\n ");
+        for (StackTraceElement element : cause.getStackTrace()) {
+            writer.append("\n\t at ").append(String.valueOf(element));
         }
 
-        return "<tr><td colspan=\"2\">" +
-        		"<div class=\"error-detail\"><pre>" + stackTraceBuilder +
-        		"</pre>" + getCodeSnippetHtml(cause) + "</div></td></tr>";
+        writer.append("</pre>");
+        writeCodeSnippetHtml(cause, writer);
+        writer.append("</div></td></tr>");
     }
 
     @Override
@@ -319,7 +333,7 @@ public class HtmlReporter extends AbstractOutputFileReporter implements TestList
      *
      */
     public void setReportTemplate(String reportTemplate) {
-        this.reportTemplate = reportTemplate;
+        this.reportTemplate.setResourcePath(reportTemplate);
     }
 
     /**
@@ -327,7 +341,7 @@ public class HtmlReporter extends AbstractOutputFileReporter implements TestList
      *
      */
     public void setTestDetailTemplate(String testDetailTemplate) {
-        this.testDetailTemplate = testDetailTemplate;
+        this.testDetailTemplate.setResourcePath(testDetailTemplate);
     }
 
     /**
@@ -0,0 +1,341 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.citrusframework.base.report;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.citrusframework.TestAction;
+import org.citrusframework.TestCase;
+import org.citrusframework.actions.ReceiveMessageAction;
+import org.citrusframework.actions.SendMessageAction;
+import org.citrusframework.base.report.instrumentation.Instrumentation;
+import org.citrusframework.base.report.instrumentation.InstrumentationSummary;
+import org.citrusframework.base.report.instrumentation.JfrInstrumentation;
+import org.citrusframework.base.report.instrumentation.MicrometerInstrumentation;
+import org.citrusframework.context.TestContext;
+import org.citrusframework.endpoint.Endpoint;
+import org.citrusframework.message.Message;
+import org.citrusframework.message.MessageDirection;
+import org.citrusframework.report.AbstractTestReporter;
+import org.citrusframework.report.MessageListener;
+import org.citrusframework.report.TestActionListener;
+import org.citrusframework.report.TestListener;
+import org.citrusframework.report.TestResults;
+import org.citrusframework.util.ClassLoaderHelper;
+import org.citrusframework.validation.MessageValidator;
+
+/**
+ * Reporter measures test action execution time, send and receive operations on endpoints, the time waiting for
+ * inbound messages, the time spent in message validators and message payload sizes. Measurements are passed to
+ * a list of instrumentations that publish Micrometer metrics and Java Flight Recorder events and write
+ * a Json summary to the report directory.
+ * <p>
+ * Only top level test actions are measured individually. Test actions nested in containers add to the execution
+ * time of the container and their messages are reported on an unknown endpoint.
+ * Send operations in fork mode measure the time to hand over the message to the forked execution.
+ */
+public class InstrumentationReporter extends AbstractTestReporter implements TestListener, TestActionListener, MessageListener {
+
+    /** Endpoint name used when message is not exchanged by a top level send or receive action */
+    static final String UNKNOWN_ENDPOINT = "unknown";
+
+    private static final String MICROMETER_CLASS = "io.micrometer.core.instrument.Metrics";
+
+    private final boolean enabled;
+
+    private final List<Instrumentation> instrumentations = new CopyOnWriteArrayList<>();
+
+    /** Start time of running test actions on the current thread */
+    private final ThreadLocal<Map<TestAction, Long>> actionStartTimes = ThreadLocal.withInitial(IdentityHashMap::new);
+
+    /** Send or receive operation running on the current thread */
+    private final ThreadLocal<Exchange> currentExchange = new ThreadLocal<>();
+
+    /**
+     * Default constructor creates instrumentations according to the instrumentation settings.
+     */
+    public InstrumentationReporter() {
+        this.enabled = InstrumentationReporterSettings.isEnabled();
+
+        if (enabled) {
+            instrumentations.add(new InstrumentationSummary());
+
+            if (InstrumentationReporterSettings.isJfrEnabled()) {
+                instrumentations.add(new JfrInstrumentation(InstrumentationReporterSettings.isJfrRecording()));
+            }
+
+            if (InstrumentationReporterSettings.isMicrometerEnabled() && isMicrometerPresent()) {
+                instrumentations.add(new MicrometerInstrumentation());
+            }
+        }
+    }
+
+    /**
+     * Constructor using given instrumentations regardless of the instrumentation settings.
+     * @param instrumentations
+     */
+    public InstrumentationReporter(List<Instrumentation> instrumentations) {
+        this.enabled = true;
+        this.instrumentations.addAll(instrumentations);
+    }
+
+    @Override
+    protected void generate(TestResults testResults) {
+        if (!enabled) {
+            return;
+        }
+
+        Path reportDirectory = Path.of(getReportDirectory());
+        for (Instrumentation instrumentation : instrumentations) {
+            instrumentation.writeReport(reportDirectory);
+        }
+
+        logger.debug("Generated instrumentation report: {}", reportDirectory);
+    }
+
+    @Override
+    public void onTestActionStart(TestCase testCase, TestAction testAction) {
+        if (!enabled) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        actionStartTimes.get().put(testAction, start);
+
+        if (testAction instanceof SendMessageAction sendMessageAction) {
+            currentExchange.set(new Exchange(testAction, getEndpointName(sendMessageAction.getEndpoint(),
+                    sendMessageAction.getEndpointUri()), MessageDirection.OUTBOUND, start));
+        } else if (testAction instanceof ReceiveMessageAction receiveMessageAction) {
+            currentExchange.set(new Exchange(testAction, getEndpointName(receiveMessageAction.getEndpoint(),
+                    receiveMessageAction.getEndpointUri()), MessageDirection.INBOUND, start));
+        }
+    }
+
+    @Override
+    public void onTestActionFinish(TestCase testCase, TestAction testAction) {
+        if (enabled) {
+            record(testCase, testAction, false);
+        }
+    }
+
+    @Override
+    public void onTestActionFailed(TestCase testCase, TestAction testAction, Throwable cause) {
+        if (enabled) {
+            record(testCase, testAction, true);
+        }
+    }
+
+    @Override
+    public void onTestActionSkipped(TestCase testCase, TestAction testAction) {
+    }
+
+    private void record(TestCase testCase, TestAction testAction, boolean failed) {
+        long end = System.nanoTime();
+        Long start = actionStartTimes.get().remove(testAction);
+        if (start == null) {
+            return;
+        }
+
+        Duration duration = Duration.ofNanos(end - start);
+        for (Instrumentation instrumentation : instrumentations) {
+            instrumentation.recordAction(testCase.getName(), testAction.getName(), duration, failed);
+        }
+
+        Exchange exchange = currentExchange.get();
+        if (exchange != null && exchange.action == testAction) {
+            currentExchange.remove();
+
+            Duration queueWait = exchange.arrived ? Duration.ofNanos(exchange.arrival - exchange.start) : null;
+            for (Instrumentation instrumentation : instrumentations) {
+                instrumentation.recordExchange(exchange.endpoint, exchange.direction, duration, queueWait, failed);
+            }
+        }
+    }
+
+    @Override
+    public void onInboundMessage(Message message, TestContext context) {
+        if (!enabled) {
+            return;
+        }
+
+        long arrival = System.nanoTime();
+        Exchange exchange = currentExchange.get();
+        if (exchange != null && exchange.direction == MessageDirection.INBOUND && !exchange.arrived) {
+            exchange.arrival = arrival;
+            exchange.arrived = true;
+        }
+
+        recordMessage(message, exchange, MessageDirection.INBOUND);
+    }
+
+    @Override
+    public void onOutboundMessage(Message message, TestContext context) {
+        if (enabled) {
+            recordMessage(message, currentExchange.get(), MessageDirection.OUTBOUND);
+        }
+    }
+
+    private void recordMessage(Message message, Exchange exchange, MessageDirection direction) {
+        long payloadSize = getPayloadSize(message);
+        if (payloadSize < 0) {
+            return;
+        }
+
+        String endpoint = exchange != null ? exchange.endpoint : UNKNOWN_ENDPOINT;
+        for (Instrumentation instrumentation : instrumentations) {
+            instrumentation.recordMessage(endpoint, direction, payloadSize);
+        }
+    }
+
+    @Override
+    public void onMessageValidated(Message message, MessageValidator<?> validator, Duration duration, TestContext context) {
+        if (!enabled) {
+            return;
+        }
+
+        String validatorName = validator.getClass().getSimpleName();
+        for (Instrumentation instrumentation : instrumentations) {
+            instrumentation.recordValidation(validatorName, duration);
+        }
+    }
+
+    @Override
+    public void onTestStart(TestCase test) {
+    }
+
+    @Override
+    public void onTestFinish(TestCase test) {
+        if (enabled) {
+            actionStartTimes.remove();
+            currentExchange.remove();
+        }
+    }
+
+    @Override
+    public void onTestSuccess(TestCase test) {
+    }
+
+    @Override
+    public void onTestFailure(TestCase test, Throwable cause) {
+    }
+
+    @Override
+    public void onTestSkipped(TestCase test) {
+    }
+
+    /**
+     * Adds instrumentation receiving all subsequent measurements.
+     * @param instrumentation
+     */
+    public void addInstrumentation(Instrumentation instrumentation) {
+        this.instrumentations.add(instrumentation);
+    }
+
+    /**
+     * Gets the instrumentations.
+     * @return
+     */
+    public List<Instrumentation> getInstrumentations() {
+        return Collections.unmodifiableList(new ArrayList<>(instrumentations));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    private static String getEndpointName(Endpoint endpoint, String endpointUri) {
+        if (endpoint != null) {
+            return endpoint.getName();
+        }
+
+        return endpointUri != null ? endpointUri : UNKNOWN_ENDPOINT;
+    }
+
+    /**
+     * Gets the payload size in bytes for String and byte array payloads. Strings are measured with their
+     * UTF-8 encoded length without actually encoding the payload. Other payload types are not measured.
+     * @param message
+     * @return payload size or -1 if payload type is not supported
+     */
+    static long getPayloadSize(Message message) {
+        Object payload = message.getPayload();
+        if (payload instanceof byte[] bytes) {
+            return bytes.length;
+        } else if (payload instanceof CharSequence text) {
+            return utf8Length(text);
+        }
+
+        return -1L;
+    }
+
+    private static long utf8Length(CharSequence text) {
+        long length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+
+        return length;
+    }
+
+    private static boolean isMicrometerPresent() {
+        try {
+            Class.forName(MICROMETER_CLASS, false, ClassLoaderHelper.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Send or receive operation of a top level test action.
+     */
+    private static final class Exchange {
+        private final TestAction action;
+        private final String endpoint;
+        private final MessageDirection direction;
+        private final long start;
+
+        /** Arrival time of the first inbound message */
+        private long arrival;
+        private boolean arrived;
+
+        private Exchange(TestAction action, String endpoint, MessageDirection direction, long start) {
+            this.action = action;
+            this.endpoint = endpoint;
+            this.direction = direction;
+            this.start = start;
+        }
+    }
+}
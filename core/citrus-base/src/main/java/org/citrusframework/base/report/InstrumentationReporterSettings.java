@@ -0,0 +1,82 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.citrusframework.base.report;
+
+import org.citrusframework.config.CitrusConfigProperties;
+import org.citrusframework.config.CitrusConfigProperty;
+
+@CitrusConfigProperties(prefix = "citrus.instrumentation", description = "Instrumentation settings")
+public class InstrumentationReporterSettings {
+
+    private InstrumentationReporterSettings() {
+        // prevent instantiation
+    }
+
+    @CitrusConfigProperty(description = "Enable or disable instrumentation of test actions, endpoints and validators", type = "java.lang.Boolean", defaultValue = "false")
+    private static final String ENABLED_PROPERTY = "citrus.instrumentation.enabled";
+    private static final String ENABLED_ENV = "CITRUS_INSTRUMENTATION_ENABLED";
+    private static final String ENABLED_DEFAULT = Boolean.FALSE.toString();
+
+    @CitrusConfigProperty(description = "Emit Java Flight Recorder events", type = "java.lang.Boolean", defaultValue = "true")
+    private static final String JFR_ENABLED_PROPERTY = "citrus.instrumentation.jfr.enabled";
+    private static final String JFR_ENABLED_ENV = "CITRUS_INSTRUMENTATION_JFR_ENABLED";
+    private static final String JFR_ENABLED_DEFAULT = Boolean.TRUE.toString();
+
+    @CitrusConfigProperty(description = "Record Java Flight Recorder events to a file in the report directory", type = "java.lang.Boolean", defaultValue = "true")
+    private static final String JFR_RECORDING_PROPERTY = "citrus.instrumentation.jfr.recording";
+    private static final String JFR_RECORDING_ENV = "CITRUS_INSTRUMENTATION_JFR_RECORDING";
+    private static final String JFR_RECORDING_DEFAULT = Boolean.TRUE.toString();
+
+    @CitrusConfigProperty(description = "Publish Micrometer metrics to the global registry when Micrometer is on the classpath", type = "java.lang.Boolean", defaultValue = "true")
+    private static final String MICROMETER_ENABLED_PROPERTY = "citrus.instrumentation.micrometer.enabled";
+    private static final String MICROMETER_ENABLED_ENV = "CITRUS_INSTRUMENTATION_MICROMETER_ENABLED";
+    private static final String MICROMETER_ENABLED_DEFAULT = Boolean.TRUE.toString();
+
+    /**
+     * Get setting to determine if instrumentation is enabled.
+     */
+    public static boolean isEnabled() {
+        return getBoolean(ENABLED_PROPERTY, ENABLED_ENV, ENABLED_DEFAULT);
+    }
+
+    /**
+     * Get setting to determine if Java Flight Recorder events are emitted.
+     */
+    public static boolean isJfrEnabled() {
+        return getBoolean(JFR_ENABLED_PROPERTY, JFR_ENABLED_ENV, JFR_ENABLED_DEFAULT);
+    }
+
+    /**
+     * Get setting to determine if Java Flight Recorder events are recorded to a file.
+     */
+    public static boolean isJfrRecording() {
+        return getBoolean(JFR_RECORDING_PROPERTY, JFR_RECORDING_ENV, JFR_RECORDING_DEFAULT);
+    }
+
+    /**
+     * Get setting to determine if Micrometer metrics are published.
+     */
+    public static boolean isMicrometerEnabled() {
+        return getBoolean(MICROMETER_ENABLED_PROPERTY, MICROMETER_ENABLED_ENV, MICROMETER_ENABLED_DEFAULT);
+    }
+
+    private static boolean getBoolean(String property, String env, String defaultValue) {
+        return Boolean.parseBoolean(System.getProperty(property, System.getenv(env) != null ?
+                System.getenv(env) : defaultValue));
+    }
+}
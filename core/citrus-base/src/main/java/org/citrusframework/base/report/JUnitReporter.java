@@ -16,40 +16,40 @@
 
 package org.citrusframework.base.report;
 
+import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileWriter;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
-import java.io.StringWriter;
 import java.io.Writer;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Properties;
 
 import jakarta.annotation.Nullable;
 import org.citrusframework.TestResult;
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.report.AbstractTestReporter;
+import org.citrusframework.report.ReportTemplate;
 import org.citrusframework.report.TestResults;
-import org.citrusframework.util.FileUtils;
-import org.citrusframework.util.PropertyUtils;
 import org.citrusframework.util.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 /**
  * @since 2.7.5
  */
-@SuppressWarnings("deprecation")
 public class JUnitReporter extends AbstractTestReporter {
 
     private static final Logger logger = LoggerFactory.getLogger(JUnitReporter.class);
@@ -64,13 +64,13 @@ public class JUnitReporter extends AbstractTestReporter {
     private String suiteName = JUnitReporterSettings.getSuiteName();
 
     /** Static resource for the summary test report template */
-    private String reportTemplate = JUnitReporterSettings.getReportTemplate();
+    private final ReportTemplate.Loader reportTemplate = new ReportTemplate.Loader(JUnitReporterSettings.getReportTemplate(), true);
 
     /** Test result template */
-    private String successTemplate = JUnitReporterSettings.getSuccessTemplate();
+    private final ReportTemplate.Loader successTemplate = new ReportTemplate.Loader(JUnitReporterSettings.getSuccessTemplate(), true);
 
     /** Test result template */
-    private String failedTemplate = JUnitReporterSettings.getFailedTemplate();
+    private final ReportTemplate.Loader failedTemplate = new ReportTemplate.Loader(JUnitReporterSettings.getFailedTemplate(), true);
 
     /** Enables/disables report generation */
     private boolean enabled = JUnitReporterSettings.isReportEnabled();
@@ -78,146 +78,116 @@ public class JUnitReporter extends AbstractTestReporter {
     @Override
     public void generate(TestResults testResults) {
         if (isEnabled()) {
-            ReportTemplates reportTemplates = new ReportTemplates();
-
             logger.debug("Generating JUnit test report");
 
-            try {
-                List<TestResult> results = testResults.asList();
-                createReportFile(format(reportFileNamePattern, suiteName), createReportContent(suiteName, results, reportTemplates), new File(getReportDirectory()));
-
-                Map<String, List<TestResult>> groupedResults = new HashMap<>();
-                for(TestResult result : results) {
-                    if (!groupedResults.containsKey(result.getClassName())) {
-                        groupedResults.put(result.getClassName(), new ArrayList<>());
-                    }
+            List<TestResult> results = testResults.asList();
+            createReportFile(format(reportFileNamePattern, suiteName), suiteName, results, new File(getReportDirectory()));
 
-                    groupedResults.get(result.getClassName()).add(result);
-                }
+            Map<String, List<TestResult>> groupedResults = new LinkedHashMap<>();
+            for (TestResult result : results) {
+                groupedResults.computeIfAbsent(result.getClassName(), k -> new ArrayList<>()).add(result);
+            }
 
-                File targetDirectory = new File(getReportDirectory() + (StringUtils.hasText(outputDirectory) ? File.separator + outputDirectory : ""));
-                for (Map.Entry<String, List<TestResult>> resultEntry : groupedResults.entrySet()) {
-                    createReportFile(format(reportFileNamePattern, resultEntry.getKey()), createReportContent(resultEntry.getKey(), resultEntry.getValue(), reportTemplates), targetDirectory);
-                }
-            } catch (IOException e) {
-                throw new CitrusRuntimeException("Failed to generate JUnit test report", e);
+            File targetDirectory = new File(getReportDirectory() + (StringUtils.hasText(outputDirectory) ? File.separator + outputDirectory : ""));
+            for (Map.Entry<String, List<TestResult>> resultEntry : groupedResults.entrySet()) {
+                createReportFile(format(reportFileNamePattern, resultEntry.getKey()), resultEntry.getKey(), resultEntry.getValue(), targetDirectory);
             }
         }
     }
 
     /**
-     * Create report file for test class.
+     * Write report content for test class to the given writer. Test details are rendered straight to the writer.
      */
-    @SuppressWarnings("deprecation")
-    private String createReportContent(String suiteName, List<TestResult> results, ReportTemplates templates) throws IOException {
-        final StringBuilder reportDetails = new StringBuilder();
-        Duration suiteDuration = Duration.ofSeconds(0);
-
-        for (TestResult result: results) {
-            Properties detailProps = new Properties();
-            detailProps.put("test.class", result.getClassName());
-            detailProps.put("test.name", org.apache.commons.lang3.StringEscapeUtils.escapeXml(result.getTestName()));
-            detailProps.put("test.duration", toFormattedTimeString(result.getDuration()));
+    private void writeReportContent(String suiteName, List<TestResult> results, Writer writer) throws IOException {
+        ReportTemplate successTemplate = this.successTemplate.get();
+        ReportTemplate failedTemplate = this.failedTemplate.get();
 
+        Duration suiteDuration = Duration.ofSeconds(0);
+        long skipped = 0;
+        long failed = 0;
+        long success = 0;
+        for (TestResult result : results) {
             if (nonNull(result.getDuration())) {
                 suiteDuration = suiteDuration.plus(result.getDuration());
             }
 
-            if (result.isFailed()) {
-                detailProps.put("test.error.cause", Optional.ofNullable(result.getCause()).map(Object::getClass).map(Class::getName).orElseGet(() -> Objects.toString(result.getFailureType(), "")));
-
-                if (nonNull(result.getErrorMessage())) {
-                    String escapedErrorMessage = org.apache.commons.lang3.StringEscapeUtils.escapeXml(result.getErrorMessage());
-                    detailProps.put("test.error.msg", escapedErrorMessage);
-                }
-
-                detailProps.put("test.error.stackTrace", Optional.ofNullable(result.getCause()).map(cause -> {
-                    StringWriter writer = new StringWriter();
-                    cause.printStackTrace(new PrintWriter(writer));
-                    return writer.toString();
-                }).orElseGet(() -> Objects.toString(result.getFailureType(), "")));
-                reportDetails.append(System.lineSeparator())
-                        .append("    ")
-                        .append(PropertyUtils.replacePropertiesInString(templates.getFailedTemplate(), detailProps));
-            } else {
-                reportDetails.append(System.lineSeparator())
-                        .append("    ")
-                        .append(PropertyUtils.replacePropertiesInString(templates.getSuccessTemplate(), detailProps));
+            if (result.isSkipped()) {
+                skipped++;
+            } else if (result.isFailed()) {
+                failed++;
+            } else if (result.isSuccess()) {
+                success++;
             }
         }
 
-        Properties reportProps = new Properties();
+        Map<String, Object> reportProps = new HashMap<>();
         reportProps.put("test.suite", suiteName);
         reportProps.put("test.cnt", Integer.toString(results.size()));
-        reportProps.put("test.skipped.cnt", Long.toString(results.stream().filter(TestResult::isSkipped).count()));
-        reportProps.put("test.failed.cnt", Long.toString(results.stream().filter(TestResult::isFailed).count()));
-        reportProps.put("test.success.cnt", Long.toString(results.stream().filter(TestResult::isSuccess).count()));
+        reportProps.put("test.skipped.cnt", Long.toString(skipped));
+        reportProps.put("test.failed.cnt", Long.toString(failed));
+        reportProps.put("test.success.cnt", Long.toString(success));
         reportProps.put("test.error.cnt", "0");
         reportProps.put("test.duration", toFormattedTimeString(suiteDuration));
-        reportProps.put("tests", reportDetails.toString());
-        return PropertyUtils.replacePropertiesInString(templates.getReportTemplate(), reportProps);
+        reportProps.put("tests", (ReportTemplate.Fragment) out -> {
+            Map<String, Object> detailProps = new HashMap<>();
+            for (TestResult result : results) {
+                detailProps.clear();
+                detailProps.put("test.class", result.getClassName());
+                detailProps.put("test.name", ReportTemplate.escapeXml(result.getTestName()));
+                detailProps.put("test.duration", toFormattedTimeString(result.getDuration()));
+
+                out.write(System.lineSeparator());
+                out.write("    ");
+
+                if (result.isFailed()) {
+                    detailProps.put("test.error.cause", Optional.ofNullable(result.getCause()).map(Object::getClass).map(Class::getName).orElseGet(() -> Objects.toString(result.getFailureType(), "")));
+
+                    if (nonNull(result.getErrorMessage())) {
+                        detailProps.put("test.error.msg", ReportTemplate.escapeXml(result.getErrorMessage()));
+                    }
+
+                    detailProps.put("test.error.stackTrace", (ReportTemplate.Fragment) stackTraceWriter -> {
+                        if (nonNull(result.getCause())) {
+                            PrintWriter printWriter = new PrintWriter(stackTraceWriter);
+                            result.getCause().printStackTrace(printWriter);
+                            printWriter.flush();
+                        } else {
+                            stackTraceWriter.write(Objects.toString(result.getFailureType(), ""));
+                        }
+                    });
+
+                    failedTemplate.render(out, detailProps);
+                } else {
+                    successTemplate.render(out, detailProps);
+                }
+            }
+        });
+
+        reportTemplate.get().render(writer, reportProps);
     }
 
     /**
      * Creates the JUnit report file
      * @param reportFileName The report file to write
-     * @param content The String content of the report file
+     * @param suiteName The test suite name
+     * @param results The test results to write to the report file
+     * @param targetDirectory The report output directory
      */
-    private void createReportFile(String reportFileName, String content, File targetDirectory) {
+    private void createReportFile(String reportFileName, String suiteName, List<TestResult> results, File targetDirectory) {
         if (!targetDirectory.exists()) {
             if (!targetDirectory.mkdirs()) {
                 throw new CitrusRuntimeException("Unable to create report output directory: " + getReportDirectory() + (StringUtils.hasText(outputDirectory) ? "/" + outputDirectory : ""));
             }
         }
 
-        try (Writer fileWriter = new FileWriter(new File(targetDirectory, reportFileName))) {
-            fileWriter.append(content);
+        try (Writer fileWriter = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(new File(targetDirectory, reportFileName)), UTF_8))) {
+            writeReportContent(suiteName, results, fileWriter);
             fileWriter.flush();
         } catch (IOException e) {
             logger.error("Failed to create test report", e);
         }
     }
 
-    private class ReportTemplates {
-
-        private String reportTemplateContent;
-        private String successTemplateContent;
-        private String failedTemplateContent;
-
-        /**
-         * Gets the reportTemplateContent.
-         */
-        public String getReportTemplate() throws IOException {
-            if (reportTemplateContent == null) {
-                reportTemplateContent = FileUtils.readToString(FileUtils.getFileResource(reportTemplate)).trim();
-            }
-
-            return reportTemplateContent;
-        }
-
-        /**
-         * Gets the successTemplateContent.
-         */
-        public String getSuccessTemplate() throws IOException {
-            if (successTemplateContent == null) {
-                successTemplateContent = FileUtils.readToString(FileUtils.getFileResource(successTemplate)).trim();
-            }
-
-            return successTemplateContent;
-        }
-
-        /**
-         * Gets the failedTemplateContent.
-         */
-        public String getFailedTemplate() throws IOException {
-            if (failedTemplateContent == null) {
-                failedTemplateContent = FileUtils.readToString(FileUtils.getFileResource(failedTemplate)).trim();
-            }
-
-            return failedTemplateContent;
-        }
-    }
-
     private String toFormattedTimeString(@Nullable Duration duration) {
         double seconds = isNull(duration) ? 0.0 : (duration.toNanos() / 1e9); // Convert to seconds with double precision
         return format(Locale.US, "%.3f", seconds); // Format with 3 decimal places
@@ -255,14 +225,14 @@ public class JUnitReporter extends AbstractTestReporter {
      * Gets the reportTemplate.
      */
     public String getReportTemplate() {
-        return reportTemplate;
+        return reportTemplate.getResourcePath();
     }
 
     /**
      * Sets the reportTemplate.
      */
     public void setReportTemplate(String reportTemplate) {
-        this.reportTemplate = reportTemplate;
+        this.reportTemplate.setResourcePath(reportTemplate);
     }
 
     /**
@@ -283,28 +253,28 @@ public class JUnitReporter extends AbstractTestReporter {
      * Gets the successTemplate.
      */
     public String getSuccessTemplate() {
-        return successTemplate;
+        return successTemplate.getResourcePath();
     }
 
     /**
      * Sets the successTemplate.
      */
     public void setSuccessTemplate(String successTemplate) {
-        this.successTemplate = successTemplate;
+        this.successTemplate.setResourcePath(successTemplate);
     }
 
     /**
      * Gets the failedTemplate.
      */
     public String getFailedTemplate() {
-        return failedTemplate;
+        return failedTemplate.getResourcePath();
     }
 
     /**
      * Sets the failedTemplate.
      */
     public void setFailedTemplate(String failedTemplate) {
-        this.failedTemplate = failedTemplate;
+        this.failedTemplate.setResourcePath(failedTemplate);
     }
 
     /**
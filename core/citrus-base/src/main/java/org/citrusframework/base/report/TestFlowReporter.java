@@ -143,13 +143,15 @@ public class TestFlowReporter extends AbstractTestReporter implements TestListen
         if (container instanceof AbstractIteratingActionContainer iteratingActionContainer) {
             int iterations = iteratingActionContainer.getIterations();
             int actionsSize = iteratingActionContainer.getActions().size();
-            for (int iteration = 0; iteration < iterations; iteration++) {
+            List<TestAction> executed = container.getExecutedActions();
+            // containers may keep only the most recent executed actions
+            int offset = container.getNumberOfExecutedActions() - executed.size();
+            for (int iteration = actionsSize > 0 ? offset / actionsSize : 0; iteration < iterations; iteration++) {
                 TestActionResult iterationResult = new TestActionResult(String.valueOf(iteration), actionPath);
 
-                List<TestAction> executed = container.getExecutedActions();
-                for (int i = iteration * actionsSize; i < executed.size()
+                for (int i = Math.max(iteration * actionsSize, offset); i < offset + executed.size()
                         && i < ((iteration + 1) * actionsSize); i++) {
-                    TestAction action = executed.get(i);
+                    TestAction action = executed.get(i - offset);
                     String nestedActionPath;
                     if (iteration == 0) {
                         nestedActionPath = actionPath + "." + getActionPath(container, action);
@@ -0,0 +1,623 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.citrusframework.base.report;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.citrusframework.TestAction;
+import org.citrusframework.TestCase;
+import org.citrusframework.actions.ReceiveMessageAction;
+import org.citrusframework.actions.SleepAction;
+import org.citrusframework.api.container.TestActionContainer;
+import org.citrusframework.container.Wait;
+import org.citrusframework.context.TestContext;
+import org.citrusframework.message.MessagePayloadUtils;
+import org.citrusframework.report.AbstractTestReporter;
+import org.citrusframework.report.TestActionListener;
+import org.citrusframework.report.TestListener;
+import org.citrusframework.report.TestResults;
+import org.citrusframework.util.json.JsonNodeStringBuilder;
+import org.citrusframework.util.json.JsonStringBuilder;
+
+/**
+ * Reporter records start and end of every test action and nested test action including the executing thread
+ * and writes a timeline of each test in Chrome trace event format. The trace file is viewable in Perfetto
+ * or chrome://tracing. The timeline is written and released as soon as the test finishes.
+ * <p>
+ * The reporter also computes the critical path of each test, that is the chain of test actions that determined
+ * the overall test duration. Actions running in parallel to the critical path do not shorten the test when made faster.
+ * The time of each action not covered by nested actions on the same thread is its self time. Self time of sleep,
+ * wait and receive actions as well as containers waiting for actions on other threads is reported as waiting time,
+ * all other self time as working time.
+ */
+public class TimelineReporter extends AbstractTestReporter implements TestListener, TestActionListener {
+
+    private final boolean enabled;
+    private final int maxSpans;
+
+    /** Timelines of the running tests */
+    private final Map<TestCase, Timeline> timelines = new ConcurrentHashMap<>();
+
+    /** Spans of the test actions running on the current thread */
+    private final ThreadLocal<Deque<Span>> runningSpans = ThreadLocal.withInitial(ArrayDeque::new);
+
+    public TimelineReporter() {
+        this(TimelineReporterSettings.isReportEnabled(), TimelineReporterSettings.getMaxSpans());
+    }
+
+    public TimelineReporter(boolean enabled, int maxSpans) {
+        this.enabled = enabled;
+        this.maxSpans = maxSpans;
+    }
+
+    @Override
+    protected void generate(TestResults testResults) {
+        if (!enabled) {
+            return;
+        }
+
+        // Timelines are written as soon as the test finishes, only tests that did not finish are left
+        timelines.keySet().forEach(test -> Optional.ofNullable(timelines.remove(test)).ifPresent(this::writeTimeline));
+    }
+
+    /**
+     * Writes the trace and the critical path report of given finished timeline.
+     * @param timeline
+     */
+    protected void writeTimeline(Timeline timeline) {
+        File targetDirectory = new File(getReportDirectory());
+        if (!targetDirectory.exists() && !targetDirectory.mkdirs() && !targetDirectory.exists()) {
+            logger.error("Unable to create report output directory: {}", getReportDirectory());
+            return;
+        }
+
+        String fileName = timeline.getName().replaceAll("[^a-zA-Z0-9._-]", "_");
+        writeTimelineReport(targetDirectory, "%s-trace.json".formatted(fileName), timeline.toTraceJson());
+        writeTimelineReport(targetDirectory, "%s-critical-path.json".formatted(fileName),
+                MessagePayloadUtils.prettyPrintJson(timeline.toCriticalPathJson()));
+    }
+
+    private void writeTimelineReport(File targetDirectory, String fileName, String content) {
+        try (Writer fileWriter = new FileWriter(new File(targetDirectory, fileName))) {
+            fileWriter.append(content);
+            fileWriter.flush();
+            logger.debug("Generated test report: {}{}{}", targetDirectory, File.separator, fileName);
+        } catch (IOException e) {
+            logger.error("Failed to create test report", e);
+        }
+    }
+
+    @Override
+    public void onTestStart(TestCase test) {
+        if (enabled) {
+            timelines.put(test, new Timeline(test.getName(), maxSpans));
+        }
+    }
+
+    @Override
+    public void onTestFinish(TestCase test) {
+        if (enabled) {
+            runningSpans.remove();
+
+            Timeline timeline = timelines.remove(test);
+            if (timeline != null) {
+                timeline.finish();
+                writeTimeline(timeline);
+            }
+        }
+    }
+
+    @Override
+    public void onTestSuccess(TestCase test) {
+    }
+
+    @Override
+    public void onTestFailure(TestCase test, Throwable cause) {
+    }
+
+    @Override
+    public void onTestSkipped(TestCase test) {
+    }
+
+    @Override
+    public void onTestActionStart(TestCase testCase, TestAction testAction) {
+        if (enabled) {
+            startSpan(timelines.computeIfAbsent(testCase, test -> new Timeline(test.getName(), maxSpans)), null, testAction);
+        }
+    }
+
+    @Override
+    public void onTestActionFinish(TestCase testCase, TestAction testAction) {
+        if (enabled) {
+            finishSpan(testAction, false);
+        }
+    }
+
+    @Override
+    public void onTestActionFailed(TestCase testCase, TestAction testAction, Throwable cause) {
+        if (enabled) {
+            finishSpan(testAction, true);
+        }
+    }
+
+    @Override
+    public void onTestActionSkipped(TestCase testCase, TestAction testAction) {
+    }
+
+    @Override
+    public void onNestedTestActionStart(TestActionContainer container, TestAction testAction, TestContext context) {
+        if (!enabled) {
+            return;
+        }
+
+        // the timeline of the running test that has recorded the container
+        for (Timeline timeline : timelines.values()) {
+            Span parent = timeline.getSpan(container);
+            if (parent != null) {
+                startSpan(timeline, parent, testAction);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void onNestedTestActionFinish(TestActionContainer container, TestAction testAction, TestContext context) {
+        if (enabled) {
+            finishSpan(testAction, false);
+        }
+    }
+
+    @Override
+    public void onNestedTestActionFailed(TestActionContainer container, TestAction testAction, TestContext context, Throwable cause) {
+        if (enabled) {
+            finishSpan(testAction, true);
+        }
+    }
+
+    private void startSpan(Timeline timeline, Span parent, TestAction testAction) {
+        Span span = timeline.start(parent, testAction);
+        if (span != null) {
+            runningSpans.get().push(span);
+        }
+    }
+
+    private void finishSpan(TestAction testAction, boolean failed) {
+        Deque<Span> spans = runningSpans.get();
+        if (!spans.isEmpty() && spans.peek().action == testAction) {
+            spans.pop().finish(failed);
+        }
+    }
+
+    /**
+     * Gets the timeline of given running test if any.
+     * @param test
+     * @return
+     */
+    public Optional<Timeline> getTimeline(TestCase test) {
+        return Optional.ofNullable(timelines.get(test));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Recorded test action spans of a single test.
+     */
+    public static final class Timeline {
+
+        private final String name;
+        private final int maxSpans;
+
+        private final long start = System.nanoTime();
+        private volatile long end;
+        private volatile boolean finished;
+
+        private final List<Span> spans = new ArrayList<>();
+        private final Map<TestAction, Span> latestSpans = new IdentityHashMap<>();
+        private int droppedSpans;
+
+        public Timeline(String name, int maxSpans) {
+            this.name = name;
+            this.maxSpans = maxSpans;
+        }
+
+        synchronized Span start(Span parent, TestAction action) {
+            if (spans.size() >= maxSpans) {
+                droppedSpans++;
+                return null;
+            }
+
+            Span span = new Span(action, parent);
+            spans.add(span);
+            latestSpans.put(action, span);
+            return span;
+        }
+
+        synchronized Span getSpan(TestAction action) {
+            return latestSpans.get(action);
+        }
+
+        void finish() {
+            end = System.nanoTime();
+            finished = true;
+
+            synchronized (this) {
+                latestSpans.clear();
+            }
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public synchronized List<Span> getSpans() {
+            return new ArrayList<>(spans);
+        }
+
+        public synchronized int getDroppedSpans() {
+            return droppedSpans;
+        }
+
+        /**
+         * Gets the test duration in nanoseconds. Unfinished tests end with the last recorded span.
+         * @return
+         */
+        public long getDuration() {
+            if (finished) {
+                return end - start;
+            }
+
+            return getSpans().stream()
+                    .mapToLong(span -> span.getEnd() - start)
+                    .max()
+                    .orElse(0L);
+        }
+
+        /**
+         * Computes the critical path starting with the top level test actions. Walks back from the end of the test
+         * and selects the action that finished last before the current point in time. Containers are replaced
+         * with the critical path of their nested actions.
+         * @return spans on the critical path in execution order
+         */
+        public List<Span> getCriticalPath() {
+            Analysis analysis = new Analysis(getSpans());
+            List<Span> path = new ArrayList<>();
+            collectCriticalPath(analysis, analysis.getChildren(null), start + getDuration(), path);
+
+            List<Span> ordered = new ArrayList<>(path.size());
+            for (int i = path.size() - 1; i >= 0; i--) {
+                ordered.add(path.get(i));
+            }
+
+            return ordered;
+        }
+
+        private static void collectCriticalPath(Analysis analysis, List<Span> candidates, long cursor, List<Span> path) {
+            List<Span> sorted = new ArrayList<>(candidates);
+            sorted.sort(Comparator.comparingLong(analysis::getEffectiveEnd).reversed());
+
+            long position = cursor;
+            for (Span span : sorted) {
+                if (analysis.getEffectiveEnd(span) > position || span.start >= position) {
+                    continue;
+                }
+
+                int pathSize = path.size();
+                collectCriticalPath(analysis, analysis.getChildren(span), analysis.getEffectiveEnd(span), path);
+                if (path.size() == pathSize) {
+                    path.add(span);
+                }
+
+                position = span.start;
+            }
+        }
+
+        /**
+         * Gets the timeline as Chrome trace event Json.
+         * @return
+         */
+        public String toTraceJson() {
+            List<Span> snapshot = getSpans();
+            Analysis analysis = new Analysis(snapshot);
+            Set<Span> criticalPath = Collections.newSetFromMap(new IdentityHashMap<>());
+            criticalPath.addAll(getCriticalPath());
+
+            Map<Long, String> threads = new LinkedHashMap<>();
+            snapshot.forEach(span -> threads.putIfAbsent(span.threadId, span.threadName));
+
+            JsonNodeStringBuilder events = new JsonStringBuilder()
+                    .withObject()
+                    .withProperty("traceEvents")
+                    .withArray();
+
+            events.withObject()
+                    .withPropertyEscaped("name", "process_name")
+                    .withProperty("ph", "M")
+                    .withProperty("pid", 1)
+                    .withProperty("args").withObject().withPropertyEscaped("name", name).closeObject()
+                .closeObject();
+
+            threads.forEach((threadId, threadName) -> events.withObject()
+                    .withProperty("name", "thread_name")
+                    .withProperty("ph", "M")
+                    .withProperty("pid", 1)
+                    .withProperty("tid", threadId)
+                    .withProperty("args").withObject().withPropertyEscaped("name", threadName).closeObject()
+                .closeObject());
+
+            events.withObject()
+                    .withPropertyEscaped("name", name)
+                    .withProperty("cat", "test")
+                    .withProperty("ph", "X")
+                    .withProperty("ts", 0L)
+                    .withProperty("dur", toMicros(getDuration()))
+                    .withProperty("pid", 1)
+                    .withProperty("tid", threads.keySet().stream().findFirst().orElse(0L))
+                .closeObject();
+
+            for (Span span : snapshot) {
+                JsonNodeStringBuilder event = events.withObject()
+                        .withPropertyEscaped("name", span.name)
+                        .withProperty("cat", analysis.isWaiting(span) ? "waiting" : "action")
+                        .withProperty("ph", "X")
+                        .withProperty("ts", toMicros(span.start - start))
+                        .withProperty("dur", toMicros(span.getEnd() - span.start))
+                        .withProperty("pid", 1)
+                        .withProperty("tid", span.threadId)
+                        .withProperty("args")
+                        .withObject()
+                            .withPropertyEscaped("path", span.getPath())
+                            .withProperty("self", toMicros(analysis.getSelfTime(span)));
+
+                if (span.failed) {
+                    event.withProperty("failed").append("true");
+                }
+
+                if (criticalPath.contains(span)) {
+                    event.withProperty("critical").append("true");
+                }
+
+                event.closeObject().closeObject();
+            }
+
+            return events.closeArray()
+                    .withProperty("displayTimeUnit", "ms")
+                    .closeObject()
+                    .toString();
+        }
+
+        /**
+         * Gets the critical path and the working and waiting time summary as Json. Durations are in microseconds.
+         * @return
+         */
+        public String toCriticalPathJson() {
+            List<Span> snapshot = getSpans();
+            Analysis analysis = new Analysis(snapshot);
+            List<Span> criticalPath = getCriticalPath();
+
+            long working = 0L;
+            long waiting = 0L;
+            for (Span span : snapshot) {
+                if (analysis.isWaiting(span)) {
+                    waiting += analysis.getSelfTime(span);
+                } else {
+                    working += analysis.getSelfTime(span);
+                }
+            }
+
+            JsonNodeStringBuilder builder = new JsonStringBuilder()
+                    .withObject()
+                    .withPropertyEscaped("name", name)
+                    .withProperty("duration", toMicros(getDuration()))
+                    .withProperty("working", toMicros(working))
+                    .withProperty("waiting", toMicros(waiting))
+                    .withProperty("criticalPathDuration", toMicros(criticalPath.stream()
+                            .mapToLong(span -> span.getEnd() - span.start).sum()))
+                    .withProperty("actions", snapshot.size())
+                    .withProperty("droppedActions", getDroppedSpans());
+
+            JsonNodeStringBuilder path = builder.withProperty("criticalPath").withArray();
+            for (Span span : criticalPath) {
+                path.withObject()
+                        .withPropertyEscaped("name", span.name)
+                        .withPropertyEscaped("path", span.getPath())
+                        .withPropertyEscaped("thread", span.threadName)
+                        .withProperty("start", toMicros(span.start - start))
+                        .withProperty("duration", toMicros(span.getEnd() - span.start))
+                        .withProperty("waiting").append(String.valueOf(span.waiting))
+                    .closeObject();
+            }
+
+            return path.closeArray().closeObject().toString();
+        }
+
+        private static long toMicros(long nanos) {
+            return nanos / 1000L;
+        }
+    }
+
+    /**
+     * Execution of a single test action on a thread.
+     */
+    public static final class Span {
+
+        private final String name;
+        private final Span parent;
+        private final long threadId;
+        private final String threadName;
+        private final boolean waiting;
+        private final long start;
+
+        /** Running test action, released once the span has finished */
+        private volatile TestAction action;
+        private volatile long end;
+        private volatile boolean finished;
+        private volatile boolean failed;
+
+        Span(TestAction action, Span parent) {
+            Thread thread = Thread.currentThread();
+            this.action = action;
+            this.name = action.getName();
+            this.parent = parent;
+            this.threadId = thread.getId();
+            this.threadName = thread.getName();
+            this.waiting = action instanceof SleepAction || action instanceof Wait || action instanceof ReceiveMessageAction;
+            this.start = System.nanoTime();
+        }
+
+        void finish(boolean failed) {
+            this.end = System.nanoTime();
+            this.failed = failed;
+            this.finished = true;
+            this.action = null;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Span getParent() {
+            return parent;
+        }
+
+        public String getThreadName() {
+            return threadName;
+        }
+
+        public boolean isWaiting() {
+            return waiting;
+        }
+
+        public boolean isFailed() {
+            return failed;
+        }
+
+        public boolean isFinished() {
+            return finished;
+        }
+
+        /**
+         * Gets the end time. Spans still running end at the current time.
+         * @return
+         */
+        public long getEnd() {
+            return finished ? end : Math.max(start, System.nanoTime());
+        }
+
+        /**
+         * Gets the names of all parent test actions and this test action separated with slashes.
+         * @return
+         */
+        public String getPath() {
+            return parent != null ? parent.getPath() + "/" + name : name;
+        }
+    }
+
+    /**
+     * Nesting, self time and effective end of a snapshot of spans.
+     */
+    private static final class Analysis {
+
+        private final List<Span> roots = new ArrayList<>();
+        private final Map<Span, List<Span>> children = new IdentityHashMap<>();
+        private final Map<Span, Long> effectiveEnds = new IdentityHashMap<>();
+
+        Analysis(List<Span> spans) {
+            Set<Span> known = Collections.newSetFromMap(new IdentityHashMap<>());
+            known.addAll(spans);
+
+            for (Span span : spans) {
+                if (span.parent == null || !known.contains(span.parent)) {
+                    roots.add(span);
+                } else {
+                    children.computeIfAbsent(span.parent, key -> new ArrayList<>()).add(span);
+                }
+            }
+        }
+
+        List<Span> getChildren(Span span) {
+            if (span == null) {
+                return roots;
+            }
+
+            return children.getOrDefault(span, List.of());
+        }
+
+        /**
+         * End of the span including all nested spans. Nested spans of async containers end after the container.
+         */
+        long getEffectiveEnd(Span span) {
+            Long effectiveEnd = effectiveEnds.get(span);
+            if (effectiveEnd == null) {
+                effectiveEnd = span.getEnd();
+                for (Span child : getChildren(span)) {
+                    effectiveEnd = Math.max(effectiveEnd, getEffectiveEnd(child));
+                }
+                effectiveEnds.put(span, effectiveEnd);
+            }
+
+            return effectiveEnd;
+        }
+
+        /**
+         * Time of the span not covered by nested spans on the same thread.
+         */
+        long getSelfTime(Span span) {
+            List<Span> sameThread = getChildren(span).stream()
+                    .filter(child -> child.threadId == span.threadId)
+                    .sorted(Comparator.comparingLong(child -> child.start))
+                    .toList();
+
+            long covered = 0L;
+            long coveredUntil = span.start;
+            for (Span child : sameThread) {
+                long from = Math.max(child.start, coveredUntil);
+                long to = Math.min(child.getEnd(), span.getEnd());
+                if (to > from) {
+                    covered += to - from;
+                    coveredUntil = to;
+                }
+            }
+
+            return Math.max(0L, span.getEnd() - span.start - covered);
+        }
+
+        /**
+         * Span is waiting when the test action is waiting by nature or when nested spans run on other threads.
+         */
+        boolean isWaiting(Span span) {
+            return span.waiting || getChildren(span).stream().anyMatch(child -> child.threadId != span.threadId);
+        }
+    }
+}
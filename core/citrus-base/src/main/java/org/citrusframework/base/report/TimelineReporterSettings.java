@@ -0,0 +1,56 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.citrusframework.base.report;
+
+import org.citrusframework.config.CitrusConfigProperties;
+import org.citrusframework.config.CitrusConfigProperty;
+
+@CitrusConfigProperties(prefix = "citrus.timeline.report", description = "Test timeline report settings")
+public class TimelineReporterSettings {
+
+    private TimelineReporterSettings() {
+        // prevent instantiation
+    }
+
+    /** Reporter related settings */
+    @CitrusConfigProperty(description = "Enable or disable the test timeline report", type = "java.lang.Boolean", defaultValue = "false")
+    private static final String REPORT_ENABLED_PROPERTY = "citrus.timeline.report.enabled";
+    private static final String REPORT_ENABLED_ENV = "CITRUS_TIMELINE_REPORT_ENABLED";
+    private static final String REPORT_ENABLED_DEFAULT = Boolean.FALSE.toString();
+
+    @CitrusConfigProperty(description = "Maximum number of test action spans recorded per test", type = "java.lang.Integer", defaultValue = "10000")
+    private static final String MAX_SPANS_PROPERTY = "citrus.timeline.report.max.spans";
+    private static final String MAX_SPANS_ENV = "CITRUS_TIMELINE_REPORT_MAX_SPANS";
+    private static final String MAX_SPANS_DEFAULT = "10000";
+
+    /**
+     * Get setting to determine if report is enabled.
+     */
+    public static boolean isReportEnabled() {
+        return Boolean.parseBoolean(System.getProperty(REPORT_ENABLED_PROPERTY,  System.getenv(REPORT_ENABLED_ENV) != null ?
+                System.getenv(REPORT_ENABLED_ENV) : REPORT_ENABLED_DEFAULT));
+    }
+
+    /**
+     * Get the maximum number of test action spans recorded per test. Further test actions of the test are not recorded.
+     */
+    public static int getMaxSpans() {
+        return Integer.parseInt(System.getProperty(MAX_SPANS_PROPERTY,  System.getenv(MAX_SPANS_ENV) != null ?
+                System.getenv(MAX_SPANS_ENV) : MAX_SPANS_DEFAULT));
+    }
+}
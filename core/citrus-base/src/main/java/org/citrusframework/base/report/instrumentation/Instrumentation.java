@@ -0,0 +1,73 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.citrusframework.base.report.instrumentation;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.citrusframework.message.MessageDirection;
+
+/**
+ * Sink for measurements taken by the instrumentation reporter. Implementations publish the measurements to
+ * a metrics or event system and optionally write a report to the test output directory at the end of the suite.
+ * Implementations must be thread safe as tests may run in parallel.
+ */
+public interface Instrumentation {
+
+    /**
+     * Records the execution time of a test action.
+     * @param test name of the test case
+     * @param action name of the test action
+     * @param duration execution time
+     * @param failed whether the action has failed
+     */
+    void recordAction(String test, String action, Duration duration, boolean failed);
+
+    /**
+     * Records the time spent in a send or receive operation on an endpoint. For receive operations
+     * the queue wait time is the time until the message has been available to the consumer.
+     * @param endpoint name or uri of the endpoint
+     * @param direction outbound for send and inbound for receive operations
+     * @param duration time spent in the operation
+     * @param queueWait time waiting for the message to arrive, may be null
+     * @param failed whether the operation has failed
+     */
+    void recordExchange(String endpoint, MessageDirection direction, Duration duration, Duration queueWait, boolean failed);
+
+    /**
+     * Records the payload size of a message sent or received on an endpoint.
+     * @param endpoint name or uri of the endpoint
+     * @param direction message direction
+     * @param payloadSize payload size in bytes
+     */
+    void recordMessage(String endpoint, MessageDirection direction, long payloadSize);
+
+    /**
+     * Records the time spent in a message validator.
+     * @param validator the validator type
+     * @param duration time spent in the validator
+     */
+    void recordValidation(String validator, Duration duration);
+
+    /**
+     * Writes the recorded measurements to given report directory. Invoked at the end of the test suite.
+     * @param directory
+     */
+    default void writeReport(Path directory) {
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.citrusframework.base.report.instrumentation;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.message.MessageDirection;
+import org.citrusframework.message.MessagePayloadUtils;
+import org.citrusframework.util.json.JsonNodeStringBuilder;
+import org.citrusframework.util.json.JsonStringBuilder;
+
+/**
+ * Aggregates count, total, maximum and failures of all measurements in memory and writes them as Json summary
+ * to the report directory. Durations are reported in microseconds, payload sizes in bytes.
+ */
+public class InstrumentationSummary implements Instrumentation {
+
+    /** Summary file name */
+    public static final String SUMMARY_FILE = "citrus-instrumentation.json";
+
+    private final Map<String, Statistics> actions = new ConcurrentHashMap<>();
+    private final Map<String, Statistics> exchanges = new ConcurrentHashMap<>();
+    private final Map<String, Statistics> queueWait = new ConcurrentHashMap<>();
+    private final Map<String, Statistics> validators = new ConcurrentHashMap<>();
+    private final Map<String, Statistics> payloadSizes = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordAction(String test, String action, Duration duration, boolean failed) {
+        actions.computeIfAbsent(action, key -> new Statistics()).record(toMicros(duration), failed);
+    }
+
+    @Override
+    public void recordExchange(String endpoint, MessageDirection direction, Duration duration, Duration queueWait, boolean failed) {
+        String key = getKey(endpoint, direction);
+        exchanges.computeIfAbsent(key, k -> new Statistics()).record(toMicros(duration), failed);
+
+        if (queueWait != null) {
+            this.queueWait.computeIfAbsent(key, k -> new Statistics()).record(toMicros(queueWait), false);
+        }
+    }
+
+    @Override
+    public void recordMessage(String endpoint, MessageDirection direction, long payloadSize) {
+        payloadSizes.computeIfAbsent(getKey(endpoint, direction), key -> new Statistics()).record(payloadSize, false);
+    }
+
+    @Override
+    public void recordValidation(String validator, Duration duration) {
+        validators.computeIfAbsent(validator, key -> new Statistics()).record(toMicros(duration), false);
+    }
+
+    @Override
+    public void writeReport(Path directory) {
+        Path summaryFile = directory.resolve(SUMMARY_FILE);
+        try {
+            Files.createDirectories(directory);
+            Files.writeString(summaryFile, MessagePayloadUtils.prettyPrintJson(toJson()), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to write instrumentation summary: " + summaryFile, e);
+        }
+    }
+
+    /**
+     * Gets the recorded statistics as Json object.
+     * @return
+     */
+    public String toJson() {
+        JsonNodeStringBuilder builder = new JsonStringBuilder().withObject();
+        appendStatistics(builder.withProperty("actions"), actions);
+        appendStatistics(builder.withProperty("exchanges"), exchanges);
+        appendStatistics(builder.withProperty("queueWait"), queueWait);
+        appendStatistics(builder.withProperty("validators"), validators);
+        appendStatistics(builder.withProperty("payloadSizes"), payloadSizes);
+        return builder.closeObject().toString();
+    }
+
+    private static void appendStatistics(JsonNodeStringBuilder builder, Map<String, Statistics> statistics) {
+        JsonNodeStringBuilder object = builder.withObject();
+        new TreeMap<>(statistics).forEach((name, stats) -> object.withProperty(name)
+                .withObject()
+                    .withProperty("count", stats.count.sum())
+                    .withProperty("total", stats.total.sum())
+                    .withProperty("max", stats.max.get())
+                    .withProperty("failures", stats.failures.sum())
+                .closeObject());
+        object.closeObject();
+    }
+
+    public Map<String, Statistics> getActions() {
+        return actions;
+    }
+
+    public Map<String, Statistics> getExchanges() {
+        return exchanges;
+    }
+
+    public Map<String, Statistics> getQueueWait() {
+        return queueWait;
+    }
+
+    public Map<String, Statistics> getValidators() {
+        return validators;
+    }
+
+    public Map<String, Statistics> getPayloadSizes() {
+        return payloadSizes;
+    }
+
+    private static String getKey(String endpoint, MessageDirection direction) {
+        return endpoint + ":" + direction.name().toLowerCase();
+    }
+
+    private static long toMicros(Duration duration) {
+        return duration.toNanos() / 1000L;
+    }
+
+    /**
+     * Lock free statistics of a single measurement.
+     */
+    public static final class Statistics {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+        private final LongAdder failures = new LongAdder();
+
+        void record(long value, boolean failed) {
+            count.increment();
+            total.add(value);
+            max.accumulate(value);
+
+            if (failed) {
+                failures.increment();
+            }
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getTotal() {
+            return total.sum();
+        }
+
+        public long getMax() {
+            return max.get();
+        }
+
+        public long getFailures() {
+            return failures.sum();
+        }
+    }
+}
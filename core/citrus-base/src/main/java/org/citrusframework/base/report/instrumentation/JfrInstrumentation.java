@@ -0,0 +1,218 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.citrusframework.base.report.instrumentation;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.message.MessageDirection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Emits Java Flight Recorder events for all measurements. The events show up in any flight recording started
+ * for the JVM, e.g. with {@code -XX:StartFlightRecording}. When recording is enabled the instrumentation
+ * starts its own recording of the Citrus events and dumps it to the report directory at the end of the suite.
+ */
+public class JfrInstrumentation implements Instrumentation {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(JfrInstrumentation.class);
+
+    /** Recording file name */
+    public static final String RECORDING_FILE = "citrus-instrumentation.jfr";
+
+    private final Recording recording;
+
+    public JfrInstrumentation() {
+        this(false);
+    }
+
+    public JfrInstrumentation(boolean record) {
+        if (record) {
+            recording = new Recording();
+            recording.setName("Citrus");
+            recording.enable(TestActionEvent.class);
+            recording.enable(MessageExchangeEvent.class);
+            recording.enable(MessageEvent.class);
+            recording.enable(MessageValidationEvent.class);
+            recording.setToDisk(true);
+            recording.start();
+        } else {
+            recording = null;
+        }
+    }
+
+    @Override
+    public void recordAction(String test, String action, Duration duration, boolean failed) {
+        TestActionEvent event = new TestActionEvent();
+        if (event.isEnabled()) {
+            event.test = test;
+            event.action = action;
+            event.elapsed = duration.toNanos();
+            event.failed = failed;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void recordExchange(String endpoint, MessageDirection direction, Duration duration, Duration queueWait, boolean failed) {
+        MessageExchangeEvent event = new MessageExchangeEvent();
+        if (event.isEnabled()) {
+            event.endpoint = endpoint;
+            event.direction = direction.name();
+            event.elapsed = duration.toNanos();
+            event.queueWait = queueWait != null ? queueWait.toNanos() : 0L;
+            event.failed = failed;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void recordMessage(String endpoint, MessageDirection direction, long payloadSize) {
+        MessageEvent event = new MessageEvent();
+        if (event.isEnabled()) {
+            event.endpoint = endpoint;
+            event.direction = direction.name();
+            event.payloadSize = payloadSize;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void recordValidation(String validator, Duration duration) {
+        MessageValidationEvent event = new MessageValidationEvent();
+        if (event.isEnabled()) {
+            event.validator = validator;
+            event.elapsed = duration.toNanos();
+            event.commit();
+        }
+    }
+
+    @Override
+    public void writeReport(Path directory) {
+        if (recording == null) {
+            return;
+        }
+
+        Path recordingFile = directory.resolve(RECORDING_FILE);
+        try {
+            Files.createDirectories(directory);
+            recording.dump(recordingFile);
+            logger.debug("Generated instrumentation recording: {}", recordingFile);
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to write instrumentation recording: " + recordingFile, e);
+        }
+    }
+
+    /**
+     * Stops and closes the recording if any.
+     */
+    public void close() {
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    @Name("org.citrusframework.TestAction")
+    @Label("Test Action")
+    @Description("Execution of a test action")
+    @Category({"Citrus", "Test Actions"})
+    @StackTrace(false)
+    static class TestActionEvent extends Event {
+        @Label("Test")
+        String test;
+
+        @Label("Action")
+        String action;
+
+        @Label("Duration")
+        @Timespan
+        long elapsed;
+
+        @Label("Failed")
+        boolean failed;
+    }
+
+    @Name("org.citrusframework.MessageExchange")
+    @Label("Message Exchange")
+    @Description("Send or receive operation on an endpoint")
+    @Category({"Citrus", "Endpoints"})
+    @StackTrace(false)
+    static class MessageExchangeEvent extends Event {
+        @Label("Endpoint")
+        String endpoint;
+
+        @Label("Direction")
+        String direction;
+
+        @Label("Duration")
+        @Timespan
+        long elapsed;
+
+        @Label("Queue Wait")
+        @Timespan
+        long queueWait;
+
+        @Label("Failed")
+        boolean failed;
+    }
+
+    @Name("org.citrusframework.Message")
+    @Label("Message")
+    @Description("Message sent or received on an endpoint")
+    @Category({"Citrus", "Endpoints"})
+    @StackTrace(false)
+    static class MessageEvent extends Event {
+        @Label("Endpoint")
+        String endpoint;
+
+        @Label("Direction")
+        String direction;
+
+        @Label("Payload Size")
+        @DataAmount
+        long payloadSize;
+    }
+
+    @Name("org.citrusframework.MessageValidation")
+    @Label("Message Validation")
+    @Description("Validation of a received message")
+    @Category({"Citrus", "Validation"})
+    @StackTrace(false)
+    static class MessageValidationEvent extends Event {
+        @Label("Validator")
+        String validator;
+
+        @Label("Duration")
+        @Timespan
+        long elapsed;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.citrusframework.base.report.instrumentation;
+
+import java.time.Duration;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.citrusframework.message.MessageDirection;
+
+/**
+ * Publishes all measurements as Micrometer meters. Meters are tagged with action, endpoint and validator names
+ * but not with the test name in order to keep the number of time series bounded. Uses the global registry
+ * unless a registry is given.
+ */
+public class MicrometerInstrumentation implements Instrumentation {
+
+    public static final String ACTION_TIMER = "citrus.test.action";
+    public static final String EXCHANGE_TIMER = "citrus.endpoint.exchange";
+    public static final String QUEUE_WAIT_TIMER = "citrus.endpoint.queue.wait";
+    public static final String VALIDATION_TIMER = "citrus.message.validation";
+    public static final String PAYLOAD_SIZE_SUMMARY = "citrus.message.payload.size";
+
+    private final MeterRegistry registry;
+
+    public MicrometerInstrumentation() {
+        this(Metrics.globalRegistry);
+    }
+
+    public MicrometerInstrumentation(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void recordAction(String test, String action, Duration duration, boolean failed) {
+        Timer.builder(ACTION_TIMER)
+                .description("Test action execution time")
+                .tag("action", action)
+                .tag("status", getStatus(failed))
+                .register(registry)
+                .record(duration);
+    }
+
+    @Override
+    public void recordExchange(String endpoint, MessageDirection direction, Duration duration, Duration queueWait, boolean failed) {
+        String directionTag = direction.name().toLowerCase();
+        Timer.builder(EXCHANGE_TIMER)
+                .description("Time spent sending or receiving messages on an endpoint")
+                .tag("endpoint", endpoint)
+                .tag("direction", directionTag)
+                .tag("status", getStatus(failed))
+                .register(registry)
+                .record(duration);
+
+        if (queueWait != null) {
+            Timer.builder(QUEUE_WAIT_TIMER)
+                    .description("Time waiting for a message to arrive on an endpoint")
+                    .tag("endpoint", endpoint)
+                    .register(registry)
+                    .record(queueWait);
+        }
+    }
+
+    @Override
+    public void recordMessage(String endpoint, MessageDirection direction, long payloadSize) {
+        DistributionSummary.builder(PAYLOAD_SIZE_SUMMARY)
+                .description("Message payload size")
+                .baseUnit("bytes")
+                .tag("endpoint", endpoint)
+                .tag("direction", direction.name().toLowerCase())
+                .register(registry)
+                .record(payloadSize);
+    }
+
+    @Override
+    public void recordValidation(String validator, Duration duration) {
+        Timer.builder(VALIDATION_TIMER)
+                .description("Time spent validating received messages")
+                .tag("validator", validator)
+                .register(registry)
+                .record(duration);
+    }
+
+    private static String getStatus(boolean failed) {
+        return failed ? "failed" : "success";
+    }
+}
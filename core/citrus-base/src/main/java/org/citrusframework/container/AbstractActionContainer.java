@@ -16,9 +16,7 @@
 
 package org.citrusframework.container;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -31,6 +29,7 @@ import org.citrusframework.TestActionBuilder;
 import org.citrusframework.actions.AbstractTestAction;
 import org.citrusframework.api.container.TestActionContainer;
 import org.citrusframework.context.TestContext;
+import org.citrusframework.report.TestActionListeners;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -46,8 +45,8 @@ public abstract class AbstractActionContainer extends AbstractTestAction impleme
     /** List of nested actions */
     protected List<TestActionBuilder<?>> actions;
 
-    /** List of all executed actions during container run  */
-    private final List<TestAction> executedActions = Collections.synchronizedList(new ArrayList<>());
+    /** Executed actions during container run  */
+    private ExecutedActions executedActions = new ExecutedActions(-1);
 
     /** Last executed action for error reporting reasons */
     private TestAction activeAction;
@@ -63,18 +62,42 @@ public abstract class AbstractActionContainer extends AbstractTestAction impleme
 
     /**
      * Runs the give action and makes sure to properly set active and executed action state for this container.
+     * Test action listeners get notified on the nested action execution.
      * @param action
      * @param context
      */
     protected void executeAction(TestAction action, TestContext context) {
+        TestActionListeners listeners = context.getTestActionListeners();
         try {
             setActiveAction(action);
+            listeners.onNestedTestActionStart(this, action, context);
             action.execute(context);
+            listeners.onNestedTestActionFinish(this, action, context);
+        } catch (RuntimeException | Error e) {
+            listeners.onNestedTestActionFailed(this, action, context, e);
+            throw e;
         } finally {
             setExecutedAction(action);
+            executedActions.prune(context);
         }
     }
 
+    /**
+     * Limits the executed actions kept by this container. Only the number of executed actions and the most recent
+     * actions are kept, which is required for long-running loops. Negative value keeps all executed actions.
+     * @param limit maximum number of recent actions to keep
+     */
+    protected void setExecutedActionsLimit(int limit) {
+        this.executedActions = new ExecutedActions(limit);
+    }
+
+    /**
+     * @return true when only the most recent executed actions are kept
+     */
+    protected boolean isExecutedActionsLimited() {
+        return executedActions.isLimited();
+    }
+
     @Override
     public AbstractActionContainer setActions(List<TestAction> actions) {
         this.actions = actions.stream().map(action -> (TestActionBuilder<?>) () -> action).collect(Collectors.toList());
@@ -108,18 +131,12 @@ public abstract class AbstractActionContainer extends AbstractTestAction impleme
             return false;
         }
 
-        synchronized (executedActions) {
-            Optional<TestAction> pending = executedActions.stream()
-                    .filter(action -> action instanceof Completable)
-                    .filter(action -> !((Completable)action).isDone(context))
-                    .findAny();
-
-            if (pending.isPresent()) {
-                TestAction action = pending.get();
-                logger.info("{} not completed yet", Optional.ofNullable(action.getName()).filter(name -> !name.trim().isEmpty())
-                        .orElseGet(() -> action.getClass().getName()));
-                return false;
-            }
+        Optional<TestAction> pending = executedActions.findPending(context);
+        if (pending.isPresent()) {
+            TestAction action = pending.get();
+            logger.info("{} not completed yet", Optional.ofNullable(action.getName()).filter(name -> !name.trim().isEmpty())
+                    .orElseGet(() -> action.getClass().getName()));
+            return false;
         }
 
         return true;
@@ -148,8 +165,9 @@ public abstract class AbstractActionContainer extends AbstractTestAction impleme
 
     @Override
     public int getActionIndex(TestAction action) {
-        if (executedActions.contains(action)) {
-            return executedActions.indexOf(action);
+        int index = executedActions.indexOf(action);
+        if (index >= 0) {
+            return index;
         }
 
         if (activeAction != null && activeAction.equals(action)) {
@@ -176,9 +194,7 @@ public abstract class AbstractActionContainer extends AbstractTestAction impleme
 
     @Override
     public List<TestAction> getExecutedActions() {
-        synchronized (executedActions) {
-            return new ArrayList<>(executedActions);
-        }
+        return executedActions.toList();
     }
 
     @Override
@@ -188,8 +204,14 @@ public abstract class AbstractActionContainer extends AbstractTestAction impleme
 
     @Override
     public TestAction getTestAction(int index) {
-        if (index < this.executedActions.size()) {
-            return this.executedActions.get(index);
+        Optional<TestAction> executed = executedActions.get(index);
+        if (executed.isPresent()) {
+            return executed.get();
+        }
+
+        if (index < executedActions.size()) {
+            // executed action is not kept anymore, build the corresponding nested action
+            return actions.get(index % actions.size()).build();
         }
 
         return actions.get(index).build();
@@ -17,17 +17,23 @@
 package org.citrusframework.container;
 
 import java.time.Duration;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 
 import org.citrusframework.AbstractIteratingContainerBuilder;
+import org.citrusframework.Completable;
+import org.citrusframework.TestAction;
 import org.citrusframework.TestActionBuilder;
 import org.citrusframework.api.container.IteratingActionContainer;
 import org.citrusframework.api.container.IteratingConditionExpression;
+import org.citrusframework.api.container.TestActionContainer;
 import org.citrusframework.context.TestContext;
 import org.citrusframework.context.TestContextFactory;
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.exceptions.ValidationException;
+import org.citrusframework.message.MessageAwareTestAction;
 import org.citrusframework.util.BooleanExpressionParser;
 import org.citrusframework.validation.matcher.ValidationMatcherUtils;
 
@@ -73,6 +79,11 @@ public abstract class AbstractIteratingActionContainer extends AbstractActionCon
      */
     private final Duration timeout;
 
+    /**
+     * Stateless actions built once per nested action builder, only used when executed actions are limited.
+     */
+    private final Map<TestActionBuilder<?>, TestAction> reusableActions = new IdentityHashMap<>();
+
     public AbstractIteratingActionContainer(String name, AbstractIteratingContainerBuilder<?, ?> builder) {
         super(name, builder);
 
@@ -82,11 +93,14 @@ public abstract class AbstractIteratingActionContainer extends AbstractActionCon
         this.indexName = builder.getIndexName();
         this.start = builder.getStart();
         this.timeout = builder.getTimeout();
+
+        setExecutedActionsLimit(builder.getExecutedActionsLimit());
     }
 
     @Override
     public final void doExecute(TestContext context) {
         index = start;
+        reusableActions.clear();
 
         if (nonNull(timeout) && timeout.toMillis() > 0) {
             executeIterationWithTimeout(context);
@@ -174,8 +188,34 @@ public abstract class AbstractIteratingActionContainer extends AbstractActionCon
         context.setVariable(indexName, String.valueOf(index));
 
         for (TestActionBuilder<?> actionBuilder : actions) {
-            executeAction(actionBuilder.build(), context);
+            executeAction(buildAction(actionBuilder), context);
+        }
+    }
+
+    /**
+     * Builds the nested test action for the current iteration. When executed actions are limited the container does not
+     * keep the actions of previous iterations, so stateless actions get built once and are reused in further iterations.
+     * Containers, completable and message aware actions hold state of their execution and are built for each iteration.
+     * @param actionBuilder the nested action builder
+     * @return the test action to execute
+     */
+    protected TestAction buildAction(TestActionBuilder<?> actionBuilder) {
+        if (!isExecutedActionsLimited()) {
+            return actionBuilder.build();
+        }
+
+        TestAction action = reusableActions.get(actionBuilder);
+        if (action != null) {
+            return action;
         }
+
+        action = actionBuilder.build();
+        if (!(action instanceof TestActionContainer) && !(action instanceof Completable)
+                && !(action instanceof MessageAwareTestAction)) {
+            reusableActions.put(actionBuilder, action);
+        }
+
+        return action;
     }
 
     /**
@@ -0,0 +1,175 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.container;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+import org.citrusframework.Completable;
+import org.citrusframework.TestAction;
+import org.citrusframework.context.TestContext;
+
+/**
+ * Keeps track of the actions executed by a container. By default all executed actions are kept. With a limit only
+ * the number of executed actions and a ring buffer of the most recent actions are kept, so long-running loops do not
+ * retain every action they have executed. Completable actions are kept in addition until they are done, as the
+ * container is not complete before.
+ */
+final class ExecutedActions {
+
+    /** Maximum number of recent actions to keep, negative value keeps all actions */
+    private final int limit;
+
+    /** All executed actions or ring buffer of the most recent actions */
+    private final List<TestAction> actions = new ArrayList<>();
+
+    /** Total number of executed actions */
+    private int count;
+
+    /** Completable actions that have not been done on last check, only used with limit */
+    private final List<TestAction> pending = new ArrayList<>();
+    private int pruneThreshold;
+
+    ExecutedActions(int limit) {
+        this.limit = limit < 0 ? -1 : Math.max(limit, 1);
+        this.pruneThreshold = Math.max(this.limit, 16);
+    }
+
+    /**
+     * @return true when only the most recent executed actions are kept
+     */
+    boolean isLimited() {
+        return limit > 0;
+    }
+
+    synchronized void add(TestAction action) {
+        if (!isLimited() || actions.size() < limit) {
+            actions.add(action);
+        } else {
+            actions.set(count % limit, action);
+        }
+        count++;
+
+        if (isLimited() && action instanceof Completable) {
+            pending.add(action);
+        }
+    }
+
+    /**
+     * Removes pending actions that are done meanwhile. Pruning is only performed when the number of pending actions
+     * grows over a threshold which keeps the amortized cost per executed action constant.
+     */
+    synchronized void prune(TestContext context) {
+        if (pending.size() < pruneThreshold) {
+            return;
+        }
+
+        pending.removeIf(action -> ((Completable) action).isDone(context));
+        pruneThreshold = Math.max(pruneThreshold, pending.size() * 2);
+    }
+
+    /**
+     * Finds an executed completable action that is not done yet.
+     */
+    synchronized Optional<TestAction> findPending(TestContext context) {
+        if (!isLimited()) {
+            return actions.stream()
+                    .filter(action -> action instanceof Completable)
+                    .filter(action -> !((Completable) action).isDone(context))
+                    .findAny();
+        }
+
+        Iterator<TestAction> iterator = pending.iterator();
+        while (iterator.hasNext()) {
+            TestAction action = iterator.next();
+            if (!((Completable) action).isDone(context)) {
+                return Optional.of(action);
+            }
+            iterator.remove();
+        }
+
+        return Optional.empty();
+    }
+
+    synchronized boolean contains(TestAction action) {
+        if (count > 0 && actions.get((count - 1) % actions.size()).equals(action)) {
+            // most recent action is the usual candidate
+            return true;
+        }
+
+        return actions.contains(action);
+    }
+
+    /**
+     * Gets the index of the action in the sequence of executed actions. When actions are limited the most recent
+     * execution of the action is used.
+     * @return the index or -1 when the action is not known
+     */
+    synchronized int indexOf(TestAction action) {
+        if (!isLimited()) {
+            return actions.indexOf(action);
+        }
+
+        for (int i = count - 1; i >= count - actions.size(); i--) {
+            if (actions.get(i % limit).equals(action)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Gets the executed action at the given index in the sequence of executed actions.
+     * @return the action or empty when the index is out of range or the action is not kept anymore
+     */
+    synchronized Optional<TestAction> get(int index) {
+        if (index < count - actions.size() || index >= count) {
+            return Optional.empty();
+        }
+
+        return Optional.of(isLimited() ? actions.get(index % limit) : actions.get(index));
+    }
+
+    /**
+     * @return the kept actions in execution order
+     */
+    synchronized List<TestAction> toList() {
+        if (!isLimited() || count <= limit) {
+            return new ArrayList<>(actions);
+        }
+
+        List<TestAction> recent = new ArrayList<>(limit);
+        for (int i = count - limit; i < count; i++) {
+            recent.add(actions.get(i % limit));
+        }
+        return recent;
+    }
+
+    /**
+     * @return the total number of executed actions
+     */
+    synchronized int size() {
+        return count;
+    }
+
+    synchronized boolean isEmpty() {
+        return count == 0;
+    }
+}
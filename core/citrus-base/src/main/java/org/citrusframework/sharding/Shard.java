@@ -16,9 +16,14 @@
 
 package org.citrusframework.sharding;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
 import java.util.Random;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import static java.lang.Math.ceil;
@@ -36,6 +41,12 @@ import static java.util.stream.Collectors.toCollection;
  * and scalable testing.
  * <p>
  * Configuration happens via environment variables. See {@link ShardingConfiguration} for more information.
+ * <p>
+ * By default test cases are shuffled with the configured seed and split into slices of equal size. When historical test
+ * durations are available, test cases get assigned to shards with a longest processing time first strategy instead: the
+ * longest test is always assigned to the shard with the least total duration so far. Test cases without a known duration
+ * are estimated with the average known duration and distributed in shuffled order afterwards. All shards must see the
+ * same test cases and durations in order to compute the same assignment.
  *
  * @see ShardingConfiguration
  */
@@ -104,16 +115,59 @@ public final class Shard {
      * @return A sharded stream based on the provided sharding configuration.
      */
     public static <T> Stream<T> createShard(Stream<T> testCases, ShardingConfiguration shardingConfiguration, boolean parallel) {
+        return createShard(testCases, shardingConfiguration, String::valueOf, parallel);
+    }
+
+    /**
+     * Creates a sharded stream from the input stream using the provided sharding configuration. The test name function
+     * resolves the name of a test case, which is used to look up its historical duration.
+     * Note that the initial stream will be terminated!
+     *
+     * @param <T>                   The type of elements in the stream.
+     * @param testCases             The input stream to be sharded.
+     * @param shardingConfiguration The configuration for sharding.
+     * @param testName              Function resolving the plain or qualified test name of a test case.
+     * @return A sharded stream based on the provided sharding configuration.
+     */
+    public static <T> Stream<T> createShard(Stream<T> testCases, ShardingConfiguration shardingConfiguration, Function<? super T, String> testName) {
+        return createShard(testCases, shardingConfiguration, testName, false);
+    }
+
+    /**
+     * Creates a sharded stream from the input stream using the provided sharding configuration, a test name function
+     * and a flag to determine whether the stream should be parallel.
+     * Note that the initial stream will be terminated!
+     *
+     * @param <T>                   The type of elements in the stream.
+     * @param testCases             The input stream to be sharded.
+     * @param shardingConfiguration The configuration for sharding.
+     * @param testName              Function resolving the plain or qualified test name of a test case.
+     * @param parallel              A flag indicating whether the resulting stream should be
+     *                              parallel.
+     * @return A sharded stream based on the provided sharding configuration.
+     */
+    public static <T> Stream<T> createShard(Stream<T> testCases, ShardingConfiguration shardingConfiguration,
+                                            Function<? super T, String> testName, boolean parallel) {
         List<T> itemList = testCases.collect(toCollection(ArrayList::new));
 
         var random = new Random(shardingConfiguration.getSeed());
         shuffle(itemList, random);
 
-        int shardSize = (int) ceil(itemList.size() / (double) shardingConfiguration.getTotalNumberOfShards());
-        int startIndex = shardingConfiguration.getShardNumber() * shardSize;
-        int endIndex = min(itemList.size(), startIndex + shardSize);
+        List<T> shardedItems = null;
+        if (shardingConfiguration.getTotalNumberOfShards() > 1) {
+            TestDurations testDurations = shardingConfiguration.getTestDurations();
+            if (testDurations != null && !testDurations.isEmpty()) {
+                shardedItems = assignByDuration(itemList, shardingConfiguration, testName, testDurations);
+            }
+        }
+
+        if (shardedItems == null) {
+            int shardSize = (int) ceil(itemList.size() / (double) shardingConfiguration.getTotalNumberOfShards());
+            int startIndex = shardingConfiguration.getShardNumber() * shardSize;
+            int endIndex = min(itemList.size(), startIndex + shardSize);
 
-        var shardedItems = itemList.subList(startIndex, endIndex);
+            shardedItems = itemList.subList(startIndex, endIndex);
+        }
 
         if (parallel) {
             return shardedItems.parallelStream();
@@ -121,4 +175,60 @@ public final class Shard {
             return shardedItems.stream();
         }
     }
+
+    /**
+     * Assigns the shuffled test cases to shards with a longest processing time first strategy and returns the test cases
+     * of the configured shard. Returns null when none of the test cases has a known duration.
+     */
+    private static <T> List<T> assignByDuration(List<T> itemList, ShardingConfiguration shardingConfiguration,
+                                                Function<? super T, String> testName, TestDurations testDurations) {
+        List<WeightedItem<T>> known = new ArrayList<>();
+        List<T> unknown = new ArrayList<>();
+        long knownTotal = 0;
+
+        for (T item : itemList) {
+            Optional<Duration> duration = testDurations.get(testName.apply(item));
+            if (duration.isPresent()) {
+                long nanos = Math.max(duration.get().toNanos(), 0);
+                known.add(new WeightedItem<>(item, nanos));
+                knownTotal += nanos;
+            } else {
+                unknown.add(item);
+            }
+        }
+
+        if (known.isEmpty()) {
+            return null;
+        }
+
+        // Stable sort keeps the shuffled order for tests with equal duration
+        known.sort(Comparator.comparingLong(WeightedItem<T>::nanos).reversed());
+        long estimate = knownTotal / known.size();
+        for (T item : unknown) {
+            known.add(new WeightedItem<>(item, estimate));
+        }
+
+        PriorityQueue<ShardLoad> shards = new PriorityQueue<>(Comparator.comparingLong(ShardLoad::nanos)
+                .thenComparingInt(ShardLoad::shardNumber));
+        for (int i = 0; i < shardingConfiguration.getTotalNumberOfShards(); i++) {
+            shards.add(new ShardLoad(i, 0));
+        }
+
+        List<T> shardedItems = new ArrayList<>();
+        for (WeightedItem<T> weightedItem : known) {
+            ShardLoad shard = shards.poll();
+            if (shard.shardNumber() == shardingConfiguration.getShardNumber()) {
+                shardedItems.add(weightedItem.item());
+            }
+            shards.add(new ShardLoad(shard.shardNumber(), shard.nanos() + weightedItem.nanos()));
+        }
+
+        return shardedItems;
+    }
+
+    private record WeightedItem<T>(T item, long nanos) {
+    }
+
+    private record ShardLoad(int shardNumber, long nanos) {
+    }
 }
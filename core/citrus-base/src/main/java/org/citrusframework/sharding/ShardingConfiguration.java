@@ -16,6 +16,7 @@
 
 package org.citrusframework.sharding;
 
+import java.nio.file.Path;
 import java.util.Optional;
 
 import org.citrusframework.exceptions.CitrusRuntimeException;
@@ -62,6 +63,16 @@ import static org.citrusframework.util.SystemProvider.SYSTEM_PROVIDER;
  *       </li>
  *     </ul>
  *   </li>
+ *   <li><b>Test durations:</b>
+ *     <ul>
+ *       <li>Environment Variable: <code>CITRUS_SHARDING_DURATIONS</code></li>
+ *       <li>System Property: <code>citrus.sharding.durations</code></li>
+ *       <li>
+ *           Description: Optional path to a JUnit XML report file or a directory of report files from a previous test
+ *           run. When set, test cases get assigned to shards based on their historical durations.
+ *       </li>
+ *     </ul>
+ *   </li>
  * </ul>
  *
  * <h3>Example Usage:</h3>
@@ -93,10 +104,16 @@ public final class ShardingConfiguration {
     public static final String SHARD_SEED_PROPERTY_NAME = "citrus.sharding.seed";
     public static final String SHARD_SEED_ENV_VAR_NAME = SHARD_SEED_PROPERTY_NAME.replace(".", "_").toUpperCase();
 
+    public static final String SHARD_DURATIONS_PROPERTY_NAME = "citrus.sharding.durations";
+    public static final String SHARD_DURATIONS_ENV_VAR_NAME = SHARD_DURATIONS_PROPERTY_NAME.replace(".", "_").toUpperCase();
+
     private final int totalNumberOfShards;
     private final int shardNumber;
     private final String seed;
 
+    private final SystemProvider systemProvider;
+    private TestDurations testDurations;
+
     /**
      * Default sharding configuration which initializes the sharding with system properties and environment variables.
      */
@@ -124,6 +141,19 @@ public final class ShardingConfiguration {
         this(totalNumberOfShards, shardNumber, SYSTEM_PROVIDER);
     }
 
+    /**
+     * Create a new sharding configuration with explicit total number of shards, shard number and historical test
+     * durations used to balance the shards.
+     *
+     * @param totalNumberOfShards the total number of shards to be used.
+     * @param shardNumber         the specific shard number for this loader, zero-based.
+     * @param testDurations       the historical test durations.
+     */
+    public ShardingConfiguration(int totalNumberOfShards, int shardNumber, TestDurations testDurations) {
+        this(totalNumberOfShards, shardNumber, SYSTEM_PROVIDER);
+        this.testDurations = testDurations;
+    }
+
     /**
      * Constructor that sets the total number of shards, shard number, and allows for injecting a
      * custom {@link SystemProvider}. Primarily used for testing purposes.
@@ -135,6 +165,7 @@ public final class ShardingConfiguration {
     private ShardingConfiguration(int totalNumberOfShards, int shardNumber, SystemProvider systemProvider) {
         this.totalNumberOfShards = totalNumberOfShards;
         this.shardNumber = shardNumber;
+        this.systemProvider = systemProvider;
 
         seed = getSeedOrDefaultValue(systemProvider, totalNumberOfShards);
 
@@ -189,4 +220,20 @@ public final class ShardingConfiguration {
     public int getSeed() {
         return seed.hashCode();
     }
+
+    /**
+     * Gets the historical test durations. Durations are read lazily from the configured JUnit XML reports on first access.
+     *
+     * @return the test durations, empty when no reports are configured.
+     */
+    public synchronized TestDurations getTestDurations() {
+        if (testDurations == null) {
+            testDurations = extractEnvOrProperty(systemProvider, SHARD_DURATIONS_ENV_VAR_NAME, SHARD_DURATIONS_PROPERTY_NAME)
+                    .filter(path -> !path.isBlank())
+                    .map(path -> TestDurations.fromJUnitReports(Path.of(path)))
+                    .orElseGet(TestDurations::empty);
+        }
+
+        return testDurations;
+    }
 }
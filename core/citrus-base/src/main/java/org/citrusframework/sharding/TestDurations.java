@@ -0,0 +1,185 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.sharding;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Historical test durations used to balance shards by execution time. Durations are usually read from JUnit XML reports
+ * of a previous test run, as written by the Citrus JUnit reporter or the Maven Surefire and Failsafe plugins.
+ * <p>
+ * Each test duration is registered with the plain test name and the test name qualified with the test class name,
+ * e.g. {@code myTest} and {@code org.sample.MyIT.myTest}. When a test is reported multiple times the longest duration
+ * is used.
+ *
+ * @see Shard
+ */
+public final class TestDurations {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(TestDurations.class);
+
+    private static final TestDurations EMPTY = new TestDurations(Collections.emptyMap());
+
+    private final Map<String, Duration> durations;
+
+    private TestDurations(Map<String, Duration> durations) {
+        this.durations = durations;
+    }
+
+    /**
+     * @return test durations without any entries
+     */
+    public static TestDurations empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates test durations from given test names and durations.
+     *
+     * @param durations the test durations by test name.
+     * @return the test durations.
+     */
+    public static TestDurations of(Map<String, Duration> durations) {
+        return new TestDurations(Map.copyOf(durations));
+    }
+
+    /**
+     * Reads the test durations from JUnit XML reports. The path may either point to a single report file or a directory
+     * which is scanned for report files with the {@code .xml} extension. A missing path results in empty test durations,
+     * as there is no history on the very first test run. Report files that can not be read are skipped, so the tests
+     * of these reports use the default duration.
+     *
+     * @param path the report file or directory.
+     * @return the test durations.
+     */
+    public static TestDurations fromJUnitReports(Path path) {
+        if (!Files.exists(path)) {
+            logger.warn("Unable to find test duration reports in '{}' - continue without test durations", path);
+            return EMPTY;
+        }
+
+        Map<String, Duration> durations = new HashMap<>();
+        if (Files.isDirectory(path)) {
+            List<Path> reports;
+            try (Stream<Path> files = Files.walk(path)) {
+                reports = files.filter(Files::isRegularFile)
+                        .filter(file -> file.getFileName().toString().endsWith(".xml"))
+                        .sorted()
+                        .toList();
+            } catch (IOException e) {
+                logger.warn("Failed to read test duration reports from directory '{}' - continue without test durations", path, e);
+                return EMPTY;
+            }
+
+            for (Path report : reports) {
+                readReport(report, durations);
+            }
+        } else {
+            readReport(path, durations);
+        }
+
+        logger.debug("Read {} test durations from '{}'", durations.size(), path);
+        return new TestDurations(durations);
+    }
+
+    private static void readReport(Path report, Map<String, Duration> durations) {
+        XMLInputFactory inputFactory = XMLInputFactory.newFactory();
+        inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+
+        // Collect the report durations first, so a malformed report does not contribute partial results
+        Map<String, Duration> reportDurations = new HashMap<>();
+        try (InputStream in = Files.newInputStream(report)) {
+            XMLStreamReader reader = inputFactory.createXMLStreamReader(in);
+            try {
+                while (reader.hasNext()) {
+                    if (reader.next() == XMLStreamConstants.START_ELEMENT && "testcase".equals(reader.getLocalName())) {
+                        addDuration(reader.getAttributeValue(null, "classname"), reader.getAttributeValue(null, "name"),
+                                reader.getAttributeValue(null, "time"), reportDurations);
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (IOException | XMLStreamException e) {
+            logger.warn("Skipping test duration report '{}' - failed to read report: {}", report, e.getMessage());
+            logger.debug("Failed to read test duration report", e);
+            return;
+        }
+
+        reportDurations.forEach((testName, duration) -> durations.merge(testName, duration, TestDurations::longest));
+    }
+
+    private static void addDuration(String className, String testName, String time, Map<String, Duration> durations) {
+        if (testName == null || time == null) {
+            return;
+        }
+
+        Duration duration;
+        try {
+            // Surefire reports may use grouping separators for long-running tests
+            duration = Duration.ofNanos((long) (Double.parseDouble(time.replace(",", "")) * 1e9));
+        } catch (NumberFormatException e) {
+            logger.debug("Ignoring invalid duration '{}' of test '{}'", time, testName);
+            return;
+        }
+
+        durations.merge(testName, duration, TestDurations::longest);
+        if (className != null && !className.isEmpty()) {
+            durations.merge(className + "." + testName, duration, TestDurations::longest);
+        }
+    }
+
+    private static Duration longest(Duration a, Duration b) {
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+
+    /**
+     * Gets the duration of the given test.
+     *
+     * @param testName the plain or qualified test name.
+     * @return the test duration, or empty when the test is unknown.
+     */
+    public Optional<Duration> get(String testName) {
+        return Optional.ofNullable(durations.get(testName));
+    }
+
+    /**
+     * @return true when no test durations are known.
+     */
+    public boolean isEmpty() {
+        return durations.isEmpty();
+    }
+}
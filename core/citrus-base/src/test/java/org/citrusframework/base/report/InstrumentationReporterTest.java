@@ -0,0 +1,139 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.citrusframework.base.report;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.citrusframework.TestCase;
+import org.citrusframework.actions.EchoAction;
+import org.citrusframework.actions.ReceiveMessageAction;
+import org.citrusframework.actions.SendMessageAction;
+import org.citrusframework.base.report.instrumentation.InstrumentationSummary;
+import org.citrusframework.context.TestContext;
+import org.citrusframework.message.DefaultMessage;
+import org.citrusframework.validation.DefaultMessageHeaderValidator;
+import org.citrusframework.report.TestResults;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class InstrumentationReporterTest {
+
+    private final TestCase test = mock(TestCase.class);
+    private final TestContext context = mock(TestContext.class);
+
+    private final EchoAction echo = new EchoAction.Builder().build();
+    private final SendMessageAction send = new SendMessageAction.Builder().endpoint("fooEndpoint").build();
+    private final ReceiveMessageAction receive = new ReceiveMessageAction.Builder().endpoint("barEndpoint").build();
+
+    private InstrumentationSummary summary;
+    private InstrumentationReporter reporter;
+
+    @BeforeMethod
+    public void setup() {
+        when(test.getName()).thenReturn("fooTest");
+
+        summary = new InstrumentationSummary();
+        reporter = new InstrumentationReporter(List.of(summary));
+    }
+
+    @Test
+    public void shouldRecordTestActions() {
+        reporter.onTestActionStart(test, echo);
+        reporter.onTestActionFinish(test, echo);
+        reporter.onTestActionStart(test, echo);
+        reporter.onTestActionFailed(test, echo, new IllegalStateException("Failed!"));
+
+        InstrumentationSummary.Statistics statistics = summary.getActions().get("echo");
+        Assert.assertEquals(statistics.getCount(), 2L);
+        Assert.assertEquals(statistics.getFailures(), 1L);
+        Assert.assertTrue(summary.getExchanges().isEmpty());
+    }
+
+    @Test
+    public void shouldRecordMessageExchanges() {
+        reporter.onTestActionStart(test, send);
+        reporter.onOutboundMessage(new DefaultMessage("Hello"), context);
+        reporter.onTestActionFinish(test, send);
+
+        reporter.onTestActionStart(test, receive);
+        reporter.onInboundMessage(new DefaultMessage("Grüße"), context);
+        reporter.onTestActionFinish(test, receive);
+
+        Assert.assertEquals(summary.getExchanges().get("fooEndpoint:outbound").getCount(), 1L);
+        Assert.assertEquals(summary.getExchanges().get("barEndpoint:inbound").getCount(), 1L);
+        Assert.assertFalse(summary.getQueueWait().containsKey("fooEndpoint:outbound"));
+        Assert.assertEquals(summary.getQueueWait().get("barEndpoint:inbound").getCount(), 1L);
+
+        Assert.assertEquals(summary.getPayloadSizes().get("fooEndpoint:outbound").getTotal(), 5L);
+        Assert.assertEquals(summary.getPayloadSizes().get("barEndpoint:inbound").getTotal(), 7L);
+    }
+
+    @Test
+    public void shouldRecordMessagesOutsideOfExchange() {
+        reporter.onOutboundMessage(new DefaultMessage("Hello".getBytes()), context);
+        reporter.onInboundMessage(new DefaultMessage(42), context);
+
+        Assert.assertEquals(summary.getPayloadSizes().get("unknown:outbound").getTotal(), 5L);
+        Assert.assertFalse(summary.getPayloadSizes().containsKey("unknown:inbound"));
+        Assert.assertTrue(summary.getExchanges().isEmpty());
+    }
+
+    @Test
+    public void shouldRecordValidation() {
+        reporter.onMessageValidated(new DefaultMessage("Hello"), new DefaultMessageHeaderValidator(),
+                Duration.ofMillis(2L), context);
+
+        InstrumentationSummary.Statistics statistics = summary.getValidators().get("DefaultMessageHeaderValidator");
+        Assert.assertEquals(statistics.getCount(), 1L);
+        Assert.assertEquals(statistics.getTotal(), 2000L);
+        Assert.assertEquals(statistics.getMax(), 2000L);
+    }
+
+    @Test
+    public void shouldWriteSummary() throws IOException {
+        Path reportDirectory = Files.createTempDirectory("citrus-instrumentation");
+        reporter.setReportDirectory(reportDirectory.toString());
+
+        reporter.onTestActionStart(test, echo);
+        reporter.onTestActionFinish(test, echo);
+        reporter.generateReport(new TestResults());
+
+        String json = Files.readString(reportDirectory.resolve(InstrumentationSummary.SUMMARY_FILE));
+        Assert.assertTrue(json.contains("\"actions\""));
+        Assert.assertTrue(json.contains("\"echo\""));
+        Assert.assertTrue(json.contains("\"validators\""));
+    }
+
+    @Test
+    public void shouldBeDisabledByDefault() {
+        InstrumentationReporter defaultReporter = new InstrumentationReporter();
+        Assert.assertFalse(defaultReporter.isEnabled());
+        Assert.assertTrue(defaultReporter.getInstrumentations().isEmpty());
+
+        defaultReporter.onTestActionStart(test, echo);
+        defaultReporter.onTestActionFinish(test, echo);
+    }
+}
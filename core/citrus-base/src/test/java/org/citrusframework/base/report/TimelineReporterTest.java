@@ -0,0 +1,229 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.citrusframework.base.report;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.citrusframework.TestCase;
+import org.citrusframework.actions.EchoAction;
+import org.citrusframework.actions.SleepAction;
+import org.citrusframework.container.Parallel;
+import org.citrusframework.context.TestContext;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TimelineReporterTest {
+
+    private final TestCase test = mock(TestCase.class);
+
+    private final EchoAction echo = new EchoAction.Builder().build();
+    private final SleepAction sleep = new SleepAction.Builder().build();
+    private final Parallel parallel = new Parallel.Builder().build();
+
+    private TestContext context;
+    private TimelineReporter reporter;
+    private final List<TimelineReporter.Timeline> finished = new ArrayList<>();
+
+    @BeforeMethod
+    public void setup() {
+        when(test.getName()).thenReturn("fooTest");
+
+        context = new TestContext();
+
+        finished.clear();
+        reporter = createReporter(100);
+    }
+
+    @Test
+    public void shouldRecordTimeline() {
+        reporter.onTestStart(test);
+        reporter.onTestActionStart(test, echo);
+        reporter.onTestActionFinish(test, echo);
+        reporter.onTestActionStart(test, parallel);
+        reporter.onNestedTestActionStart(parallel, sleep, context);
+        reporter.onNestedTestActionFailed(parallel, sleep, context, new IllegalStateException("Failed!"));
+        reporter.onTestActionFinish(test, parallel);
+        reporter.onTestFinish(test);
+
+        TimelineReporter.Timeline timeline = getFinishedTimeline();
+        List<TimelineReporter.Span> spans = timeline.getSpans();
+        Assert.assertEquals(spans.size(), 3L);
+        Assert.assertEquals(spans.get(2).getPath(), "parallel/sleep");
+        Assert.assertTrue(spans.get(2).isWaiting());
+        Assert.assertTrue(spans.get(2).isFailed());
+        Assert.assertTrue(spans.stream().allMatch(TimelineReporter.Span::isFinished));
+    }
+
+    @Test
+    public void shouldComputeCriticalPath() throws InterruptedException {
+        EchoAction shortAction = new EchoAction.Builder().build();
+
+        reporter.onTestStart(test);
+        reporter.onTestActionStart(test, echo);
+        reporter.onTestActionFinish(test, echo);
+        reporter.onTestActionStart(test, parallel);
+
+        CountDownLatch longStarted = new CountDownLatch(1);
+        Thread longThread = new Thread(() -> {
+            reporter.onNestedTestActionStart(parallel, sleep, context);
+            longStarted.countDown();
+            try {
+                Thread.sleep(50L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            reporter.onNestedTestActionFinish(parallel, sleep, context);
+        });
+        Thread shortThread = new Thread(() -> {
+            reporter.onNestedTestActionStart(parallel, shortAction, context);
+            reporter.onNestedTestActionFinish(parallel, shortAction, context);
+        });
+
+        longThread.start();
+        Assert.assertTrue(longStarted.await(5L, TimeUnit.SECONDS));
+        shortThread.start();
+        shortThread.join();
+        longThread.join();
+
+        reporter.onTestActionFinish(test, parallel);
+        reporter.onTestFinish(test);
+
+        List<String> criticalPath = getFinishedTimeline()
+                .getCriticalPath()
+                .stream()
+                .map(TimelineReporter.Span::getPath)
+                .toList();
+
+        Assert.assertEquals(criticalPath, List.of("echo", "parallel/sleep"));
+    }
+
+    @Test
+    public void shouldLimitSpans() {
+        reporter = createReporter(1);
+
+        reporter.onTestStart(test);
+        reporter.onTestActionStart(test, parallel);
+        reporter.onNestedTestActionStart(parallel, echo, context);
+        reporter.onNestedTestActionFinish(parallel, echo, context);
+        reporter.onTestActionFinish(test, parallel);
+        reporter.onTestFinish(test);
+
+        TimelineReporter.Timeline timeline = getFinishedTimeline();
+        Assert.assertEquals(timeline.getSpans().size(), 1L);
+        Assert.assertEquals(timeline.getDroppedSpans(), 1L);
+        Assert.assertTrue(timeline.getSpans().get(0).isFinished());
+    }
+
+    @Test
+    public void shouldWriteReports() throws IOException {
+        Path reportDirectory = Files.createTempDirectory("citrus-timeline");
+        reporter = new TimelineReporter(true, 100);
+        reporter.setReportDirectory(reportDirectory.toString());
+
+        reporter.onTestStart(test);
+        reporter.onTestActionStart(test, echo);
+        reporter.onTestActionFinish(test, echo);
+        reporter.onTestFinish(test);
+
+        Assert.assertTrue(reporter.getTimeline(test).isEmpty());
+
+        String trace = Files.readString(reportDirectory.resolve("fooTest-trace.json"));
+        Assert.assertTrue(trace.contains("\"traceEvents\""));
+        Assert.assertTrue(trace.contains("\"name\": \"echo\""));
+
+        String criticalPath = Files.readString(reportDirectory.resolve("fooTest-critical-path.json"));
+        Assert.assertTrue(criticalPath.contains("\"criticalPath\""));
+    }
+
+    @Test
+    public void shouldBeDisabledByDefault() {
+        reporter = new TimelineReporter();
+        Assert.assertFalse(reporter.isEnabled());
+
+        reporter.onTestStart(test);
+        reporter.onTestActionStart(test, echo);
+        reporter.onTestActionFinish(test, echo);
+        Assert.assertTrue(reporter.getTimeline(test).isEmpty());
+    }
+
+    @Test
+    public void shouldSeparateTestsWithSameName() {
+        TestCase other = mock(TestCase.class);
+        when(other.getName()).thenReturn("fooTest");
+        EchoAction otherEcho = new EchoAction.Builder().build();
+
+        reporter.onTestStart(test);
+        reporter.onTestStart(other);
+        reporter.onTestActionStart(test, parallel);
+        reporter.onTestActionStart(other, otherEcho);
+        reporter.onNestedTestActionStart(parallel, sleep, context);
+        reporter.onNestedTestActionFinish(parallel, sleep, context);
+        reporter.onTestActionFinish(test, parallel);
+        reporter.onTestActionFinish(other, otherEcho);
+
+        Assert.assertEquals(reporter.getTimeline(test).orElseThrow().getSpans().size(), 2L);
+        Assert.assertEquals(reporter.getTimeline(other).orElseThrow().getSpans().size(), 1L);
+
+        reporter.onTestFinish(test);
+        reporter.onTestFinish(other);
+        Assert.assertEquals(finished.size(), 2L);
+        Assert.assertTrue(reporter.getTimeline(test).isEmpty());
+        Assert.assertTrue(reporter.getTimeline(other).isEmpty());
+    }
+
+    @Test
+    public void shouldSanitizeReportFileNames() throws IOException {
+        Path reportDirectory = Files.createTempDirectory("citrus-timeline");
+        TestCase other = mock(TestCase.class);
+        when(other.getName()).thenReturn("../foo Test");
+
+        reporter = new TimelineReporter(true, 100);
+        reporter.setReportDirectory(reportDirectory.toString());
+        reporter.onTestStart(other);
+        reporter.onTestActionStart(other, echo);
+        reporter.onTestActionFinish(other, echo);
+        reporter.onTestFinish(other);
+
+        Assert.assertTrue(Files.exists(reportDirectory.resolve(".._foo_Test-trace.json")));
+        Assert.assertTrue(Files.exists(reportDirectory.resolve(".._foo_Test-critical-path.json")));
+    }
+
+    private TimelineReporter.Timeline getFinishedTimeline() {
+        Assert.assertEquals(finished.size(), 1L);
+        return finished.get(0);
+    }
+
+    private TimelineReporter createReporter(int maxSpans) {
+        return new TimelineReporter(true, maxSpans) {
+            @Override
+            protected void writeTimeline(Timeline timeline) {
+                finished.add(timeline);
+            }
+        };
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.citrusframework.base.report.instrumentation;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.citrusframework.message.MessageDirection;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class JfrInstrumentationTest {
+
+    @Test
+    public void shouldEmitEvents() throws IOException {
+        JfrInstrumentation instrumentation = new JfrInstrumentation();
+
+        Path recordingFile = Files.createTempFile("citrus-instrumentation", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(JfrInstrumentation.TestActionEvent.class);
+            recording.enable(JfrInstrumentation.MessageExchangeEvent.class);
+            recording.enable(JfrInstrumentation.MessageEvent.class);
+            recording.enable(JfrInstrumentation.MessageValidationEvent.class);
+            recording.start();
+
+            instrumentation.recordAction("fooTest", "echo", Duration.ofMillis(5), false);
+            instrumentation.recordExchange("fooEndpoint", MessageDirection.INBOUND, Duration.ofMillis(10), Duration.ofMillis(2), true);
+            instrumentation.recordMessage("fooEndpoint", MessageDirection.OUTBOUND, 42L);
+            instrumentation.recordValidation("xml", Duration.ofMillis(3));
+
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        try {
+            Map<String, RecordedEvent> events = RecordingFile.readAllEvents(recordingFile).stream()
+                    .filter(event -> event.getEventType().getName().startsWith("org.citrusframework."))
+                    .collect(Collectors.toMap(event -> event.getEventType().getName(), event -> event));
+
+            Assert.assertEquals(events.keySet(), Set.of("org.citrusframework.TestAction", "org.citrusframework.MessageExchange",
+                    "org.citrusframework.Message", "org.citrusframework.MessageValidation"));
+
+            RecordedEvent action = events.get("org.citrusframework.TestAction");
+            Assert.assertEquals(action.getString("test"), "fooTest");
+            Assert.assertEquals(action.getString("action"), "echo");
+            Assert.assertEquals(action.getDuration("elapsed"), Duration.ofMillis(5));
+            Assert.assertFalse(action.getBoolean("failed"));
+
+            RecordedEvent exchange = events.get("org.citrusframework.MessageExchange");
+            Assert.assertEquals(exchange.getString("endpoint"), "fooEndpoint");
+            Assert.assertEquals(exchange.getString("direction"), "INBOUND");
+            Assert.assertEquals(exchange.getDuration("elapsed"), Duration.ofMillis(10));
+            Assert.assertEquals(exchange.getDuration("queueWait"), Duration.ofMillis(2));
+            Assert.assertTrue(exchange.getBoolean("failed"));
+
+            RecordedEvent message = events.get("org.citrusframework.Message");
+            Assert.assertEquals(message.getString("direction"), "OUTBOUND");
+            Assert.assertEquals(message.getLong("payloadSize"), 42L);
+
+            RecordedEvent validation = events.get("org.citrusframework.MessageValidation");
+            Assert.assertEquals(validation.getString("validator"), "xml");
+            Assert.assertEquals(validation.getDuration("elapsed"), Duration.ofMillis(3));
+        } finally {
+            Files.deleteIfExists(recordingFile);
+        }
+    }
+}
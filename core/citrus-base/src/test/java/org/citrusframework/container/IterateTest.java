@@ -16,6 +16,8 @@
 
 package org.citrusframework.container;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.citrusframework.TestAction;
 import org.citrusframework.base.UnitTestSupport;
 import org.mockito.Mockito;
@@ -166,4 +168,30 @@ public class IterateTest extends UnitTestSupport {
 
         verify(action, times(5)).execute(context);
     }
+
+    @Test
+    public void testIterationExecutedActionsLimit() {
+        AtomicInteger builds = new AtomicInteger();
+        AtomicInteger executions = new AtomicInteger();
+
+        Iterate iterate = new Iterate.Builder()
+                .times(1000)
+                .index("i")
+                .executedActionsLimit(10)
+                .actions(() -> {
+                    builds.incrementAndGet();
+                    return context -> executions.incrementAndGet();
+                })
+                .build();
+        iterate.execute(context);
+
+        Assert.assertEquals(context.getVariable("${i}"), "1000");
+        Assert.assertEquals(executions.get(), 1000);
+        Assert.assertEquals(builds.get(), 1);
+        Assert.assertEquals(iterate.getIterations(), 1000);
+        Assert.assertEquals(iterate.getNumberOfExecutedActions(), 1000);
+        Assert.assertEquals(iterate.getExecutedActions().size(), 10);
+        Assert.assertEquals(iterate.getActionIndex(iterate.getExecutedActions().get(9)), 999);
+        Assert.assertTrue(iterate.isDone(context));
+    }
 }
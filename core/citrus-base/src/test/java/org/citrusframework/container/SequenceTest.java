@@ -20,9 +20,14 @@ import org.citrusframework.TestAction;
 import org.citrusframework.base.UnitTestSupport;
 import org.citrusframework.actions.FailAction;
 import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.report.TestActionListener;
+import org.citrusframework.report.TestActionListeners;
 import org.mockito.Mockito;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
 
@@ -104,4 +109,27 @@ public class SequenceTest extends UnitTestSupport {
         sequenceAction.execute(context);
         verify(action1).execute(context);
     }
+
+    @Test
+    public void testNestedActionListeners() {
+        TestAction action1 = Mockito.mock(TestAction.class);
+        TestAction failing = new FailAction.Builder().build();
+        TestActionListener listener = Mockito.mock(TestActionListener.class);
+
+        TestActionListeners listeners = new TestActionListeners();
+        listeners.addTestActionListener(listener);
+        context.setTestActionListeners(listeners);
+
+        Sequence sequenceAction = new Sequence.Builder()
+                .actions(() -> action1, () -> failing)
+                .build();
+
+        Assert.assertThrows(CitrusRuntimeException.class, () -> sequenceAction.execute(context));
+
+        verify(listener).onNestedTestActionStart(sequenceAction, action1, context);
+        verify(listener).onNestedTestActionFinish(sequenceAction, action1, context);
+        verify(listener).onNestedTestActionStart(sequenceAction, failing, context);
+        verify(listener).onNestedTestActionFailed(Mockito.eq(sequenceAction), Mockito.eq(failing), Mockito.eq(context), any(CitrusRuntimeException.class));
+        verify(listener, never()).onNestedTestActionFinish(sequenceAction, failing, context);
+    }
 }
@@ -23,8 +23,14 @@ import org.mockito.Mock;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.io.IOException;
 import java.lang.reflect.Array;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -233,4 +239,111 @@ public class ShardTest {
             assertEquals(numberOfTestCases, resultingStream.toList().size());
         }
     }
+
+    public static class DurationApiTest extends ShardTest {
+
+        private static final List<String> TEST_NAMES = List.of("slow", "medium", "fast1", "fast2", "fast3", "fast4", "unknown1", "unknown2");
+
+        private static final TestDurations TEST_DURATIONS = TestDurations.of(Map.of(
+                "slow", Duration.ofSeconds(60),
+                "medium", Duration.ofSeconds(30),
+                "fast1", Duration.ofSeconds(10),
+                "fast2", Duration.ofSeconds(10),
+                "fast3", Duration.ofSeconds(10),
+                "fast4", Duration.ofSeconds(10)));
+
+        @Test
+        public void balancedByDuration() {
+            var shard1 = createDurationShard(2, 0);
+            var shard2 = createDurationShard(2, 1);
+
+            assertEquals(TEST_NAMES.size(), shard1.size() + shard2.size());
+            assertTrue(shard1.stream().noneMatch(shard2::contains));
+
+            // longest tests first, unknown tests are estimated with the average known duration
+            assertEquals("slow", shard1.get(0));
+            assertEquals("medium", shard2.get(0));
+            assertEquals(3, shard1.size());
+            assertEquals(5, shard2.size());
+            assertEquals(Duration.ofSeconds(70), sum(shard1));
+            assertEquals(Duration.ofSeconds(60), sum(shard2));
+            assertTrue(shard1.stream().anyMatch(name -> name.startsWith("unknown")));
+            assertTrue(shard2.stream().anyMatch(name -> name.startsWith("unknown")));
+        }
+
+        @Test
+        public void sameAssignmentOnAllShards() {
+            var all = new ArrayList<String>();
+            for (int i = 0; i < 3; i++) {
+                all.addAll(createDurationShard(3, i));
+            }
+
+            assertEquals(TEST_NAMES.size(), all.size());
+            assertTrue(all.containsAll(TEST_NAMES));
+        }
+
+        @Test
+        public void fallbackWithoutKnownDurations() {
+            configureShardingConfiguration(2, 0);
+            doReturn(TestDurations.of(Map.of("other", Duration.ofSeconds(1)))).when(shardingConfigurationMock).getTestDurations();
+
+            assertEquals(4, createShard(TEST_NAMES.stream(), shardingConfigurationMock, name -> name).toList().size());
+        }
+
+        @Test
+        public void durationsFromJUnitReport() throws IOException {
+            Path reportDirectory = Files.createTempDirectory("citrus-sharding");
+            Files.writeString(reportDirectory.resolve("TEST-sample.xml"), """
+                    <?xml version="1.0" encoding="UTF-8"?>
+                    <testsuite name="sample" time="3.500" tests="2" errors="0" skipped="0" failures="0">
+                        <testcase name="fooTest" classname="org.sample.FooIT" time="1.250"/>
+                        <testcase name="barTest" classname="org.sample.BarIT" time="2,250.000"/>
+                    </testsuite>
+                    """);
+
+            var testDurations = TestDurations.fromJUnitReports(reportDirectory);
+
+            assertEquals(Duration.ofMillis(1250), testDurations.get("fooTest").orElseThrow());
+            assertEquals(Duration.ofMillis(1250), testDurations.get("org.sample.FooIT.fooTest").orElseThrow());
+            assertEquals(Duration.ofSeconds(2250), testDurations.get("barTest").orElseThrow());
+            assertFalse(testDurations.get("unknown").isPresent());
+            assertTrue(TestDurations.fromJUnitReports(reportDirectory.resolve("missing")).isEmpty());
+        }
+
+        @Test
+        public void skipMalformedJUnitReport() throws IOException {
+            Path reportDirectory = Files.createTempDirectory("citrus-sharding");
+            Files.writeString(reportDirectory.resolve("TEST-broken.xml"), """
+                    <?xml version="1.0" encoding="UTF-8"?>
+                    <testsuite name="broken" tests="2">
+                        <testcase name="brokenTest" classname="org.sample.BrokenIT" time="5.000"/>
+                        <testcase name="fooTest" classname="org.sample.BrokenIT" time="9.000"
+                    """);
+            Files.writeString(reportDirectory.resolve("TEST-sample.xml"), """
+                    <?xml version="1.0" encoding="UTF-8"?>
+                    <testsuite name="sample" time="1.250" tests="1" errors="0" skipped="0" failures="0">
+                        <testcase name="fooTest" classname="org.sample.FooIT" time="1.250"/>
+                    </testsuite>
+                    """);
+
+            var testDurations = TestDurations.fromJUnitReports(reportDirectory);
+
+            assertEquals(Duration.ofMillis(1250), testDurations.get("fooTest").orElseThrow());
+            assertFalse(testDurations.get("brokenTest").isPresent());
+            assertTrue(TestDurations.fromJUnitReports(reportDirectory.resolve("TEST-broken.xml")).isEmpty());
+        }
+
+        private List<String> createDurationShard(int totalNumberOfShards, int shardNumber) {
+            configureShardingConfiguration(totalNumberOfShards, shardNumber);
+            doReturn(TEST_DURATIONS).when(shardingConfigurationMock).getTestDurations();
+
+            return createShard(TEST_NAMES.stream(), shardingConfigurationMock, name -> name).toList();
+        }
+
+        private static Duration sum(List<String> testNames) {
+            return testNames.stream()
+                    .map(name -> TEST_DURATIONS.get(name).orElse(Duration.ZERO))
+                    .reduce(Duration.ZERO, Duration::plus);
+        }
+    }
 }
@@ -17,8 +17,10 @@
 package org.citrusframework.spring.reporter;
 
 import org.citrusframework.base.report.HtmlReporter;
+import org.citrusframework.base.report.InstrumentationReporter;
 import org.citrusframework.base.report.JUnitReporter;
 import org.citrusframework.base.report.TestFlowReporter;
+import org.citrusframework.base.report.TimelineReporter;
 import org.citrusframework.report.LoggingReporter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Condition;
@@ -34,11 +36,15 @@ public class ReporterConfig {
     public static final String CITRUS_LOGGING_REPORTER = "citrusLoggingReporter";
     public static final String CITRUS_JUNIT_REPORTER = "citrusJunitReporter";
     public static final String CITRUS_HTML_REPORTER = "citrusHtmlReporter";
+    public static final String CITRUS_INSTRUMENTATION_REPORTER = "citrusInstrumentationReporter";
+    public static final String CITRUS_TIMELINE_REPORTER = "citrusTimelineReporter";
 
     public static final String DEFAULT_TEST_FLOW_REPORTER_ENABLED_PROPERTY = "citrus.default.test.flow.reporter.enabled";
     public static final String DEFAULT_LOGGING_REPORTER_ENABLED_PROPERTY = "citrus.default.logging.reporter.enabled";
     public static final String DEFAULT_JUNIT_REPORTER_ENABLED_PROPERTY = "citrus.default.junit.reporter.enabled";
     public static final String DEFAULT_HTML_REPORTER_ENABLED_PROPERTY = "citrus.default.html.reporter.enabled";
+    public static final String INSTRUMENTATION_ENABLED_PROPERTY = "citrus.instrumentation.enabled";
+    public static final String TIMELINE_REPORT_ENABLED_PROPERTY = "citrus.timeline.report.enabled";
 
     @Bean(name = CITRUS_TEST_FLOW_REPORTER)
     @Conditional(TestFlowReporterEnablementCondition.class)
@@ -64,6 +70,18 @@ public class ReporterConfig {
         return new JUnitReporter();
     }
 
+    @Bean(name = CITRUS_INSTRUMENTATION_REPORTER)
+    @Conditional(InstrumentationReporterEnablementCondition.class)
+    public InstrumentationReporter instrumentationReporter() {
+        return new InstrumentationReporter();
+    }
+
+    @Bean(name = CITRUS_TIMELINE_REPORTER)
+    @Conditional(TimelineReporterEnablementCondition.class)
+    public TimelineReporter timelineReporter() {
+        return new TimelineReporter();
+    }
+
     @Bean(name = "citrusTestReporters")
     public TestReportersFactory testReporters() {
         return new TestReportersFactory();
@@ -96,4 +114,18 @@ public class ReporterConfig {
             return "true".equals(context.getEnvironment().getProperty(DEFAULT_HTML_REPORTER_ENABLED_PROPERTY, "true"));
         }
     }
+
+    static class InstrumentationReporterEnablementCondition implements Condition {
+        @Override
+        public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            return "true".equals(context.getEnvironment().getProperty(INSTRUMENTATION_ENABLED_PROPERTY, "false"));
+        }
+    }
+
+    static class TimelineReporterEnablementCondition implements Condition {
+        @Override
+        public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            return "true".equals(context.getEnvironment().getProperty(TIMELINE_REPORT_ENABLED_PROPERTY, "false"));
+        }
+    }
 }
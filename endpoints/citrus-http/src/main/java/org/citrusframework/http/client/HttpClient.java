@@ -19,6 +19,8 @@ package org.citrusframework.http.client;
 import java.net.URI;
 import java.util.Optional;
 
+import org.apache.hc.core5.pool.PoolStats;
+import org.citrusframework.api.common.ShutdownPhase;
 import org.citrusframework.context.TestContext;
 import org.citrusframework.endpoint.AbstractEndpoint;
 import org.citrusframework.exceptions.MessageTimeoutException;
@@ -48,7 +50,7 @@ import static org.apache.commons.lang3.exception.ExceptionUtils.getRootCause;
  *
  * @since 1.4
  */
-public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsumer {
+public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsumer, ShutdownPhase {
 
     /** Logger */
     private static final Logger logger = LoggerFactory.getLogger(HttpClient.class);
@@ -56,6 +58,9 @@ public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsu
     /** Store of reply messages */
     private CorrelationManager<Message> correlationManager;
 
+    /** Removes the registered connection pool metrics, null as long as no metrics are registered */
+    private volatile Runnable connectionPoolMetrics;
+
     /**
      * Default constructor initializing endpoint configuration.
      */
@@ -80,6 +85,8 @@ public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsu
 
     @Override
     public void send(Message message, TestContext context) {
+        registerConnectionPoolMetrics();
+
         getEndpointConfiguration().getClientInterceptors()
                 .stream()
                 .filter(LoggingClientInterceptor.class::isInstance)
@@ -103,6 +110,12 @@ public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsu
 
         logger.debug("Sending HTTP message to: '{}'", endpointUri);
         if (logger.isDebugEnabled()) {
+            PoolStats poolStats = getEndpointConfiguration().getConnectionPoolStats();
+            if (poolStats != null && poolStats.getPending() > 0) {
+                logger.debug("{} requests waiting for a pooled connection (leased: {}, max: {}) - " +
+                        "consider raising the connection pool limits", poolStats.getPending(), poolStats.getLeased(), poolStats.getMax());
+            }
+
             logger.debug("Message to send:\n{}", httpMessage.getPayload(String.class));
         }
 
@@ -205,6 +218,35 @@ public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsu
         this.correlationManager = correlationManager;
     }
 
+    /**
+     * Gets the statistics of the client connection pool.
+     * @return the pool statistics or null when the client does not use a pooling connection manager
+     */
+    public PoolStats getConnectionPoolStats() {
+        return getEndpointConfiguration().getConnectionPoolStats();
+    }
+
+    /**
+     * Registers connection pool gauges with the client name once the client sends its first request.
+     */
+    private void registerConnectionPoolMetrics() {
+        if (connectionPoolMetrics == null) {
+            synchronized (this) {
+                if (connectionPoolMetrics == null) {
+                    connectionPoolMetrics = HttpConnectionPoolMetrics.register(getName(), getEndpointConfiguration());
+                }
+            }
+        }
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (connectionPoolMetrics != null) {
+            connectionPoolMetrics.run();
+            connectionPoolMetrics = null;
+        }
+    }
+
     private String getEndpointUri(HttpMessage httpMessage) {
         if (getEndpointConfiguration().getEndpointUriResolver() != null) {
             return getEndpointConfiguration().getEndpointUriResolver().resolveEndpointUri(httpMessage, getEndpointConfiguration().getRequestUrl());
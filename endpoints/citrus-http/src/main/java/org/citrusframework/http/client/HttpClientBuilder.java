@@ -268,6 +268,103 @@ public class HttpClientBuilder extends AbstractEndpointBuilder<HttpClient> {
         disableRedirectHandling(flag);
     }
 
+    /**
+     * Sets the maximum number of pooled connections in total.
+     */
+    public HttpClientBuilder maxConnections(int maxConnections) {
+        endpoint.getEndpointConfiguration().setMaxConnections(maxConnections);
+        return this;
+    }
+
+    @SchemaProperty(
+            metadata = { @SchemaProperty.MetaData(key = "$comment", value = "group:connectionPool") },
+            description = "Maximum number of pooled connections in total.", defaultValue = "100")
+    @XmlAttribute(name = "max-connections")
+    public void setMaxConnections(int maxConnections) {
+        maxConnections(maxConnections);
+    }
+
+    /**
+     * Sets the maximum number of pooled connections per route.
+     */
+    public HttpClientBuilder maxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        endpoint.getEndpointConfiguration().setMaxConnectionsPerRoute(maxConnectionsPerRoute);
+        return this;
+    }
+
+    @SchemaProperty(
+            metadata = { @SchemaProperty.MetaData(key = "$comment", value = "group:connectionPool") },
+            description = "Maximum number of pooled connections per route (target host and port).", defaultValue = "20")
+    @XmlAttribute(name = "max-connections-per-route")
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        maxConnectionsPerRoute(maxConnectionsPerRoute);
+    }
+
+    /**
+     * Sets the maximum time in milliseconds idle connections are kept alive.
+     */
+    public HttpClientBuilder keepAlive(long keepAlive) {
+        endpoint.getEndpointConfiguration().setKeepAlive(keepAlive);
+        return this;
+    }
+
+    @SchemaProperty(
+            metadata = { @SchemaProperty.MetaData(key = "$comment", value = "group:connectionPool") },
+            description = "Maximum time in milliseconds idle connections are kept alive. " +
+                    "Negative values use the keep alive response header of the server.", defaultValue = "-1")
+    @XmlAttribute(name = "keep-alive")
+    public void setKeepAlive(long keepAlive) {
+        keepAlive(keepAlive);
+    }
+
+    /**
+     * Sets the total time to live in milliseconds of pooled connections.
+     */
+    public HttpClientBuilder connectionTimeToLive(long connectionTimeToLive) {
+        endpoint.getEndpointConfiguration().setConnectionTimeToLive(connectionTimeToLive);
+        return this;
+    }
+
+    @SchemaProperty(
+            metadata = { @SchemaProperty.MetaData(key = "$comment", value = "group:connectionPool") },
+            description = "Total time to live in milliseconds of pooled connections. " +
+                    "Negative values keep connections open without limit.", defaultValue = "-1")
+    @XmlAttribute(name = "connection-ttl")
+    public void setConnectionTimeToLive(long connectionTimeToLive) {
+        connectionTimeToLive(connectionTimeToLive);
+    }
+
+    /**
+     * Sets the period of inactivity in milliseconds after which pooled connections are validated before reuse.
+     */
+    public HttpClientBuilder validateAfterInactivity(long validateAfterInactivity) {
+        endpoint.getEndpointConfiguration().setValidateAfterInactivity(validateAfterInactivity);
+        return this;
+    }
+
+    @SchemaProperty(
+            metadata = { @SchemaProperty.MetaData(key = "$comment", value = "group:connectionPool") },
+            description = "Period of inactivity in milliseconds after which pooled connections are validated before reuse.",
+            defaultValue = "2000")
+    @XmlAttribute(name = "validate-after-inactivity")
+    public void setValidateAfterInactivity(long validateAfterInactivity) {
+        validateAfterInactivity(validateAfterInactivity);
+    }
+
+    /**
+     * Enables Http/2 using the Java Http client.
+     */
+    public HttpClientBuilder http2(boolean flag) {
+        endpoint.getEndpointConfiguration().setHttp2(flag);
+        return this;
+    }
+
+    @SchemaProperty(advanced = true, description = "When enabled the client uses Http/2 with the Java Http client.")
+    @XmlAttribute(name = "http2")
+    public void setHttp2(boolean flag) {
+        http2(flag);
+    }
+
     /**
      * Sets the content type.
      */
@@ -427,9 +524,7 @@ public class HttpClientBuilder extends AbstractEndpointBuilder<HttpClient> {
      * Enable secured connection on the client using provided SSL connection.
      */
     public HttpClientBuilder secured(HttpSecureConnection conn) {
-        endpoint.getEndpointConfiguration()
-                .getHttpClient()
-                .setConnectionManager(conn.getClientConnectionManager());
+        endpoint.getEndpointConfiguration().setConnectionManager(conn.getClientConnectionManager());
         return this;
     }
 
@@ -0,0 +1,105 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.citrusframework.http.client;
+
+import org.citrusframework.config.CitrusConfigProperties;
+import org.citrusframework.config.CitrusConfigProperty;
+
+@CitrusConfigProperties(prefix = "citrus.http.client", description = "HTTP client settings")
+public class HttpClientSettings {
+
+    private static final String HTTP_CLIENT_PROPERTY_PREFIX = "citrus.http.client.";
+    private static final String HTTP_CLIENT_ENV_PREFIX = "CITRUS_HTTP_CLIENT_";
+
+    @CitrusConfigProperty(description = "Maximum number of pooled connections in total.", type = "java.lang.Integer", defaultValue = "100")
+    private static final String MAX_CONNECTIONS_PROPERTY = HTTP_CLIENT_PROPERTY_PREFIX + "max.connections";
+    private static final String MAX_CONNECTIONS_ENV = HTTP_CLIENT_ENV_PREFIX + "MAX_CONNECTIONS";
+    private static final String MAX_CONNECTIONS_DEFAULT = "100";
+
+    @CitrusConfigProperty(description = "Maximum number of pooled connections per route.", type = "java.lang.Integer", defaultValue = "20")
+    private static final String MAX_CONNECTIONS_PER_ROUTE_PROPERTY = HTTP_CLIENT_PROPERTY_PREFIX + "max.connections.per.route";
+    private static final String MAX_CONNECTIONS_PER_ROUTE_ENV = HTTP_CLIENT_ENV_PREFIX + "MAX_CONNECTIONS_PER_ROUTE";
+    private static final String MAX_CONNECTIONS_PER_ROUTE_DEFAULT = "20";
+
+    @CitrusConfigProperty(description = "Maximum time in milliseconds idle connections are kept alive. Negative values use the keep alive response header of the server.", type = "java.lang.Long", defaultValue = "-1")
+    private static final String KEEP_ALIVE_PROPERTY = HTTP_CLIENT_PROPERTY_PREFIX + "keep.alive";
+    private static final String KEEP_ALIVE_ENV = HTTP_CLIENT_ENV_PREFIX + "KEEP_ALIVE";
+    private static final String KEEP_ALIVE_DEFAULT = "-1";
+
+    @CitrusConfigProperty(description = "Total time to live in milliseconds of pooled connections. Negative values keep connections open without limit.", type = "java.lang.Long", defaultValue = "-1")
+    private static final String CONNECTION_TTL_PROPERTY = HTTP_CLIENT_PROPERTY_PREFIX + "connection.ttl";
+    private static final String CONNECTION_TTL_ENV = HTTP_CLIENT_ENV_PREFIX + "CONNECTION_TTL";
+    private static final String CONNECTION_TTL_DEFAULT = "-1";
+
+    @CitrusConfigProperty(description = "Period of inactivity in milliseconds after which pooled connections are validated before they are reused.", type = "java.lang.Long", defaultValue = "2000")
+    private static final String VALIDATE_AFTER_INACTIVITY_PROPERTY = HTTP_CLIENT_PROPERTY_PREFIX + "validate.after.inactivity";
+    private static final String VALIDATE_AFTER_INACTIVITY_ENV = HTTP_CLIENT_ENV_PREFIX + "VALIDATE_AFTER_INACTIVITY";
+    private static final String VALIDATE_AFTER_INACTIVITY_DEFAULT = "2000";
+
+    /**
+     * Private constructor prevent instantiation of utility class
+     */
+    private HttpClientSettings() {
+        // prevent instantiation
+    }
+
+    /**
+     * Maximum number of pooled connections in total.
+     * @return
+     */
+    public static int getMaxConnections() {
+        return Integer.parseInt(System.getProperty(MAX_CONNECTIONS_PROPERTY, System.getenv(MAX_CONNECTIONS_ENV) != null ?
+                        System.getenv(MAX_CONNECTIONS_ENV) : MAX_CONNECTIONS_DEFAULT));
+    }
+
+    /**
+     * Maximum number of pooled connections per route. A route is the target host and port of the requests.
+     * @return
+     */
+    public static int getMaxConnectionsPerRoute() {
+        return Integer.parseInt(System.getProperty(MAX_CONNECTIONS_PER_ROUTE_PROPERTY, System.getenv(MAX_CONNECTIONS_PER_ROUTE_ENV) != null ?
+                        System.getenv(MAX_CONNECTIONS_PER_ROUTE_ENV) : MAX_CONNECTIONS_PER_ROUTE_DEFAULT));
+    }
+
+    /**
+     * Maximum time in milliseconds idle connections are kept alive.
+     * @return
+     */
+    public static long getKeepAlive() {
+        return Long.parseLong(System.getProperty(KEEP_ALIVE_PROPERTY, System.getenv(KEEP_ALIVE_ENV) != null ?
+                        System.getenv(KEEP_ALIVE_ENV) : KEEP_ALIVE_DEFAULT));
+    }
+
+    /**
+     * Total time to live in milliseconds of pooled connections.
+     * @return
+     */
+    public static long getConnectionTimeToLive() {
+        return Long.parseLong(System.getProperty(CONNECTION_TTL_PROPERTY, System.getenv(CONNECTION_TTL_ENV) != null ?
+                        System.getenv(CONNECTION_TTL_ENV) : CONNECTION_TTL_DEFAULT));
+    }
+
+    /**
+     * Period of inactivity in milliseconds after which pooled connections are validated before they are reused.
+     * @return
+     */
+    public static long getValidateAfterInactivity() {
+        return Long.parseLong(System.getProperty(VALIDATE_AFTER_INACTIVITY_PROPERTY, System.getenv(VALIDATE_AFTER_INACTIVITY_ENV) != null ?
+                        System.getenv(VALIDATE_AFTER_INACTIVITY_ENV) : VALIDATE_AFTER_INACTIVITY_DEFAULT));
+    }
+}
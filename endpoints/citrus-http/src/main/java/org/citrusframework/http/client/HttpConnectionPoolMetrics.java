@@ -0,0 +1,109 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.citrusframework.http.client;
+
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.apache.hc.core5.pool.PoolStats;
+import org.citrusframework.base.report.InstrumentationReporterSettings;
+import org.citrusframework.util.ClassLoaderHelper;
+
+/**
+ * Publishes the connection pool statistics of Http clients as Micrometer gauges. Gauges are registered when
+ * instrumentation and Micrometer metrics are enabled and Micrometer is on the classpath.
+ * <p>
+ * Gauges are tagged with the client name and a client instance id, because several clients may share the same name.
+ * Clients remove their gauges when they get destroyed.
+ */
+final class HttpConnectionPoolMetrics {
+
+    public static final String CONNECTIONS_GAUGE = "citrus.http.client.connections";
+
+    private static final String MICROMETER_CLASS = "io.micrometer.core.instrument.Metrics";
+
+    private HttpConnectionPoolMetrics() {
+        // prevent instantiation
+    }
+
+    /**
+     * Registers the connection pool gauges of given client when enabled.
+     * @param client
+     * @param configuration
+     * @return callback removing the registered gauges
+     */
+    static Runnable register(String client, HttpEndpointConfiguration configuration) {
+        if (InstrumentationReporterSettings.isEnabled() && InstrumentationReporterSettings.isMicrometerEnabled()
+                && isMicrometerPresent()) {
+            return MicrometerGauges.register(client, configuration);
+        }
+
+        return () -> {};
+    }
+
+    private static boolean isMicrometerPresent() {
+        try {
+            Class.forName(MICROMETER_CLASS, false, ClassLoaderHelper.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Holds all Micrometer references, so the enclosing class loads without Micrometer on the classpath.
+     */
+    static final class MicrometerGauges {
+
+        private MicrometerGauges() {
+            // prevent instantiation
+        }
+
+        static Runnable register(String client, HttpEndpointConfiguration configuration) {
+            return register(Metrics.globalRegistry, client, configuration);
+        }
+
+        static Runnable register(MeterRegistry registry, String client, HttpEndpointConfiguration configuration) {
+            String instance = Integer.toHexString(System.identityHashCode(configuration));
+            List<Meter> gauges = List.of(
+                    register(registry, client, instance, "leased", configuration, PoolStats::getLeased),
+                    register(registry, client, instance, "available", configuration, PoolStats::getAvailable),
+                    register(registry, client, instance, "pending", configuration, PoolStats::getPending),
+                    register(registry, client, instance, "max", configuration, PoolStats::getMax));
+
+            return () -> gauges.forEach(registry::remove);
+        }
+
+        private static Meter register(MeterRegistry registry, String client, String instance, String state,
+                                      HttpEndpointConfiguration configuration, ToDoubleFunction<PoolStats> value) {
+            return Gauge.builder(CONNECTIONS_GAUGE, configuration, config -> {
+                        PoolStats stats = config.getConnectionPoolStats();
+                        return stats != null ? value.applyAsDouble(stats) : Double.NaN;
+                    })
+                    .description("Http client connection pool connections")
+                    .tag("client", client)
+                    .tag("instance", instance)
+                    .tag("state", state)
+                    .register(registry);
+        }
+    }
+}
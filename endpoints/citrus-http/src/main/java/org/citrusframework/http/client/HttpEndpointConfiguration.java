@@ -18,12 +18,24 @@ package org.citrusframework.http.client;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
 import org.citrusframework.endpoint.AbstractPollableEndpointConfiguration;
 import org.citrusframework.endpoint.resolver.DynamicEndpointUriResolver;
 import org.citrusframework.endpoint.resolver.EndpointUriResolver;
+import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.http.interceptor.LoggingClientInterceptor;
 import org.citrusframework.http.message.HttpMessageConverter;
 import org.citrusframework.message.DefaultMessageCorrelator;
@@ -35,6 +47,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.integration.http.support.DefaultHttpHeaderMapper;
 import org.springframework.integration.mapping.HeaderMapper;
@@ -68,6 +81,33 @@ public class HttpEndpointConfiguration extends AbstractPollableEndpointConfigura
     /** Request factory */
     private ClientHttpRequestFactory requestFactory;
 
+    /** Http client connection manager */
+    private HttpClientConnectionManager connectionManager;
+
+    /** Connection manager has been set explicitly, for instance by a secured connection */
+    private boolean customConnectionManager = false;
+
+    /** Pool settings that have been set explicitly and also apply to a custom connection manager */
+    private final Set<PoolSetting> explicitPoolSettings = EnumSet.noneOf(PoolSetting.class);
+
+    /** Maximum number of pooled connections in total */
+    private int maxConnections = HttpClientSettings.getMaxConnections();
+
+    /** Maximum number of pooled connections per route */
+    private int maxConnectionsPerRoute = HttpClientSettings.getMaxConnectionsPerRoute();
+
+    /** Maximum time in milliseconds idle connections are kept alive, negative values use the server keep alive header */
+    private long keepAlive = HttpClientSettings.getKeepAlive();
+
+    /** Total time to live in milliseconds of pooled connections, negative values mean no limit */
+    private long connectionTimeToLive = HttpClientSettings.getConnectionTimeToLive();
+
+    /** Period of inactivity in milliseconds after which pooled connections are validated before reuse */
+    private long validateAfterInactivity = HttpClientSettings.getValidateAfterInactivity();
+
+    /** Use Http/2 with the Java Http client instead of the Apache Http client */
+    private boolean http2 = false;
+
     /** Resolves dynamic endpoint uri */
     private EndpointUriResolver endpointUriResolver = new DynamicEndpointUriResolver();
 
@@ -308,12 +348,27 @@ public class HttpEndpointConfiguration extends AbstractPollableEndpointConfigura
     }
 
     /**
-     * Gets the client request factory.
+     * Gets the client request factory. Creates a request factory using the Apache Http client with a pooling connection
+     * manager by default. When Http/2 is enabled the request factory uses the Java Http client instead.
+     * The Java Http client does not use the connection manager, so Http/2 can not be combined with a custom connection
+     * manager such as a secured connection. Set a request factory with a custom Java Http client in this case.
      * @return
      */
     public ClientHttpRequestFactory getRequestFactory() {
         if (requestFactory == null) {
-            requestFactory = new HttpComponentsClientHttpRequestFactory(getHttpClient().build());
+            if (http2) {
+                if (customConnectionManager) {
+                    throw new CitrusRuntimeException("Http/2 client does not support a custom connection manager " +
+                            "such as a secured connection - set a request factory using a custom Java Http client instead");
+                }
+
+                requestFactory = new JdkClientHttpRequestFactory(java.net.http.HttpClient.newBuilder()
+                        .version(java.net.http.HttpClient.Version.HTTP_2)
+                        .followRedirects(disableRedirectHandling ? java.net.http.HttpClient.Redirect.NEVER : java.net.http.HttpClient.Redirect.NORMAL)
+                        .build());
+            } else {
+                requestFactory = new HttpComponentsClientHttpRequestFactory(getHttpClient().build());
+            }
         }
 
         return requestFactory;
@@ -329,7 +384,10 @@ public class HttpEndpointConfiguration extends AbstractPollableEndpointConfigura
 
     public HttpClientBuilder getHttpClient() {
         if (httpClient == null) {
-            httpClient = HttpClientBuilder.create().useSystemProperties();
+            httpClient = HttpClientBuilder.create()
+                    .useSystemProperties()
+                    .setConnectionManager(getConnectionManager())
+                    .setKeepAliveStrategy(this::getKeepAliveDuration);
         }
 
         if (disableRedirectHandling) {
@@ -343,6 +401,94 @@ public class HttpEndpointConfiguration extends AbstractPollableEndpointConfigura
         this.httpClient = httpClient;
     }
 
+    /**
+     * Gets the connection manager. Creates a pooling connection manager with the configured pool settings by default.
+     * @return
+     */
+    public synchronized HttpClientConnectionManager getConnectionManager() {
+        if (connectionManager == null) {
+            connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                    .useSystemProperties()
+                    .build();
+            configureConnectionPool();
+        }
+
+        return connectionManager;
+    }
+
+    /**
+     * Sets the connection manager used by the Http client. The connection manager keeps its own pool settings,
+     * only pool settings set explicitly on this configuration are applied to pooling connection managers.
+     * @param connectionManager
+     */
+    public synchronized void setConnectionManager(HttpClientConnectionManager connectionManager) {
+        this.connectionManager = connectionManager;
+        this.customConnectionManager = true;
+        configureConnectionPool();
+        getHttpClient().setConnectionManager(connectionManager);
+    }
+
+    /**
+     * Gets the statistics of the client connection pool such as the number of leased, available and pending connections.
+     * Returns null when the client does not use a pooling connection manager, for instance with Http/2, a custom request
+     * factory or a custom Http client.
+     * @return
+     */
+    public PoolStats getConnectionPoolStats() {
+        if (!http2 && connectionManager instanceof PoolingHttpClientConnectionManager pool) {
+            return pool.getTotalStats();
+        }
+
+        return null;
+    }
+
+    /**
+     * Applies the pool settings to the pooling connection manager. Settings also apply to a pool that is already in use.
+     * A custom connection manager only gets the settings that have been set explicitly.
+     */
+    private synchronized void configureConnectionPool() {
+        if (connectionManager instanceof PoolingHttpClientConnectionManager pool) {
+            if (isPoolSettingApplied(PoolSetting.MAX_CONNECTIONS)) {
+                pool.setMaxTotal(maxConnections);
+            }
+
+            if (isPoolSettingApplied(PoolSetting.MAX_CONNECTIONS_PER_ROUTE)) {
+                pool.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+            }
+
+            if (isPoolSettingApplied(PoolSetting.CONNECTION_CONFIG)) {
+                ConnectionConfig.Builder connectionConfig = ConnectionConfig.custom()
+                        .setValidateAfterInactivity(TimeValue.ofMilliseconds(validateAfterInactivity));
+                if (connectionTimeToLive >= 0) {
+                    connectionConfig.setTimeToLive(TimeValue.ofMilliseconds(connectionTimeToLive));
+                }
+                pool.setDefaultConnectionConfig(connectionConfig.build());
+            }
+        }
+    }
+
+    private synchronized void setPoolSetting(PoolSetting setting) {
+        explicitPoolSettings.add(setting);
+        configureConnectionPool();
+    }
+
+    private boolean isPoolSettingApplied(PoolSetting setting) {
+        return !customConnectionManager || explicitPoolSettings.contains(setting);
+    }
+
+    /**
+     * Keep alive strategy honoring the keep alive response header of the server and limiting the keep alive time to the
+     * configured maximum.
+     */
+    private TimeValue getKeepAliveDuration(HttpResponse response, HttpContext context) {
+        TimeValue duration = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+        if (keepAlive >= 0 && (!TimeValue.isPositive(duration) || duration.toMilliseconds() > keepAlive)) {
+            return TimeValue.ofMilliseconds(keepAlive);
+        }
+
+        return duration;
+    }
+
     /**
      * Gets the message converter.
      * @return
@@ -429,6 +575,94 @@ public class HttpEndpointConfiguration extends AbstractPollableEndpointConfigura
         this.disableRedirectHandling = disableRedirectHandling;
     }
 
+    /**
+     * Gets the maximum number of pooled connections in total.
+     */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * Sets the maximum number of pooled connections in total.
+     */
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+        setPoolSetting(PoolSetting.MAX_CONNECTIONS);
+    }
+
+    /**
+     * Gets the maximum number of pooled connections per route.
+     */
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    /**
+     * Sets the maximum number of pooled connections per route.
+     */
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        setPoolSetting(PoolSetting.MAX_CONNECTIONS_PER_ROUTE);
+    }
+
+    /**
+     * Gets the maximum time in milliseconds idle connections are kept alive.
+     */
+    public long getKeepAlive() {
+        return keepAlive;
+    }
+
+    /**
+     * Sets the maximum time in milliseconds idle connections are kept alive.
+     */
+    public void setKeepAlive(long keepAlive) {
+        this.keepAlive = keepAlive;
+    }
+
+    /**
+     * Gets the total time to live in milliseconds of pooled connections.
+     */
+    public long getConnectionTimeToLive() {
+        return connectionTimeToLive;
+    }
+
+    /**
+     * Sets the total time to live in milliseconds of pooled connections.
+     */
+    public void setConnectionTimeToLive(long connectionTimeToLive) {
+        this.connectionTimeToLive = connectionTimeToLive;
+        setPoolSetting(PoolSetting.CONNECTION_CONFIG);
+    }
+
+    /**
+     * Gets the period of inactivity in milliseconds after which pooled connections are validated.
+     */
+    public long getValidateAfterInactivity() {
+        return validateAfterInactivity;
+    }
+
+    /**
+     * Sets the period of inactivity in milliseconds after which pooled connections are validated.
+     */
+    public void setValidateAfterInactivity(long validateAfterInactivity) {
+        this.validateAfterInactivity = validateAfterInactivity;
+        setPoolSetting(PoolSetting.CONNECTION_CONFIG);
+    }
+
+    /**
+     * Gets the http2.
+     */
+    public boolean isHttp2() {
+        return http2;
+    }
+
+    /**
+     * Sets the http2.
+     */
+    public void setHttp2(boolean http2) {
+        this.http2 = http2;
+    }
+
     /**
      * Gets the removeSemicolonPathContent.
      */
@@ -500,4 +734,13 @@ public class HttpEndpointConfiguration extends AbstractPollableEndpointConfigura
     public void setBinaryMediaTypes(List<MediaType> binaryMediaTypes) {
         this.binaryMediaTypes = binaryMediaTypes;
     }
+
+    /**
+     * Pool settings applied to the pooling connection manager.
+     */
+    private enum PoolSetting {
+        MAX_CONNECTIONS,
+        MAX_CONNECTIONS_PER_ROUTE,
+        CONNECTION_CONFIG
+    }
 }
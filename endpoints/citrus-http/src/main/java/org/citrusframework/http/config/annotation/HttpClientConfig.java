@@ -99,6 +99,42 @@ public @interface HttpClientConfig {
      */
     boolean disableRedirectHandling() default false;
 
+    /**
+     * Maximum number of pooled connections in total. Zero uses the default from the Http client settings.
+     * @return
+     */
+    int maxConnections() default 0;
+
+    /**
+     * Maximum number of pooled connections per route. Zero uses the default from the Http client settings.
+     * @return
+     */
+    int maxConnectionsPerRoute() default 0;
+
+    /**
+     * Maximum keep alive time in milliseconds. Negative values use the default from the Http client settings.
+     * @return
+     */
+    long keepAlive() default -1L;
+
+    /**
+     * Connection time to live in milliseconds. Negative values use the default from the Http client settings.
+     * @return
+     */
+    long connectionTimeToLive() default -1L;
+
+    /**
+     * Validate pooled connections after inactivity in milliseconds. Negative values use the default from the Http client settings.
+     * @return
+     */
+    long validateAfterInactivity() default -1L;
+
+    /**
+     * Use Http/2.
+     * @return
+     */
+    boolean http2() default false;
+
     /**
      * Content type.
      * @return
@@ -84,6 +84,29 @@ public class HttpClientConfigParser implements AnnotationConfigParser<HttpClient
         builder.defaultAcceptHeader(annotation.defaultAcceptHeader());
         builder.handleCookies(annotation.handleCookies());
         builder.disableRedirectHandling(annotation.disableRedirectHandling());
+
+        if (annotation.maxConnections() > 0) {
+            builder.maxConnections(annotation.maxConnections());
+        }
+
+        if (annotation.maxConnectionsPerRoute() > 0) {
+            builder.maxConnectionsPerRoute(annotation.maxConnectionsPerRoute());
+        }
+
+        if (annotation.keepAlive() >= 0) {
+            builder.keepAlive(annotation.keepAlive());
+        }
+
+        if (annotation.connectionTimeToLive() >= 0) {
+            builder.connectionTimeToLive(annotation.connectionTimeToLive());
+        }
+
+        if (annotation.validateAfterInactivity() >= 0) {
+            builder.validateAfterInactivity(annotation.validateAfterInactivity());
+        }
+
+        builder.http2(annotation.http2());
+
         builder.charset(annotation.charset());
         builder.contentType(annotation.contentType());
         builder.pollingInterval(annotation.pollingInterval());
@@ -77,6 +77,12 @@ public class HttpClientParser extends AbstractEndpointParser {
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("polling-interval"), "pollingInterval");
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("handle-cookies"), "handleCookies");
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("disable-redirect-handling"), "disableRedirectHandling");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("max-connections"), "maxConnections");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("max-connections-per-route"), "maxConnectionsPerRoute");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("keep-alive"), "keepAlive");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("connection-ttl"), "connectionTimeToLive");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("validate-after-inactivity"), "validateAfterInactivity");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("http2"), "http2");
 
         BeanDefinitionParserUtils.setPropertyReference(endpointConfiguration, element.getAttribute("error-handler"), "errorHandler");
         if (element.hasAttribute("error-strategy")) {
@@ -0,0 +1,155 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.citrusframework.http.client;
+
+import java.util.List;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolStats;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.http.security.HttpSecureConnection;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class HttpEndpointConfigurationTest {
+
+    @Test
+    public void testDefaultConnectionPool() {
+        HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
+
+        Assert.assertEquals(endpointConfiguration.getRequestFactory().getClass(), HttpComponentsClientHttpRequestFactory.class);
+        Assert.assertEquals(endpointConfiguration.getConnectionManager().getClass(), PoolingHttpClientConnectionManager.class);
+
+        PoolingHttpClientConnectionManager connectionManager = (PoolingHttpClientConnectionManager) endpointConfiguration.getConnectionManager();
+        Assert.assertEquals(connectionManager.getMaxTotal(), 100);
+        Assert.assertEquals(connectionManager.getDefaultMaxPerRoute(), 20);
+
+        PoolStats poolStats = endpointConfiguration.getConnectionPoolStats();
+        Assert.assertNotNull(poolStats);
+        Assert.assertEquals(poolStats.getMax(), 100);
+        Assert.assertEquals(poolStats.getLeased(), 0);
+        Assert.assertEquals(poolStats.getPending(), 0);
+    }
+
+    @Test
+    public void testConnectionPoolSettings() {
+        HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
+        endpointConfiguration.setMaxConnections(50);
+
+        PoolingHttpClientConnectionManager connectionManager = (PoolingHttpClientConnectionManager) endpointConfiguration.getConnectionManager();
+        Assert.assertEquals(connectionManager.getMaxTotal(), 50);
+
+        endpointConfiguration.setMaxConnectionsPerRoute(25);
+        Assert.assertEquals(connectionManager.getDefaultMaxPerRoute(), 25);
+        Assert.assertEquals(endpointConfiguration.getConnectionPoolStats().getMax(), 50);
+    }
+
+    @Test
+    public void testCustomConnectionManagerKeepsPoolSettings() {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(10)
+                .setMaxConnPerRoute(5)
+                .build();
+
+        HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
+        endpointConfiguration.setConnectionManager(connectionManager);
+
+        Assert.assertSame(endpointConfiguration.getConnectionManager(), connectionManager);
+        Assert.assertEquals(connectionManager.getMaxTotal(), 10);
+        Assert.assertEquals(connectionManager.getDefaultMaxPerRoute(), 5);
+
+        endpointConfiguration.setMaxConnectionsPerRoute(8);
+        Assert.assertEquals(connectionManager.getMaxTotal(), 10);
+        Assert.assertEquals(connectionManager.getDefaultMaxPerRoute(), 8);
+    }
+
+    @Test
+    public void testConnectionPoolBuilder() {
+        HttpClient httpClient = new HttpClientBuilder()
+                .requestUrl("http://localhost:8080/test")
+                .maxConnections(200)
+                .maxConnectionsPerRoute(50)
+                .keepAlive(30000L)
+                .connectionTimeToLive(60000L)
+                .validateAfterInactivity(1000L)
+                .build();
+
+        HttpEndpointConfiguration endpointConfiguration = httpClient.getEndpointConfiguration();
+        Assert.assertEquals(endpointConfiguration.getMaxConnections(), 200);
+        Assert.assertEquals(endpointConfiguration.getMaxConnectionsPerRoute(), 50);
+        Assert.assertEquals(endpointConfiguration.getKeepAlive(), 30000L);
+        Assert.assertEquals(endpointConfiguration.getConnectionTimeToLive(), 60000L);
+        Assert.assertEquals(endpointConfiguration.getValidateAfterInactivity(), 1000L);
+
+        PoolingHttpClientConnectionManager connectionManager = (PoolingHttpClientConnectionManager) endpointConfiguration.getConnectionManager();
+        Assert.assertEquals(connectionManager.getMaxTotal(), 200);
+        Assert.assertEquals(connectionManager.getDefaultMaxPerRoute(), 50);
+        Assert.assertEquals(httpClient.getConnectionPoolStats().getMax(), 200);
+    }
+
+    @Test
+    public void testHttp2() {
+        HttpClient httpClient = new HttpClientBuilder()
+                .requestUrl("http://localhost:8080/test")
+                .http2(true)
+                .build();
+
+        HttpEndpointConfiguration endpointConfiguration = httpClient.getEndpointConfiguration();
+        Assert.assertTrue(endpointConfiguration.isHttp2());
+        Assert.assertEquals(endpointConfiguration.getRequestFactory().getClass(), JdkClientHttpRequestFactory.class);
+        Assert.assertNull(httpClient.getConnectionPoolStats());
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void testHttp2WithSecuredConnection() {
+        HttpClient httpClient = new HttpClientBuilder()
+                .requestUrl("https://localhost:8443/test")
+                .http2(true)
+                .secured(HttpSecureConnection.ssl())
+                .build();
+
+        httpClient.getEndpointConfiguration().getRequestFactory();
+    }
+
+    @Test
+    public void testConnectionPoolMetrics() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+
+        HttpEndpointConfiguration first = new HttpEndpointConfiguration();
+        HttpEndpointConfiguration second = new HttpEndpointConfiguration();
+        second.setMaxConnections(50);
+
+        Runnable removeFirst = HttpConnectionPoolMetrics.MicrometerGauges.register(registry, "HttpClient", first);
+        HttpConnectionPoolMetrics.MicrometerGauges.register(registry, "HttpClient", second);
+
+        Assert.assertEquals(registry.find(HttpConnectionPoolMetrics.CONNECTIONS_GAUGE).tag("state", "max").gauges().stream()
+                .map(Gauge::value)
+                .sorted()
+                .toList(), List.of(50.0D, 100.0D));
+
+        removeFirst.run();
+        Assert.assertEquals(registry.find(HttpConnectionPoolMetrics.CONNECTIONS_GAUGE).gauges().size(), 4);
+        Assert.assertEquals(registry.get(HttpConnectionPoolMetrics.CONNECTIONS_GAUGE).tag("state", "max").gauge().value(), 50.0D);
+    }
+}
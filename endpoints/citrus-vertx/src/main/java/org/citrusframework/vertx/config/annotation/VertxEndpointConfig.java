@@ -61,6 +61,12 @@ public @interface VertxEndpointConfig {
      */
     boolean pubSubDomain() default false;
 
+    /**
+     * Auto start event bus consumer.
+     * @return
+     */
+    boolean autoStart() default false;
+
     /**
      * Message converter.
      * @return
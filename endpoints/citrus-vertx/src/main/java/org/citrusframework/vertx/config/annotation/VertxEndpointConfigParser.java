@@ -48,6 +48,7 @@ public class VertxEndpointConfigParser implements AnnotationConfigParser<VertxEn
         builder.vertxFactory(referenceResolver.resolve(annotation.vertxFactory(), VertxInstanceFactory.class));
 
         builder.pubSubDomain(annotation.pubSubDomain());
+        builder.autoStart(annotation.autoStart());
 
         if (StringUtils.hasText(annotation.messageConverter())) {
             builder.messageConverter(referenceResolver.resolve(annotation.messageConverter(), VertxMessageConverter.class));
@@ -16,6 +16,11 @@
 
 package org.citrusframework.vertx.endpoint;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.eventbus.MessageConsumer;
@@ -40,9 +45,6 @@ public class VertxConsumer extends AbstractMessageConsumer {
     /** Logger */
     private static final Logger logger = LoggerFactory.getLogger(VertxConsumer.class);
 
-    /** Retry logger */
-    private static final Logger RETRY_LOG = LoggerFactory.getLogger("org.citrusframework.RetryLogger");
-
     /**
      * Default constructor using endpoint.
      * @param name
@@ -65,24 +67,7 @@ public class VertxConsumer extends AbstractMessageConsumer {
         MessageConsumer<Object> vertxConsumer = vertx.eventBus().consumer(endpointConfiguration.getAddress(), vertxMessageHandler);
 
         try {
-            long timeLeft = timeout;
-            Message message = endpointConfiguration.getMessageConverter().convertInbound(vertxMessageHandler.getMessage(), endpointConfiguration, context);
-
-            while (message == null && timeLeft > 0) {
-                timeLeft -= endpointConfiguration.getPollingInterval();
-
-                if (RETRY_LOG.isDebugEnabled()) {
-                    RETRY_LOG.debug("Waiting for message on Vert.x event bus address '{}' - retrying in {} ms", endpointConfiguration.getAddress(), (timeLeft > 0 ? endpointConfiguration.getPollingInterval() : endpointConfiguration.getPollingInterval() + timeLeft));
-                }
-
-                try {
-                    Thread.sleep(timeLeft > 0 ? endpointConfiguration.getPollingInterval() : endpointConfiguration.getPollingInterval() + timeLeft);
-                } catch (InterruptedException e) {
-                    RETRY_LOG.warn("Thread interrupted while waiting for message on Vert.x event bus", e);
-                }
-
-                message = endpointConfiguration.getMessageConverter().convertInbound(vertxMessageHandler.getMessage(), endpointConfiguration, context);
-            }
+            Message message = endpointConfiguration.getMessageConverter().convertInbound(vertxMessageHandler.awaitMessage(timeout), endpointConfiguration, context);
 
             if (message == null) {
                 throw new MessageTimeoutException(timeout, endpointConfiguration.getAddress());
@@ -100,27 +85,35 @@ public class VertxConsumer extends AbstractMessageConsumer {
 
     /**
      * Simple Vert.x message handler stores first message received on event bus and ignores all further messages
-     * until subscription is unregistered automatically.
+     * until subscription is unregistered automatically. Waiting receivers are notified as soon as the message arrives.
      */
     private class VertxSingleMessageHandler implements Handler<io.vertx.core.eventbus.Message<Object>> {
-        private io.vertx.core.eventbus.Message message;
+        private final CompletableFuture<io.vertx.core.eventbus.Message<Object>> message = new CompletableFuture<>();
 
         @Override
-        public void handle(io.vertx.core.eventbus.Message event) {
-            if (message == null) {
-                this.message = event;
-            } else {
+        public void handle(io.vertx.core.eventbus.Message<Object> event) {
+            if (!message.complete(event)) {
                 logger.warn("Vert.x message handler ignored message on event bus address '{}'", endpointConfiguration.getAddress());
                 logger.debug("Vert.x message ignored is {}", event);
             }
         }
 
         /**
-         * Gets the vert.x message received on event bus.
+         * Waits for the vert.x message received on event bus. Returns null when no message arrived within given timeout.
+         * @param timeout
          * @return
          */
-        public io.vertx.core.eventbus.Message getMessage() {
-            return message;
+        public io.vertx.core.eventbus.Message<Object> awaitMessage(long timeout) {
+            try {
+                return message.get(Math.max(timeout, 0L), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.warn("Thread interrupted while waiting for message on Vert.x event bus", e);
+            } catch (ExecutionException | TimeoutException e) {
+                logger.debug("No message received on Vert.x event bus address '{}' within {} ms", endpointConfiguration.getAddress(), timeout);
+            }
+
+            return message.getNow(null);
         }
     }
 }
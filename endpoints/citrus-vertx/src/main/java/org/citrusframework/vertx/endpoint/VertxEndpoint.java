@@ -16,19 +16,30 @@
 
 package org.citrusframework.vertx.endpoint;
 
+import org.citrusframework.api.common.InitializingPhase;
+import org.citrusframework.api.common.ShutdownPhase;
+import org.citrusframework.context.TestContextFactory;
 import org.citrusframework.endpoint.AbstractEndpoint;
 import org.citrusframework.messaging.Consumer;
 import org.citrusframework.messaging.Producer;
+import org.citrusframework.spi.ReferenceResolver;
+import org.citrusframework.spi.ReferenceResolverAware;
+import org.citrusframework.spring.context.TestContextFactoryBean;
 import org.citrusframework.vertx.factory.VertxInstanceFactory;
 
 /**
  * @since 1.4.1
  */
-public class VertxEndpoint extends AbstractEndpoint {
+public class VertxEndpoint extends AbstractEndpoint implements InitializingPhase, ShutdownPhase, ReferenceResolverAware {
 
     /** Vert.x instance */
     private VertxInstanceFactory vertxInstanceFactory;
 
+    /** Cached event bus subscriber when auto start is enabled */
+    private VertxEventBusSubscriber subscriber;
+
+    private ReferenceResolver referenceResolver;
+
     /**
      * Default constructor initializing endpoint configuration.
      */
@@ -53,10 +64,63 @@ public class VertxEndpoint extends AbstractEndpoint {
 
     @Override
     public Consumer createConsumer() {
+        if (getEndpointConfiguration().isAutoStart()) {
+            return createSubscriber();
+        }
+
         return new VertxConsumer(getConsumerName(), vertxInstanceFactory.newInstance(getEndpointConfiguration()),
                 getEndpointConfiguration());
     }
 
+    /**
+     * Creates the event bus subscriber only once and starts the subscription.
+     * @return
+     */
+    private synchronized VertxEventBusSubscriber createSubscriber() {
+        if (subscriber == null) {
+            subscriber = new VertxEventBusSubscriber(getSubscriberName(), vertxInstanceFactory.newInstance(getEndpointConfiguration()),
+                    getEndpointConfiguration(), getTestContextFactory());
+            subscriber.start();
+        }
+
+        return subscriber;
+    }
+
+    private TestContextFactory getTestContextFactory() {
+        if (referenceResolver != null && !referenceResolver.resolveAll(TestContextFactoryBean.class).isEmpty()) {
+            return referenceResolver.resolve(TestContextFactoryBean.class);
+        }
+        return TestContextFactory.newInstance();
+    }
+
+    /**
+     * Gets the endpoints subscriber name.
+     * @return
+     */
+    protected String getSubscriberName() {
+        return getName() + ":subscriber";
+    }
+
+    @Override
+    public void initialize() {
+        if (getEndpointConfiguration().isAutoStart()) {
+            createSubscriber();
+        }
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (subscriber != null) {
+            subscriber.stop();
+            subscriber = null;
+        }
+    }
+
+    @Override
+    public void setReferenceResolver(ReferenceResolver referenceResolver) {
+        this.referenceResolver = referenceResolver;
+    }
+
     @Override
     public VertxEndpointConfiguration getEndpointConfiguration() {
         return (VertxEndpointConfiguration) super.getEndpointConfiguration();
@@ -142,6 +142,20 @@ public class VertxEndpointBuilder extends AbstractEndpointBuilder<VertxEndpoint>
         pubSubDomain(pubSubDomain);
     }
 
+    /**
+     * Sets the autoStart property.
+     */
+    public VertxEndpointBuilder autoStart(boolean autoStart) {
+        endpoint.getEndpointConfiguration().setAutoStart(autoStart);
+        return this;
+    }
+
+    @SchemaProperty(advanced = true, description = "When enabled the endpoint keeps a single event bus consumer registered and buffers all inbound messages.")
+    @XmlAttribute(name = "auto-start")
+    public void setAutoStart(boolean autoStart) {
+        autoStart(autoStart);
+    }
+
     /**
      * Sets the polling interval.
      */
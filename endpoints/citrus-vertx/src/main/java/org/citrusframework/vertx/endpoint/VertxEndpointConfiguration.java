@@ -36,6 +36,9 @@ public class VertxEndpointConfiguration extends AbstractPollableEndpointConfigur
     /** Should use publish subscribe */
     private boolean pubSubDomain = false;
 
+    /** Register event bus consumer immediately at startup and buffer all incoming messages in memory */
+    private boolean autoStart = false;
+
     /** Message converter */
     private VertxMessageConverter messageConverter = new VertxMessageConverter();
 
@@ -103,6 +106,22 @@ public class VertxEndpointConfiguration extends AbstractPollableEndpointConfigur
         this.pubSubDomain = pubSubDomain;
     }
 
+    /**
+     * Gets the autoStart.
+     * @return
+     */
+    public boolean isAutoStart() {
+        return autoStart;
+    }
+
+    /**
+     * Sets the autoStart.
+     * @param autoStart
+     */
+    public void setAutoStart(boolean autoStart) {
+        this.autoStart = autoStart;
+    }
+
     /**
      * Gets the message converter.
      * @return
@@ -0,0 +1,203 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.vertx.endpoint;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.MessageConsumer;
+import org.citrusframework.context.TestContext;
+import org.citrusframework.context.TestContextFactory;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.exceptions.MessageTimeoutException;
+import org.citrusframework.message.Message;
+import org.citrusframework.message.MessageSelector;
+import org.citrusframework.message.selector.DelegatingMessageSelector;
+import org.citrusframework.messaging.SelectiveConsumer;
+import org.citrusframework.util.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Vert.x consumer keeps a single event bus consumer registered for its whole lifetime. All inbound messages are
+ * buffered in memory, so messages arriving between two receive operations are not lost. Receive operations
+ * complete as soon as a matching message arrives and support message selectors.
+ */
+public class VertxEventBusSubscriber extends VertxConsumer implements SelectiveConsumer {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(VertxEventBusSubscriber.class);
+
+    /** Vert.x instance */
+    private final Vertx vertx;
+
+    /** Endpoint configuration */
+    private final VertxEndpointConfiguration endpointConfiguration;
+
+    /** Test context factory for inbound message conversion */
+    private final TestContextFactory testContextFactory;
+
+    /** In memory buffer holding all inbound messages */
+    private final VertxMessageBuffer messageBuffer = new VertxMessageBuffer();
+
+    /** Completes as soon as the event bus consumer registration has been completed, recreated on each start */
+    private volatile CompletableFuture<Void> ready = new CompletableFuture<>();
+
+    private MessageConsumer<Object> subscription;
+
+    /**
+     * Default constructor using endpoint.
+     * @param name
+     * @param vertx
+     * @param endpointConfiguration
+     * @param testContextFactory
+     */
+    public VertxEventBusSubscriber(String name, Vertx vertx, VertxEndpointConfiguration endpointConfiguration, TestContextFactory testContextFactory) {
+        super(name, vertx, endpointConfiguration);
+        this.vertx = vertx;
+        this.endpointConfiguration = endpointConfiguration;
+        this.testContextFactory = testContextFactory;
+    }
+
+    /**
+     * Registers the event bus consumer and waits for the registration to complete. Raises an error and removes the
+     * event bus consumer when the registration fails or does not complete within the endpoint timeout.
+     */
+    public synchronized void start() {
+        if (subscription != null) {
+            return;
+        }
+
+        CompletableFuture<Void> registration = new CompletableFuture<>();
+        ready = registration;
+
+        logger.debug("Subscribing to Vert.x event bus address: '{}'", endpointConfiguration.getAddress());
+        subscription = vertx.eventBus().consumer(endpointConfiguration.getAddress(), this::onMessage);
+        subscription.completionHandler(result -> {
+            if (result.succeeded()) {
+                registration.complete(null);
+            } else {
+                registration.completeExceptionally(result.cause());
+            }
+        });
+
+        try {
+            registration.get(endpointConfiguration.getTimeout(), TimeUnit.MILLISECONDS);
+            logger.debug("Started Vert.x event bus subscription on address: '{}'", endpointConfiguration.getAddress());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            unsubscribe();
+            throw new CitrusRuntimeException("Interrupted while waiting for Vert.x event bus subscription on address: '"
+                    + endpointConfiguration.getAddress() + "'", e);
+        } catch (ExecutionException e) {
+            unsubscribe();
+            throw new CitrusRuntimeException("Failed to register Vert.x event bus subscription on address: '"
+                    + endpointConfiguration.getAddress() + "'", e.getCause());
+        } catch (TimeoutException e) {
+            unsubscribe();
+            throw new CitrusRuntimeException("Timeout while waiting for Vert.x event bus subscription on address: '"
+                    + endpointConfiguration.getAddress() + "'", e);
+        }
+    }
+
+    /**
+     * Unregisters the event bus consumer and discards all buffered messages.
+     */
+    public synchronized void stop() {
+        unsubscribe();
+        messageBuffer.clear();
+    }
+
+    private void unsubscribe() {
+        if (subscription != null) {
+            subscription.unregister();
+            subscription = null;
+        }
+    }
+
+    private void onMessage(io.vertx.core.eventbus.Message<Object> event) {
+        Message message = endpointConfiguration.getMessageConverter().convertInbound(event, endpointConfiguration, testContextFactory.getObject());
+        if (message != null) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Buffered message '{}' from Vert.x event bus address: '{}'", message.getId(), endpointConfiguration.getAddress());
+            }
+            messageBuffer.add(message);
+        }
+    }
+
+    @Override
+    public Message receive(TestContext context, long timeout) {
+        return receive(null, context, timeout);
+    }
+
+    @Override
+    public Message receive(String selector, TestContext context) {
+        return receive(selector, context, endpointConfiguration.getTimeout());
+    }
+
+    @Override
+    public Message receive(String selector, TestContext context, long timeout) {
+        start();
+
+        String address = endpointConfiguration.getAddress();
+        if (StringUtils.hasText(selector)) {
+            address = address + "(" + selector + ")";
+        }
+
+        logger.debug("Receiving message on Vert.x event bus address: '{}'", address);
+
+        MessageSelector messageSelector = StringUtils.hasText(selector) ? new DelegatingMessageSelector(selector, context) : null;
+        Message message = messageBuffer.receive(messageSelector, timeout);
+
+        if (message == null) {
+            throw new MessageTimeoutException(timeout, address);
+        }
+
+        logger.debug("Received message on Vert.x event bus address: '{}'", address);
+
+        context.onInboundMessage(message);
+
+        return message;
+    }
+
+    /**
+     * Gets the future that completes once the event bus consumer of the latest start is registered.
+     * @return
+     */
+    public CompletableFuture<Void> ready() {
+        return ready;
+    }
+
+    /**
+     * Gets the running state.
+     * @return
+     */
+    public synchronized boolean isRunning() {
+        return subscription != null;
+    }
+
+    /**
+     * Gets the number of buffered messages.
+     * @return
+     */
+    public int getBufferedMessageCount() {
+        return messageBuffer.size();
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.vertx.endpoint;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.citrusframework.message.Message;
+import org.citrusframework.message.MessageSelector;
+
+/**
+ * In memory buffer for inbound event bus messages. Waiting receivers are signalled as soon as a new message arrives,
+ * so receive operations complete without polling. Receivers may pick messages selectively with a message selector,
+ * messages that do not match stay in the buffer in arrival order.
+ */
+public class VertxMessageBuffer {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition messageAdded = lock.newCondition();
+
+    /** Buffered messages in arrival order */
+    private final LinkedList<Message> messages = new LinkedList<>();
+
+    /**
+     * Adds new message to the buffer and wakes up waiting receivers.
+     * @param message
+     */
+    public void add(Message message) {
+        lock.lock();
+        try {
+            messages.add(message);
+            messageAdded.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the first buffered message accepted by the given selector. Waits for new messages
+     * until the timeout is exceeded. Returns null on timeout.
+     * @param selector the message selector, may be null to accept any message
+     * @param timeout time to wait in milliseconds
+     * @return
+     */
+    public Message receive(MessageSelector selector, long timeout) {
+        long nanosLeft = TimeUnit.MILLISECONDS.toNanos(Math.max(timeout, 0L));
+
+        lock.lock();
+        try {
+            while (true) {
+                Message message = removeFirstMatch(selector);
+                if (message != null) {
+                    return message;
+                }
+
+                if (nanosLeft <= 0L) {
+                    return null;
+                }
+
+                try {
+                    nanosLeft = messageAdded.awaitNanos(nanosLeft);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return null;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of buffered messages.
+     * @return
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return messages.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all buffered messages.
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            messages.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Message removeFirstMatch(MessageSelector selector) {
+        Iterator<Message> iterator = messages.iterator();
+        while (iterator.hasNext()) {
+            Message message = iterator.next();
+            if (selector == null || selector.accept(message)) {
+                iterator.remove();
+                return message;
+            }
+        }
+
+        return null;
+    }
+}
@@ -32,6 +32,9 @@ public class VertxProducer implements Producer {
     /** Logger */
     private static final Logger logger = LoggerFactory.getLogger(VertxProducer.class);
 
+    /** Error message raised by Vert.x when the event bus is not ready to send messages yet */
+    private static final String EVENT_BUS_NOT_STARTED = "Event Bus is not started";
+
     /** The producer name. */
     private final String name;
 
@@ -54,21 +57,26 @@ public class VertxProducer implements Producer {
 
     @Override
     public void send(Message message, TestContext context) {
-        try {
-            sendOrPublishMessage(message);
-        } catch (IllegalStateException e) {
-            if (e.getMessage().equals("Event Bus is not started")) {
-                logger.warn("Event bus not started yet - retrying in 2000 ms");
+        long timeLeft = endpointConfiguration.getTimeout();
+        while (true) {
+            try {
+                sendOrPublishMessage(message);
+                break;
+            } catch (IllegalStateException e) {
+                if (!EVENT_BUS_NOT_STARTED.equals(e.getMessage()) || timeLeft <= 0) {
+                    throw e;
+                }
+
+                long retryDelay = Math.min(endpointConfiguration.getPollingInterval(), timeLeft);
+                timeLeft -= retryDelay;
+                logger.warn("Event bus not started yet - retrying in {} ms", retryDelay);
 
                 try {
-                    Thread.sleep(2000L);
+                    Thread.sleep(retryDelay);
                 } catch (InterruptedException ex) {
-                    logger.warn("Interrupted while waiting fot event bus to start", ex);
+                    Thread.currentThread().interrupt();
+                    throw e;
                 }
-
-                sendOrPublishMessage(message);
-            } else {
-                throw e;
             }
         }
 
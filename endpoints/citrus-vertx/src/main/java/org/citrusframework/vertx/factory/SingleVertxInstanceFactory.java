@@ -17,8 +17,6 @@
 package org.citrusframework.vertx.factory;
 
 import org.citrusframework.vertx.endpoint.VertxEndpointConfiguration;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import io.vertx.core.Vertx;
 
 /**
@@ -28,9 +26,6 @@ import io.vertx.core.Vertx;
  */
 public class SingleVertxInstanceFactory extends AbstractVertxInstanceFactory {
 
-    /** Logger */
-    private static final Logger logger = LoggerFactory.getLogger(SingleVertxInstanceFactory.class);
-
     /** Vert.x instance */
     private Vertx vertx;
 
@@ -40,12 +35,6 @@ public class SingleVertxInstanceFactory extends AbstractVertxInstanceFactory {
             vertx = createVertx(endpointConfiguration);
         }
 
-        try {
-            Thread.sleep(5000L);
-        } catch (InterruptedException e) {
-            logger.warn("Interrupted while waiting for vert.x instance to start up", e);
-        }
-
         return vertx;
     }
 
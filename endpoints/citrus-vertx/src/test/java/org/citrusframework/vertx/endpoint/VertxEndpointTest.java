@@ -16,6 +16,9 @@
 
 package org.citrusframework.vertx.endpoint;
 
+import org.citrusframework.context.TestContextFactory;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.exceptions.MessageTimeoutException;
 import org.citrusframework.message.DefaultMessage;
 import org.citrusframework.message.Message;
 import org.citrusframework.report.MessageListeners;
@@ -27,6 +30,8 @@ import org.mockito.stubbing.Answer;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.eventbus.EventBus;
@@ -125,6 +130,141 @@ public class VertxEndpointTest extends AbstractTestNGUnitTest {
         verify(messageConsumer).unregister();
     }
 
+    @Test
+    public void testVertxEndpointAutoStartSubscriber() {
+        String eventBusAddress = "news-feed";
+        VertxEndpointConfiguration endpointConfiguration = new VertxEndpointConfiguration();
+        endpointConfiguration.setAddress(eventBusAddress);
+        endpointConfiguration.setAutoStart(true);
+        endpointConfiguration.setTimeout(100L);
+
+        VertxEndpoint vertxEndpoint = new VertxEndpoint(endpointConfiguration);
+        vertxEndpoint.setVertxInstanceFactory(instanceFactory);
+
+        reset(vertx, eventBus, messageConsumer);
+
+        Handler<io.vertx.core.eventbus.Message<Object>>[] subscription = new Handler[1];
+        when(vertx.eventBus()).thenReturn(eventBus);
+        doAnswer((Answer<MessageConsumer>) invocation -> {
+            subscription[0] = (Handler) invocation.getArguments()[1];
+            return messageConsumer;
+        }).when(eventBus).consumer(eq(eventBusAddress), any(Handler.class));
+        doAnswer(invocation -> {
+            Handler<AsyncResult<Void>> completionHandler = (Handler) invocation.getArguments()[0];
+            completionHandler.handle(Future.succeededFuture());
+            return null;
+        }).when(messageConsumer).completionHandler(any(Handler.class));
+
+        vertxEndpoint.initialize();
+
+        VertxEventBusSubscriber subscriber = (VertxEventBusSubscriber) vertxEndpoint.createConsumer();
+        Assert.assertSame(vertxEndpoint.createConsumer(), subscriber);
+        Assert.assertTrue(subscriber.isRunning());
+        Assert.assertTrue(subscriber.ready().isDone());
+
+        // Messages arriving before and between receive operations are buffered
+        subscription[0].handle(eventBusMessage(eventBusAddress, "Hello"));
+        subscription[0].handle(eventBusMessage(eventBusAddress, "Hola"));
+        subscription[0].handle(eventBusMessage(eventBusAddress, "Hallo"));
+        Assert.assertEquals(subscriber.getBufferedMessageCount(), 3);
+
+        Message receivedMessage = subscriber.receive("payload = 'Hallo'", context, endpointConfiguration.getTimeout());
+        Assert.assertEquals(receivedMessage.getPayload(), "Hallo");
+
+        Assert.assertEquals(subscriber.receive(context, endpointConfiguration.getTimeout()).getPayload(), "Hello");
+        Assert.assertEquals(subscriber.receive(context, endpointConfiguration.getTimeout()).getPayload(), "Hola");
+
+        Assert.assertThrows(MessageTimeoutException.class, () -> subscriber.receive(context, endpointConfiguration.getTimeout()));
+
+        vertxEndpoint.destroy();
+
+        Assert.assertFalse(subscriber.isRunning());
+        verify(eventBus, times(1)).consumer(eq(eventBusAddress), any(Handler.class));
+        verify(messageConsumer).unregister();
+    }
+
+    @Test
+    public void testVertxEndpointAutoStartSubscriberWaitsForMessage() throws Exception {
+        String eventBusAddress = "news-feed";
+        VertxEndpointConfiguration endpointConfiguration = new VertxEndpointConfiguration();
+        endpointConfiguration.setAddress(eventBusAddress);
+        endpointConfiguration.setTimeout(5000L);
+
+        reset(vertx, eventBus, messageConsumer);
+
+        Handler<io.vertx.core.eventbus.Message<Object>>[] subscription = new Handler[1];
+        when(vertx.eventBus()).thenReturn(eventBus);
+        doAnswer((Answer<MessageConsumer>) invocation -> {
+            subscription[0] = (Handler) invocation.getArguments()[1];
+            return messageConsumer;
+        }).when(eventBus).consumer(eq(eventBusAddress), any(Handler.class));
+        doAnswer(invocation -> {
+            Handler<AsyncResult<Void>> completionHandler = (Handler) invocation.getArguments()[0];
+            completionHandler.handle(Future.succeededFuture());
+            return null;
+        }).when(messageConsumer).completionHandler(any(Handler.class));
+
+        TestContextFactory testContextFactory = Mockito.mock(TestContextFactory.class);
+        when(testContextFactory.getObject()).thenReturn(context);
+
+        VertxEventBusSubscriber subscriber = new VertxEventBusSubscriber("subscriber", vertx, endpointConfiguration, testContextFactory);
+        subscriber.start();
+
+        Thread publisher = new Thread(() -> subscription[0].handle(eventBusMessage(eventBusAddress, "Hello from Vertx!")));
+        long start = System.currentTimeMillis();
+        publisher.start();
+
+        Message receivedMessage = subscriber.receive(context, endpointConfiguration.getTimeout());
+        publisher.join();
+
+        Assert.assertEquals(receivedMessage.getPayload(), "Hello from Vertx!");
+        Assert.assertTrue(System.currentTimeMillis() - start < endpointConfiguration.getTimeout());
+
+        subscriber.stop();
+    }
+
+    @Test
+    public void testVertxSubscriberRegistrationFailure() {
+        String eventBusAddress = "news-feed";
+        VertxEndpointConfiguration endpointConfiguration = new VertxEndpointConfiguration();
+        endpointConfiguration.setAddress(eventBusAddress);
+        endpointConfiguration.setTimeout(100L);
+
+        reset(vertx, eventBus, messageConsumer);
+
+        boolean[] registered = new boolean[1];
+        when(vertx.eventBus()).thenReturn(eventBus);
+        when(eventBus.consumer(eq(eventBusAddress), any(Handler.class))).thenReturn(messageConsumer);
+        doAnswer(invocation -> {
+            Handler<AsyncResult<Void>> completionHandler = (Handler) invocation.getArguments()[0];
+            completionHandler.handle(registered[0] ? Future.succeededFuture() : Future.failedFuture("Registration failed"));
+            return null;
+        }).when(messageConsumer).completionHandler(any(Handler.class));
+
+        VertxEventBusSubscriber subscriber = new VertxEventBusSubscriber("subscriber", vertx, endpointConfiguration, Mockito.mock(TestContextFactory.class));
+
+        Assert.assertThrows(CitrusRuntimeException.class, subscriber::start);
+        Assert.assertFalse(subscriber.isRunning());
+        Assert.assertTrue(subscriber.ready().isCompletedExceptionally());
+        verify(messageConsumer).unregister();
+
+        registered[0] = true;
+        subscriber.start();
+
+        Assert.assertTrue(subscriber.isRunning());
+        Assert.assertTrue(subscriber.ready().isDone());
+        Assert.assertFalse(subscriber.ready().isCompletedExceptionally());
+
+        subscriber.stop();
+    }
+
+    private io.vertx.core.eventbus.Message<Object> eventBusMessage(String address, String body) {
+        io.vertx.core.eventbus.Message<Object> message = Mockito.mock(io.vertx.core.eventbus.Message.class);
+        when(message.body()).thenReturn(body);
+        when(message.address()).thenReturn(address);
+        return message;
+    }
+
     @Test
     public void testVertxEndpointWithOutboundMessageListeners() {
         String eventBusAddress = "news-feed";
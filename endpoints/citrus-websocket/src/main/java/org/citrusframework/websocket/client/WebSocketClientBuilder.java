@@ -134,6 +134,20 @@ public class WebSocketClientBuilder extends AbstractEndpointBuilder<WebSocketCli
         pollingInterval(pollingInterval);
     }
 
+    /**
+     * Sets the inbound buffer size.
+     */
+    public WebSocketClientBuilder inboundBufferSize(int inboundBufferSize) {
+        endpoint.getEndpointConfiguration().setInboundBufferSize(inboundBufferSize);
+        return this;
+    }
+
+    @SchemaProperty(advanced = true, description = "Sets the maximum number of buffered inbound messages.", defaultValue = "1000")
+    @XmlAttribute(name = "inbound-buffer-size")
+    public void setInboundBufferSize(int inboundBufferSize) {
+        inboundBufferSize(inboundBufferSize);
+    }
+
     /**
      * Sets the default timeout.
      */
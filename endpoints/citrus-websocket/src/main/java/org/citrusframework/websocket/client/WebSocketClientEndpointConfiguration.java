@@ -72,7 +72,7 @@ public class WebSocketClientEndpointConfiguration extends AbstractWebSocketEndpo
      * @return
      */
     private CitrusWebSocketHandler getWebSocketClientHandler(String url) {
-        CitrusWebSocketHandler handler = new CitrusWebSocketHandler();
+        CitrusWebSocketHandler handler = new CitrusWebSocketHandler(getInboundBufferSize(), getPollingInterval());
 
         if (webSocketHttpHeaders == null) {
             webSocketHttpHeaders = new WebSocketHttpHeaders();
@@ -55,6 +55,12 @@ public @interface WebSocketClientConfig {
      */
     int pollingInterval() default 500;
 
+    /**
+     * Inbound buffer size.
+     * @return
+     */
+    int inboundBufferSize() default 1000;
+
     /**
      * Timeout.
      * @return
@@ -44,4 +44,10 @@ public @interface WebSocketConfig {
      * @return
      */
     long timeout() default 5000L;
+
+    /**
+     * Inbound buffer size.
+     * @return
+     */
+    int inboundBufferSize() default 1000;
 }
@@ -57,6 +57,7 @@ public class WebSocketServerConfigParser implements AnnotationConfigParser<WebSo
             }
 
             webSocketConfiguration.setTimeout(webSocketConfig.timeout());
+            webSocketConfiguration.setInboundBufferSize(webSocketConfig.inboundBufferSize());
 
             WebSocketEndpoint webSocket = new WebSocketEndpoint(webSocketConfiguration);
             webSocket.setName(webSocketConfig.id());
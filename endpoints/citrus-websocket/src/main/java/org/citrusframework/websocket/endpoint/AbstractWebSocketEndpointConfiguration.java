@@ -19,6 +19,7 @@ package org.citrusframework.websocket.endpoint;
 import org.citrusframework.endpoint.AbstractPollableEndpointConfiguration;
 import org.citrusframework.endpoint.resolver.DynamicEndpointUriResolver;
 import org.citrusframework.endpoint.resolver.EndpointUriResolver;
+import org.citrusframework.websocket.handler.WebSocketMessageBuffer;
 import org.citrusframework.websocket.message.WebSocketMessageConverter;
 
 /**
@@ -35,6 +36,9 @@ public abstract class AbstractWebSocketEndpointConfiguration extends AbstractPol
     /** The message converter */
     private WebSocketMessageConverter messageConverter = new WebSocketMessageConverter();
 
+    /** Maximum number of buffered inbound messages */
+    private int inboundBufferSize = WebSocketMessageBuffer.DEFAULT_CAPACITY;
+
     @Override
     public WebSocketMessageConverter getMessageConverter() {
         return messageConverter;
@@ -64,4 +68,14 @@ public abstract class AbstractWebSocketEndpointConfiguration extends AbstractPol
     public void setEndpointUriResolver(EndpointUriResolver endpointUriResolver) {
         this.endpointUriResolver = endpointUriResolver;
     }
+
+    @Override
+    public int getInboundBufferSize() {
+        return inboundBufferSize;
+    }
+
+    @Override
+    public void setInboundBufferSize(int inboundBufferSize) {
+        this.inboundBufferSize = inboundBufferSize;
+    }
 }
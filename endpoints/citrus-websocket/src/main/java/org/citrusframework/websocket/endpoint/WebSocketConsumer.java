@@ -16,16 +16,25 @@
 
 package org.citrusframework.websocket.endpoint;
 
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
 import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.MessageTimeoutException;
 import org.citrusframework.message.Message;
+import org.citrusframework.message.MessageSelector;
+import org.citrusframework.message.selector.DelegatingMessageSelector;
 import org.citrusframework.messaging.AbstractSelectiveMessageConsumer;
+import org.citrusframework.util.StringUtils;
+import org.citrusframework.websocket.handler.CitrusWebSocketHandler;
+import org.citrusframework.websocket.handler.WebSocketMessageBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.web.socket.WebSocketMessage;
 
 /**
- * Consumer polls for incoming messages on web socket handler.
+ * Consumer receives incoming messages from the web socket handler inbound buffer. Receive operations complete as
+ * soon as a matching message arrives and support message selectors.
  * @since 2.3
  */
 public class WebSocketConsumer extends AbstractSelectiveMessageConsumer {
@@ -51,48 +60,43 @@ public class WebSocketConsumer extends AbstractSelectiveMessageConsumer {
 
     @Override
     public Message receive(String selector, TestContext context, long timeout) {
-        logger.debug("Waiting {} ms for Web Socket message ...", timeout);
-
-        WebSocketMessage<?> message = receive(endpointConfiguration, timeout);
-        Message receivedMessage = endpointConfiguration.getMessageConverter().convertInbound(message, endpointConfiguration, context);
-
-        logger.debug("Received Web Socket message");
-        context.onInboundMessage(receivedMessage);
+        String endpointUri = endpointConfiguration.getEndpointUri();
+        if (StringUtils.hasText(selector)) {
+            endpointUri = endpointUri + "(" + selector + ")";
+        }
 
-        return receivedMessage;
-    }
+        logger.debug("Waiting {} ms for Web Socket message on '{}' ...", timeout, endpointUri);
 
-    /**
-     * Receive web socket message by polling on web socket handler for incoming message.
-     * @param config
-     * @param timeout
-     * @return
-     */
-    private WebSocketMessage<?> receive(WebSocketEndpointConfiguration config, long timeout) {
-        long timeLeft = timeout;
+        CitrusWebSocketHandler handler = endpointConfiguration.getHandler();
+        WebSocketMessageBuffer inboundMessages = handler.getInboundMessages();
 
-        WebSocketMessage<?> message = config.getHandler().getMessage();
-        String endpointUri = endpointConfiguration.getEndpointUri();
-        while (message == null && timeLeft > 0) {
-            timeLeft -= endpointConfiguration.getPollingInterval();
-            long sleep = timeLeft > 0 ? endpointConfiguration.getPollingInterval() : endpointConfiguration.getPollingInterval() + timeLeft;
-            if (logger.isDebugEnabled()) {
-                String msg = "Waiting for message on '%s' - retrying in %s ms";
-                logger.debug(String.format(msg, endpointUri, (sleep)));
-            }
+        // Messages converted for the selector are reused so the received message is not converted twice
+        Map<org.springframework.web.socket.WebSocketMessage<?>, Message> converted = new IdentityHashMap<>();
+        Predicate<org.springframework.web.socket.WebSocketMessage<?>> filter = null;
+        if (StringUtils.hasText(selector)) {
+            MessageSelector messageSelector = new DelegatingMessageSelector(selector, context);
+            filter = message -> messageSelector.accept(converted.computeIfAbsent(message,
+                    m -> endpointConfiguration.getMessageConverter().convertInbound(m, endpointConfiguration, context)));
+        }
 
-            try {
-                Thread.sleep(sleep);
-            } catch (InterruptedException e) {
-                logger.warn("Thread interrupted while waiting for message on '{}'", endpointUri, e);
+        org.springframework.web.socket.WebSocketMessage<?> message = inboundMessages.receive(filter, timeout);
+        if (message == null) {
+            if (inboundMessages.getDroppedCount() > 0) {
+                logger.warn("Web Socket endpoint '{}' dropped {} inbound messages because the inbound buffer was full",
+                        endpointConfiguration.getEndpointUri(), inboundMessages.getDroppedCount());
             }
 
-            message = config.getHandler().getMessage();
+            throw new MessageTimeoutException(timeout, endpointUri);
         }
 
-        if (message == null) {
-            throw new MessageTimeoutException(timeout, endpointUri);
+        Message receivedMessage = converted.get(message);
+        if (receivedMessage == null) {
+            receivedMessage = endpointConfiguration.getMessageConverter().convertInbound(message, endpointConfiguration, context);
         }
-        return message;
+
+        logger.debug("Received Web Socket message");
+        context.onInboundMessage(receivedMessage);
+
+        return receivedMessage;
     }
 }
@@ -75,4 +75,18 @@ public interface WebSocketEndpointConfiguration extends PollableEndpointConfigur
      * @param endpointUriResolver the endpointUriResolver to set
      */
     void setEndpointUriResolver(EndpointUriResolver endpointUriResolver);
+
+    /**
+     * Gets the maximum number of buffered inbound messages.
+     * @return
+     */
+    int getInboundBufferSize();
+
+    /**
+     * Sets the maximum number of buffered inbound messages. When the buffer is full the web socket handler waits
+     * up to one polling interval for free space before the oldest buffered message is dropped. Values less or equal
+     * to zero disable the limit.
+     * @param inboundBufferSize
+     */
+    void setInboundBufferSize(int inboundBufferSize);
 }
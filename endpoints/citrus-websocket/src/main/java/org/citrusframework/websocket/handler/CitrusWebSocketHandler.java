@@ -27,10 +27,9 @@ import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.AbstractWebSocketHandler;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.LinkedList;
+import java.nio.ByteBuffer;
 import java.util.Map;
-import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Web Socket Handler for handling incoming and sending outgoing Web Socket messages
@@ -41,9 +40,35 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(CitrusWebSocketHandler.class);
 
-    private final Queue<WebSocketMessage<?>> inboundMessages = new LinkedList<>();
+    /** Bounded buffer for inbound messages written by the web socket container threads */
+    private final WebSocketMessageBuffer inboundMessages;
 
-    private final Map<String, WebSocketSession> sessions = new HashMap<>();
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * Default constructor using default inbound buffer settings.
+     */
+    public CitrusWebSocketHandler() {
+        this(new WebSocketMessageBuffer());
+    }
+
+    /**
+     * Constructor using inbound buffer capacity and the time in milliseconds to wait for free buffer space
+     * before the oldest buffered message gets dropped.
+     * @param inboundBufferSize
+     * @param overflowTimeout
+     */
+    public CitrusWebSocketHandler(int inboundBufferSize, long overflowTimeout) {
+        this(new WebSocketMessageBuffer(inboundBufferSize, overflowTimeout));
+    }
+
+    /**
+     * Constructor using given inbound message buffer.
+     * @param inboundMessages
+     */
+    public CitrusWebSocketHandler(WebSocketMessageBuffer inboundMessages) {
+        this.inboundMessages = inboundMessages;
+    }
 
     @Override
     public void afterConnectionEstablished(WebSocketSession session) {
@@ -54,19 +79,20 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
     @Override
     protected void handleTextMessage(WebSocketSession session, TextMessage message) {
         logger.debug("WebSocket endpoint ({}) received text message", session.getId());
-        inboundMessages.add(message);
+        buffer(session, message);
     }
 
     @Override
     protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) {
         logger.debug("WebSocket endpoint ({}) received binary message", session.getId());
-        inboundMessages.add(message);
+        // Container may reuse the frame buffer once this method returns
+        buffer(session, new BinaryMessage(copy(message.getPayload()), message.isLast()));
     }
 
     @Override
     protected void handlePongMessage(WebSocketSession session, PongMessage message) {
         logger.debug("WebSocket endpoint ({}) received pong message", session.getId());
-        inboundMessages.add(message);
+        buffer(session, new PongMessage(copy(message.getPayload())));
     }
 
     @Override
@@ -80,6 +106,20 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
         sessions.remove(session.getId());
     }
 
+    private void buffer(WebSocketSession session, WebSocketMessage<?> message) {
+        if (!inboundMessages.add(message)) {
+            logger.warn("WebSocket endpoint ({}) inbound buffer is full - dropped oldest message ({} messages dropped in total)",
+                    session.getId(), inboundMessages.getDroppedCount());
+        }
+    }
+
+    private static ByteBuffer copy(ByteBuffer payload) {
+        ByteBuffer copy = ByteBuffer.allocate(payload.remaining());
+        copy.put(payload.duplicate());
+        copy.flip();
+        return copy;
+    }
+
     /**
      * Polls message from internal cache.
      */
@@ -87,6 +127,14 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
         return inboundMessages.poll();
     }
 
+    /**
+     * Gets the inbound message buffer.
+     * @return
+     */
+    public WebSocketMessageBuffer getInboundMessages() {
+        return inboundMessages;
+    }
+
     /**
      * Publish message to all sessions known to this handler.
      */
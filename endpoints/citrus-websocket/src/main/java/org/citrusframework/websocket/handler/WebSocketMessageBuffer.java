@@ -0,0 +1,268 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.websocket.handler;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+import org.springframework.web.socket.WebSocketMessage;
+
+/**
+ * Bounded buffer for inbound web socket messages. Waiting receivers are signalled as soon as a new message arrives,
+ * so receive operations complete without polling.
+ * <p>
+ * When the buffer is full the transport thread adding a message waits for receivers to make room, which
+ * applies backpressure on the web socket connection. When no room is available within the overflow timeout
+ * the oldest buffered message is dropped and counted.
+ */
+public class WebSocketMessageBuffer {
+
+    /** Default maximum number of buffered messages */
+    public static final int DEFAULT_CAPACITY = 1000;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition messageAdded = lock.newCondition();
+    private final Condition messageRemoved = lock.newCondition();
+
+    /** Buffered messages in arrival order */
+    private final ArrayDeque<WebSocketMessage<?>> messages = new ArrayDeque<>();
+
+    private final int capacity;
+    private final long overflowTimeout;
+
+    private long receivedCount;
+    private long droppedCount;
+
+    /**
+     * Default constructor using default capacity and no overflow timeout.
+     */
+    public WebSocketMessageBuffer() {
+        this(DEFAULT_CAPACITY, 0L);
+    }
+
+    /**
+     * Constructor using capacity and the time in milliseconds to wait for free space when the buffer is full.
+     * A capacity less or equal to zero disables the limit.
+     * @param capacity
+     * @param overflowTimeout
+     */
+    public WebSocketMessageBuffer(int capacity, long overflowTimeout) {
+        this.capacity = capacity > 0 ? capacity : Integer.MAX_VALUE;
+        this.overflowTimeout = Math.max(overflowTimeout, 0L);
+    }
+
+    /**
+     * Adds new message to the buffer and wakes up waiting receivers. Waits for free space when the buffer is full
+     * and drops the oldest message when the overflow timeout is exceeded.
+     * @param message
+     * @return false in case a buffered message has been dropped in favor of the new message
+     */
+    public boolean add(WebSocketMessage<?> message) {
+        long nanosLeft = TimeUnit.MILLISECONDS.toNanos(overflowTimeout);
+
+        lock.lock();
+        try {
+            receivedCount++;
+
+            while (messages.size() >= capacity && nanosLeft > 0L) {
+                try {
+                    nanosLeft = messageRemoved.awaitNanos(nanosLeft);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+
+            boolean dropped = false;
+            if (messages.size() >= capacity) {
+                messages.poll();
+                droppedCount++;
+                dropped = true;
+            }
+
+            messages.add(message);
+            messageAdded.signalAll();
+            return !dropped;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the first buffered message. Returns null in case no message is buffered.
+     * @return
+     */
+    public WebSocketMessage<?> poll() {
+        lock.lock();
+        try {
+            WebSocketMessage<?> message = messages.poll();
+            if (message != null) {
+                messageRemoved.signalAll();
+            }
+            return message;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the first buffered message accepted by the given filter. Waits for new messages
+     * until the timeout is exceeded. Returns null on timeout.
+     * <p>
+     * The filter is evaluated without holding the buffer lock, so expensive filters such as message selectors
+     * on converted messages do not block the transport threads adding new messages.
+     * @param filter the message filter, may be null to accept any message
+     * @param timeout time to wait in milliseconds
+     * @return
+     */
+    public WebSocketMessage<?> receive(Predicate<WebSocketMessage<?>> filter, long timeout) {
+        long nanosLeft = TimeUnit.MILLISECONDS.toNanos(Math.max(timeout, 0L));
+        Set<WebSocketMessage<?>> checked = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        while (true) {
+            List<WebSocketMessage<?>> candidates = new ArrayList<>();
+
+            lock.lock();
+            try {
+                if (filter == null && !messages.isEmpty()) {
+                    messageRemoved.signalAll();
+                    return messages.poll();
+                }
+
+                for (WebSocketMessage<?> message : messages) {
+                    if (!checked.contains(message)) {
+                        candidates.add(message);
+                    }
+                }
+
+                if (candidates.isEmpty()) {
+                    if (nanosLeft <= 0L) {
+                        return null;
+                    }
+
+                    try {
+                        nanosLeft = messageAdded.awaitNanos(nanosLeft);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return null;
+                    }
+
+                    continue;
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            for (WebSocketMessage<?> candidate : candidates) {
+                checked.add(candidate);
+                if (filter.test(candidate) && remove(candidate)) {
+                    return candidate;
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the number of buffered messages.
+     * @return
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return messages.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the maximum number of buffered messages.
+     * @return
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Gets the total number of messages added to this buffer.
+     * @return
+     */
+    public long getReceivedCount() {
+        lock.lock();
+        try {
+            return receivedCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of messages dropped because the buffer was full.
+     * @return
+     */
+    public long getDroppedCount() {
+        lock.lock();
+        try {
+            return droppedCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all buffered messages.
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            messages.clear();
+            messageRemoved.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the given message instance in case it is still buffered.
+     */
+    private boolean remove(WebSocketMessage<?> message) {
+        lock.lock();
+        try {
+            Iterator<WebSocketMessage<?>> iterator = messages.iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next() == message) {
+                    iterator.remove();
+                    messageRemoved.signalAll();
+                    return true;
+                }
+            }
+
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -83,7 +83,8 @@ public class CitrusWebSocketDispatcherServlet extends CitrusDispatcherServlet {
             for (WebSocketEndpoint webSocketEndpoint : webSocketEndpoints) {
                 String wsPath = webSocketEndpoint.getEndpointConfiguration().getEndpointUri();
 
-                CitrusWebSocketHandler handler = new CitrusWebSocketHandler();
+                CitrusWebSocketHandler handler = new CitrusWebSocketHandler(webSocketEndpoint.getEndpointConfiguration().getInboundBufferSize(),
+                        webSocketEndpoint.getEndpointConfiguration().getPollingInterval());
                 webSocketEndpoint.setWebSocketHandler(handler);
                 WebSocketHttpRequestHandler wsRequestHandler = new WebSocketHttpRequestHandler(handler, handshakeHandler);
                 SessionEnricherHandshakeInterceptor handshakeInterceptor = new SessionEnricherHandshakeInterceptor(webSocketEndpoint.getName(), wsPath);
@@ -56,6 +56,7 @@ public class WebSocketClientConfigParserTest extends AbstractTestNGUnitTest {
     @CitrusEndpoint
     @WebSocketClientConfig(requestUrl = "ws://localhost:8080/test",
             pollingInterval=250,
+            inboundBufferSize=10,
             actor="testActor")
     private WebSocketClient webSocketClient3;
 
@@ -89,6 +90,7 @@ public class WebSocketClientConfigParserTest extends AbstractTestNGUnitTest {
         // 1st message sender
         Assert.assertEquals(webSocketClient1.getEndpointConfiguration().getEndpointUri(), "ws://localhost:8080/test");
         Assert.assertEquals(webSocketClient1.getEndpointConfiguration().getTimeout(), 5000L);
+        Assert.assertEquals(webSocketClient1.getEndpointConfiguration().getInboundBufferSize(), 1000);
 
         // 2nd message sender
         Assert.assertEquals(webSocketClient2.getEndpointConfiguration().getEndpointUri(), "ws://localhost:8080/test/uri");
@@ -101,6 +103,7 @@ public class WebSocketClientConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(webSocketClient3.getActor(), testActor);
         Assert.assertEquals(webSocketClient3.getEndpointConfiguration().getEndpointUri(), "ws://localhost:8080/test");
         Assert.assertEquals(webSocketClient3.getEndpointConfiguration().getPollingInterval(), 250L);
+        Assert.assertEquals(webSocketClient3.getEndpointConfiguration().getInboundBufferSize(), 10);
     }
 
     @Test
@@ -53,6 +53,7 @@ public class WebSocketClientParserTest extends AbstractBeanDefinitionParserTest
         Assert.assertEquals(webSocketClient.getActor(), beanDefinitionContext.getBean("testActor", TestActor.class));
         Assert.assertEquals(webSocketClient.getEndpointConfiguration().getEndpointUri(), "ws://localhost:8080/test");
         Assert.assertEquals(webSocketClient.getEndpointConfiguration().getPollingInterval(), 250L);
+        Assert.assertEquals(webSocketClient.getEndpointConfiguration().getInboundBufferSize(), 10);
     }
 
     @Test
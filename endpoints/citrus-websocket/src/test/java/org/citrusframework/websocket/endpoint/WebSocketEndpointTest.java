@@ -19,6 +19,7 @@ package org.citrusframework.websocket.endpoint;
 import org.citrusframework.exceptions.ActionTimeoutException;
 import org.citrusframework.message.DefaultMessage;
 import org.citrusframework.message.Message;
+import org.citrusframework.messaging.SelectiveConsumer;
 import org.citrusframework.testng.AbstractTestNGUnitTest;
 import org.citrusframework.websocket.handler.CitrusWebSocketHandler;
 import org.citrusframework.websocket.message.WebSocketMessage;
@@ -28,6 +29,8 @@ import org.springframework.web.socket.*;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.nio.ByteBuffer;
+
 import static org.mockito.Mockito.*;
 
 public class WebSocketEndpointTest extends AbstractTestNGUnitTest {
@@ -155,4 +158,144 @@ public class WebSocketEndpointTest extends AbstractTestNGUnitTest {
         }
 
     }
+
+    @Test
+    public void testWebSocketEndpointMessageSelector() throws Exception {
+        WebSocketServerEndpointConfiguration endpointConfiguration = new WebSocketServerEndpointConfiguration();
+        WebSocketEndpoint webSocketEndpoint = new WebSocketEndpoint(endpointConfiguration);
+
+        CitrusWebSocketHandler handler = new CitrusWebSocketHandler();
+        endpointConfiguration.setHandler(handler);
+        endpointConfiguration.setEndpointUri("/test");
+
+        reset(session);
+        when(session.getId()).thenReturn("test-socket-1");
+        handler.afterConnectionEstablished(session);
+
+        handler.handleMessage(session, new TextMessage("Hello"));
+        handler.handleMessage(session, new TextMessage("Hallo"));
+        handler.handleMessage(session, new TextMessage("Hola"));
+
+        SelectiveConsumer consumer = (SelectiveConsumer) webSocketEndpoint.createConsumer();
+        Assert.assertEquals(consumer.receive("payload = 'Hallo'", context, 1000L).getPayload(String.class), "Hallo");
+        Assert.assertEquals(consumer.receive(context, 1000L).getPayload(String.class), "Hello");
+        Assert.assertEquals(consumer.receive(context, 1000L).getPayload(String.class), "Hola");
+
+        try {
+            consumer.receive("payload = 'Hallo'", context, 100L);
+            Assert.fail("Missing timeout exception on web socket endpoint");
+        } catch (ActionTimeoutException e) {
+            Assert.assertTrue(e.getMessage().contains("/test(payload = 'Hallo')"));
+        }
+    }
+
+    @Test
+    public void testWebSocketEndpointWaitsForMessage() throws Exception {
+        WebSocketServerEndpointConfiguration endpointConfiguration = new WebSocketServerEndpointConfiguration();
+        WebSocketEndpoint webSocketEndpoint = new WebSocketEndpoint(endpointConfiguration);
+
+        CitrusWebSocketHandler handler = new CitrusWebSocketHandler();
+        endpointConfiguration.setHandler(handler);
+        endpointConfiguration.setEndpointUri("/test");
+
+        reset(session);
+        when(session.getId()).thenReturn("test-socket-1");
+        handler.afterConnectionEstablished(session);
+
+        Thread publisher = new Thread(() -> {
+            try {
+                Thread.sleep(200L);
+                handler.handleMessage(session, new TextMessage("Hello"));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        publisher.start();
+
+        Message received = webSocketEndpoint.createConsumer().receive(context, 5000L);
+        Assert.assertEquals(received.getPayload(String.class), "Hello");
+
+        publisher.join();
+    }
+
+    @Test
+    public void testWebSocketEndpointBinaryMessage() throws Exception {
+        WebSocketServerEndpointConfiguration endpointConfiguration = new WebSocketServerEndpointConfiguration();
+        WebSocketEndpoint webSocketEndpoint = new WebSocketEndpoint(endpointConfiguration);
+
+        CitrusWebSocketHandler handler = new CitrusWebSocketHandler();
+        endpointConfiguration.setHandler(handler);
+        endpointConfiguration.setEndpointUri("/test");
+
+        reset(session);
+        when(session.getId()).thenReturn("test-socket-1");
+        handler.afterConnectionEstablished(session);
+
+        byte[] payload = new byte[] { 0x01, 0x02, (byte) 0xff };
+        ByteBuffer frame = ByteBuffer.wrap(payload.clone());
+        handler.handleMessage(session, new BinaryMessage(frame, false));
+
+        // Container reuses the frame buffer
+        frame.put(0, (byte) 0x00);
+
+        WebSocketMessage received = (WebSocketMessage) webSocketEndpoint.createConsumer().receive(context, 1000L);
+        Assert.assertEquals(received.getPayload(ByteBuffer.class).array(), payload);
+        Assert.assertFalse(received.isLast());
+    }
+
+    @Test
+    public void testWebSocketEndpointInboundBufferOverflow() throws Exception {
+        WebSocketServerEndpointConfiguration endpointConfiguration = new WebSocketServerEndpointConfiguration();
+        WebSocketEndpoint webSocketEndpoint = new WebSocketEndpoint(endpointConfiguration);
+
+        CitrusWebSocketHandler handler = new CitrusWebSocketHandler(2, 0L);
+        endpointConfiguration.setHandler(handler);
+        endpointConfiguration.setEndpointUri("/test");
+
+        reset(session);
+        when(session.getId()).thenReturn("test-socket-1");
+        handler.afterConnectionEstablished(session);
+
+        handler.handleMessage(session, new TextMessage("1"));
+        handler.handleMessage(session, new TextMessage("2"));
+        handler.handleMessage(session, new TextMessage("3"));
+
+        Assert.assertEquals(handler.getInboundMessages().size(), 2);
+        Assert.assertEquals(handler.getInboundMessages().getReceivedCount(), 3L);
+        Assert.assertEquals(handler.getInboundMessages().getDroppedCount(), 1L);
+
+        Assert.assertEquals(webSocketEndpoint.createConsumer().receive(context, 1000L).getPayload(String.class), "2");
+        Assert.assertEquals(webSocketEndpoint.createConsumer().receive(context, 1000L).getPayload(String.class), "3");
+    }
+
+    @Test
+    public void testWebSocketEndpointInboundBufferBackpressure() throws Exception {
+        WebSocketServerEndpointConfiguration endpointConfiguration = new WebSocketServerEndpointConfiguration();
+        WebSocketEndpoint webSocketEndpoint = new WebSocketEndpoint(endpointConfiguration);
+
+        CitrusWebSocketHandler handler = new CitrusWebSocketHandler(1, 5000L);
+        endpointConfiguration.setHandler(handler);
+        endpointConfiguration.setEndpointUri("/test");
+
+        reset(session);
+        when(session.getId()).thenReturn("test-socket-1");
+        handler.afterConnectionEstablished(session);
+
+        handler.handleMessage(session, new TextMessage("1"));
+
+        Thread publisher = new Thread(() -> {
+            try {
+                handler.handleMessage(session, new TextMessage("2"));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        publisher.start();
+
+        Assert.assertEquals(webSocketEndpoint.createConsumer().receive(context, 1000L).getPayload(String.class), "1");
+        Assert.assertEquals(webSocketEndpoint.createConsumer().receive(context, 5000L).getPayload(String.class), "2");
+
+        publisher.join();
+        Assert.assertEquals(handler.getInboundMessages().getDroppedCount(), 0L);
+    }
 }
@@ -28,6 +28,7 @@ import org.citrusframework.TestSource;
 import org.citrusframework.api.main.CitrusAppConfiguration;
 import org.citrusframework.common.TestSourceHelper;
 import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.main.parallel.ParallelTestEngineSettings;
 import org.citrusframework.util.ClassLoaderHelper;
 import org.citrusframework.util.FileUtils;
 import org.citrusframework.util.StringUtils;
@@ -203,6 +204,17 @@ public class CitrusAppOptions<T extends CitrusAppConfiguration> {
                 }
             }
         });
+
+        options.add(new CliOption<>("", "threads", "Maximum number of tests running at the same time with the parallel test engine") {
+            @Override
+            protected void doProcess(T configuration, String arg, String value, LinkedList<String> remainingArgs) {
+                if (StringUtils.hasText(value)) {
+                    configuration.getDefaultProperties().put(ParallelTestEngineSettings.THREADS_PROPERTY, value);
+                } else {
+                    throw new CitrusRuntimeException("Missing parameter value for --threads option");
+                }
+            }
+        });
     }
 
     /**
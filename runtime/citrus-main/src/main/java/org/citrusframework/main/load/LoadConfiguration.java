@@ -0,0 +1,211 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.citrusframework.main.load;
+
+import org.citrusframework.exceptions.CitrusRuntimeException;
+
+/**
+ * Configuration of a load run. The load is either given as a fixed number of virtual users running the test in a
+ * loop (closed model) or as a target arrival rate of new test iterations per second (open model). In the open model
+ * the number of users limits the concurrently running iterations. All times are given in milliseconds.
+ */
+public class LoadConfiguration {
+
+    /** Default number of virtual users */
+    public static final int DEFAULT_USERS = 1;
+
+    /** Default number of concurrent iterations in open model */
+    public static final int DEFAULT_MAX_CONCURRENCY = 100;
+
+    /** Default duration of the load run */
+    public static final long DEFAULT_DURATION = 60000L;
+
+    /** Number of virtual users */
+    private int users = 0;
+
+    /** Target arrival rate of new iterations per second, zero for closed model */
+    private double rate = 0;
+
+    /** Duration of the load run */
+    private long duration = DEFAULT_DURATION;
+
+    /** Time to reach the full number of users or the full arrival rate */
+    private long rampUp = 0L;
+
+    /** Pause of each virtual user between two iterations */
+    private long thinkTime = 0L;
+
+    /** Optional maximum number of iterations, zero for unlimited */
+    private long iterations = 0L;
+
+    /**
+     * Checks if this configuration describes an open workload model with a target arrival rate.
+     * @return
+     */
+    public boolean isOpenModel() {
+        return rate > 0;
+    }
+
+    /**
+     * Validates this configuration.
+     */
+    public void validate() {
+        if (users < 0) {
+            throw new CitrusRuntimeException("Invalid number of load users: " + users);
+        }
+
+        if (rate < 0) {
+            throw new CitrusRuntimeException("Invalid load arrival rate: " + rate);
+        }
+
+        if (duration <= 0 && iterations <= 0) {
+            throw new CitrusRuntimeException("Load run requires either a positive duration or a number of iterations");
+        }
+
+        if (rampUp < 0 || thinkTime < 0 || iterations < 0) {
+            throw new CitrusRuntimeException("Load ramp up, think time and iterations must not be negative");
+        }
+    }
+
+    /**
+     * Parses time value in milliseconds with optional unit suffix ms, s, m or h.
+     * @param value
+     * @return
+     */
+    public static long parseTime(String value) {
+        String time = value.trim().toLowerCase();
+
+        try {
+            if (time.endsWith("ms")) {
+                return Long.parseLong(time.substring(0, time.length() - 2).trim());
+            } else if (time.endsWith("s")) {
+                return Math.round(Double.parseDouble(time.substring(0, time.length() - 1).trim()) * 1000);
+            } else if (time.endsWith("m")) {
+                return Math.round(Double.parseDouble(time.substring(0, time.length() - 1).trim()) * 60000);
+            } else if (time.endsWith("h")) {
+                return Math.round(Double.parseDouble(time.substring(0, time.length() - 1).trim()) * 3600000);
+            }
+
+            return Long.parseLong(time);
+        } catch (NumberFormatException e) {
+            throw new CitrusRuntimeException(String.format("Invalid time value '%s' - expected milliseconds " +
+                    "or a number with unit ms, s, m or h", value), e);
+        }
+    }
+
+    /**
+     * Gets the number of virtual users. Defaults to a single user in closed model and to the default maximum
+     * concurrency in open model.
+     * @return
+     */
+    public int getUsers() {
+        if (users > 0) {
+            return users;
+        }
+
+        return isOpenModel() ? DEFAULT_MAX_CONCURRENCY : DEFAULT_USERS;
+    }
+
+    /**
+     * Sets the number of virtual users.
+     * @param users
+     */
+    public void setUsers(int users) {
+        this.users = users;
+    }
+
+    /**
+     * Gets the target arrival rate per second.
+     * @return
+     */
+    public double getRate() {
+        return rate;
+    }
+
+    /**
+     * Sets the target arrival rate per second.
+     * @param rate
+     */
+    public void setRate(double rate) {
+        this.rate = rate;
+    }
+
+    /**
+     * Gets the duration of the load run.
+     * @return
+     */
+    public long getDuration() {
+        return duration;
+    }
+
+    /**
+     * Sets the duration of the load run.
+     * @param duration
+     */
+    public void setDuration(long duration) {
+        this.duration = duration;
+    }
+
+    /**
+     * Gets the ramp up time.
+     * @return
+     */
+    public long getRampUp() {
+        return rampUp;
+    }
+
+    /**
+     * Sets the ramp up time.
+     * @param rampUp
+     */
+    public void setRampUp(long rampUp) {
+        this.rampUp = rampUp;
+    }
+
+    /**
+     * Gets the think time.
+     * @return
+     */
+    public long getThinkTime() {
+        return thinkTime;
+    }
+
+    /**
+     * Sets the think time.
+     * @param thinkTime
+     */
+    public void setThinkTime(long thinkTime) {
+        this.thinkTime = thinkTime;
+    }
+
+    /**
+     * Gets the maximum number of iterations.
+     * @return
+     */
+    public long getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Sets the maximum number of iterations.
+     * @param iterations
+     */
+    public void setIterations(long iterations) {
+        this.iterations = iterations;
+    }
+}
@@ -0,0 +1,309 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.citrusframework.main.load;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.citrusframework.Citrus;
+import org.citrusframework.TestAction;
+import org.citrusframework.TestCase;
+import org.citrusframework.TestSource;
+import org.citrusframework.api.common.TestLoader;
+import org.citrusframework.api.common.TestSourceAware;
+import org.citrusframework.base.annotations.CitrusAnnotations;
+import org.citrusframework.context.TestContext;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.report.TestActionListener;
+import org.citrusframework.report.TestActionListeners;
+import org.citrusframework.report.TestListeners;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs a test case as concurrent workload. Each iteration loads and runs the test source with its own test context,
+ * while endpoints and other components of the Citrus context are shared by all iterations. The runner supports a
+ * closed workload model with a fixed number of virtual users running the test in a loop and an open workload model
+ * with a target arrival rate of new iterations. Both models ramp up linearly.
+ * <p>
+ * Iterations do not notify the test listeners and reporters of the Citrus context, so a load run does not add
+ * thousands of test results to the regular reports. Instead, the runner records latency, throughput and errors
+ * of the iterations and of each top level test action in {@link LoadStatistics}.
+ */
+public class LoadRunner {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(LoadRunner.class);
+
+    private final Citrus citrus;
+    private final TestSource source;
+    private final LoadConfiguration configuration;
+
+    private final LoadStatistics statistics;
+
+    /** Number of started iterations */
+    private final AtomicLong started = new AtomicLong();
+
+    public LoadRunner(Citrus citrus, TestSource source, LoadConfiguration configuration) {
+        this.citrus = citrus;
+        this.source = source;
+        this.configuration = configuration;
+        this.statistics = new LoadStatistics(source.getName());
+    }
+
+    /**
+     * Runs the load and blocks until all iterations have completed.
+     * @return the load statistics
+     */
+    public LoadStatistics run() {
+        configuration.validate();
+
+        // fail fast on unsupported test sources instead of failing every single iteration
+        createTestLoader();
+
+        logger.info("Running load test '{}' with {} for {} ms", source.getName(),
+                configuration.isOpenModel() ? String.format("%s iterations per second and at most %d concurrent users", configuration.getRate(), configuration.getUsers()) :
+                        String.format("%d users", configuration.getUsers()),
+                configuration.getDuration());
+
+        long start = System.nanoTime();
+        long deadline = configuration.getDuration() > 0 ? start + TimeUnit.MILLISECONDS.toNanos(configuration.getDuration()) : Long.MAX_VALUE;
+
+        ExecutorService executor = Executors.newFixedThreadPool(configuration.getUsers(), new LoadThreadFactory(source.getName()));
+        try {
+            if (configuration.isOpenModel()) {
+                runOpenModel(executor, start, deadline);
+            } else {
+                runClosedModel(executor, start, deadline);
+            }
+
+            executor.shutdown();
+            while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+                logger.debug("Waiting for running iterations of load test '{}' to complete", source.getName());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while running load test: " + source.getName(), e);
+        } finally {
+            executor.shutdownNow();
+            statistics.complete(System.nanoTime() - start);
+        }
+
+        return statistics;
+    }
+
+    /**
+     * Starts all virtual users delayed by their share of the ramp up time. Each user runs iterations in a loop
+     * until the deadline has passed.
+     */
+    private void runClosedModel(ExecutorService executor, long start, long deadline) {
+        int users = configuration.getUsers();
+        long rampUp = TimeUnit.MILLISECONDS.toNanos(configuration.getRampUp());
+        long thinkTime = TimeUnit.MILLISECONDS.toNanos(configuration.getThinkTime());
+
+        for (int i = 0; i < users; i++) {
+            long userStart = start + rampUp * i / users;
+            executor.execute(() -> {
+                parkUntil(userStart);
+                while (System.nanoTime() < deadline && nextIteration()) {
+                    runIteration();
+
+                    if (thinkTime > 0) {
+                        parkUntil(Math.min(System.nanoTime() + thinkTime, deadline));
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Starts new iterations according to the target arrival rate. The arrival rate does not depend on the response
+     * times of the system under test. Arrivals exceeding the number of users are dropped and counted.
+     */
+    private void runOpenModel(ExecutorService executor, long start, long deadline) {
+        Semaphore users = new Semaphore(configuration.getUsers());
+
+        for (long arrival = 0; !Thread.currentThread().isInterrupted(); arrival++) {
+            long arrivalTime = start + getArrivalOffset(arrival);
+            if (arrivalTime >= deadline) {
+                break;
+            }
+
+            parkUntil(arrivalTime);
+
+            if (!nextIteration()) {
+                break;
+            }
+
+            if (users.tryAcquire()) {
+                executor.execute(() -> {
+                    try {
+                        runIteration();
+                    } finally {
+                        users.release();
+                    }
+                });
+            } else {
+                statistics.recordDropped();
+            }
+        }
+    }
+
+    /**
+     * Gets the offset in nanoseconds of given arrival from the start of the load run. During ramp up the arrival
+     * rate increases linearly from zero to the target rate, so the number of arrivals grows quadratically in time.
+     * @param arrival
+     * @return
+     */
+    long getArrivalOffset(long arrival) {
+        double rate = configuration.getRate();
+        double rampUp = TimeUnit.MILLISECONDS.toNanos(configuration.getRampUp());
+
+        if (rampUp > 0 && arrival < rate * rampUp / 2_000_000_000D) {
+            return (long) Math.sqrt(2 * rampUp * arrival * 1_000_000_000D / rate);
+        }
+
+        return (long) (rampUp / 2 + arrival * 1_000_000_000D / rate);
+    }
+
+    private boolean nextIteration() {
+        return configuration.getIterations() <= 0 || started.incrementAndGet() <= configuration.getIterations();
+    }
+
+    /**
+     * Loads and runs the test source once with a new test context.
+     */
+    private void runIteration() {
+        TestContext context = citrus.getCitrusContext().createTestContext();
+        context.setTestListeners(new TestListeners());
+
+        TestActionListeners actionListeners = new TestActionListeners();
+        actionListeners.addTestActionListener(new ActionTimer());
+        context.setTestActionListeners(actionListeners);
+
+        TestLoader loader = createTestLoader();
+        CitrusAnnotations.injectAll(loader, citrus, context);
+
+        long iterationStart = System.nanoTime();
+        boolean failed = false;
+        try {
+            loader.load();
+
+            TestCase testCase = loader.getTestCase();
+            failed = testCase != null && testCase.getTestResult() != null && testCase.getTestResult().isFailed();
+        } catch (RuntimeException | AssertionError e) {
+            failed = true;
+            logger.debug("Load test iteration of '{}' failed", source.getName(), e);
+        } finally {
+            statistics.recordIteration(System.nanoTime() - iterationStart, failed);
+        }
+    }
+
+    /**
+     * Creates a new test loader for the test source.
+     * @return
+     */
+    protected TestLoader createTestLoader() {
+        TestLoader loader = TestLoader.lookup(source.getType())
+                .orElseThrow(() -> new CitrusRuntimeException(String.format("Failed to resolve test loader for type %s", source.getType())));
+
+        loader.setTestClass(LoadRunner.class);
+        loader.setTestName(source.getName());
+
+        if (loader instanceof TestSourceAware sourceAwareTestLoader) {
+            sourceAwareTestLoader.setSource(source);
+        }
+
+        return loader;
+    }
+
+    private static void parkUntil(long time) {
+        long remaining;
+        while ((remaining = time - System.nanoTime()) > 0 && !Thread.currentThread().isInterrupted()) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    public LoadStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Measures top level test actions of a single iteration.
+     */
+    private final class ActionTimer implements TestActionListener {
+
+        private final Map<TestAction, Long> starts = new IdentityHashMap<>();
+
+        @Override
+        public void onTestActionStart(TestCase testCase, TestAction testAction) {
+            starts.put(testAction, System.nanoTime());
+        }
+
+        @Override
+        public void onTestActionFinish(TestCase testCase, TestAction testAction) {
+            record(testCase, testAction, false);
+        }
+
+        @Override
+        public void onTestActionFailed(TestCase testCase, TestAction testAction, Throwable cause) {
+            record(testCase, testAction, true);
+        }
+
+        @Override
+        public void onTestActionSkipped(TestCase testCase, TestAction testAction) {
+            // skipped actions are not measured
+        }
+
+        private void record(TestCase testCase, TestAction testAction, boolean failed) {
+            Long start = starts.remove(testAction);
+            if (start != null) {
+                statistics.recordAction(testCase.getActionIndex(testAction), testAction.getName(),
+                        System.nanoTime() - start, failed);
+            }
+        }
+    }
+
+    /**
+     * Names the virtual user threads after the test.
+     */
+    private static final class LoadThreadFactory implements ThreadFactory {
+
+        private final String name;
+        private final AtomicInteger count = new AtomicInteger();
+
+        LoadThreadFactory(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, String.format("citrus-load-%s-%d", name, count.incrementAndGet()));
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
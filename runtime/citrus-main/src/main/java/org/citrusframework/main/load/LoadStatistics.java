@@ -0,0 +1,268 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.citrusframework.main.load;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.message.MessagePayloadUtils;
+import org.citrusframework.util.json.JsonNodeStringBuilder;
+import org.citrusframework.util.json.JsonStringBuilder;
+
+/**
+ * Statistics of a load run. Records latency, throughput and errors of whole test iterations and of each top level
+ * test action. Latency is recorded in nanoseconds with a concurrent high dynamic range histogram, so concurrent
+ * virtual users record without locking.
+ */
+public class LoadStatistics {
+
+    /** Table header of the statistics summary */
+    private static final String TABLE_FORMAT = "%-40s %10s %8s %10s %10s %10s %10s %10s %10s";
+
+    private final String testName;
+
+    private final Measurement iterations = new Measurement("iteration");
+    private final Map<ActionKey, Measurement> actions = new ConcurrentSkipListMap<>(
+            Comparator.comparingInt(ActionKey::index).thenComparing(ActionKey::name));
+
+    /** Arrivals that could not start because all users were busy */
+    private final LongAdder dropped = new LongAdder();
+
+    private volatile long elapsed;
+
+    public LoadStatistics(String testName) {
+        this.testName = testName;
+    }
+
+    /**
+     * Records a test iteration.
+     * @param nanos
+     * @param failed
+     */
+    public void recordIteration(long nanos, boolean failed) {
+        iterations.record(nanos, failed);
+    }
+
+    /**
+     * Records a top level test action with its index in the test case.
+     * @param index
+     * @param name
+     * @param nanos
+     * @param failed
+     */
+    public void recordAction(int index, String name, long nanos, boolean failed) {
+        actions.computeIfAbsent(new ActionKey(index, name), key -> new Measurement(key.index() + " " + key.name()))
+                .record(nanos, failed);
+    }
+
+    /**
+     * Records an arrival that has been dropped because no user was available.
+     */
+    public void recordDropped() {
+        dropped.increment();
+    }
+
+    /**
+     * Completes the statistics with the total elapsed time of the load run.
+     * @param nanos
+     */
+    public void complete(long nanos) {
+        this.elapsed = nanos;
+    }
+
+    /**
+     * Gets a summary table of the statistics.
+     * @return
+     */
+    public String toTable() {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("Load test '%s': %d iterations, %d failed, %d dropped in %d ms%n",
+                testName, iterations.getCount(), iterations.getErrors(), getDropped(),
+                TimeUnit.NANOSECONDS.toMillis(elapsed)));
+        table.append(String.format(TABLE_FORMAT, "NAME", "COUNT", "ERRORS", "RATE/S", "MEAN MS", "P50 MS", "P90 MS", "P99 MS", "MAX MS"));
+        table.append(System.lineSeparator());
+
+        table.append(iterations.toTableRow(elapsed)).append(System.lineSeparator());
+        actions.values().forEach(action -> table.append(action.toTableRow(elapsed)).append(System.lineSeparator()));
+        return table.toString();
+    }
+
+    /**
+     * Gets the statistics as Json object.
+     * @return
+     */
+    public String toJson() {
+        JsonNodeStringBuilder builder = new JsonStringBuilder().withObject()
+                .withPropertyEscaped("test", testName)
+                .withProperty("elapsed", TimeUnit.NANOSECONDS.toMillis(elapsed))
+                .withProperty("dropped", getDropped());
+
+        iterations.appendJson(builder.withProperty("iterations"), elapsed);
+
+        JsonNodeStringBuilder array = builder.withProperty("actions").withArray();
+        actions.forEach((key, action) -> {
+            JsonNodeStringBuilder object = array.withObject()
+                    .withProperty("index", key.index())
+                    .withPropertyEscaped("name", key.name());
+            action.appendStatistics(object, elapsed);
+            object.closeObject();
+        });
+        array.closeArray();
+
+        return builder.closeObject().toString();
+    }
+
+    /**
+     * Writes the statistics as Json file to given directory.
+     * @param directory
+     * @return the report file
+     */
+    public Path writeReport(Path directory) {
+        Path reportFile = directory.resolve(String.format("citrus-load-%s.json", testName.replaceAll("[^a-zA-Z0-9._-]", "_")));
+        try {
+            Files.createDirectories(directory);
+            Files.writeString(reportFile, MessagePayloadUtils.prettyPrintJson(toJson()), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to write load test report: " + reportFile, e);
+        }
+
+        return reportFile;
+    }
+
+    public String getTestName() {
+        return testName;
+    }
+
+    public Measurement getIterations() {
+        return iterations;
+    }
+
+    public Map<ActionKey, Measurement> getActions() {
+        return actions;
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    public long getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * Identifies a top level test action by its index in the test case and its name.
+     */
+    public record ActionKey(int index, String name) {
+    }
+
+    /**
+     * Latency histogram and error count of a single measured element.
+     */
+    public static final class Measurement {
+
+        private final String name;
+        private final ConcurrentHistogram latency = new ConcurrentHistogram(3);
+        private final LongAdder errors = new LongAdder();
+
+        Measurement(String name) {
+            this.name = name;
+        }
+
+        void record(long nanos, boolean failed) {
+            latency.recordValue(Math.max(0L, nanos));
+            if (failed) {
+                errors.increment();
+            }
+        }
+
+        public long getCount() {
+            return latency.getTotalCount();
+        }
+
+        public long getErrors() {
+            return errors.sum();
+        }
+
+        /**
+         * Gets the latency at given percentile in nanoseconds.
+         * @param percentile
+         * @return
+         */
+        public long getLatency(double percentile) {
+            return latency.getValueAtPercentile(percentile);
+        }
+
+        public long getMaxLatency() {
+            return latency.getMaxValue();
+        }
+
+        public double getMeanLatency() {
+            return latency.getMean();
+        }
+
+        /**
+         * Gets the throughput per second for given elapsed time in nanoseconds.
+         * @param elapsed
+         * @return
+         */
+        public double getThroughput(long elapsed) {
+            if (elapsed <= 0) {
+                return 0;
+            }
+
+            return getCount() * 1_000_000_000D / elapsed;
+        }
+
+        private String toTableRow(long elapsed) {
+            return String.format(Locale.US, "%-40s %10d %8d %10.2f %10.2f %10.2f %10.2f %10.2f %10.2f",
+                    name.length() > 40 ? name.substring(0, 37) + "..." : name,
+                    getCount(), getErrors(), getThroughput(elapsed),
+                    getMeanLatency() / 1_000_000D, getLatency(50) / 1_000_000D, getLatency(90) / 1_000_000D,
+                    getLatency(99) / 1_000_000D, getMaxLatency() / 1_000_000D);
+        }
+
+        private void appendJson(JsonNodeStringBuilder builder, long elapsed) {
+            JsonNodeStringBuilder object = builder.withObject();
+            appendStatistics(object, elapsed);
+            object.closeObject();
+        }
+
+        private void appendStatistics(JsonNodeStringBuilder builder, long elapsed) {
+            builder.withProperty("count", getCount())
+                    .withProperty("errors", getErrors())
+                    .withProperty("throughput").append(String.format(Locale.US, "%.2f", getThroughput(elapsed)))
+                    .withProperty("latency").withObject()
+                        .withProperty("mean", TimeUnit.NANOSECONDS.toMicros(Math.round(getMeanLatency())))
+                        .withProperty("p50", TimeUnit.NANOSECONDS.toMicros(getLatency(50)))
+                        .withProperty("p90", TimeUnit.NANOSECONDS.toMicros(getLatency(90)))
+                        .withProperty("p99", TimeUnit.NANOSECONDS.toMicros(getLatency(99)))
+                        .withProperty("max", TimeUnit.NANOSECONDS.toMicros(getMaxLatency()))
+                    .closeObject();
+        }
+    }
+}
@@ -0,0 +1,367 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.citrusframework.main.parallel;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import org.citrusframework.Citrus;
+import org.citrusframework.CitrusInstanceManager;
+import org.citrusframework.CitrusSettings;
+import org.citrusframework.TestCase;
+import org.citrusframework.TestClass;
+import org.citrusframework.TestSource;
+import org.citrusframework.api.common.TestLoader;
+import org.citrusframework.api.common.TestSourceAware;
+import org.citrusframework.api.main.TestRunConfiguration;
+import org.citrusframework.base.annotations.CitrusAnnotations;
+import org.citrusframework.base.main.AbstractTestEngine;
+import org.citrusframework.common.TestSourceHelper;
+import org.citrusframework.context.TestContext;
+import org.citrusframework.endpoint.AbstractEndpointComponent;
+import org.citrusframework.endpoint.Endpoint;
+import org.citrusframework.endpoint.EndpointBuilder;
+import org.citrusframework.endpoint.EndpointComponent;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.exceptions.TestCaseFailedException;
+import org.citrusframework.server.Server;
+import org.citrusframework.spi.ClasspathResourceResolver;
+import org.citrusframework.spi.Resource;
+import org.citrusframework.spi.Resources;
+import org.citrusframework.util.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Test engine running test sources (YAML, XML, Groovy, ...) concurrently on a bounded thread pool or on virtual threads.
+ * All tests share the Citrus instance and its suite lifecycle, but each test runs with its own test context.
+ * <p>
+ * Tests that use the same shared resource never run at the same time. Resources are declared in the test meta data
+ * ({@link org.citrusframework.TestCaseMetaInfo#getResources()}). In addition, each endpoint definition and endpoint
+ * builder of a test is a resource identified by its endpoint name, and each port used by an endpoint is a resource.
+ * Resource locks are acquired after the test has been loaded and right before the test runs.
+ */
+public class ParallelTestEngine extends AbstractTestEngine {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(ParallelTestEngine.class);
+
+    /** Prefix of resources derived from endpoint definitions */
+    public static final String ENDPOINT_RESOURCE_PREFIX = "endpoint:";
+    public static final String PORT_RESOURCE_PREFIX = "port:";
+
+    private final ResourceLocks locks = new ResourceLocks();
+
+    private int threads = ParallelTestEngineSettings.getThreads();
+    private boolean virtualThreads = ParallelTestEngineSettings.isVirtualThreads();
+
+    /**
+     * Default constructor using run configuration.
+     * @param configuration
+     */
+    public ParallelTestEngine(TestRunConfiguration configuration) {
+        super(configuration);
+    }
+
+    @Override
+    public void run() {
+        if (threads < 1) {
+            throw new CitrusRuntimeException(String.format("Invalid number of parallel test threads: %d", threads));
+        }
+
+        if (StringUtils.hasText(getConfiguration().getWorkDir())) {
+            CitrusSettings.setWorkDir(getConfiguration().getWorkDir());
+        }
+
+        List<TestSource> testSources = resolveTestSources(getConfiguration().getTestSources());
+        logger.info("Running {} tests with {} parallel threads", testSources.size(), threads);
+
+        Citrus citrus = CitrusInstanceManager.getOrDefault();
+        citrus.beforeSuite("citrus-parallel");
+
+        AtomicInteger failed = new AtomicInteger();
+        ExecutorService executor = createExecutorService();
+        Semaphore permits = new Semaphore(threads);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (TestSource source : testSources) {
+                permits.acquire();
+                results.add(executor.submit(() -> {
+                    try {
+                        if (!runTest(citrus, source)) {
+                            failed.incrementAndGet();
+                        }
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while running tests in parallel", e);
+        } catch (ExecutionException e) {
+            throw new CitrusRuntimeException("Failed to run tests in parallel", e.getCause());
+        } finally {
+            executor.shutdownNow();
+            citrus.afterSuite("citrus-parallel");
+
+            if (getConfiguration().isReset()) {
+                CitrusInstanceManager.reset();
+            }
+        }
+
+        logger.info("Finished {} tests in parallel, {} failed", testSources.size(), failed.get());
+    }
+
+    /**
+     * Loads and runs the test source with a new test context. Holds the locks of all test resources while the test runs.
+     * @param citrus
+     * @param source
+     * @return true when the test has passed
+     */
+    protected boolean runTest(Citrus citrus, TestSource source) {
+        logger.info("Running test source {}", source.getName());
+
+        TestContext context = citrus.getCitrusContext().createTestContext();
+        AtomicReference<ResourceLocks.Lease> lease = new AtomicReference<>();
+        try {
+            TestLoader loader = createTestLoader(source);
+            CitrusAnnotations.injectAll(loader, citrus, context);
+            loader.configureTestCase(testCase -> lease.set(acquire(testCase)));
+            loader.load();
+            return true;
+        } catch (TestCaseFailedException e) {
+            logger.debug("Test {} failed", source.getName(), e);
+            return false;
+        } catch (RuntimeException e) {
+            logger.error("Failed to run test source {}", source.getName(), e);
+            return false;
+        } finally {
+            Optional.ofNullable(lease.get()).ifPresent(ResourceLocks.Lease::close);
+        }
+    }
+
+    /**
+     * Creates a new test loader for the test source.
+     * @param source
+     * @return
+     */
+    protected TestLoader createTestLoader(TestSource source) {
+        TestLoader loader = TestLoader.lookup(source.getType())
+                .orElseThrow(() -> new CitrusRuntimeException(String.format("Failed to resolve test loader for type %s", source.getType())));
+
+        loader.setTestClass(ParallelTestEngine.class);
+        loader.setTestName(source.getName());
+
+        if (loader instanceof TestSourceAware sourceAwareTestLoader) {
+            sourceAwareTestLoader.setSource(source);
+        }
+
+        return loader;
+    }
+
+    private ResourceLocks.Lease acquire(TestCase testCase) {
+        Set<String> resources = getResources(testCase);
+        if (!resources.isEmpty()) {
+            logger.debug("Test {} uses shared resources {}", testCase.getName(), resources);
+        }
+
+        try {
+            return locks.acquire(resources);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException(String.format("Interrupted while waiting for shared resources %s", resources), e);
+        }
+    }
+
+    /**
+     * Gets all shared resources of given test case. These are the resources declared in the test meta data as
+     * well as the endpoint names and ports of the endpoint definitions and endpoint builders.
+     * @param testCase
+     * @return
+     */
+    static Set<String> getResources(TestCase testCase) {
+        Set<String> resources = new LinkedHashSet<>(testCase.getMetaInfo().getResources());
+
+        for (String endpointUri : testCase.getEndpointDefinitions()) {
+            Map<String, String> parameters = AbstractEndpointComponent.parseParameters(endpointUri);
+
+            String endpointName = parameters.get(EndpointComponent.ENDPOINT_NAME);
+            if (!StringUtils.hasText(endpointName)) {
+                endpointName = endpointUri.contains("?") ? endpointUri.substring(0, endpointUri.indexOf('?')) : endpointUri;
+            }
+            resources.add(ENDPOINT_RESOURCE_PREFIX + endpointName);
+
+            if (StringUtils.hasText(parameters.get("port"))) {
+                resources.add(PORT_RESOURCE_PREFIX + parameters.get("port"));
+            } else {
+                getUriPort(endpointUri).ifPresent(port -> resources.add(PORT_RESOURCE_PREFIX + port));
+            }
+        }
+
+        for (EndpointBuilder<?> builder : testCase.getEndpoints()) {
+            Optional<? extends Endpoint> endpoint = builder.getConfiguredEndpoint();
+            if (endpoint.isEmpty()) {
+                logger.warn("Unable to determine shared resources of endpoint builder {} in test {} - " +
+                        "declare the resources in the test meta data to avoid conflicts with parallel tests", builder.getClass().getName(), testCase.getName());
+                continue;
+            }
+
+            resources.add(ENDPOINT_RESOURCE_PREFIX + endpoint.get().getName());
+            if (endpoint.get() instanceof Server server && server.getPort() > 0) {
+                resources.add(PORT_RESOURCE_PREFIX + server.getPort());
+            }
+        }
+
+        return resources;
+    }
+
+    /**
+     * Gets the port of an endpoint uri such as http://localhost:8080/test.
+     */
+    private static Optional<Integer> getUriPort(String endpointUri) {
+        try {
+            int port = URI.create(endpointUri).getPort();
+            return port > 0 ? Optional.of(port) : Optional.empty();
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Expands test source directories and filters Java test classes which are not supported by this engine.
+     * @param testSources
+     * @return
+     */
+    private List<TestSource> resolveTestSources(List<TestSource> testSources) {
+        List<TestSource> resolved = new ArrayList<>();
+
+        for (TestSource source : testSources) {
+            if ("directory".equals(source.getType())) {
+                resolved.addAll(resolveTestSources(listDirectory(source)));
+            } else if ("java".equals(source.getType()) && TestClass.isKnownToClasspath(source.getName())) {
+                logger.warn("Skipping Java test class {} - use the JUnit or TestNG engine to run Java tests", source.getName());
+            } else if (TestLoader.lookup(source.getType(), true).isEmpty()) {
+                logger.warn("Skipping test source {} - unsupported test source type '{}'", source.getName(), source.getType());
+            } else {
+                resolved.add(source);
+            }
+        }
+
+        return resolved;
+    }
+
+    private List<TestSource> listDirectory(TestSource directory) {
+        Resource sourceDir = Resources.create(directory.getFilePath());
+        if (!sourceDir.exists()) {
+            return List.of();
+        }
+
+        if (sourceDir instanceof Resources.ClasspathResource) {
+            try {
+                return new ClasspathResourceResolver()
+                        .getResources(sourceDir.location())
+                        .stream()
+                        .map(Path::toString)
+                        .map(TestSourceHelper::create)
+                        .collect(Collectors.toList());
+            } catch (IOException e) {
+                throw new CitrusRuntimeException("Failed to resolve files from resource directory '%s'".formatted(sourceDir.location()), e);
+            }
+        }
+
+        return Optional.ofNullable(sourceDir.file().list())
+                .stream()
+                .flatMap(Arrays::stream)
+                .sorted()
+                .map(file -> directory.getFilePath() + File.separator + file)
+                .map(TestSourceHelper::create)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Creates the executor running the tests. Virtual threads require Java 21 or later, so the engine falls back
+     * to a fixed thread pool on older Java runtimes.
+     * @return
+     */
+    private ExecutorService createExecutorService() {
+        if (virtualThreads) {
+            try {
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+                logger.warn("Virtual threads not supported by this Java runtime - using platform threads instead");
+            }
+        }
+
+        return Executors.newFixedThreadPool(threads, new ParallelThreadFactory());
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public void setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    /**
+     * Names the test threads.
+     */
+    private static final class ParallelThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, String.format("citrus-parallel-%d", count.incrementAndGet()));
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.citrusframework.main.parallel;
+
+import org.citrusframework.config.CitrusConfigProperties;
+import org.citrusframework.config.CitrusConfigProperty;
+
+@CitrusConfigProperties(prefix = "citrus.engine.parallel", description = "Parallel test engine settings")
+public final class ParallelTestEngineSettings {
+
+    private ParallelTestEngineSettings() {
+        // prevent instantiation
+    }
+
+    @CitrusConfigProperty(description = "Maximum number of tests running at the same time. Defaults to the number of available processors", type = "java.lang.Integer")
+    public static final String THREADS_PROPERTY = "citrus.engine.parallel.threads";
+    private static final String THREADS_ENV = "CITRUS_ENGINE_PARALLEL_THREADS";
+
+    @CitrusConfigProperty(description = "Run each test on its own virtual thread when supported by the Java runtime", type = "java.lang.Boolean", defaultValue = "false")
+    public static final String VIRTUAL_THREADS_PROPERTY = "citrus.engine.parallel.virtual.threads";
+    private static final String VIRTUAL_THREADS_ENV = "CITRUS_ENGINE_PARALLEL_VIRTUAL_THREADS";
+    private static final String VIRTUAL_THREADS_DEFAULT = Boolean.FALSE.toString();
+
+    /**
+     * Gets the maximum number of tests running at the same time.
+     */
+    public static int getThreads() {
+        return Integer.parseInt(System.getProperty(THREADS_PROPERTY, System.getenv(THREADS_ENV) != null ?
+                System.getenv(THREADS_ENV) : String.valueOf(Runtime.getRuntime().availableProcessors())));
+    }
+
+    /**
+     * Get setting to determine if tests run on virtual threads.
+     */
+    public static boolean isVirtualThreads() {
+        return Boolean.parseBoolean(System.getProperty(VIRTUAL_THREADS_PROPERTY, System.getenv(VIRTUAL_THREADS_ENV) != null ?
+                System.getenv(VIRTUAL_THREADS_ENV) : VIRTUAL_THREADS_DEFAULT));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.citrusframework.main.parallel;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Exclusive locks on named shared resources such as endpoints or server ports. A test holds the locks of all its
+ * resources while running, so tests sharing a resource run one after another. The locks of a test are always
+ * acquired in natural order of the resource names, so tests waiting for overlapping sets of resources never
+ * dead lock.
+ */
+public class ResourceLocks {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(ResourceLocks.class);
+
+    private final Map<String, ReentrantLock> locks = new ConcurrentHashMap<>();
+
+    /**
+     * Acquires the locks of given resources and blocks until all locks are available.
+     * @param resources
+     * @return the lease releasing the locks when closed
+     * @throws InterruptedException
+     */
+    public Lease acquire(Collection<String> resources) throws InterruptedException {
+        List<ReentrantLock> acquired = new ArrayList<>();
+        try {
+            for (String resource : new TreeSet<>(resources)) {
+                ReentrantLock lock = locks.computeIfAbsent(resource, key -> new ReentrantLock(true));
+                if (!lock.tryLock()) {
+                    logger.debug("Waiting for shared resource '{}'", resource);
+                    lock.lockInterruptibly();
+                }
+
+                acquired.add(lock);
+            }
+        } catch (InterruptedException e) {
+            release(acquired);
+            throw e;
+        }
+
+        return new Lease(acquired);
+    }
+
+    private static void release(List<ReentrantLock> acquired) {
+        for (int i = acquired.size() - 1; i >= 0; i--) {
+            acquired.get(i).unlock();
+        }
+
+        acquired.clear();
+    }
+
+    /**
+     * Locks held by a test. Must be closed by the thread that acquired the locks.
+     */
+    public static final class Lease implements AutoCloseable {
+
+        private final List<ReentrantLock> locks;
+
+        private Lease(List<ReentrantLock> locks) {
+            this.locks = locks;
+        }
+
+        @Override
+        public void close() {
+            release(locks);
+        }
+    }
+}
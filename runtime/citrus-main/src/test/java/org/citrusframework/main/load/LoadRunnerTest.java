@@ -0,0 +1,160 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.citrusframework.main.load;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.citrusframework.Citrus;
+import org.citrusframework.TestAction;
+import org.citrusframework.TestSource;
+import org.citrusframework.api.common.TestLoader;
+import org.citrusframework.common.DefaultTestLoader;
+import org.citrusframework.context.TestContext;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class LoadRunnerTest {
+
+    private final Citrus citrus = Citrus.newInstance();
+
+    @Test
+    public void shouldRunClosedModel() {
+        LoadConfiguration configuration = new LoadConfiguration();
+        configuration.setUsers(2);
+        configuration.setDuration(0L);
+        configuration.setIterations(10L);
+
+        AtomicInteger iterations = new AtomicInteger();
+        LoadStatistics statistics = new SampleLoadRunner(configuration, iterations).run();
+
+        Assert.assertEquals(statistics.getIterations().getCount(), 10L);
+        Assert.assertEquals(statistics.getIterations().getErrors(), 2L);
+        Assert.assertEquals(statistics.getDropped(), 0L);
+
+        List<LoadStatistics.ActionKey> actions = List.copyOf(statistics.getActions().keySet());
+        Assert.assertEquals(actions, List.of(new LoadStatistics.ActionKey(0, "sleep"),
+                new LoadStatistics.ActionKey(1, "check")));
+
+        LoadStatistics.Measurement sleep = statistics.getActions().get(actions.get(0));
+        Assert.assertEquals(sleep.getCount(), 10L);
+        Assert.assertEquals(sleep.getErrors(), 0L);
+        Assert.assertTrue(sleep.getLatency(50) >= TimeUnit.MILLISECONDS.toNanos(5L));
+        Assert.assertEquals(statistics.getActions().get(actions.get(1)).getErrors(), 2L);
+
+        Assert.assertTrue(statistics.toTable().contains("Load test 'sample': 10 iterations, 2 failed"));
+        Assert.assertTrue(statistics.toJson().contains("\"name\": \"check\", \"count\": 10, \"errors\": 2"));
+    }
+
+    @Test
+    public void shouldRunOpenModel() {
+        LoadConfiguration configuration = new LoadConfiguration();
+        configuration.setRate(100);
+        configuration.setUsers(5);
+        configuration.setDuration(500L);
+
+        LoadStatistics statistics = new SampleLoadRunner(configuration, new AtomicInteger()).run();
+
+        Assert.assertEquals(statistics.getIterations().getCount() + statistics.getDropped(), 50L);
+        Assert.assertTrue(statistics.getElapsed() >= TimeUnit.MILLISECONDS.toNanos(490L));
+    }
+
+    @Test
+    public void shouldRampUpArrivalRate() {
+        LoadConfiguration configuration = new LoadConfiguration();
+        configuration.setRate(10);
+        configuration.setRampUp(2000L);
+
+        LoadRunner runner = new LoadRunner(citrus, new TestSource(TestLoader.JAVA, "sample"), configuration);
+
+        Assert.assertEquals(runner.getArrivalOffset(0L), 0L);
+        Assert.assertEquals(TimeUnit.NANOSECONDS.toMillis(runner.getArrivalOffset(5L)), 1414L);
+        Assert.assertEquals(TimeUnit.NANOSECONDS.toMillis(runner.getArrivalOffset(10L)), 2000L);
+        Assert.assertEquals(TimeUnit.NANOSECONDS.toMillis(runner.getArrivalOffset(20L)), 3000L);
+    }
+
+    @Test
+    public void shouldParseTime() {
+        Assert.assertEquals(LoadConfiguration.parseTime("1500"), 1500L);
+        Assert.assertEquals(LoadConfiguration.parseTime("250ms"), 250L);
+        Assert.assertEquals(LoadConfiguration.parseTime("1.5s"), 1500L);
+        Assert.assertEquals(LoadConfiguration.parseTime("2m"), 120000L);
+        Assert.assertEquals(LoadConfiguration.parseTime("1h"), 3600000L);
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void shouldFailOnInvalidTime() {
+        LoadConfiguration.parseTime("soon");
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void shouldFailOnMissingDurationAndIterations() {
+        LoadConfiguration configuration = new LoadConfiguration();
+        configuration.setDuration(0L);
+        configuration.validate();
+    }
+
+    /**
+     * Runs a test with a sleep action and a check action failing in every fifth iteration.
+     */
+    private class SampleLoadRunner extends LoadRunner {
+
+        private final AtomicInteger iterations;
+
+        SampleLoadRunner(LoadConfiguration configuration, AtomicInteger iterations) {
+            super(citrus, new TestSource(TestLoader.JAVA, "sample"), configuration);
+            this.iterations = iterations;
+        }
+
+        @Override
+        protected TestLoader createTestLoader() {
+            return new DefaultTestLoader() {
+                @Override
+                protected void doLoad() {
+                    super.doLoad();
+                    runner.run(new NamedAction("sleep", context -> {
+                        try {
+                            Thread.sleep(5L);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }));
+                    runner.run(new NamedAction("check", context -> {
+                        if (iterations.incrementAndGet() % 5 == 0) {
+                            throw new CitrusRuntimeException("Check failed");
+                        }
+                    }));
+                }
+            };
+        }
+    }
+
+    private record NamedAction(String name, TestAction delegate) implements TestAction {
+        @Override
+        public void execute(TestContext context) {
+            delegate.execute(context);
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.citrusframework.main.parallel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.citrusframework.TestSource;
+import org.citrusframework.api.common.TestLoader;
+import org.citrusframework.api.main.TestEngine;
+import org.citrusframework.api.main.TestRunConfiguration;
+import org.citrusframework.base.DefaultTestCase;
+import org.citrusframework.base.endpoint.AbstractEndpointBuilder;
+import org.citrusframework.common.DefaultTestLoader;
+import org.citrusframework.endpoint.Endpoint;
+import org.citrusframework.endpoint.EndpointBuilder;
+import org.citrusframework.endpoint.direct.DirectEndpoint;
+import org.citrusframework.server.Server;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class ParallelTestEngineTest {
+
+    @Test
+    public void shouldResolveParallelEngine() {
+        TestRunConfiguration configuration = new TestRunConfiguration();
+        configuration.setEngine("parallel");
+        Assert.assertEquals(TestEngine.lookup(configuration).getClass(), ParallelTestEngine.class);
+    }
+
+    @Test
+    public void shouldRunTestsInParallel() {
+        TestRunConfiguration configuration = new TestRunConfiguration();
+        List<TestSource> testSources = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            testSources.add(new TestSource(TestLoader.JAVA, "sample-" + i));
+        }
+        configuration.setTestSources(testSources);
+
+        SampleTestEngine engine = new SampleTestEngine(configuration);
+        engine.setThreads(4);
+        engine.run();
+
+        Assert.assertEquals(engine.finished.get(), 8);
+        Assert.assertTrue(engine.maxRunning.get() > 1);
+        Assert.assertTrue(engine.maxRunning.get() <= 4);
+        Assert.assertEquals(engine.maxRunningPerResource.get("database").get(), 1);
+        Assert.assertEquals(engine.contexts.size(), 8);
+    }
+
+    @Test
+    public void shouldResolveResources() {
+        DefaultTestCase testCase = new DefaultTestCase();
+        testCase.getMetaInfo().setResources(List.of("database"));
+        testCase.getEndpointDefinitions().add("http:server?port=8080&endpointName=httpServer");
+        testCase.getEndpointDefinitions().add("direct:inbound");
+
+        Assert.assertEquals(ParallelTestEngine.getResources(testCase),
+                Set.of("database", "port:8080", "endpoint:httpServer", "endpoint:direct:inbound"));
+    }
+
+    @Test
+    public void shouldResolveEndpointPortResources() {
+        DefaultTestCase testCase = new DefaultTestCase();
+        testCase.getEndpointDefinitions().add("http://localhost:8081/test?endpointName=httpClient");
+
+        Assert.assertEquals(ParallelTestEngine.getResources(testCase),
+                Set.of("port:8081", "endpoint:httpClient"));
+    }
+
+    @Test
+    public void shouldResolveEndpointBuilderResources() {
+        SampleServerBuilder builder = new SampleServerBuilder(8082);
+        builder.name("sampleServer");
+
+        DefaultTestCase testCase = new DefaultTestCase();
+        testCase.getEndpoints().add(builder);
+
+        Assert.assertEquals(ParallelTestEngine.getResources(testCase),
+                Set.of("port:8082", "endpoint:sampleServer"));
+    }
+
+    @Test
+    public void shouldSkipUnknownEndpointBuilderResources() {
+        DefaultTestCase testCase = new DefaultTestCase();
+        testCase.getEndpoints().add(new EndpointBuilder<>() {
+            @Override
+            public boolean supports(Class<?> endpointType) {
+                return false;
+            }
+
+            @Override
+            public Endpoint build() {
+                return new DirectEndpoint();
+            }
+        });
+
+        Assert.assertEquals(ParallelTestEngine.getResources(testCase), Set.of());
+    }
+
+    /**
+     * Builder of a sample server endpoint listening on a port.
+     */
+    private static class SampleServerBuilder extends AbstractEndpointBuilder<SampleServer> {
+
+        private final SampleServer endpoint;
+
+        SampleServerBuilder(int port) {
+            this.endpoint = new SampleServer(port);
+        }
+
+        @Override
+        protected SampleServer getEndpoint() {
+            return endpoint;
+        }
+    }
+
+    private static class SampleServer extends DirectEndpoint implements Server {
+
+        private final int port;
+
+        SampleServer(int port) {
+            this.port = port;
+        }
+
+        @Override
+        public int getPort() {
+            return port;
+        }
+
+        @Override
+        public void start() {
+        }
+
+        @Override
+        public void stop() {
+        }
+
+        @Override
+        public boolean isRunning() {
+            return false;
+        }
+
+        @Override
+        public void run() {
+        }
+    }
+
+    /**
+     * Runs sample tests sleeping for a while. Tests with an even index share the database resource.
+     */
+    private static class SampleTestEngine extends ParallelTestEngine {
+
+        private final AtomicInteger running = new AtomicInteger();
+        private final AtomicInteger maxRunning = new AtomicInteger();
+        private final AtomicInteger finished = new AtomicInteger();
+
+        private final Map<String, AtomicInteger> runningPerResource = new ConcurrentHashMap<>();
+        private final Map<String, AtomicInteger> maxRunningPerResource = new ConcurrentHashMap<>();
+        private final Set<Object> contexts = ConcurrentHashMap.newKeySet();
+
+        SampleTestEngine(TestRunConfiguration configuration) {
+            super(configuration);
+        }
+
+        @Override
+        protected TestLoader createTestLoader(TestSource source) {
+            boolean shared = Integer.parseInt(source.getName().substring("sample-".length())) % 2 == 0;
+
+            return new DefaultTestLoader() {
+                @Override
+                protected void doLoad() {
+                    if (shared) {
+                        runner.getTestCase().getMetaInfo().setResources(List.of("database"));
+                    }
+
+                    super.doLoad();
+                    runner.run(context -> {
+                        contexts.add(context);
+                        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                        if (shared) {
+                            maxRunningPerResource.computeIfAbsent("database", key -> new AtomicInteger())
+                                    .accumulateAndGet(runningPerResource.computeIfAbsent("database", key -> new AtomicInteger()).incrementAndGet(), Math::max);
+                        }
+
+                        try {
+                            Thread.sleep(50L);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+
+                        if (shared) {
+                            runningPerResource.get("database").decrementAndGet();
+                        }
+                        running.decrementAndGet();
+                        finished.incrementAndGet();
+                    });
+                }
+            };
+        }
+    }
+}
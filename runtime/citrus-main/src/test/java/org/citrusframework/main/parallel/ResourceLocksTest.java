@@ -0,0 +1,97 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.citrusframework.main.parallel;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class ResourceLocksTest {
+
+    private final ResourceLocks locks = new ResourceLocks();
+
+    @Test
+    public void shouldBlockOnSharedResource() throws Exception {
+        CountDownLatch acquired = new CountDownLatch(1);
+        AtomicBoolean done = new AtomicBoolean();
+
+        ResourceLocks.Lease lease = locks.acquire(List.of("port:8080", "database"));
+        Thread other = new Thread(() -> {
+            try (ResourceLocks.Lease ignored = locks.acquire(List.of("database"))) {
+                done.set(true);
+                acquired.countDown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        other.start();
+
+        Assert.assertFalse(acquired.await(100L, TimeUnit.MILLISECONDS));
+        Assert.assertFalse(done.get());
+
+        lease.close();
+        Assert.assertTrue(acquired.await(5L, TimeUnit.SECONDS));
+        other.join();
+    }
+
+    @Test
+    public void shouldNotBlockOnDifferentResources() throws Exception {
+        try (ResourceLocks.Lease ignored = locks.acquire(List.of("endpoint:foo"))) {
+            CountDownLatch acquired = new CountDownLatch(1);
+            Thread other = new Thread(() -> {
+                try (ResourceLocks.Lease lease = locks.acquire(List.of("endpoint:bar"))) {
+                    acquired.countDown();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            other.start();
+
+            Assert.assertTrue(acquired.await(5L, TimeUnit.SECONDS));
+            other.join();
+        }
+    }
+
+    @Test
+    public void shouldReleaseOnInterrupt() throws Exception {
+        ResourceLocks.Lease lease = locks.acquire(List.of("b"));
+        AtomicBoolean interrupted = new AtomicBoolean();
+
+        Thread other = new Thread(() -> {
+            try {
+                locks.acquire(List.of("a", "b")).close();
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+        });
+        other.start();
+        Thread.sleep(50L);
+        other.interrupt();
+        other.join();
+        lease.close();
+
+        Assert.assertTrue(interrupted.get());
+        try (ResourceLocks.Lease ignored = locks.acquire(List.of("a", "b"))) {
+            // both locks available again
+        }
+    }
+}
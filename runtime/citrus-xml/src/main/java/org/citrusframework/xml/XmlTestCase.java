@@ -19,6 +19,7 @@ package org.citrusframework.xml;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -77,6 +78,14 @@ public class XmlTestCase {
         delegate.getMetaInfo().setStatus(status);
     }
 
+    @XmlAttribute
+    public void setResources(String resources) {
+        delegate.getMetaInfo().setResources(Arrays.stream(resources.split(","))
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .collect(Collectors.toList()));
+    }
+
     @XmlElement
     public void setVariables(Variables variables) {
         variables.getVariables().forEach(variable -> {
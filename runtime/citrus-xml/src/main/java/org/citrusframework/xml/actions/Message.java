@@ -52,6 +52,8 @@ public class Message {
     @XmlAttribute(name = "schema-repository")
     protected String schemaRepository;
     @XmlAttribute
+    protected Boolean streaming;
+    @XmlAttribute
     protected String name;
     @XmlAttribute
     protected String type;
@@ -111,6 +113,14 @@ public class Message {
         this.schemaRepository = value;
     }
 
+    public Boolean isStreaming() {
+        return streaming;
+    }
+
+    public void setStreaming(Boolean value) {
+        this.streaming = value;
+    }
+
     public String getName() {
         return name;
     }
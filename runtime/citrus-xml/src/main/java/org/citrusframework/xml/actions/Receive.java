@@ -234,6 +234,10 @@ public class Receive implements TestActionBuilder<ReceiveMessageAction>, Referen
     }
 
     private void addXmlValidationContext() {
+        if (message != null && Boolean.TRUE.equals(message.isStreaming())) {
+            getXmlValidationContext().streaming(true);
+        }
+
         //check for validate elements, these elements can either have script, xpath or namespace validation information
         //for now we only handle namespace validation
         Map<String, String> validateNamespaces = new HashMap<>();
@@ -153,13 +153,14 @@ public class ReceiveTest extends AbstractXmlActionTest {
         helloQueue.send(new DefaultMessage("{ \"message\": { \"text\": \"Hello World!\" }, { \"bar\": \"@ignore@\" }}").setHeader("operation", "sayHello"));
         helloQueue.send(new DefaultMessage("<TestMessage>Hello Citrus</TestMessage>").setHeader("operation", "sayHello"));
         helloQueue.send(new DefaultMessage("<TestMessage>Hello Citrus</TestMessage>").setHeader("operation", "sayHello"));
+        helloQueue.send(new DefaultMessage("<TestMessage>Hello Citrus</TestMessage>").setHeader("operation", "sayHello"));
 
         testLoader.load();
         TestCase result = testLoader.getTestCase();
         Assert.assertEquals(result.getName(), "ReceiveTest");
         Assert.assertEquals(result.getMetaInfo().getAuthor(), "Christoph");
         Assert.assertEquals(result.getMetaInfo().getStatus(), TestCaseMetaInfo.Status.FINAL);
-        Assert.assertEquals(result.getActionCount(), 17L);
+        Assert.assertEquals(result.getActionCount(), 18L);
 
         int actionIndex = 0;
 
@@ -273,6 +274,7 @@ public class ReceiveTest extends AbstractXmlActionTest {
         Assert.assertEquals(messageProcessor.getPathExpressions().get("/ns:TestMessage/"), "newValue");
 
         Assert.assertFalse(xmlValidationContext.isSchemaValidationEnabled());
+        Assert.assertFalse(xmlValidationContext.isStreaming());
 
         Assert.assertEquals(xmlValidationContext.getIgnoreExpressions().size(), 1);
         Assert.assertEquals(xmlValidationContext.getIgnoreExpressions().iterator().next(), "/ns:TestMessage/ns:ignore");
@@ -407,7 +409,7 @@ public class ReceiveTest extends AbstractXmlActionTest {
         Assert.assertEquals(headerValidationContext.getValidatorNames().size(), 1);
         Assert.assertEquals(headerValidationContext.getValidatorNames().get(0), "myHeaderValidator");
 
-        action = (ReceiveMessageAction) result.getTestAction(actionIndex);
+        action = (ReceiveMessageAction) result.getTestAction(actionIndex++);
         Assert.assertEquals(action.getValidators().size(), 2);
         Assert.assertEquals(action.getValidators().get(0), context.getReferenceResolver().resolve("myValidator", MessageValidator.class));
         Assert.assertEquals(action.getValidators().get(1), context.getReferenceResolver().resolve("defaultMessageValidator", MessageValidator.class));
@@ -415,5 +417,14 @@ public class ReceiveTest extends AbstractXmlActionTest {
         Assert.assertEquals(headerValidationContext.getValidatorNames().size(), 2);
         Assert.assertEquals(headerValidationContext.getValidatorNames().get(0), "myHeaderValidator");
         Assert.assertEquals(headerValidationContext.getValidatorNames().get(1), "defaultHeaderValidator");
+
+        action = (ReceiveMessageAction) result.getTestAction(actionIndex);
+        Assert.assertEquals(action.getValidationContexts().size(), 2);
+        Assert.assertTrue(action.getValidationContexts().get(0) instanceof XpathMessageValidationContext);
+        Assert.assertTrue(action.getValidationContexts().get(1) instanceof HeaderValidationContext);
+        xPathValidationContext = (XpathMessageValidationContext)action.getValidationContexts().get(0);
+        Assert.assertTrue(xPathValidationContext.isStreaming());
+        Assert.assertEquals(xPathValidationContext.getXpathExpressions().size(), 1);
+        Assert.assertEquals(xPathValidationContext.getXpathExpressions().get("/TestMessage/text"), "Hello Citrus");
     }
 }
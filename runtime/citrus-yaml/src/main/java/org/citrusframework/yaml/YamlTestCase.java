@@ -68,6 +68,12 @@ public class YamlTestCase {
         delegate.getMetaInfo().setStatus(status);
     }
 
+    @SchemaProperty(advanced = true, description = "Shared resources (e.g. endpoints, server ports) this test uses exclusively. " +
+            "Parallel test engines never run tests sharing a resource at the same time.")
+    public void setResources(List<String> resources) {
+        delegate.getMetaInfo().setResources(resources);
+    }
+
     @SchemaProperty(description = "The test variables.")
     public void setVariables(List<Variable> variables) {
         variables.forEach(variable -> {
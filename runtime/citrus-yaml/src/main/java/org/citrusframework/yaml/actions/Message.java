@@ -35,6 +35,7 @@ public class Message {
     protected Boolean schemaValidation;
     protected String schema;
     protected String schemaRepository;
+    protected Boolean streaming;
     protected String name;
     protected String type;
 
@@ -126,6 +127,16 @@ public class Message {
         this.schemaRepository = value;
     }
 
+    public Boolean isStreaming() {
+        return streaming;
+    }
+
+    @SchemaProperty(advanced = true,
+            description = "Enables the streaming XML validation that compares the message payload without building a DOM tree.")
+    public void setStreaming(Boolean value) {
+        this.streaming = value;
+    }
+
     public String getName() {
         return name;
     }
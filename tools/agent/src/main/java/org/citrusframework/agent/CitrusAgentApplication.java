@@ -61,8 +61,11 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -256,6 +259,18 @@ public class CitrusAgentApplication extends AbstractVerticle implements CitrusIn
                                 .end(JsonSupport.render(results));
                     }
                 }));
+        router.get("/results/summary")
+                .handler(wrapThrowingHandler(ctx -> ctx.response()
+                        .putHeader(HttpHeaders.CONTENT_TYPE, ContentType.APPLICATION_JSON.toString())
+                        .end(JsonSupport.render(createSummary(agentTestListener.getResults())))));
+        router.get("/results/summary/classes")
+                .handler(wrapThrowingHandler(ctx -> ctx.response()
+                        .putHeader(HttpHeaders.CONTENT_TYPE, ContentType.APPLICATION_JSON.toString())
+                        .end(JsonSupport.render(new TreeMap<>(agentTestListener.getResults().getClassSummaries())))));
+        router.get("/results/summary/packages")
+                .handler(wrapThrowingHandler(ctx -> ctx.response()
+                        .putHeader(HttpHeaders.CONTENT_TYPE, ContentType.APPLICATION_JSON.toString())
+                        .end(JsonSupport.render(new TreeMap<>(agentTestListener.getResults().getPackageSummaries())))));
         router.get("/results/flow")
                 .handler(wrapThrowingHandler(ctx -> {
                     HttpServerResponse response = ctx.response();
@@ -431,6 +446,22 @@ public class CitrusAgentApplication extends AbstractVerticle implements CitrusIn
                 .ifPresent(Vertx::close);
     }
 
+    /**
+     * Creates the summary of given test results with counters and the aggregates per test class and per package.
+     * The summary is built from the counters maintained by the test results, so no single result gets copied.
+     */
+    private static Map<String, Object> createSummary(TestResults results) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("size", results.getSize());
+        summary.put("success", results.getSuccess());
+        summary.put("failed", results.getFailed());
+        summary.put("skipped", results.getSkipped());
+        summary.put("totalDuration", results.getTotalDuration());
+        summary.put("classes", new TreeMap<>(results.getClassSummaries()));
+        summary.put("packages", new TreeMap<>(results.getPackageSummaries()));
+        return summary;
+    }
+
     private static String createReport(TestResults results) {
         StringWriter reportWriter = new StringWriter();
         OutputStreamReporter reporter = new OutputStreamReporter(reportWriter);
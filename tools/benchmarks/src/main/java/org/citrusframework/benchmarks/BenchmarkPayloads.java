@@ -0,0 +1,105 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.benchmarks;
+
+/**
+ * Creates order documents used as benchmark payloads. Each order holds the given number of items, so payload sizes
+ * range from a couple of hundred bytes to several hundred kilobytes. Control documents use the same structure with
+ * test variables, ignore placeholders and validation matchers as typically found in Citrus tests.
+ */
+public final class BenchmarkPayloads {
+
+    public static final String ORDER_NAMESPACE = "http://citrusframework.org/benchmarks/order";
+
+    private BenchmarkPayloads() {
+        // prevent instantiation of utility class
+    }
+
+    public static String json(int items, boolean control) {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"orderId\":").append(control ? "\"${orderId}\"" : "\"order-1001\"")
+                .append(",\"customer\":{\"name\":\"Citrus\",\"email\":\"citrus@example.org\"}")
+                .append(",\"created\":").append(control ? "\"@ignore@\"" : "\"2024-01-01T12:00:00Z\"")
+                .append(",\"items\":[");
+
+        for (int i = 0; i < items; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+
+            json.append("{\"sku\":\"sku-").append(i)
+                    .append("\",\"name\":\"Item ").append(i)
+                    .append("\",\"quantity\":").append(control ? "\"@isNumber()@\"" : String.valueOf(i % 5 + 1))
+                    .append(",\"price\":").append(i % 100).append(".99")
+                    .append(",\"tags\":[\"a\",\"b\"]}");
+        }
+
+        return json.append("]}").toString();
+    }
+
+    public static String xml(int items, boolean control) {
+        StringBuilder xml = new StringBuilder();
+        xml.append("<order xmlns=\"").append(ORDER_NAMESPACE).append("\" id=\"")
+                .append(control ? "${orderId}" : "order-1001").append("\">")
+                .append("<customer><name>Citrus</name><email>citrus@example.org</email></customer>")
+                .append("<created>").append(control ? "@ignore@" : "2024-01-01T12:00:00Z").append("</created>")
+                .append("<items>");
+
+        for (int i = 0; i < items; i++) {
+            xml.append("<item sku=\"sku-").append(i).append("\">")
+                    .append("<name>Item ").append(i).append("</name>")
+                    .append("<quantity>").append(control ? "@isNumber()@" : String.valueOf(i % 5 + 1)).append("</quantity>")
+                    .append("<price>").append(i % 100).append(".99</price>")
+                    .append("</item>");
+        }
+
+        return xml.append("</items></order>").toString();
+    }
+
+    public static String yaml(int items, boolean control) {
+        StringBuilder yaml = new StringBuilder();
+        yaml.append("orderId: ").append(control ? "${orderId}" : "order-1001").append('\n')
+                .append("customer:\n  name: Citrus\n  email: citrus@example.org\n")
+                .append("created: ").append(control ? "'@ignore@'" : "'2024-01-01T12:00:00Z'").append('\n')
+                .append("items:\n");
+
+        for (int i = 0; i < items; i++) {
+            yaml.append("  - sku: sku-").append(i).append('\n')
+                    .append("    name: Item ").append(i).append('\n')
+                    .append("    quantity: ").append(control ? "'@isNumber()@'" : String.valueOf(i % 5 + 1)).append('\n')
+                    .append("    price: ").append(i % 100).append(".99\n");
+        }
+
+        return yaml.toString();
+    }
+
+    /**
+     * Text template with the given number of variable and function expressions.
+     */
+    public static String template(int expressions) {
+        StringBuilder template = new StringBuilder("Order ${orderId} for customer ${customer}:");
+        for (int i = 0; i < expressions; i++) {
+            if (i % 2 == 0) {
+                template.append(" item ${item").append(i % 10).append('}');
+            } else {
+                template.append(" citrus:upperCase('name-").append(i).append("')");
+            }
+        }
+
+        return template.toString();
+    }
+}
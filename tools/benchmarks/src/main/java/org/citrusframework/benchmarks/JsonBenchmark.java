@@ -0,0 +1,121 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.benchmarks;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.jayway.jsonpath.JsonPath;
+import org.citrusframework.context.TestContext;
+import org.citrusframework.context.TestContextFactory;
+import org.citrusframework.json.JsonPathUtils;
+import org.citrusframework.message.DefaultMessage;
+import org.citrusframework.message.Message;
+import org.citrusframework.validation.context.ValidationContext;
+import org.citrusframework.validation.context.json.JsonMessageValidationContext;
+import org.citrusframework.validation.json.JsonTextMessageValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Validates JSON payloads and extracts values with JsonPath expressions. JsonPath benchmarks alternate between two
+ * payloads on each invocation, so the per-thread payload cache in {@link JsonPathUtils} never serves a document
+ * parsed by a previous invocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonBenchmark {
+
+    private static final List<String> EXPRESSIONS = List.of("$.orderId", "$.customer.name", "$.items[0].sku",
+            "$.items.length()", "$.items[-1:].name");
+
+    @Param({"10", "1000"})
+    public int items;
+
+    private TestContext context;
+    private JsonTextMessageValidator validator;
+    private List<ValidationContext> validationContexts;
+
+    private String[] payloads;
+    private int invocation;
+
+    private Message receivedMessage;
+    private Message controlMessage;
+
+    @Setup
+    public void setup() {
+        context = TestContextFactory.newInstance().getObject();
+        context.setVariable("orderId", "order-1001");
+
+        validator = new JsonTextMessageValidator();
+        validationContexts = Collections.singletonList(new JsonMessageValidationContext.Builder()
+                .schemaValidation(false)
+                .build());
+
+        String payload = BenchmarkPayloads.json(items, false);
+        // Same document with different text, so payload cache lookups do not match the previous invocation
+        payloads = new String[] { payload, payload + " " };
+        receivedMessage = new DefaultMessage(payload);
+        controlMessage = new DefaultMessage(BenchmarkPayloads.json(items, true));
+    }
+
+    @Benchmark
+    public void validate() {
+        validator.validateMessage(receivedMessage, controlMessage, context, validationContexts);
+    }
+
+    /**
+     * Baseline parsing the payload for each expression, as done before read contexts were shared.
+     */
+    @Benchmark
+    public void jsonPath(Blackhole blackhole) {
+        String payload = nextPayload();
+        for (String expression : EXPRESSIONS) {
+            blackhole.consume(JsonPathUtils.evaluateAsString(JsonPath.parse(payload), expression));
+        }
+    }
+
+    /**
+     * Evaluates all expressions on the payload string, the payload is parsed once and reused by all expressions.
+     */
+    @Benchmark
+    public void jsonPathParsedOnce(Blackhole blackhole) {
+        String payload = nextPayload();
+        for (String expression : EXPRESSIONS) {
+            blackhole.consume(JsonPathUtils.evaluateAsString(payload, expression));
+        }
+    }
+
+    private String nextPayload() {
+        return payloads[invocation++ & 1];
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.citrusframework.context.TestContext;
+import org.citrusframework.context.TestContextFactory;
+import org.citrusframework.endpoint.direct.DirectEndpoint;
+import org.citrusframework.endpoint.direct.DirectEndpointConfiguration;
+import org.citrusframework.message.DefaultMessage;
+import org.citrusframework.message.DefaultMessageQueue;
+import org.citrusframework.message.Message;
+import org.citrusframework.messaging.Consumer;
+import org.citrusframework.messaging.Producer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Send and receive messages over a direct endpoint backed by the default in-memory message queue. Covers the message
+ * copy and header handling performed for each message.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessageEndpointBenchmark {
+
+    @Param({"10", "1000"})
+    public int items;
+
+    @Param({"5", "50"})
+    public int headers;
+
+    private TestContext context;
+    private Producer producer;
+    private Consumer consumer;
+    private Message message;
+
+    @Setup
+    public void setup() {
+        context = TestContextFactory.newInstance().getObject();
+
+        DirectEndpointConfiguration configuration = new DirectEndpointConfiguration();
+        configuration.setQueue(new DefaultMessageQueue("benchmark.queue"));
+        configuration.setTimeout(1000L);
+
+        DirectEndpoint endpoint = new DirectEndpoint(configuration);
+        producer = endpoint.createProducer();
+        consumer = endpoint.createConsumer();
+
+        message = new DefaultMessage(BenchmarkPayloads.json(items, false));
+        for (int i = 0; i < headers; i++) {
+            message.setHeader("header" + i, "value" + i);
+        }
+    }
+
+    @Benchmark
+    public Message sendReceive() {
+        producer.send(message, context);
+        return consumer.receive(context, 1000L);
+    }
+
+    @Benchmark
+    public Message copyMessage() {
+        return new DefaultMessage(message);
+    }
+
+    @Benchmark
+    public void headerAccess(Blackhole blackhole) {
+        for (int i = 0; i < headers; i++) {
+            blackhole.consume(message.getHeader("header" + i));
+        }
+        blackhole.consume(message.getHeaders().size());
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.benchmarks;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.citrusframework.api.xml.namespace.DefaultNamespaceContext;
+import org.citrusframework.context.TestContext;
+import org.citrusframework.context.TestContextFactory;
+import org.citrusframework.message.DefaultMessage;
+import org.citrusframework.message.Message;
+import org.citrusframework.validation.context.ValidationContext;
+import org.citrusframework.validation.context.xml.XmlMessageValidationContext;
+import org.citrusframework.validation.xml.DomXmlMessageValidator;
+import org.citrusframework.xml.support.XMLUtils;
+import org.citrusframework.xml.xpath.XPathUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.w3c.dom.Document;
+
+/**
+ * Validates XML payloads in DOM and streaming mode and extracts values with XPath expressions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class XmlBenchmark {
+
+    private static final List<String> EXPRESSIONS = List.of("/o:order/@id", "/o:order/o:customer/o:name",
+            "/o:order/o:items/o:item[1]/@sku", "count(//o:item)", "/o:order/o:items/o:item[last()]/o:name");
+
+    @Param({"10", "1000"})
+    public int items;
+
+    private TestContext context;
+    private DomXmlMessageValidator validator;
+    private List<ValidationContext> validationContexts;
+    private List<ValidationContext> streamingValidationContexts;
+    private DefaultNamespaceContext namespaceContext;
+
+    private String payload;
+    private Document document;
+    private Message receivedMessage;
+    private Message controlMessage;
+
+    @Setup
+    public void setup() {
+        context = TestContextFactory.newInstance().getObject();
+        context.setVariable("orderId", "order-1001");
+
+        validator = new DomXmlMessageValidator();
+        validationContexts = Collections.singletonList(new XmlMessageValidationContext.Builder()
+                .schemaValidation(false)
+                .build());
+        streamingValidationContexts = Collections.singletonList(new XmlMessageValidationContext.Builder()
+                .schemaValidation(false)
+                .streaming(true)
+                .build());
+
+        namespaceContext = new DefaultNamespaceContext();
+        namespaceContext.addNamespace("o", BenchmarkPayloads.ORDER_NAMESPACE);
+
+        payload = BenchmarkPayloads.xml(items, false);
+        document = XMLUtils.parseMessagePayload(payload);
+        receivedMessage = new DefaultMessage(payload);
+        controlMessage = new DefaultMessage(BenchmarkPayloads.xml(items, true));
+    }
+
+    @Benchmark
+    public void validate() {
+        validator.validateMessage(receivedMessage, controlMessage, context, validationContexts);
+    }
+
+    @Benchmark
+    public void validateStreaming() {
+        validator.validateMessage(receivedMessage, controlMessage, context, streamingValidationContexts);
+    }
+
+    @Benchmark
+    public void xpath(Blackhole blackhole) {
+        Document parsed = XMLUtils.parseMessagePayload(payload);
+        for (String expression : EXPRESSIONS) {
+            blackhole.consume(XPathUtils.evaluateAsString(parsed, expression, namespaceContext));
+        }
+    }
+
+    @Benchmark
+    public void xpathParsedOnce(Blackhole blackhole) {
+        for (String expression : EXPRESSIONS) {
+            blackhole.consume(XPathUtils.evaluateAsString(document, expression, namespaceContext));
+        }
+    }
+}
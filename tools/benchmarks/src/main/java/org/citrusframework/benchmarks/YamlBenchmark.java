@@ -0,0 +1,81 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.benchmarks;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.citrusframework.context.TestContext;
+import org.citrusframework.context.TestContextFactory;
+import org.citrusframework.message.DefaultMessage;
+import org.citrusframework.message.Message;
+import org.citrusframework.validation.context.DefaultMessageValidationContext;
+import org.citrusframework.validation.context.ValidationContext;
+import org.citrusframework.validation.yaml.YamlMessageValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Validates YAML payloads.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class YamlBenchmark {
+
+    @Param({"10", "1000"})
+    public int items;
+
+    private TestContext context;
+    private YamlMessageValidator validator;
+    private List<ValidationContext> validationContexts;
+
+    private Message receivedMessage;
+    private Message controlMessage;
+
+    @Setup
+    public void setup() {
+        context = TestContextFactory.newInstance().getObject();
+        context.setVariable("orderId", "order-1001");
+
+        validator = new YamlMessageValidator();
+        validationContexts = Collections.singletonList(new DefaultMessageValidationContext.Builder()
+                .schemaValidation(false)
+                .build());
+
+        receivedMessage = new DefaultMessage(BenchmarkPayloads.yaml(items, false));
+        controlMessage = new DefaultMessage(BenchmarkPayloads.yaml(items, true));
+    }
+
+    @Benchmark
+    public void validate() {
+        validator.validateMessage(receivedMessage, controlMessage, context, validationContexts);
+    }
+}
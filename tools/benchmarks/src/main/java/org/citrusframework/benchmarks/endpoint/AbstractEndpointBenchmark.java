@@ -0,0 +1,95 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.benchmarks.endpoint;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.citrusframework.context.TestContext;
+import org.citrusframework.endpoint.Endpoint;
+import org.citrusframework.message.Message;
+import org.citrusframework.messaging.Consumer;
+import org.citrusframework.messaging.Producer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Base endpoint benchmark sending a message with the producer and receiving the message or the reply message with the
+ * consumer of the same endpoint. Subclasses start the stand-in infrastructure and connect the endpoint. Resources
+ * registered with {@link #onStop(Runnable)} are released in reverse order.
+ */
+public abstract class AbstractEndpointBenchmark implements EndpointBenchmark {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(AbstractEndpointBenchmark.class);
+
+    /** Receive timeout */
+    protected static final long TIMEOUT = 10000L;
+
+    private final String name;
+
+    private Producer producer;
+    private Consumer consumer;
+
+    private final List<Runnable> stopActions = new ArrayList<>();
+
+    protected AbstractEndpointBenchmark(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public Message exchange(Message message, TestContext context) {
+        producer.send(message, context);
+        return consumer.receive(context, TIMEOUT);
+    }
+
+    /**
+     * Uses producer and consumer of given endpoint. Synchronous endpoints return the reply consumer once the producer
+     * has been created, so the producer is always created first.
+     * @param endpoint
+     */
+    protected void connect(Endpoint endpoint) {
+        this.producer = endpoint.createProducer();
+        this.consumer = endpoint.createConsumer();
+    }
+
+    /**
+     * Registers action to run when the benchmark is stopped.
+     * @param action
+     */
+    protected void onStop(Runnable action) {
+        stopActions.add(action);
+    }
+
+    @Override
+    public void stop() {
+        for (int i = stopActions.size() - 1; i >= 0; i--) {
+            try {
+                stopActions.get(i).run();
+            } catch (Exception e) {
+                logger.warn("Failed to stop resources of endpoint benchmark '{}'", name, e);
+            }
+        }
+
+        stopActions.clear();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+}
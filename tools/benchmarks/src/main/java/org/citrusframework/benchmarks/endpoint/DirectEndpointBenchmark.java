@@ -0,0 +1,42 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.citrusframework.benchmarks.endpoint;
+
+import org.citrusframework.context.TestContext;
+import org.citrusframework.endpoint.direct.DirectEndpoint;
+import org.citrusframework.endpoint.direct.DirectEndpointConfiguration;
+import org.citrusframework.message.DefaultMessageQueue;
+
+/**
+ * Sends and receives messages over a direct endpoint backed by the default in-memory message queue.
+ */
+public class DirectEndpointBenchmark extends AbstractEndpointBenchmark {
+
+    public DirectEndpointBenchmark() {
+        super("direct");
+    }
+
+    @Override
+    public void start(TestContext context) {
+        DirectEndpointConfiguration configuration = new DirectEndpointConfiguration();
+        configuration.setQueue(new DefaultMessageQueue("benchmark.queue"));
+        configuration.setTimeout(TIMEOUT);
+
+        connect(new DirectEndpoint(configuration));
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.citrusframework.benchmarks.endpoint;
+
+import org.citrusframework.context.TestContext;
+import org.citrusframework.endpoint.direct.DirectSyncEndpoint;
+import org.citrusframework.endpoint.direct.DirectSyncEndpointConfiguration;
+import org.citrusframework.message.DefaultMessageQueue;
+import org.citrusframework.message.MessageQueue;
+
+/**
+ * Request/reply over synchronous direct endpoints. A responder on a second endpoint instance for the same in-memory
+ * message queue replies to each request.
+ */
+public class DirectSyncEndpointBenchmark extends AbstractEndpointBenchmark {
+
+    public DirectSyncEndpointBenchmark() {
+        super("direct-sync");
+    }
+
+    @Override
+    public void start(TestContext context) {
+        MessageQueue queue = new DefaultMessageQueue("benchmark.sync.queue");
+
+        DirectSyncEndpoint server = new DirectSyncEndpoint(configuration(queue));
+        Responder responder = new Responder(getName(), server.createConsumer(), server.createProducer());
+        responder.start();
+        onStop(responder::stop);
+
+        connect(new DirectSyncEndpoint(configuration(queue)));
+    }
+
+    private static DirectSyncEndpointConfiguration configuration(MessageQueue queue) {
+        DirectSyncEndpointConfiguration configuration = new DirectSyncEndpointConfiguration();
+        configuration.setQueue(queue);
+        configuration.setTimeout(TIMEOUT);
+        return configuration;
+    }
+}
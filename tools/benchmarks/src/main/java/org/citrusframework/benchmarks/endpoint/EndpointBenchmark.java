@@ -0,0 +1,53 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.benchmarks.endpoint;
+
+import org.citrusframework.context.TestContext;
+import org.citrusframework.message.Message;
+
+/**
+ * Endpoint pair measured by the {@link EndpointBenchmarkRunner}. Implementations start a local stand-in for the
+ * messaging infrastructure and exchange messages through the regular Citrus producers and consumers, so each exchange
+ * covers message conversion, message listeners and the transport.
+ */
+public interface EndpointBenchmark {
+
+    /**
+     * Name of the endpoint type used to select the benchmark and to label the results.
+     * @return
+     */
+    String getName();
+
+    /**
+     * Starts the stand-in infrastructure and creates the endpoints.
+     * @param context
+     */
+    void start(TestContext context);
+
+    /**
+     * Sends the message and receives the message or the reply message in return.
+     * @param message
+     * @param context
+     * @return
+     */
+    Message exchange(Message message, TestContext context);
+
+    /**
+     * Stops the endpoints and the stand-in infrastructure.
+     */
+    void stop();
+}
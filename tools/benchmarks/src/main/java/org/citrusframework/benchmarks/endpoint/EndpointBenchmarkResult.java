@@ -0,0 +1,93 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.citrusframework.benchmarks.endpoint;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Measured throughput, latency percentiles and allocations of an endpoint benchmark run. Latencies are recorded in
+ * nanoseconds and reported in microseconds. Allocations are reported per message for the client thread and for all
+ * live threads of the JVM, including server and broker threads. Negative allocation values signal that allocation
+ * measurement is not supported by the JVM.
+ */
+public record EndpointBenchmarkResult(String endpoint, long messages, long elapsedNanos, Histogram latency,
+                                      long clientAllocatedBytes, long totalAllocatedBytes) {
+
+    static final String TABLE_HEADER = String.format(Locale.ROOT, "%-12s %10s %9s %9s %9s %9s %9s %9s %12s %12s %10s",
+            "endpoint", "msg/s", "mean us", "p50 us", "p90 us", "p99 us", "p99.9 us", "max us",
+            "client B/op", "total B/op", "alloc MB/s");
+
+    public double throughput() {
+        return messages / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    public double percentile(double percentile) {
+        return micros(latency.getValueAtPercentile(percentile));
+    }
+
+    public double mean() {
+        return micros(latency.getMean());
+    }
+
+    public double max() {
+        return micros(latency.getMaxValue());
+    }
+
+    public long clientBytesPerMessage() {
+        return clientAllocatedBytes < 0 ? -1 : clientAllocatedBytes / messages;
+    }
+
+    public long totalBytesPerMessage() {
+        return totalAllocatedBytes < 0 ? -1 : totalAllocatedBytes / messages;
+    }
+
+    /**
+     * Allocation rate of all live threads in megabytes per second.
+     * @return
+     */
+    public double allocationRate() {
+        if (totalAllocatedBytes < 0) {
+            return -1;
+        }
+
+        return totalAllocatedBytes / (1024.0 * 1024.0) / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    String toTableRow() {
+        return String.format(Locale.ROOT, "%-12s %10.0f %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f %12d %12d %10.1f",
+                endpoint, throughput(), mean(), percentile(50), percentile(90), percentile(99), percentile(99.9),
+                max(), clientBytesPerMessage(), totalBytesPerMessage(), allocationRate());
+    }
+
+    String toJson() {
+        return String.format(Locale.ROOT, "{\"endpoint\":\"%s\",\"messages\":%d,\"elapsedMillis\":%d," +
+                        "\"throughput\":%.1f,\"latencyMicros\":{\"mean\":%.1f,\"p50\":%.1f,\"p90\":%.1f,\"p99\":%.1f," +
+                        "\"p999\":%.1f,\"max\":%.1f},\"clientBytesPerMessage\":%d,\"totalBytesPerMessage\":%d," +
+                        "\"allocationRateMB\":%.1f}",
+                endpoint, messages, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), throughput(), mean(), percentile(50),
+                percentile(90), percentile(99), percentile(99.9), max(), clientBytesPerMessage(),
+                totalBytesPerMessage(), allocationRate());
+    }
+
+    private static double micros(double nanos) {
+        return nanos / 1000.0;
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.benchmarks.endpoint;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.sun.management.ThreadMXBean;
+import org.HdrHistogram.Histogram;
+import org.citrusframework.benchmarks.BenchmarkPayloads;
+import org.citrusframework.context.TestContext;
+import org.citrusframework.context.TestContextFactory;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.message.DefaultMessage;
+import org.citrusframework.message.Message;
+import org.citrusframework.validation.context.ValidationContext;
+import org.citrusframework.validation.context.json.JsonMessageValidationContext;
+import org.citrusframework.validation.json.JsonTextMessageValidator;
+
+/**
+ * Runs send/receive and request/reply loops against local stand-ins of the messaging infrastructure and reports
+ * throughput, latency percentiles and allocations per endpoint type. Each message exchange runs through the regular
+ * Citrus producers and consumers including message conversion and message listeners. Received messages are optionally
+ * validated against a control message.
+ * <p>
+ * Options are given as {@code --name=value} arguments:
+ * <ul>
+ *     <li>{@code endpoints} comma separated list of endpoint types, default all types</li>
+ *     <li>{@code messages} number of measured messages per endpoint type, default 10000</li>
+ *     <li>{@code warmup} number of warmup messages per endpoint type, default 1000</li>
+ *     <li>{@code items} number of order items in the JSON payload, default 10</li>
+ *     <li>{@code validate} validate each received message, default false</li>
+ *     <li>{@code result-file} path of the JSON result file, default target/endpoint-benchmark.json</li>
+ * </ul>
+ */
+public final class EndpointBenchmarkRunner {
+
+    /** Available endpoint benchmarks, created with the message payload */
+    private static final Map<String, Function<String, EndpointBenchmark>> BENCHMARKS = new LinkedHashMap<>();
+
+    static {
+        BENCHMARKS.put("direct", payload -> new DirectEndpointBenchmark());
+        BENCHMARKS.put("direct-sync", payload -> new DirectSyncEndpointBenchmark());
+        BENCHMARKS.put("http", HttpEndpointBenchmark::new);
+        BENCHMARKS.put("jms", payload -> new JmsEndpointBenchmark());
+        BENCHMARKS.put("kafka", payload -> new KafkaEndpointBenchmark());
+        BENCHMARKS.put("vertx", payload -> new VertxEndpointBenchmark());
+        BENCHMARKS.put("websocket", payload -> new WebSocketEndpointBenchmark());
+    }
+
+    private static final ThreadMXBean THREADS = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final int messages;
+    private final int warmup;
+    private final String payload;
+    private final String controlPayload;
+    private final JsonTextMessageValidator validator;
+
+    private final List<ValidationContext> validationContexts = Collections.singletonList(
+            new JsonMessageValidationContext.Builder()
+                    .schemaValidation(false)
+                    .build());
+
+    public EndpointBenchmarkRunner(int messages, int warmup, int items, boolean validate) {
+        this.messages = messages;
+        this.warmup = warmup;
+        this.payload = BenchmarkPayloads.json(items, false);
+        this.controlPayload = BenchmarkPayloads.json(items, true);
+        this.validator = validate ? new JsonTextMessageValidator() : null;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = parseOptions(args);
+
+        List<String> endpoints = Arrays.stream(options.getOrDefault("endpoints", String.join(",", BENCHMARKS.keySet())).split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toList());
+
+        for (String endpoint : endpoints) {
+            if (!BENCHMARKS.containsKey(endpoint)) {
+                throw new CitrusRuntimeException(String.format("Unknown endpoint type '%s' - supported types are %s",
+                        endpoint, BENCHMARKS.keySet()));
+            }
+        }
+
+        EndpointBenchmarkRunner runner = new EndpointBenchmarkRunner(
+                Integer.parseInt(options.getOrDefault("messages", "10000")),
+                Integer.parseInt(options.getOrDefault("warmup", "1000")),
+                Integer.parseInt(options.getOrDefault("items", "10")),
+                Boolean.parseBoolean(options.getOrDefault("validate", "false")));
+
+        List<EndpointBenchmarkResult> results = new ArrayList<>();
+        for (String endpoint : endpoints) {
+            EndpointBenchmarkResult result = runner.run(BENCHMARKS.get(endpoint).apply(runner.payload));
+            results.add(result);
+        }
+
+        System.out.println();
+        System.out.println(EndpointBenchmarkResult.TABLE_HEADER);
+        results.forEach(result -> System.out.println(result.toTableRow()));
+
+        Path resultFile = Paths.get(options.getOrDefault("result-file", "target/endpoint-benchmark.json"));
+        if (resultFile.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(resultFile.toAbsolutePath().getParent());
+        }
+        Files.writeString(resultFile, results.stream()
+                .map(EndpointBenchmarkResult::toJson)
+                .collect(Collectors.joining(",\n  ", "[\n  ", "\n]\n")));
+    }
+
+    /**
+     * Runs warmup and measured message exchanges with given endpoint benchmark.
+     * @param benchmark
+     * @return
+     */
+    public EndpointBenchmarkResult run(EndpointBenchmark benchmark) {
+        TestContext context = TestContextFactory.newInstance().getObject();
+        context.setVariable("orderId", "order-1001");
+
+        Message controlMessage = new DefaultMessage(controlPayload);
+
+        benchmark.start(context);
+        try {
+            for (int i = 0; i < warmup; i++) {
+                exchange(benchmark, controlMessage, context);
+            }
+
+            Histogram latency = new Histogram(3);
+            long clientAllocated = currentThreadAllocatedBytes();
+            long totalAllocated = allThreadsAllocatedBytes();
+            long start = System.nanoTime();
+
+            for (int i = 0; i < messages; i++) {
+                long exchangeStart = System.nanoTime();
+                exchange(benchmark, controlMessage, context);
+                latency.recordValue(System.nanoTime() - exchangeStart);
+            }
+
+            long elapsed = System.nanoTime() - start;
+            clientAllocated = clientAllocated < 0 ? -1 : currentThreadAllocatedBytes() - clientAllocated;
+            totalAllocated = totalAllocated < 0 ? -1 : Math.max(0, allThreadsAllocatedBytes() - totalAllocated);
+
+            return new EndpointBenchmarkResult(benchmark.getName(), messages, elapsed, latency, clientAllocated, totalAllocated);
+        } finally {
+            benchmark.stop();
+        }
+    }
+
+    private void exchange(EndpointBenchmark benchmark, Message controlMessage, TestContext context) {
+        Message received = benchmark.exchange(new DefaultMessage(payload), context);
+
+        if (validator != null) {
+            validator.validateMessage(received, controlMessage, context, validationContexts);
+        }
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        if (!THREADS.isThreadAllocatedMemorySupported() || !THREADS.isThreadAllocatedMemoryEnabled()) {
+            return -1;
+        }
+
+        return THREADS.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * Sums up allocated bytes of all live threads. Threads terminating during the measurement are not accounted,
+     * so the result is a lower bound.
+     * @return
+     */
+    private static long allThreadsAllocatedBytes() {
+        if (!THREADS.isThreadAllocatedMemorySupported() || !THREADS.isThreadAllocatedMemoryEnabled()) {
+            return -1;
+        }
+
+        long total = 0;
+        for (long allocated : THREADS.getThreadAllocatedBytes(THREADS.getAllThreadIds())) {
+            if (allocated > 0) {
+                total += allocated;
+            }
+        }
+
+        return total;
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new CitrusRuntimeException(String.format("Invalid option '%s' - expected --name=value", arg));
+            }
+
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+
+        return options;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.citrusframework.benchmarks.endpoint;
+
+import org.citrusframework.base.endpoint.adapter.StaticResponseEndpointAdapter;
+import org.citrusframework.context.TestContext;
+import org.citrusframework.http.client.HttpClient;
+import org.citrusframework.http.client.HttpClientBuilder;
+import org.citrusframework.http.server.HttpServer;
+import org.citrusframework.http.server.HttpServerBuilder;
+import org.citrusframework.util.SocketUtils;
+import org.springframework.web.bind.annotation.RequestMethod;
+
+/**
+ * Request/reply with the Http client against an embedded Http server answering with a static response payload.
+ */
+public class HttpEndpointBenchmark extends AbstractEndpointBenchmark {
+
+    private final String responsePayload;
+
+    public HttpEndpointBenchmark(String responsePayload) {
+        super("http");
+        this.responsePayload = responsePayload;
+    }
+
+    @Override
+    public void start(TestContext context) {
+        int port = SocketUtils.findAvailableTcpPort();
+
+        StaticResponseEndpointAdapter endpointAdapter = new StaticResponseEndpointAdapter();
+        endpointAdapter.setMessagePayload(responsePayload);
+
+        HttpServer server = new HttpServerBuilder()
+                .port(port)
+                .endpointAdapter(endpointAdapter)
+                .timeout(TIMEOUT)
+                .autoStart(true)
+                .build();
+        server.initialize();
+        onStop(server::stop);
+
+        HttpClient client = new HttpClientBuilder()
+                .requestUrl(String.format("http://localhost:%s/benchmark", port))
+                .requestMethod(RequestMethod.POST)
+                .timeout(TIMEOUT)
+                .build();
+
+        connect(client);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.citrusframework.benchmarks.endpoint;
+
+import org.apache.activemq.artemis.core.config.Configuration;
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.apache.activemq.artemis.jms.client.ActiveMQConnectionFactory;
+import org.citrusframework.context.TestContext;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.jms.endpoint.JmsEndpoint;
+import org.citrusframework.jms.endpoint.JmsEndpointBuilder;
+import org.springframework.jms.connection.CachingConnectionFactory;
+
+/**
+ * Sends and receives messages on a queue of an embedded Artemis broker using the in-VM transport. Connections and
+ * sessions are cached, as commonly done in test setups, so the measurement is not dominated by connection handling.
+ */
+public class JmsEndpointBenchmark extends AbstractEndpointBenchmark {
+
+    private static final String BROKER_URL = "vm://0";
+
+    public JmsEndpointBenchmark() {
+        super("jms");
+    }
+
+    @Override
+    public void start(TestContext context) {
+        EmbeddedActiveMQ broker = new EmbeddedActiveMQ();
+        try {
+            Configuration configuration = new ConfigurationImpl()
+                    .setPersistenceEnabled(false)
+                    .setSecurityEnabled(false)
+                    .setJournalDirectory("target/artemis/journal")
+                    .addAcceptorConfiguration("in-vm", BROKER_URL);
+            broker.setConfiguration(configuration);
+            broker.start();
+        } catch (Exception e) {
+            throw new CitrusRuntimeException("Failed to start embedded JMS broker", e);
+        }
+
+        onStop(() -> {
+            try {
+                broker.stop();
+            } catch (Exception e) {
+                throw new CitrusRuntimeException("Failed to stop embedded JMS broker", e);
+            }
+        });
+
+        CachingConnectionFactory connectionFactory = new CachingConnectionFactory(new ActiveMQConnectionFactory(BROKER_URL));
+        connectionFactory.setCacheConsumers(true);
+        onStop(connectionFactory::destroy);
+
+        JmsEndpoint endpoint = new JmsEndpointBuilder()
+                .connectionFactory(connectionFactory)
+                .destination("benchmark.queue")
+                .timeout(TIMEOUT)
+                .build();
+
+        connect(endpoint);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.citrusframework.benchmarks.endpoint;
+
+import org.citrusframework.context.TestContext;
+import org.citrusframework.kafka.embedded.EmbeddedKafkaServer;
+import org.citrusframework.kafka.embedded.EmbeddedKafkaServerBuilder;
+import org.citrusframework.kafka.endpoint.KafkaEndpoint;
+import org.citrusframework.kafka.endpoint.KafkaEndpointBuilder;
+import org.citrusframework.util.SocketUtils;
+
+/**
+ * Sends and receives messages on a topic of an embedded Kafka server.
+ */
+public class KafkaEndpointBenchmark extends AbstractEndpointBenchmark {
+
+    private static final String TOPIC = "benchmark.topic";
+
+    public KafkaEndpointBenchmark() {
+        super("kafka");
+    }
+
+    @Override
+    public void start(TestContext context) {
+        EmbeddedKafkaServer server = new EmbeddedKafkaServerBuilder()
+                .kafkaServerPort(SocketUtils.findAvailableTcpPort())
+                .controllerPort(SocketUtils.findAvailableTcpPort())
+                .topics(TOPIC)
+                .build();
+        server.start();
+        onStop(server::stop);
+
+        KafkaEndpoint endpoint = new KafkaEndpointBuilder()
+                .server(String.format("localhost:%s", server.getKafkaServerPort()))
+                .topic(TOPIC)
+                .consumerGroup("citrus-benchmark")
+                .offsetReset("earliest")
+                .timeout(TIMEOUT)
+                .build();
+        onStop(endpoint::destroy);
+
+        connect(endpoint);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.benchmarks.endpoint;
+
+import org.citrusframework.context.TestContext;
+import org.citrusframework.context.TestContextFactory;
+import org.citrusframework.exceptions.ActionTimeoutException;
+import org.citrusframework.message.DefaultMessage;
+import org.citrusframework.message.Message;
+import org.citrusframework.messaging.Consumer;
+import org.citrusframework.messaging.Producer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Server side stand-in echoing each received message payload back to the client. Runs on its own daemon thread
+ * with its own test context.
+ */
+final class Responder implements Runnable {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(Responder.class);
+
+    private static final long POLL_TIMEOUT = 500L;
+
+    private final Consumer consumer;
+    private final Producer producer;
+
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    Responder(String name, Consumer consumer, Producer producer) {
+        this.consumer = consumer;
+        this.producer = producer;
+        this.thread = new Thread(this, name + "-responder");
+        this.thread.setDaemon(true);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    void stop() {
+        running = false;
+        try {
+            thread.join(POLL_TIMEOUT * 2);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void run() {
+        TestContext context = TestContextFactory.newInstance().getObject();
+        while (running) {
+            try {
+                Message request = consumer.receive(context, POLL_TIMEOUT);
+                producer.send(new DefaultMessage(request.getPayload()), context);
+            } catch (ActionTimeoutException e) {
+                // no request within poll timeout - check running state and continue
+            } catch (RuntimeException e) {
+                if (running) {
+                    logger.warn("Failed to reply to benchmark request", e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.citrusframework.benchmarks.endpoint;
+
+import io.vertx.core.Vertx;
+import org.citrusframework.context.TestContext;
+import org.citrusframework.vertx.endpoint.VertxSyncEndpoint;
+import org.citrusframework.vertx.endpoint.VertxSyncEndpointBuilder;
+import org.citrusframework.vertx.factory.SingleVertxInstanceFactory;
+
+/**
+ * Request/reply over the Vert.x event bus. A plain event bus consumer echoes each request payload.
+ */
+public class VertxEndpointBenchmark extends AbstractEndpointBenchmark {
+
+    private static final String ADDRESS = "benchmark.address";
+
+    /** Short polling interval so that waiting for the asynchronous reply does not dominate the latency */
+    private static final int POLLING_INTERVAL = 1;
+
+    public VertxEndpointBenchmark() {
+        super("vertx");
+    }
+
+    @Override
+    public void start(TestContext context) {
+        Vertx vertx = Vertx.vertx();
+        onStop(vertx::close);
+
+        vertx.eventBus().<Object>consumer(ADDRESS, message -> message.reply(message.body()));
+
+        SingleVertxInstanceFactory vertxFactory = new SingleVertxInstanceFactory();
+        vertxFactory.setVertx(vertx);
+
+        VertxSyncEndpoint endpoint = new VertxSyncEndpointBuilder()
+                .vertxFactory(vertxFactory)
+                .address(ADDRESS)
+                .pollingInterval(POLLING_INTERVAL)
+                .timeout(TIMEOUT)
+                .build();
+        onStop(endpoint::destroy);
+
+        connect(endpoint);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.citrusframework.benchmarks.endpoint;
+
+import java.util.Collections;
+
+import org.citrusframework.context.TestContext;
+import org.citrusframework.util.SocketUtils;
+import org.citrusframework.websocket.client.WebSocketClient;
+import org.citrusframework.websocket.client.WebSocketClientBuilder;
+import org.citrusframework.websocket.endpoint.WebSocketEndpoint;
+import org.citrusframework.websocket.server.WebSocketServer;
+import org.citrusframework.websocket.server.WebSocketServerBuilder;
+import org.citrusframework.websocket.server.WebSocketServerEndpointConfiguration;
+
+/**
+ * Request/reply with the WebSocket client against an embedded WebSocket server. A responder on the server side
+ * endpoint echoes each request payload.
+ */
+public class WebSocketEndpointBenchmark extends AbstractEndpointBenchmark {
+
+    private static final String PATH = "/benchmark";
+
+    public WebSocketEndpointBenchmark() {
+        super("websocket");
+    }
+
+    @Override
+    public void start(TestContext context) {
+        int port = SocketUtils.findAvailableTcpPort();
+
+        WebSocketServerEndpointConfiguration endpointConfiguration = new WebSocketServerEndpointConfiguration();
+        endpointConfiguration.setEndpointUri(PATH);
+        endpointConfiguration.setTimeout(TIMEOUT);
+        WebSocketEndpoint serverEndpoint = new WebSocketEndpoint(endpointConfiguration);
+        serverEndpoint.setName("benchmarkWebSocket");
+
+        WebSocketServer server = new WebSocketServerBuilder()
+                .port(port)
+                .webSockets(Collections.singletonList(serverEndpoint))
+                .timeout(TIMEOUT)
+                .autoStart(true)
+                .build();
+        server.initialize();
+        onStop(server::stop);
+
+        WebSocketClient client = new WebSocketClientBuilder()
+                .requestUrl(String.format("ws://localhost:%s%s", port, PATH))
+                .timeout(TIMEOUT)
+                .build();
+
+        // open the connection up front, the server side socket handler is registered on the first handshake
+        client.getEndpointConfiguration().getHandler();
+
+        Responder responder = new Responder(getName(), serverEndpoint.createConsumer(), serverEndpoint.createProducer());
+        responder.start();
+        onStop(responder::stop);
+
+        connect(client);
+    }
+}
@@ -41,8 +41,10 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.camel.tooling.maven.MavenArtifact;
+import org.citrusframework.Citrus;
 import org.citrusframework.CitrusInstanceManager;
 import org.citrusframework.CitrusSettings;
+import org.citrusframework.TestSource;
 import org.citrusframework.api.agent.CitrusAgentConfiguration;
 import org.citrusframework.common.TestSourceHelper;
 import org.citrusframework.exceptions.CitrusRuntimeException;
@@ -52,6 +54,9 @@ import org.citrusframework.jbang.cli.maven.MavenDependencyResolver;
 import org.citrusframework.jbang.cli.util.CodeAnalyzer;
 import org.citrusframework.jbang.cli.util.DelegatingCodeAnalyzer;
 import org.citrusframework.log.CitrusLogSettings;
+import org.citrusframework.main.load.LoadConfiguration;
+import org.citrusframework.main.load.LoadRunner;
+import org.citrusframework.main.load.LoadStatistics;
 import org.citrusframework.api.main.TestEngine;
 import org.citrusframework.api.main.TestRunConfiguration;
 import org.citrusframework.report.TestReporter;
@@ -100,6 +105,24 @@ public class Run extends CitrusCommand {
     @Option(names = { "--property", "--properties" }, split = ",", description = "Default System property to set before the test run.")
     private List<String> properties;
 
+    @Option(names = { "--users" }, description = "Run the tests as load test with given number of concurrent virtual users. In combination with an arrival rate this limits the number of concurrently running iterations.")
+    private int users;
+
+    @Option(names = { "--rate" }, description = "Run the tests as load test with given arrival rate of new test iterations per second.")
+    private double rate;
+
+    @Option(names = { "--duration" }, description = "Duration of the load test (e.g. 30s, 5m). Default is 60s.")
+    private String duration;
+
+    @Option(names = { "--ramp-up" }, description = "Time to linearly ramp up the virtual users or the arrival rate of the load test (e.g. 10s).")
+    private String rampUp;
+
+    @Option(names = { "--think-time" }, description = "Pause of each virtual user between two test iterations of the load test (e.g. 500ms).")
+    private String thinkTime;
+
+    @Option(names = { "--iterations" }, description = "Maximum number of test iterations of the load test.")
+    private long iterations;
+
     @Option(names = { "--logging" }, defaultValue = "true", description = "Can be used to turn off logging")
     private boolean logging = true;
 
@@ -196,6 +219,10 @@ public class Run extends CitrusCommand {
             resolveArtifacts(tests);
         }
 
+        if (isLoadTest()) {
+            return runLoad(configurations);
+        }
+
         int exitCode = 0;
         for (TestRunConfiguration configuration : configurations) {
             // Set properties as System properties
@@ -222,6 +249,67 @@ public class Run extends CitrusCommand {
         return exitCode;
     }
 
+    /**
+     * Runs each test as load test with the load options given on the command line. Load statistics are printed
+     * and written as Json report to the report directory.
+     */
+    private int runLoad(List<TestRunConfiguration> configurations) {
+        LoadConfiguration loadConfiguration = getLoadConfiguration();
+        Citrus citrus = CitrusInstanceManager.getOrDefault();
+
+        int exitCode = 0;
+        try {
+            for (TestRunConfiguration configuration : configurations) {
+                // Set properties as System properties
+                configuration.setDefaultProperties();
+
+                for (TestSource source : configuration.getTestSources()) {
+                    LoadStatistics statistics = new LoadRunner(citrus, source, loadConfiguration).run();
+                    printer().println(statistics.toTable());
+                    printer().println("Load test report: " + statistics.writeReport(Paths.get(TestReporterSettings.getReportDirectory())));
+
+                    if (statistics.getIterations().getErrors() > 0) {
+                        exitCode = 1;
+                    }
+                }
+            }
+        } catch (CitrusRuntimeException e) {
+            printer().printErr("Failed to run load test", e);
+            return 1;
+        } finally {
+            citrus.close();
+        }
+
+        return exitCode;
+    }
+
+    private boolean isLoadTest() {
+        return users > 0 || rate > 0;
+    }
+
+    private LoadConfiguration getLoadConfiguration() {
+        LoadConfiguration configuration = new LoadConfiguration();
+        configuration.setUsers(users);
+        configuration.setRate(rate);
+        configuration.setIterations(iterations);
+
+        if (StringUtils.hasText(duration)) {
+            configuration.setDuration(LoadConfiguration.parseTime(duration));
+        } else if (iterations > 0) {
+            configuration.setDuration(0L);
+        }
+
+        if (StringUtils.hasText(rampUp)) {
+            configuration.setRampUp(LoadConfiguration.parseTime(rampUp));
+        }
+
+        if (StringUtils.hasText(thinkTime)) {
+            configuration.setThinkTime(LoadConfiguration.parseTime(thinkTime));
+        }
+
+        return configuration;
+    }
+
     private void resolveArtifacts(List<String> tests) {
         MavenDependencyResolver resolver = getMavenDependencyResolver();
         Set<String> allModules = new HashSet<>();
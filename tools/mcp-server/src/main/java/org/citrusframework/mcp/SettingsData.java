@@ -46,6 +46,7 @@ public class SettingsData {
         GROUPS.put("reporting", createReportingSettings());
         GROUPS.put("spring", createSpringSettings());
         GROUPS.put("agent", createAgentSettings());
+        GROUPS.put("parallel", createParallelEngineSettings());
         GROUPS.put("camel", createCamelSettings());
         GROUPS.put("camel-cli", createCamelCliSettings());
         GROUPS.put("camel-infra", createCamelInfraSettings());
@@ -307,10 +308,28 @@ public class SettingsData {
         settings.add(new SettingEntry("citrus.test.flow.report.output", "CITRUS_TEST_FLOW_REPORT_OUTPUT",
                 "json", STRING,
                 "Test flow report output format"));
+        settings.add(new SettingEntry("citrus.instrumentation.enabled", "CITRUS_INSTRUMENTATION_ENABLED",
+                "false", BOOLEAN,
+                "Enable/disable instrumentation of test actions, endpoints and validators"));
+        settings.add(new SettingEntry("citrus.instrumentation.jfr.enabled", "CITRUS_INSTRUMENTATION_JFR_ENABLED",
+                "true", BOOLEAN,
+                "Emit Java Flight Recorder events"));
+        settings.add(new SettingEntry("citrus.instrumentation.jfr.recording", "CITRUS_INSTRUMENTATION_JFR_RECORDING",
+                "true", BOOLEAN,
+                "Record Java Flight Recorder events to a file in the report directory"));
+        settings.add(new SettingEntry("citrus.instrumentation.micrometer.enabled", "CITRUS_INSTRUMENTATION_MICROMETER_ENABLED",
+                "true", BOOLEAN,
+                "Publish Micrometer metrics when Micrometer is on the classpath"));
+        settings.add(new SettingEntry("citrus.timeline.report.enabled", "CITRUS_TIMELINE_REPORT_ENABLED",
+                "false", BOOLEAN,
+                "Enable/disable test timeline and critical path report generation"));
+        settings.add(new SettingEntry("citrus.timeline.report.max.spans", "CITRUS_TIMELINE_REPORT_MAX_SPANS",
+                "10000", INT,
+                "Maximum number of test action spans recorded per test"));
 
         return new SettingsGroup("reporting", "Reporting Settings",
                 "Test report settings from SummaryReporterSettings, TestReporterSettings, HtmlReporterSettings, " +
-                        "JUnitReporterSettings, and TestFlowReporterSettings",
+                        "JUnitReporterSettings, TestFlowReporterSettings, InstrumentationReporterSettings, and TimelineReporterSettings",
                 "citrus-api, citrus-base", settings);
     }
 
@@ -393,6 +412,20 @@ public class SettingsData {
                 "Citrus agent settings from CitrusAgentSettings", "citrus-api", settings);
     }
 
+    private static SettingsGroup createParallelEngineSettings() {
+        List<SettingEntry> settings = new ArrayList<>();
+
+        settings.add(new SettingEntry("citrus.engine.parallel.threads", "CITRUS_ENGINE_PARALLEL_THREADS",
+                null, INT,
+                "Maximum number of tests running at the same time (defaults to the number of available processors)"));
+        settings.add(new SettingEntry("citrus.engine.parallel.virtual.threads", "CITRUS_ENGINE_PARALLEL_VIRTUAL_THREADS",
+                "false", BOOLEAN,
+                "Run each test on its own virtual thread when supported by the Java runtime"));
+
+        return new SettingsGroup("parallel", "Parallel Test Engine Settings",
+                "Parallel test engine settings from ParallelTestEngineSettings", "citrus-main", settings);
+    }
+
     private static SettingsGroup createCamelSettings() {
         List<SettingEntry> settings = new ArrayList<>();
 
@@ -492,9 +525,24 @@ public class SettingsData {
         settings.add(new SettingEntry("citrus.http.server.use.default.filters", "CITRUS_HTTP_SERVER_USE_DEFAULT_FILTERS",
                 "true", BOOLEAN,
                 "Use default servlet filters in HTTP server"));
+        settings.add(new SettingEntry("citrus.http.client.max.connections", "CITRUS_HTTP_CLIENT_MAX_CONNECTIONS",
+                "100", INT,
+                "Maximum number of pooled connections in total per HTTP client"));
+        settings.add(new SettingEntry("citrus.http.client.max.connections.per.route", "CITRUS_HTTP_CLIENT_MAX_CONNECTIONS_PER_ROUTE",
+                "20", INT,
+                "Maximum number of pooled connections per route of an HTTP client"));
+        settings.add(new SettingEntry("citrus.http.client.keep.alive", "CITRUS_HTTP_CLIENT_KEEP_ALIVE",
+                "-1", LONG,
+                "Maximum time in milliseconds idle connections are kept alive (-1 uses the server keep alive header)"));
+        settings.add(new SettingEntry("citrus.http.client.connection.ttl", "CITRUS_HTTP_CLIENT_CONNECTION_TTL",
+                "-1", LONG,
+                "Total time to live in milliseconds of pooled connections (-1 for unlimited)"));
+        settings.add(new SettingEntry("citrus.http.client.validate.after.inactivity", "CITRUS_HTTP_CLIENT_VALIDATE_AFTER_INACTIVITY",
+                "2000", LONG,
+                "Period of inactivity in milliseconds after which pooled connections are validated"));
 
         return new SettingsGroup("http", "HTTP Settings",
-                "HTTP server settings from HttpServerSettings", "citrus-http", settings);
+                "HTTP server and client settings from HttpServerSettings and HttpClientSettings", "citrus-http", settings);
     }
 
     private static SettingsGroup createFtpSettings() {
@@ -531,6 +579,9 @@ public class SettingsData {
         settings.add(new SettingEntry("citrus.openapi.validation.enabled.response", "CITRUS_OPENAPI_VALIDATION_ENABLED_RESPONSE",
                 "true", BOOLEAN,
                 "Enable OpenAPI response validation"));
+        settings.add(new SettingEntry("citrus.openapi.validation.enabled.request.operation", "CITRUS_OPENAPI_VALIDATION_ENABLED_REQUEST_OPERATION",
+                "false", BOOLEAN,
+                "Enable verification that OpenAPI requests resolve to the expected operation"));
         settings.add(new SettingEntry("citrus.openapi.neglect.base.path", "CITRUS_OPENAPI_NEGLECT_BASE_PATH",
                 "false", BOOLEAN,
                 "Ignore the base path defined in the OpenAPI spec"));
@@ -543,6 +594,18 @@ public class SettingsData {
         settings.add(new SettingEntry("citrus.openapi.validation.policy", "CITRUS_OPENAPI_VALIDATION_POLICY",
                 "REPORT", STRING,
                 "OpenAPI validation policy (REPORT, STRICT, or LENIENT)"));
+        settings.add(new SettingEntry("citrus.openapi.spec.cache.enabled", "CITRUS_OPENAPI_SPEC_CACHE_ENABLED",
+                "true", BOOLEAN,
+                "Enable process wide caching of parsed OpenAPI specifications"));
+        settings.add(new SettingEntry("citrus.openapi.spec.cache.max.documents", "CITRUS_OPENAPI_SPEC_CACHE_MAX_DOCUMENTS",
+                "64", INT,
+                "Maximum number of parsed OpenAPI specifications kept in the process wide cache"));
+        settings.add(new SettingEntry("citrus.openapi.random.values.concrete", "CITRUS_OPENAPI_RANDOM_VALUES_CONCRETE",
+                "false", BOOLEAN,
+                "Generate concrete random values instead of Citrus function expressions in OpenAPI messages"));
+        settings.add(new SettingEntry("citrus.openapi.random.seed", "CITRUS_OPENAPI_RANDOM_SEED",
+                null, LONG,
+                "Seed for reproducible concrete random values in OpenAPI messages"));
 
         return new SettingsGroup("openapi", "OpenAPI Settings",
                 "OpenAPI connector settings from OpenApiSettings", "citrus-openapi", settings);
@@ -647,6 +710,12 @@ public class SettingsData {
         settings.add(new SettingEntry("citrus.kubernetes.print.pod.logs", "CITRUS_KUBERNETES_PRINT_POD_LOGS",
                 "true", BOOLEAN,
                 "Print pod logs during test execution"));
+        settings.add(new SettingEntry("citrus.kubernetes.stream.pod.logs", "CITRUS_KUBERNETES_STREAM_POD_LOGS",
+                "false", BOOLEAN,
+                "Stream and match pod logs incrementally while waiting for a pod log message"));
+        settings.add(new SettingEntry("citrus.kubernetes.use.informers", "CITRUS_KUBERNETES_USE_INFORMERS",
+                "false", BOOLEAN,
+                "Watch resources with shared informers when waiting for pod states and resource conditions"));
         settings.add(new SettingEntry("citrus.kubernetes.watch.logs.timeout", "CITRUS_KUBERNETES_WATCH_LOGS_TIMEOUT",
                 "60000", LONG,
                 "Timeout for watching pod logs in milliseconds"));
@@ -46,6 +46,13 @@ public class Test {
     public void setStatus(TestCaseMetaInfo.Status status) {
     }
 
+    @SchemaProperty(
+            metadata = { @SchemaProperty.MetaData(key = "$comment", value = "group:metaData" ) },
+            description = "Shared resources (e.g. endpoints, server ports) this test uses exclusively. " +
+                    "Parallel test engines never run tests sharing a resource at the same time.")
+    public void setResources(List<String> resources) {
+    }
+
     @SchemaProperty(description = "The test variables.")
     public void setVariables(List<Variable> variables) {
     }
@@ -16,6 +16,7 @@
 
 package org.citrusframework.json;
 
+import java.lang.ref.SoftReference;
 import java.util.Optional;
 
 import com.jayway.jsonpath.JsonPath;
@@ -26,6 +27,7 @@ import net.minidev.json.JSONObject;
 import net.minidev.json.parser.JSONParser;
 import net.minidev.json.parser.ParseException;
 import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.util.BoundedCache;
 import org.citrusframework.util.StringUtils;
 import org.citrusframework.validation.json.JsonPathFunctions;
 
@@ -34,6 +36,15 @@ import org.citrusframework.validation.json.JsonPathFunctions;
  */
 public class JsonPathUtils {
 
+    /** Maximum number of compiled expressions kept in cache */
+    static final int COMPILED_EXPRESSION_CACHE_SIZE = 1024;
+
+    /** Compiled JsonPath expressions by expression string, the least recently used expressions are evicted first */
+    private static final BoundedCache<String, CompiledExpression> COMPILED_EXPRESSIONS = new BoundedCache<>(COMPILED_EXPRESSION_CACHE_SIZE);
+
+    /** Read context of the most recently parsed payload per thread */
+    private static final ThreadLocal<SoftReference<ParsedPayload>> PARSED_PAYLOAD = new ThreadLocal<>();
+
     /**
      * Evaluate JsonPath expression on given payload string and return result as object.
      * @param payload
@@ -41,17 +52,44 @@ public class JsonPathUtils {
      * @return
      */
     public static Object evaluate(String payload, String jsonPathExpression) {
+        return evaluate(parse(payload), jsonPathExpression);
+    }
+
+    /**
+     * Parse given payload string to a read context. The read context of the most recently parsed payload is reused
+     * by the current thread, so evaluating several expressions on the same message payload in different validators,
+     * variable extractors and message selectors parses the payload only once.
+     * <p>
+     * The returned read context is shared and must not be modified.
+     * @param payload
+     * @return
+     */
+    public static ReadContext parse(String payload) {
+        SoftReference<ParsedPayload> reference = PARSED_PAYLOAD.get();
+        ParsedPayload parsed = reference != null ? reference.get() : null;
+        if (parsed != null && (parsed.payload() == payload || parsed.payload().equals(payload))) {
+            return parsed.readContext();
+        }
+
         try {
             JSONParser parser = new JSONParser(JSONParser.MODE_JSON_SIMPLE);
-            Object receivedJson = parser.parse(payload);
-            ReadContext readerContext = JsonPath.parse(receivedJson);
-
-            return evaluate(readerContext, jsonPathExpression);
+            ReadContext readContext = JsonPath.parse(parser.parse(payload));
+            PARSED_PAYLOAD.set(new SoftReference<>(new ParsedPayload(payload, readContext)));
+            return readContext;
         } catch (ParseException e) {
             throw new CitrusRuntimeException("Failed to parse JSON text", e);
         }
     }
 
+    /**
+     * Get compiled JsonPath for given expression. Compiled expressions are cached, so each expression is compiled only once.
+     * @param jsonPathExpression
+     * @return
+     */
+    public static JsonPath compile(String jsonPathExpression) {
+        return getCompiledExpression(jsonPathExpression).path();
+    }
+
     /**
      * Evaluate JsonPath expression using given read context and return result as object.
      * @param readerContext
@@ -59,22 +97,15 @@ public class JsonPathUtils {
      * @return
      */
     public static Object evaluate(ReadContext readerContext, String jsonPathExpression) {
-        String expression = jsonPathExpression;
-        String jsonPathFunction = null;
-        for (String name : JsonPathFunctions.getSupportedFunctions()) {
-            if (expression.endsWith(String.format(".%s()", name))) {
-                jsonPathFunction = name;
-                expression = expression.substring(0, expression.length() - String.format(".%s()", name).length());
-            }
-        }
+        CompiledExpression compiled = getCompiledExpression(jsonPathExpression);
 
         Object jsonPathResult = null;
         PathNotFoundException pathNotFoundException = null;
         try {
-            if (JsonPath.isPathDefinite(expression)) {
-                jsonPathResult = readerContext.read(expression);
+            if (compiled.path().isDefinite()) {
+                jsonPathResult = readerContext.read(compiled.path());
             } else {
-                JSONArray values = readerContext.read(expression);
+                JSONArray values = readerContext.read(compiled.path());
                 if (values.size() == 1) {
                     jsonPathResult = values.get(0);
                 } else {
@@ -85,8 +116,8 @@ public class JsonPathUtils {
             pathNotFoundException = e;
         }
 
-        if (StringUtils.hasText(jsonPathFunction)) {
-            jsonPathResult = JsonPathFunctions.evaluate(jsonPathResult, jsonPathFunction);
+        if (StringUtils.hasText(compiled.function())) {
+            jsonPathResult = JsonPathFunctions.evaluate(jsonPathResult, compiled.function());
         }
 
         if (jsonPathResult == null && pathNotFoundException != null) {
@@ -103,15 +134,7 @@ public class JsonPathUtils {
      * @return
      */
     public static String evaluateAsString(String payload, String jsonPathExpression) {
-        try {
-            JSONParser parser = new JSONParser(JSONParser.MODE_JSON_SIMPLE);
-            Object receivedJson = parser.parse(payload);
-            ReadContext readerContext = JsonPath.parse(receivedJson);
-
-            return evaluateAsString(readerContext, jsonPathExpression);
-        } catch (ParseException e) {
-            throw new CitrusRuntimeException("Failed to parse JSON text", e);
-        }
+        return evaluateAsString(parse(payload), jsonPathExpression);
     }
 
     /**
@@ -131,4 +154,39 @@ public class JsonPathUtils {
             return Optional.ofNullable(jsonPathResult).map(Object::toString).orElse("null");
         }
     }
+
+    /**
+     * Get compiled expression from cache or compile the expression. Trailing JsonPath functions such as
+     * {@code .size()} are split off the expression, as they are evaluated on the JsonPath result.
+     */
+    private static CompiledExpression getCompiledExpression(String jsonPathExpression) {
+        return COMPILED_EXPRESSIONS.computeIfAbsent(jsonPathExpression, JsonPathUtils::compileExpression);
+    }
+
+    private static CompiledExpression compileExpression(String jsonPathExpression) {
+        String expression = jsonPathExpression;
+        String jsonPathFunction = null;
+        for (String name : JsonPathFunctions.getSupportedFunctions()) {
+            String functionSuffix = String.format(".%s()", name);
+            if (expression.endsWith(functionSuffix)) {
+                jsonPathFunction = name;
+                expression = expression.substring(0, expression.length() - functionSuffix.length());
+            }
+        }
+
+        return new CompiledExpression(JsonPath.compile(expression), jsonPathFunction);
+    }
+
+    /**
+     * Gets the number of cached compiled expressions.
+     */
+    static int getCompiledExpressionCacheSize() {
+        return COMPILED_EXPRESSIONS.size();
+    }
+
+    private record CompiledExpression(JsonPath path, String function) {
+    }
+
+    private record ParsedPayload(String payload, ReadContext readContext) {
+    }
 }
@@ -16,10 +16,10 @@
 
 package org.citrusframework.validation.json;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
+import java.util.HashSet;
 import java.util.Objects;
+import java.util.Set;
 
 import net.minidev.json.JSONArray;
 import net.minidev.json.JSONObject;
@@ -39,6 +39,10 @@ public class JsonElementValidator {
     private final TestContext context;
     private final Collection<String> ignoreExpressions;
 
+    /** Paths matched by the ignore expressions in the currently validated Json document */
+    private JsonElementValidatorItem<?> ignoredPathsRoot;
+    private Set<String> ignoredPaths;
+
     public JsonElementValidator(
             boolean strict,
             TestContext context,
@@ -50,7 +54,7 @@ public class JsonElementValidator {
     }
 
     public void validate(JsonElementValidatorItem<?> control) {
-        if (isIgnoredByPlaceholderOrExpressionList(ignoreExpressions, control))
+        if (isIgnored(control))
             return;
         if (isValidationMatcherExpression(requireNonNullElse(control.expectedAsStringOrNull(), ""))) {
             resolveValidationMatcher(control.getJsonPath(), control.actualAsStringOrNull(), control.expectedAsStringOrNull(), context);
@@ -89,51 +93,28 @@ public class JsonElementValidator {
         }
     }
 
-    /**
-     * Checks if given element node is either on ignore list or
-     * contains @ignore@ tag inside control message
-     */
-    static boolean isIgnoredByPlaceholderOrExpressionList(Collection<String> ignoreExpressions, JsonElementValidatorItem<?> controlEntry) {
-        String trimmedControlValue = requireNonNullElse(controlEntry.expectedAsStringOrNull(), "").trim();
-        if (trimmedControlValue.equals(IGNORE_PLACEHOLDER)) {
-            return true;
-        }
-
-        return ignoreExpressions.stream().anyMatch(controlEntry::isPathIgnoredBy);
-    }
-
     private void validateJSONArray(JsonElementValidator validator, JsonElementValidatorItem<?> control) {
         var arrayControl = control.ensureType(JSONArray.class);
         if (strict) {
             validateSameSize(control.getJsonPath(), arrayControl.expected, arrayControl.actual);
         }
 
-        List<Object> remaining = new ArrayList<>(arrayControl.actual.size());
-        arrayControl.actual.iterator().forEachRemaining(remaining::add);
+        UnorderedJsonArrayMatcher matcher = new UnorderedJsonArrayMatcher(arrayControl.actual, strict,
+                !hasIgnoredItems(arrayControl));
         for (int i = 0; i < arrayControl.expected.size(); i++) {
-            if (isIgnoredByPlaceholderOrExpressionList(ignoreExpressions,
-                    arrayControl.child(i, i, arrayControl.expected.get(i)).parent(arrayControl))) {
+            if (isIgnored(arrayControl.child(i, i, arrayControl.expected.get(i)).parent(arrayControl))) {
                 continue;
             }
 
-            if (remaining.isEmpty()) {
+            if (matcher.isEmpty()) {
                 throwValueMismatch("Missing entries in array element: '" + control.getName() + "'",
                         arrayControl.expected.size(), arrayControl.actual.size());
             }
 
-            boolean isValid = false;
-
-            int actualIndex = 0;
-            while (!isValid && actualIndex < remaining.size()) {
-                JsonElementValidatorItem<Object> item = arrayControl.child(i,
-                        remaining.get(actualIndex), arrayControl.expected.get(i))
-                        .parent(arrayControl);
-                if (isValidItem(item, validator)) {
-                    isValid = true;
-                    remaining.remove(actualIndex);
-                }
-                actualIndex++;
-            }
+            int expectedIndex = i;
+            boolean isValid = matcher.match(arrayControl.expected.get(i), actual -> isValidItem(
+                    arrayControl.child(expectedIndex, actual, arrayControl.expected.get(expectedIndex)).parent(arrayControl),
+                    validator));
 
             if (!isValid) {
                 throw new ValidationException(buildValueToBeInCollectionErrorMessage(
@@ -145,6 +126,46 @@ public class JsonElementValidator {
         }
     }
 
+    /**
+     * Checks if given element node is either on ignore list or contains @ignore@ tag inside control message.
+     * The paths matched by the ignore expressions are evaluated once per validated Json document.
+     */
+    private boolean isIgnored(JsonElementValidatorItem<?> controlEntry) {
+        String trimmedControlValue = requireNonNullElse(controlEntry.expectedAsStringOrNull(), "").trim();
+        if (trimmedControlValue.equals(IGNORE_PLACEHOLDER)) {
+            return true;
+        }
+
+        return !ignoreExpressions.isEmpty() && getIgnoredPaths(controlEntry.getRoot()).contains(controlEntry.getJsonPath());
+    }
+
+    /**
+     * Checks if any ignore expression points into the items of given array.
+     */
+    private boolean hasIgnoredItems(JsonElementValidatorItem<?> arrayControl) {
+        if (ignoreExpressions.isEmpty()) {
+            return false;
+        }
+
+        String itemPathPrefix = arrayControl.getJsonPath() + "[";
+        return getIgnoredPaths(arrayControl.getRoot()).stream().anyMatch(path -> path.startsWith(itemPathPrefix));
+    }
+
+    private Set<String> getIgnoredPaths(JsonElementValidatorItem<?> root) {
+        if (ignoredPathsRoot != root) {
+            Set<String> paths = new HashSet<>();
+            for (String ignoreExpression : ignoreExpressions) {
+                JsonElementValidatorItem.getAllMatchedPathsInJson(ignoreExpression, root.actual).forEach(paths::add);
+                JsonElementValidatorItem.getAllMatchedPathsInJson(ignoreExpression, root.expected).forEach(paths::add);
+            }
+
+            ignoredPaths = paths;
+            ignoredPathsRoot = root;
+        }
+
+        return ignoredPaths;
+    }
+
     private static boolean isValidItem(JsonElementValidatorItem<Object> validatorItem, JsonElementValidator validator) {
         try {
             validator.validate(validatorItem);
@@ -165,7 +165,7 @@ public class JsonElementValidatorItem<T> {
         return getAllMatchedPathsInJson(jsonPathExpression, json).anyMatch(currentPath::equals);
     }
 
-    private static Stream<String> getAllMatchedPathsInJson(String jsonPathExpression, Object json) {
+    static Stream<String> getAllMatchedPathsInJson(String jsonPathExpression, Object json) {
         Configuration config = Configuration.builder().options(AS_PATH_LIST).build();
         List<String> foundJsonPaths;
         try {
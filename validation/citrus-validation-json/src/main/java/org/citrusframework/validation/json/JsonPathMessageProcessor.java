@@ -24,6 +24,7 @@ import net.minidev.json.parser.ParseException;
 import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.exceptions.UnknownElementException;
+import org.citrusframework.json.JsonPathUtils;
 import org.citrusframework.message.AbstractMessageProcessor;
 import org.citrusframework.message.Message;
 import org.citrusframework.message.MessageType;
@@ -99,7 +100,7 @@ public class JsonPathMessageProcessor extends AbstractMessageProcessor {
                 }
 
                 try {
-                    documentContext.set(jsonPathExpression, value);
+                    documentContext.set(JsonPathUtils.compile(jsonPathExpression), value);
                 } catch (PathNotFoundException e) {
                     if (!ignoreNotFound) {
                         throw new UnknownElementException(String.format("Could not find element for expression: %s", jsonPathExpression), e);
@@ -0,0 +1,248 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.validation.json;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+import net.minidev.json.JSONArray;
+import net.minidev.json.JSONObject;
+
+import static org.citrusframework.CitrusSettings.IGNORE_PLACEHOLDER;
+import static org.citrusframework.validation.matcher.ValidationMatcherUtils.isValidationMatcherExpression;
+
+/**
+ * Matches expected array items with the actual items of a JSON array regardless of their order. Each actual
+ * item is matched at most once and the first matching actual item in array order is used.
+ * <p>
+ * Actual items are indexed by the concrete values of the expected item, i.e. the scalar values that are neither
+ * ignored nor validation matcher expressions. Simple values are indexed by their value and objects by the values
+ * of their concrete top level entries. Candidates of an index bucket are checked with a cheap structural probe
+ * that never raises errors, only the remaining candidates get fully validated. Expected items without concrete
+ * values are matched against all remaining actual items.
+ */
+final class UnorderedJsonArrayMatcher {
+
+    private static final Object NO_VALUE = new Object();
+
+    private final List<Object> actual;
+    private final boolean strict;
+    private final boolean indexed;
+
+    private final boolean[] matched;
+    private int remaining;
+    private int firstRemaining;
+
+    private Map<Object, Bucket> valueIndex;
+    private final Map<List<String>, Map<List<Object>, Bucket>> entryIndices = new HashMap<>();
+
+    /**
+     * @param actual  the actual array items
+     * @param strict  whether strict validation is enabled
+     * @param indexed whether to use index and structural probe, must be disabled when ignore expressions
+     *                point into the array items as those are not visible to the probe
+     */
+    UnorderedJsonArrayMatcher(List<Object> actual, boolean strict, boolean indexed) {
+        this.actual = actual;
+        this.strict = strict;
+        this.indexed = indexed;
+        this.matched = new boolean[actual.size()];
+        this.remaining = actual.size();
+    }
+
+    /**
+     * @return true when all actual items have been matched
+     */
+    boolean isEmpty() {
+        return remaining == 0;
+    }
+
+    /**
+     * Finds the first remaining actual item that matches the expected item and marks it as matched.
+     * @param expected the expected item
+     * @param validator full validation of an actual item candidate
+     * @return true when a matching actual item has been found
+     */
+    boolean match(Object expected, Predicate<Object> validator) {
+        if (!indexed) {
+            return matchAny(expected, validator);
+        }
+
+        if (expected instanceof JSONObject expectedObject) {
+            Map<String, Object> concreteEntries = concreteEntries(expectedObject);
+            if (!concreteEntries.isEmpty()) {
+                List<String> keys = List.copyOf(concreteEntries.keySet());
+                Bucket bucket = entryIndex(keys).get(Arrays.asList(concreteEntries.values().toArray()));
+                return bucket != null && matchBucket(bucket, expected, validator);
+            }
+        } else if (isConcreteValue(expected)) {
+            Bucket bucket = valueIndex().get(expected == null ? NO_VALUE : expected);
+            return bucket != null && matchBucket(bucket, expected, validator);
+        }
+
+        return matchAny(expected, validator);
+    }
+
+    private boolean matchAny(Object expected, Predicate<Object> validator) {
+        while (firstRemaining < matched.length && matched[firstRemaining]) {
+            firstRemaining++;
+        }
+
+        for (int i = firstRemaining; i < matched.length; i++) {
+            if (!matched[i] && isCandidate(expected, actual.get(i)) && validator.test(actual.get(i))) {
+                markMatched(i);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private boolean matchBucket(Bucket bucket, Object expected, Predicate<Object> validator) {
+        while (bucket.first < bucket.indices.size() && matched[bucket.indices.get(bucket.first)]) {
+            bucket.first++;
+        }
+
+        for (int i = bucket.first; i < bucket.indices.size(); i++) {
+            int index = bucket.indices.get(i);
+            if (!matched[index] && mayMatch(expected, actual.get(index)) && validator.test(actual.get(index))) {
+                markMatched(index);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private void markMatched(int index) {
+        matched[index] = true;
+        remaining--;
+    }
+
+    private boolean isCandidate(Object expected, Object actualItem) {
+        return !indexed || mayMatch(expected, actualItem);
+    }
+
+    /**
+     * Cheap structural probe. Returns false only when the full validation would fail for sure.
+     */
+    private boolean mayMatch(Object expected, Object actualItem) {
+        if (expected instanceof JSONObject expectedObject) {
+            if (actualItem == null) {
+                return true;
+            }
+
+            if (!(actualItem instanceof JSONObject actualObject) || strict && expectedObject.size() != actualObject.size()) {
+                return false;
+            }
+
+            for (Map.Entry<String, Object> entry : expectedObject.entrySet()) {
+                if (!actualObject.containsKey(entry.getKey()) || !mayMatch(entry.getValue(), actualObject.get(entry.getKey()))) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        if (expected instanceof JSONArray expectedArray) {
+            if (actualItem == null) {
+                return true;
+            }
+
+            return actualItem instanceof JSONArray actualArray && (!strict || expectedArray.size() == actualArray.size());
+        }
+
+        return !isConcreteValue(expected) || Objects.equals(expected, actualItem);
+    }
+
+    private Map<Object, Bucket> valueIndex() {
+        if (valueIndex == null) {
+            valueIndex = new HashMap<>();
+            for (int i = 0; i < actual.size(); i++) {
+                Object actualItem = actual.get(i);
+                if (!(actualItem instanceof JSONObject) && !(actualItem instanceof JSONArray)) {
+                    valueIndex.computeIfAbsent(actualItem == null ? NO_VALUE : actualItem, k -> new Bucket()).indices.add(i);
+                }
+            }
+        }
+
+        return valueIndex;
+    }
+
+    private Map<List<Object>, Bucket> entryIndex(List<String> keys) {
+        return entryIndices.computeIfAbsent(keys, k -> {
+            Map<List<Object>, Bucket> index = new HashMap<>();
+            for (int i = 0; i < actual.size(); i++) {
+                if (actual.get(i) instanceof JSONObject actualObject && actualObject.keySet().containsAll(keys)) {
+                    Object[] values = new Object[keys.size()];
+                    for (int j = 0; j < values.length; j++) {
+                        values[j] = actualObject.get(keys.get(j));
+                    }
+                    index.computeIfAbsent(Arrays.asList(values), v -> new Bucket()).indices.add(i);
+                }
+            }
+
+            return index;
+        });
+    }
+
+    /**
+     * Collects the top level entries of given object that hold concrete values, sorted by key.
+     */
+    private static Map<String, Object> concreteEntries(JSONObject expected) {
+        Map<String, Object> entries = new TreeMap<>();
+        for (Map.Entry<String, Object> entry : expected.entrySet()) {
+            if (!(entry.getValue() instanceof JSONObject) && !(entry.getValue() instanceof JSONArray)
+                    && isConcreteValue(entry.getValue())) {
+                entries.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        return entries.isEmpty() ? Collections.emptyMap() : entries;
+    }
+
+    /**
+     * Concrete values are compared for equality. Ignore placeholders and validation matcher expressions are not concrete.
+     */
+    private static boolean isConcreteValue(Object expected) {
+        if (expected instanceof JSONObject || expected instanceof JSONArray) {
+            return false;
+        }
+
+        if (expected instanceof String text) {
+            return !text.trim().equals(IGNORE_PLACEHOLDER) && !isValidationMatcherExpression(text);
+        }
+
+        return true;
+    }
+
+    /**
+     * Indices of actual items sharing the same concrete values in array order.
+     */
+    private static final class Bucket {
+        private final List<Integer> indices = new ArrayList<>();
+        private int first;
+    }
+}
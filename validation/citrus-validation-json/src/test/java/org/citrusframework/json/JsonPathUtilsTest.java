@@ -0,0 +1,82 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.json;
+
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.ReadContext;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class JsonPathUtilsTest {
+
+    private static final String JSON_FIXTURE = "{\"name\": \"Peter\", \"pets\": [{\"name\": \"Fluffy\"}, {\"name\": \"Leo\"}]}";
+
+    @Test
+    public void testParseReusesReadContext() {
+        ReadContext readContext = JsonPathUtils.parse(JSON_FIXTURE);
+
+        Assert.assertSame(JsonPathUtils.parse(JSON_FIXTURE), readContext);
+        Assert.assertSame(JsonPathUtils.parse(new String(JSON_FIXTURE)), readContext);
+        Assert.assertNotSame(JsonPathUtils.parse("{\"name\": \"Peter\"}"), readContext);
+        Assert.assertEquals(JsonPathUtils.evaluateAsString(JSON_FIXTURE, "$.name"), "Peter");
+    }
+
+    @Test
+    public void testCompileCachesExpressions() {
+        Assert.assertSame(JsonPathUtils.compile("$.pets[*].name"), JsonPathUtils.compile("$.pets[*].name"));
+    }
+
+    @Test
+    public void testCompiledExpressionCacheEvictsLeastRecentlyUsed() {
+        JsonPath recentlyUsed = JsonPathUtils.compile("$.pets[0].name");
+
+        for (int i = 0; i < JsonPathUtils.COMPILED_EXPRESSION_CACHE_SIZE; i++) {
+            JsonPathUtils.compile("$.pets[" + i + "].name");
+            Assert.assertSame(JsonPathUtils.compile("$.pets[0].name"), recentlyUsed);
+        }
+
+        Assert.assertTrue(JsonPathUtils.getCompiledExpressionCacheSize() <= JsonPathUtils.COMPILED_EXPRESSION_CACHE_SIZE);
+
+        JsonPath evicted = JsonPathUtils.compile("$.pets[1].name");
+        for (int i = 0; i < JsonPathUtils.COMPILED_EXPRESSION_CACHE_SIZE; i++) {
+            JsonPathUtils.compile("$.name" + i);
+        }
+
+        Assert.assertNotSame(JsonPathUtils.compile("$.pets[1].name"), evicted);
+        Assert.assertTrue(JsonPathUtils.getCompiledExpressionCacheSize() <= JsonPathUtils.COMPILED_EXPRESSION_CACHE_SIZE);
+    }
+
+    @Test
+    public void testEvaluate() {
+        Assert.assertEquals(JsonPathUtils.evaluateAsString(JSON_FIXTURE, "$.pets[*].name"), "[\"Fluffy\",\"Leo\"]");
+        Assert.assertEquals(JsonPathUtils.evaluateAsString(JSON_FIXTURE, "$.pets[?(@.name == 'Leo')].name"), "Leo");
+        Assert.assertEquals(JsonPathUtils.evaluate(JSON_FIXTURE, "$.pets.size()"), 2);
+        Assert.assertEquals(JsonPathUtils.evaluate(JSON_FIXTURE, "$.pets[0].exists()"), true);
+        Assert.assertEquals(JsonPathUtils.evaluate(JSON_FIXTURE, "$.age.exists()"), false);
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void testEvaluateUnknownPath() {
+        JsonPathUtils.evaluate(JSON_FIXTURE, "$.age");
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void testParseInvalidJson() {
+        JsonPathUtils.parse("{\"name\": ");
+    }
+}
@@ -295,6 +295,54 @@ public class JsonElementValidatorTest extends UnitTestSupport {
         ).toArray(new JsonAssertion[0]);
     }
 
+    @Test
+    public void shouldMatchLargeUnorderedArrays() {
+        int size = 5000;
+        StringBuilder actual = new StringBuilder("[");
+        StringBuilder expected = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                actual.append(',');
+                expected.append(',');
+            }
+
+            actual.append("{\"id\":%d, \"name\":\"item-%d\", \"tags\":[\"a\", \"b\"], \"group\":%d}".formatted(i, i, i % 3));
+            int expectedId = size - 1 - i;
+            if (expectedId % 100 == 0) {
+                expected.append("{\"id\":%d, \"name\":\"@startsWith('item-')@\", \"tags\":[\"b\", \"a\"], \"group\":\"@ignore@\"}".formatted(expectedId));
+            } else {
+                expected.append("{\"id\":%d, \"name\":\"item-%d\", \"tags\":[\"b\", \"a\"], \"group\":%d}".formatted(expectedId, expectedId, expectedId % 3));
+            }
+        }
+        actual.append(']');
+        expected.append(']');
+
+        var validationItem = JsonElementValidatorItem.parseJson(DEFAULT_PERMISSIVE_MODE, actual.toString(), expected.toString());
+        fixture = new JsonElementValidator(STRICT, context, Set.of());
+        assertThatNoException().isThrownBy(() -> fixture.validate(validationItem));
+
+        var invalidItem = JsonElementValidatorItem.parseJson(DEFAULT_PERMISSIVE_MODE, actual.toString(),
+                expected.toString().replace("\"item-4711\"", "\"item-0815\""));
+        fixture = new JsonElementValidator(NOT_STRICT, context, Set.of());
+        assertThatThrownBy(() -> fixture.validate(invalidItem))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("An item in '$' is missing");
+    }
+
+    @Test
+    public void shouldMatchUnorderedArrayItemsOnlyOnce() {
+        var validationItem = JsonElementValidatorItem.parseJson(DEFAULT_PERMISSIVE_MODE,
+                "[1, {\"id\":1, \"value\":\"x\"}, 1, {\"id\":1, \"value\":\"y\"}]",
+                "[{\"id\":1, \"value\":\"y\"}, 1, {\"id\":1}, 1]");
+        fixture = new JsonElementValidator(NOT_STRICT, context, Set.of());
+        assertThatNoException().isThrownBy(() -> fixture.validate(validationItem));
+
+        var invalidItem = JsonElementValidatorItem.parseJson(DEFAULT_PERMISSIVE_MODE,
+                "[1, {\"id\":1, \"value\":\"x\"}, 2]",
+                "[1, {\"id\":1}, 1]");
+        assertThatThrownBy(() -> fixture.validate(invalidItem)).isInstanceOf(ValidationException.class);
+    }
+
     private static JsonElementValidatorItem<Object> toValidationItem(JsonAssertion jsonAssertion) {
         return JsonElementValidatorItem.parseJson(DEFAULT_PERMISSIVE_MODE, jsonAssertion.actual, jsonAssertion.expected);
     }
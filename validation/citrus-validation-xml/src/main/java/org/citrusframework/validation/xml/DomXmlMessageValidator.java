@@ -16,14 +16,16 @@
 
 package org.citrusframework.validation.xml;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
-import javax.xml.XMLConstants;
 import javax.xml.namespace.NamespaceContext;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
-import org.citrusframework.CitrusSettings;
 import org.citrusframework.xml.support.XmlValidationHelper;
 import org.citrusframework.context.TestContext;
 import org.citrusframework.exceptions.CitrusRuntimeException;
@@ -35,21 +37,14 @@ import org.citrusframework.util.MessageUtils;
 import org.citrusframework.validation.context.xml.XmlMessageValidationContext;
 import org.citrusframework.xml.support.XMLUtils;
 import org.citrusframework.validation.AbstractMessageValidator;
-import org.citrusframework.validation.ValidationUtils;
 import org.citrusframework.validation.context.DefaultMessageValidationContext;
 import org.citrusframework.validation.context.ValidationContext;
-import org.citrusframework.validation.matcher.ValidationMatcherUtils;
 import org.citrusframework.validation.xml.schema.XmlSchemaValidation;
 import org.citrusframework.api.xml.namespace.NamespaceContextBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.util.xml.DomUtils;
 import org.w3c.dom.DOMException;
 import org.w3c.dom.Document;
-import org.w3c.dom.DocumentType;
-import org.w3c.dom.Element;
-import org.w3c.dom.NamedNodeMap;
-import org.w3c.dom.Node;
 import org.w3c.dom.ls.LSException;
 
 import static org.citrusframework.util.StringUtils.hasText;
@@ -83,7 +78,9 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
     public void validateMessage(Message receivedMessage, Message controlMessage,
                                 TestContext context, XmlMessageValidationContext validationContext) throws ValidationException {
 
-        if (logger.isDebugEnabled()) {
+        if (validationContext.isStreaming()) {
+            logger.debug("Start streaming XML message validation");
+        } else if (logger.isDebugEnabled()) {
             logger.debug("Start XML message validation: {}",
                 prettyPrint(receivedMessage.getPayload(String.class)));
         }
@@ -93,7 +90,11 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
                 schemaValidator.validate(receivedMessage, context, validationContext);
             }
 
-            validateNamespaces(validationContext.getControlNamespaces(), receivedMessage);
+            if (validationContext.isStreaming()) {
+                validateNamespaces(validationContext.getControlNamespaces(), receivedMessage, true);
+            } else {
+                validateNamespaces(validationContext.getControlNamespaces(), receivedMessage);
+            }
             validateMessageContent(receivedMessage, controlMessage, validationContext, context);
 
             if (controlMessage != null) {
@@ -121,6 +122,14 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
      * differing namespace prefixes will fail the validation.
      */
     protected void validateNamespaces(Map<String, String> expectedNamespaces, Message receivedMessage) {
+        validateNamespaces(expectedNamespaces, receivedMessage, false);
+    }
+
+    /**
+     * Validate namespaces in message. In streaming mode the namespace declarations are read from the root element
+     * with a StAX reader, otherwise the received message payload is parsed into a DOM tree.
+     */
+    private void validateNamespaces(Map<String, String> expectedNamespaces, Message receivedMessage, boolean streaming) {
         if (expectedNamespaces == null || expectedNamespaces.isEmpty()) {
             return;
         }
@@ -131,13 +140,20 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
 
         logger.debug("Start XML namespace validation");
 
-        Document received = XMLUtils.parseMessagePayload(receivedMessage.getPayload(String.class));
-
-        Map<String, String> foundNamespaces = NamespaceContextBuilder.lookupNamespaces(receivedMessage.getPayload(String.class));
+        String rootName;
+        Map<String, String> foundNamespaces;
+        if (streaming) {
+            foundNamespaces = new HashMap<>();
+            rootName = lookupRootNamespaces(receivedMessage.getPayload(String.class), foundNamespaces);
+        } else {
+            Document received = XMLUtils.parseMessagePayload(receivedMessage.getPayload(String.class));
+            rootName = XMLUtils.getNodesPathName(received.getFirstChild());
+            foundNamespaces = NamespaceContextBuilder.lookupNamespaces(receivedMessage.getPayload(String.class));
+        }
 
         if (foundNamespaces.size() != expectedNamespaces.size()) {
             throw new ValidationException("Number of namespace declarations not equal for node " +
-                    XMLUtils.getNodesPathName(received.getFirstChild()) + " found " +
+                    rootName + " found " +
                     foundNamespaces.size() + " expected " + expectedNamespaces.size());
         }
 
@@ -149,46 +165,40 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
                 if (!foundNamespaces.get(namespace).equals(url)) {
                     throw new ValidationException("Namespace '" + namespace +
                             "' values not equal: found '" + foundNamespaces.get(namespace) +
-                            "' expected '" + url + "' in reference node " +
-                            XMLUtils.getNodesPathName(received.getFirstChild()));
+                            "' expected '" + url + "' in reference node " + rootName);
                 } else {
                     logger.debug("Validating namespace {} value as expected {} - value OK", namespace, url);
                 }
             } else {
-                throw new ValidationException("Missing namespace " + namespace + "(" + url + ") in node " +
-                        XMLUtils.getNodesPathName(received.getFirstChild()));
+                throw new ValidationException("Missing namespace " + namespace + "(" + url + ") in node " + rootName);
             }
         }
 
         logger.debug("XML namespace validation successful: All values OK");
     }
 
-    private void doElementNameValidation(Node received, Node source) {
-        //validate element name
-        logger.debug("Validating element: {} ({})", received.getLocalName(), received.getNamespaceURI());
-
-        if (!received.getLocalName().equals(source.getLocalName())) {
-            throw new ValidationException(ValidationUtils.buildValueMismatchErrorMessage("Element names not equal", source.getLocalName(), received.getLocalName()));
-        }
-    }
-
-    private void doElementNamespaceValidation(Node received, Node source) {
-        //validate element namespace
-        logger.debug("Validating namespace for element: {}", received.getLocalName());
+    /**
+     * Reads the namespace declarations of the root element with a StAX reader.
+     * @return the local name of the root element
+     */
+    private static String lookupRootNamespaces(String payload, Map<String, String> namespaces) {
+        XMLStreamReader reader = XMLUtils.createXMLStreamReader(payload);
+        try {
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                    for (int i = 0; i < reader.getNamespaceCount(); i++) {
+                        namespaces.put(Optional.ofNullable(reader.getNamespacePrefix(i)).orElse(""), reader.getNamespaceURI(i));
+                    }
 
-        if (received.getNamespaceURI() != null) {
-            if (source.getNamespaceURI() == null) {
-                throw new ValidationException(ValidationUtils.buildValueMismatchErrorMessage("Element namespace not equal for element '" +
-                        received.getLocalName() + "'", null, received.getNamespaceURI()));
+                    return reader.getLocalName();
+                }
             }
 
-            if (!received.getNamespaceURI().equals(source.getNamespaceURI())) {
-                throw new ValidationException(ValidationUtils.buildValueMismatchErrorMessage("Element namespace not equal for element '" +
-                        received.getLocalName() + "'", source.getNamespaceURI(), received.getNamespaceURI()));
-            }
-        } else if (source.getNamespaceURI() != null) {
-            throw new ValidationException(ValidationUtils.buildValueMismatchErrorMessage("Element namespace not equal for element '" +
-                    received.getLocalName() + "'", source.getNamespaceURI(), null));
+            throw new ValidationException("Unable to validate message namespaces - missing root element in received message payload");
+        } catch (XMLStreamException e) {
+            throw new CitrusRuntimeException("Failed to read XML message payload", e);
+        } finally {
+            closeQuietly(reader);
         }
     }
 
@@ -220,6 +230,17 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
             return;
         }
 
+        if (validationContext.isStreaming()) {
+            List<String> unsupportedExpressions = XmlStreamComparison.getUnsupportedExpressions(validationContext.getIgnoreExpressions());
+            if (!unsupportedExpressions.isEmpty()) {
+                throw new ValidationException("Ignore expressions not supported in streaming XML validation: "
+                        + String.join(", ", unsupportedExpressions) + " - disable streaming to use these expressions");
+            }
+
+            validateXmlStream(receivedMessage.getPayload(String.class), controlMessagePayload, validationContext, context);
+            return;
+        }
+
         logger.debug("Start XML tree validation ...");
 
         Document received = XMLUtils.parseMessagePayload(receivedMessage.getPayload(String.class));
@@ -254,276 +275,43 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
     }
 
     /**
-     * Walk the XML tree and validate all nodes.
+     * Walk the XML tree and validate all nodes. All differences between received and control tree are collected,
+     * the first difference is raised as validation error with further differences (up to a limit) added as suppressed errors.
      */
-    private void validateXmlTree(Node received, Node source,
+    private void validateXmlTree(Document received, Document source,
             XmlMessageValidationContext validationContext, NamespaceContext namespaceContext, TestContext context) {
-        switch(received.getNodeType()) {
-            case Node.DOCUMENT_TYPE_NODE:
-                doDocumentTypeDefinition(received, source, validationContext, namespaceContext, context);
-                break;
-            case Node.DOCUMENT_NODE:
-                validateXmlTree(received.getFirstChild(), source.getFirstChild(),
-                        validationContext, namespaceContext, context);
-                break;
-            case Node.ELEMENT_NODE:
-                doElement(received, source, validationContext, namespaceContext, context);
-                break;
-            case Node.ATTRIBUTE_NODE:
-                throw new IllegalStateException();
-            case Node.COMMENT_NODE:
-                validateXmlTree(received.getNextSibling(), source,
-                        validationContext, namespaceContext, context);
-                break;
-            case Node.PROCESSING_INSTRUCTION_NODE:
-                doPI(received);
-                break;
-        }
-    }
-
-    /**
-     * Handle document type definition with validation of publicId and systemId.
-     */
-    private void doDocumentTypeDefinition(Node received, Node source,
-            XmlMessageValidationContext validationContext,
-            NamespaceContext namespaceContext, TestContext context) {
-
-        if (!(source instanceof DocumentType sourceDTD)) {
-            throw new ValidationException("Missing document type definition in expected xml fragment");
-        }
-
-        DocumentType receivedDTD = (DocumentType) received;
-
-        logger.debug("Validating document type definition: {} ({})", receivedDTD.getPublicId(), receivedDTD.getSystemId());
-
-        if (!hasText(sourceDTD.getPublicId())) {
-            if (receivedDTD.getPublicId() != null) {
-                throw new ValidationException(ValidationUtils.buildValueMismatchErrorMessage("Document type public id not equal",
-                        sourceDTD.getPublicId(), receivedDTD.getPublicId()));
-            }
-        } else if (sourceDTD.getPublicId().trim().equals(CitrusSettings.IGNORE_PLACEHOLDER)) {
-            logger.debug("Document type public id: '{}' is ignored by placeholder '{}'", receivedDTD.getPublicId(), CitrusSettings.IGNORE_PLACEHOLDER);
-        } else if (!hasText(receivedDTD.getPublicId()) || !receivedDTD.getPublicId().equals(sourceDTD.getPublicId())) {
-            throw new ValidationException(ValidationUtils.buildValueMismatchErrorMessage("Document type public id not equal",
-                    sourceDTD.getPublicId(), receivedDTD.getPublicId()));
-        }
-
-        if (!hasText(sourceDTD.getSystemId())) {
-            if (receivedDTD.getSystemId() != null) {
-                throw new ValidationException(ValidationUtils.buildValueMismatchErrorMessage("Document type system id not equal",
-                        sourceDTD.getSystemId(), receivedDTD.getSystemId()));
-            }
-        } else if (sourceDTD.getSystemId().trim().equals(CitrusSettings.IGNORE_PLACEHOLDER)) {
-            logger.debug("Document type system id: '{} ' is ignored by placeholder '{}'", receivedDTD.getSystemId(), CitrusSettings.IGNORE_PLACEHOLDER);
-        } else if (!hasText(receivedDTD.getSystemId()) || !receivedDTD.getSystemId().equals(sourceDTD.getSystemId())) {
-            throw new ValidationException(ValidationUtils.buildValueMismatchErrorMessage("Document type system id not equal",
-                    sourceDTD.getSystemId(), receivedDTD.getSystemId()));
-        }
-
-        validateXmlTree(received.getNextSibling(),
-                source.getNextSibling(), validationContext, namespaceContext, context);
+        new XmlTreeComparison(received, validationContext.getIgnoreExpressions(), namespaceContext, context)
+                .compare(received, source)
+                .raise();
     }
 
     /**
-     * Handle element node.
+     * Reads received and control payload as stream of XML events and validates all elements without building
+     * DOM trees. Differences are reported in the same way as in XML tree validation.
      */
-    private void doElement(Node received, Node source,
-            XmlMessageValidationContext validationContext, NamespaceContext namespaceContext, TestContext context) {
-
-        doElementNameValidation(received, source);
-
-        doElementNamespaceValidation(received, source);
-
-        //check if element is ignored either by xpath or by ignore placeholder in source message
-        if (XmlValidationUtils.isElementIgnored(source, received, validationContext.getIgnoreExpressions(), namespaceContext)) {
-            return;
-        }
-
-        //work on attributes
-        logger.debug("Validating attributes for element: {}", received.getLocalName());
-        NamedNodeMap receivedAttr = received.getAttributes();
-        NamedNodeMap sourceAttr = source.getAttributes();
-
-        if (countAttributes(receivedAttr) != countAttributes(sourceAttr)) {
-            throw new ValidationException(ValidationUtils.buildValueMismatchErrorMessage("Number of attributes not equal for element '"
-                        + received.getLocalName() + "'", countAttributes(sourceAttr), countAttributes(receivedAttr)));
-        }
-
-        for (int i = 0; i < receivedAttr.getLength(); i++) {
-            doAttribute(received, receivedAttr.item(i), source, validationContext, namespaceContext, context);
-        }
-
-        //check if validation matcher on element is specified
-        if (isValidationMatcherExpression(source)) {
-            ValidationMatcherUtils.resolveValidationMatcher(source.getNodeName(),
-                    received.getFirstChild().getNodeValue().trim(),
-                    source.getFirstChild().getNodeValue().trim(),
-                    context);
-            return;
-        }
-
-        doText((Element) received, (Element) source);
-
-        //work on child nodes
-        List<Element> receivedChildElements = DomUtils.getChildElements((Element) received);
-        List<Element> sourceChildElements = DomUtils.getChildElements((Element) source);
-
-        if (receivedChildElements.size() != sourceChildElements.size()) {
-            throw new ValidationException(ValidationUtils.buildValueMismatchErrorMessage("Number of child elements not equal for element '"
-                    + received.getLocalName() + "'", sourceChildElements.size(), receivedChildElements.size()));
-        }
-
-        for (int i = 0; i < receivedChildElements.size(); i++) {
-            this.validateXmlTree(receivedChildElements.get(i), sourceChildElements.get(i),
-                    validationContext, namespaceContext, context);
-        }
-
-        logger.debug("Validation successful for element: {} ({})", received.getLocalName(), received.getNamespaceURI());
-    }
-
-    /**
-     * Handle text node during validation.
-     */
-    private void doText(Element received, Element source) {
-        logger.debug("Validating node value for element: {}", received.getLocalName());
-
-        String receivedText = DomUtils.getTextValue(received);
-        String sourceText = DomUtils.getTextValue(source);
-
-        if (!receivedText.trim().equals(sourceText.trim())) {
-            throw new ValidationException(ValidationUtils.buildValueMismatchErrorMessage("Node value not equal for element '"
-                        + received.getLocalName() + "'", sourceText.trim(), receivedText.trim()));
-        }
-
-        if (logger.isDebugEnabled()) {
-            logger.debug("Node value '{}': OK", receivedText.trim());
-        }
-    }
-
-    /**
-     * Handle attribute node during validation.
-     */
-    private void doAttribute(Node receivedElement, Node receivedAttribute, Node sourceElement,
-            XmlMessageValidationContext validationContext, NamespaceContext namespaceContext, TestContext context) {
-        if (receivedAttribute.getNodeName().startsWith(XMLConstants.XMLNS_ATTRIBUTE)) { return; }
-
-        String receivedAttributeName = receivedAttribute.getLocalName();
-
-        logger.debug("Validating attribute: {} ({})", receivedAttributeName, receivedAttribute.getNamespaceURI());
-
-        NamedNodeMap sourceAttributes = sourceElement.getAttributes();
-        Node sourceAttribute = sourceAttributes.getNamedItemNS(receivedAttribute.getNamespaceURI(), receivedAttributeName);
-
-        if (sourceAttribute == null) {
-            throw new ValidationException("Attribute validation failed for element '"
-                        + receivedElement.getLocalName() + "', unknown attribute "
-                        + receivedAttributeName + " (" + receivedAttribute.getNamespaceURI() + ")");
-        }
-
-        if (XmlValidationUtils.isAttributeIgnored(receivedElement, receivedAttribute, sourceAttribute, validationContext.getIgnoreExpressions(), namespaceContext)) {
-            return;
-        }
-
-        String receivedValue = receivedAttribute.getNodeValue();
-        String sourceValue = sourceAttribute.getNodeValue();
-        if (isValidationMatcherExpression(sourceAttribute)) {
-            ValidationMatcherUtils.resolveValidationMatcher(sourceAttribute.getNodeName(),
-                    receivedAttribute.getNodeValue().trim(),
-                    sourceAttribute.getNodeValue().trim(),
-                    context);
-        } else if (receivedValue.contains(":") && sourceValue.contains(":")) {
-            doNamespaceQualifiedAttributeValidation(receivedElement, receivedAttribute, sourceElement, sourceAttribute);
-        } else {
-            if (!receivedValue.equals(sourceValue)) {
-                throw new ValidationException(ValidationUtils.buildValueMismatchErrorMessage("Values not equal for attribute '"
-                            + receivedAttributeName + "'", sourceValue, receivedValue));
-            }
-        }
-
-        logger.debug("Attribute '{}'='{}': OK", receivedAttributeName, receivedValue);
-    }
-
-    /**
-     * Perform validation on namespace qualified attribute values if present. This includes the validation of namespace presence
-     * and equality.
-     */
-    private void doNamespaceQualifiedAttributeValidation(Node receivedElement, Node receivedAttribute, Node sourceElement, Node sourceAttribute) {
-        String receivedValue = receivedAttribute.getNodeValue();
-        String sourceValue = sourceAttribute.getNodeValue();
-
-        if (receivedValue.contains(":") && sourceValue.contains(":")) {
-            // value has namespace prefix set, do special QName validation
-            String receivedPrefix = receivedValue.substring(0, receivedValue.indexOf(':'));
-            String sourcePrefix = sourceValue.substring(0, sourceValue.indexOf(':'));
-
-            Map<String, String> receivedNamespaces = XMLUtils.lookupNamespaces(receivedAttribute.getOwnerDocument());
-            receivedNamespaces.putAll(XMLUtils.lookupNamespaces(receivedElement));
-
-            if (receivedNamespaces.containsKey(receivedPrefix)) {
-                Map<String, String> sourceNamespaces = XMLUtils.lookupNamespaces(sourceAttribute.getOwnerDocument());
-                sourceNamespaces.putAll(XMLUtils.lookupNamespaces(sourceElement));
-
-                if (sourceNamespaces.containsKey(sourcePrefix)) {
-                    if (!sourceNamespaces.get(sourcePrefix).equals(receivedNamespaces.get(receivedPrefix))) {
-                        throw new ValidationException(ValidationUtils.buildValueMismatchErrorMessage("Values not equal for attribute value namespace '"
-                                    + receivedValue + "'", sourceNamespaces.get(sourcePrefix), receivedNamespaces.get(receivedPrefix)));
-                    }
-
-                    // remove namespace prefixes as they must not form equality
-                    receivedValue = receivedValue.substring((receivedPrefix + ":").length());
-                    sourceValue = sourceValue.substring((sourcePrefix + ":").length());
-                } else {
-                    throw new ValidationException("Received attribute value '" + receivedAttribute.getLocalName() + "' describes namespace qualified attribute value," +
-                            " control value '" + sourceValue + "' does not");
-                }
-            }
-        }
+    private void validateXmlStream(String receivedPayload, String controlPayload,
+            XmlMessageValidationContext validationContext, TestContext context) {
+        logger.debug("Start XML stream validation ...");
 
-        if (!receivedValue.equals(sourceValue)) {
-            throw new ValidationException(ValidationUtils.buildValueMismatchErrorMessage("Values not equal for attribute '"
-                        + receivedAttribute.getLocalName() + "'", sourceValue, receivedValue));
+        XMLStreamReader received = XMLUtils.createXMLStreamReader(receivedPayload);
+        XMLStreamReader source = XMLUtils.createXMLStreamReader(controlPayload);
+        try {
+            new XmlStreamComparison(validationContext.getIgnoreExpressions(),
+                    getNamespaceContextBuilder(context).getNamespaceMappings(), validationContext.getNamespaces(), context)
+                    .compare(received, source)
+                    .raise();
+        } finally {
+            closeQuietly(received);
+            closeQuietly(source);
         }
     }
 
-    /**
-     * Handle processing instruction during validation.
-     */
-    private void doPI(Node received) {
-        logger.debug("Ignored processing instruction ({}={})", received.getLocalName(), received.getNodeValue());
-    }
-
-    /**
-     * Counts the attributenode for an element (xmlns attributes ignored)
-     * @param attributesR attributesMap
-     * @return number of attributes
-     */
-    private int countAttributes(NamedNodeMap attributesR) {
-        int cntAttributes = 0;
-
-        for (int i = 0; i < attributesR.getLength(); i++) {
-            if (!attributesR.item(i).getNodeName().startsWith(XMLConstants.XMLNS_ATTRIBUTE)) {
-                cntAttributes++;
-            }
+    private static void closeQuietly(XMLStreamReader reader) {
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            logger.debug("Failed to close XML stream reader", e);
         }
-
-        return cntAttributes;
-    }
-
-    /**
-     * Checks whether the given node contains a validation matcher
-     * @return true if node value contains validation matcher, false if not
-     */
-    private boolean isValidationMatcherExpression(Node node) {
-        return switch (node.getNodeType()) {
-            case Node.ELEMENT_NODE ->
-                    node.getFirstChild() != null
-                            && hasText(node.getFirstChild().getNodeValue())
-                            && ValidationMatcherUtils.isValidationMatcherExpression(node.getFirstChild().getNodeValue().trim());
-            case Node.ATTRIBUTE_NODE ->
-                    hasText(node.getNodeValue())
-                            && ValidationMatcherUtils.isValidationMatcherExpression(node.getNodeValue().trim());
-            default -> false; //validation matchers makes no sense
-        };
     }
 
     @Override
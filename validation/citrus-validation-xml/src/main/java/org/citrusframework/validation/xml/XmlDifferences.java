@@ -0,0 +1,148 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.validation.xml;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.citrusframework.exceptions.ValidationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Differences found when comparing a received XML payload with a control payload. Differences are kept as plain
+ * messages in document order, only the first {@link #MAX_DIFFERENCES} are recorded and the others are just counted.
+ * Validation exceptions are only created when the recorded differences are raised.
+ * <p>
+ * Comparisons that find a difference late, e.g. streaming validation reading the element text after the child
+ * elements, use {@link #mark()} and {@link #add(int, String)} to keep the document order.
+ */
+final class XmlDifferences {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(XmlDifferences.class);
+
+    /** Maximum number of differences recorded and reported */
+    static final int MAX_DIFFERENCES = 10;
+
+    private final List<Difference> differences = new ArrayList<>();
+
+    /** Total number of differences including the ones that have not been recorded */
+    private int count;
+
+    /**
+     * Adds difference with given message.
+     * @param message
+     */
+    void add(String message) {
+        add(new Difference(message, null));
+    }
+
+    /**
+     * Adds difference raised as validation error, e.g. by a validation matcher.
+     * @param error
+     */
+    void add(ValidationException error) {
+        add(new Difference(error.getMessage(), error));
+    }
+
+    /**
+     * Adds difference at given position in document order.
+     * @param position the position obtained with {@link #mark()}
+     * @param message
+     */
+    void add(int position, String message) {
+        add(position, new Difference(message, null));
+    }
+
+    private void add(Difference difference) {
+        add(count, difference);
+    }
+
+    private void add(int position, Difference difference) {
+        count++;
+        if (position < MAX_DIFFERENCES) {
+            differences.add(position, difference);
+            if (differences.size() > MAX_DIFFERENCES) {
+                differences.remove(MAX_DIFFERENCES);
+            }
+        }
+    }
+
+    /**
+     * Gets the current position in document order.
+     * @return
+     */
+    int mark() {
+        return count;
+    }
+
+    /**
+     * Discards all differences added after given position.
+     * @param position the position obtained with {@link #mark()}
+     */
+    void reset(int position) {
+        count = position;
+        if (differences.size() > position) {
+            differences.subList(position, differences.size()).clear();
+        }
+    }
+
+    /**
+     * Gets the total number of differences.
+     * @return
+     */
+    int size() {
+        return count;
+    }
+
+    /**
+     * Gets the recorded difference messages in document order.
+     * @return
+     */
+    List<String> getMessages() {
+        return differences.stream().map(Difference::message).toList();
+    }
+
+    /**
+     * Raises the first difference as validation error with the other recorded differences added as suppressed errors.
+     * Does nothing when no difference has been found.
+     */
+    void raise() {
+        if (differences.isEmpty()) {
+            return;
+        }
+
+        if (count > 1 && logger.isDebugEnabled()) {
+            logger.debug("XML validation found {} differences:\n{}{}", count, String.join("\n", getMessages()),
+                    count > differences.size() ? "\n... " + (count - differences.size()) + " more" : "");
+        }
+
+        ValidationException validationException = differences.get(0).toException();
+        differences.stream()
+                .skip(1)
+                .map(Difference::toException)
+                .forEach(validationException::addSuppressed);
+        throw validationException;
+    }
+
+    private record Difference(String message, ValidationException error) {
+        ValidationException toException() {
+            return error != null ? error : new ValidationException(message);
+        }
+    }
+}
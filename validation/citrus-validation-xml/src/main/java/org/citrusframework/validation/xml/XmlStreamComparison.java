@@ -0,0 +1,708 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.validation.xml;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.citrusframework.CitrusSettings;
+import org.citrusframework.api.xml.namespace.DefaultNamespaceContext;
+import org.citrusframework.context.TestContext;
+import org.citrusframework.exceptions.CitrusRuntimeException;
+import org.citrusframework.exceptions.ValidationException;
+import org.citrusframework.validation.ValidationUtils;
+import org.citrusframework.validation.matcher.ValidationMatcherUtils;
+import org.citrusframework.xml.xpath.XPathUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.citrusframework.util.StringUtils.hasText;
+
+/**
+ * Compares a received XML payload with a control payload on two StAX event streams. Both payloads are read side by
+ * side, so no DOM tree gets built and memory consumption does not depend on the payload size. Differences are
+ * collected in document order and use the same messages as {@link XmlTreeComparison}.
+ * <p>
+ * Ignore expressions are limited to the forms that can be decided on the current element path:
+ * <ul>
+ *     <li>node path names and element names such as {@code Foo.Bar.Poo}</li>
+ *     <li>absolute location paths with child and descendant steps, wildcards and a trailing attribute step
+ *     such as {@code /ns:Foo//Bar/@id}</li>
+ * </ul>
+ * Other XPath expressions require a DOM tree and are rejected by {@link DomXmlMessageValidator}.
+ * Element and attribute values support the {@code @ignore@} placeholder and validation matcher expressions.
+ * Document type definitions, comments and processing instructions are not validated.
+ *
+ * @see DomXmlMessageValidator
+ */
+final class XmlStreamComparison {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(XmlStreamComparison.class);
+
+    private static final Pattern XPATH_STEP_PATTERN = Pattern.compile("@?(?:[\\w.\\-]+:)?(?:[\\w.\\-]+|\\*)");
+
+    private final List<IgnoreExpression> ignoreExpressions;
+    private final Map<String, String> defaultNamespaces;
+    private final Map<String, String> namespaces;
+    private final TestContext context;
+
+    /** Qualified names and node path names of the currently validated received element and its ancestors */
+    private final List<QName> path = new ArrayList<>();
+    private final List<String> pathNames = new ArrayList<>();
+
+    private final XmlDifferences differences = new XmlDifferences();
+
+    /**
+     * @param ignoreExpressions the ignore expressions, must be supported by streaming validation
+     * @param defaultNamespaces default namespace mappings resolving prefixes in XPath ignore expressions
+     * @param namespaces        explicit namespace mappings resolving prefixes in XPath ignore expressions
+     * @param context           the test context
+     */
+    XmlStreamComparison(Set<String> ignoreExpressions, Map<String, String> defaultNamespaces,
+                        Map<String, String> namespaces, TestContext context) {
+        this.ignoreExpressions = ignoreExpressions != null ?
+                ignoreExpressions.stream().map(IgnoreExpression::new).toList() : Collections.emptyList();
+        this.defaultNamespaces = defaultNamespaces != null ? defaultNamespaces : Collections.emptyMap();
+        this.namespaces = namespaces != null ? namespaces : Collections.emptyMap();
+        this.context = context;
+    }
+
+    /**
+     * Gets the ignore expressions that can not be evaluated during streaming validation.
+     * @param ignoreExpressions
+     * @return the XPath expressions that require a DOM tree, empty when all expressions are supported
+     */
+    static List<String> getUnsupportedExpressions(Set<String> ignoreExpressions) {
+        if (ignoreExpressions == null) {
+            return Collections.emptyList();
+        }
+
+        return ignoreExpressions.stream()
+                .filter(expression -> XPathUtils.isXPathExpression(expression) && parseXPath(expression) == null)
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * Compares the received payload with the control payload.
+     * @param received
+     * @param source
+     * @return the differences found in document order, empty when both payloads are equal
+     */
+    XmlDifferences compare(XMLStreamReader received, XMLStreamReader source) {
+        try {
+            boolean receivedRoot = toRootElement(received);
+            boolean sourceRoot = toRootElement(source);
+
+            if (!receivedRoot || !sourceRoot) {
+                if (receivedRoot != sourceRoot) {
+                    differences.add("Missing root element in " + (receivedRoot ? "control" : "received") + " message payload");
+                }
+                return differences;
+            }
+
+            resolveNamespaces(received);
+            compareElement(received, source);
+        } catch (XMLStreamException e) {
+            throw new CitrusRuntimeException("Failed to read XML message payload", e);
+        }
+
+        return differences;
+    }
+
+    /**
+     * Binds the prefixes of XPath ignore expressions. Namespaces declared on the received root element are added
+     * in the same way as the namespace context builder adds dynamic namespace bindings.
+     */
+    private void resolveNamespaces(XMLStreamReader received) {
+        if (ignoreExpressions.stream().noneMatch(IgnoreExpression::isXPath)) {
+            return;
+        }
+
+        DefaultNamespaceContext namespaceContext = new DefaultNamespaceContext();
+        namespaceContext.addNamespaces(defaultNamespaces);
+        for (int i = 0; i < received.getNamespaceCount(); i++) {
+            String namespaceUri = received.getNamespaceURI(i);
+            if (!namespaces.containsValue(namespaceUri)) {
+                namespaceContext.addNamespace(Objects.requireNonNullElse(received.getNamespacePrefix(i), ""), namespaceUri);
+            }
+        }
+        namespaceContext.addNamespaces(namespaces);
+
+        ignoreExpressions.forEach(expression -> expression.resolve(namespaceContext));
+    }
+
+    /**
+     * Compares the current element of both readers including all descendants. Both readers are positioned at the
+     * start element and are moved to the corresponding end element.
+     */
+    private void compareElement(XMLStreamReader received, XMLStreamReader source) throws XMLStreamException {
+        String localName = received.getLocalName();
+        logger.debug("Validating element: {} ({})", localName, received.getNamespaceURI());
+
+        if (!localName.equals(source.getLocalName())) {
+            differences.add(ValidationUtils.buildValueMismatchErrorMessage("Element names not equal", source.getLocalName(), localName));
+            skipElement(received);
+            skipElement(source);
+            return;
+        }
+
+        if (!doElementNamespace(localName, namespaceUri(received), namespaceUri(source))) {
+            skipElement(received);
+            skipElement(source);
+            return;
+        }
+
+        path.add(received.getName());
+        pathNames.add(pathNames.isEmpty() ? localName : pathNames.get(pathNames.size() - 1) + "." + localName);
+
+        List<Attribute> receivedAttributes = attributes(received);
+        List<Attribute> sourceAttributes = attributes(source);
+
+        boolean ignored = false;
+        boolean[] ignoredAttributes = new boolean[receivedAttributes.size()];
+        for (IgnoreExpression expression : ignoreExpressions) {
+            ignored |= expression.visit(receivedAttributes, ignoredAttributes);
+        }
+
+        StringBuilder receivedText = new StringBuilder();
+        StringBuilder sourceText = new StringBuilder();
+        int receivedEvent = nextContent(received, receivedText);
+        int sourceEvent = nextContent(source, sourceText);
+
+        String sourceValue = sourceText.toString().trim();
+        if (ignored) {
+            logger.debug("Element: '{}' is on ignore list - skipped validation", localName);
+        } else if (sourceValue.equals(CitrusSettings.IGNORE_PLACEHOLDER)) {
+            logger.debug("Element: '{}' is ignored by placeholder '{}'", localName, CitrusSettings.IGNORE_PLACEHOLDER);
+            ignored = true;
+        }
+
+        if (ignored) {
+            skipContent(received, receivedEvent);
+            skipContent(source, sourceEvent);
+            removeFromPath();
+            return;
+        }
+
+        logger.debug("Validating attributes for element: {}", localName);
+        if (receivedAttributes.size() != sourceAttributes.size()) {
+            differences.add(ValidationUtils.buildValueMismatchErrorMessage("Number of attributes not equal for element '"
+                    + localName + "'", sourceAttributes.size(), receivedAttributes.size()));
+        } else {
+            for (int i = 0; i < receivedAttributes.size(); i++) {
+                doAttribute(localName, receivedAttributes.get(i), sourceAttributes, ignoredAttributes[i]);
+            }
+        }
+
+        //check if validation matcher on element is specified
+        if (hasText(sourceValue) && ValidationMatcherUtils.isValidationMatcherExpression(sourceValue)) {
+            resolveValidationMatcher(qualifiedName(source.getPrefix(), localName), receivedText.toString().trim(), sourceValue);
+            skipContent(received, receivedEvent);
+            skipContent(source, sourceEvent);
+            removeFromPath();
+            return;
+        }
+
+        //text and number of child elements are known after the child elements have been read
+        int textPosition = differences.mark();
+
+        //work on child elements
+        int childElements = 0;
+        int receivedChildElements = -1;
+        int sourceChildElements = -1;
+        while (receivedEvent == XMLStreamConstants.START_ELEMENT && sourceEvent == XMLStreamConstants.START_ELEMENT) {
+            compareElement(received, source);
+            childElements++;
+
+            receivedEvent = nextContent(received, receivedText);
+            sourceEvent = nextContent(source, sourceText);
+        }
+
+        if (receivedEvent != sourceEvent) {
+            receivedChildElements = childElements + countElements(received, receivedEvent, receivedText);
+            sourceChildElements = childElements + countElements(source, sourceEvent, sourceText);
+        }
+
+        if (receivedChildElements != sourceChildElements) {
+            //child elements are not compared when the number of child elements differs
+            differences.reset(textPosition);
+        }
+
+        doText(textPosition, localName, receivedText.toString().trim(), sourceText.toString().trim());
+
+        if (receivedChildElements != sourceChildElements) {
+            differences.add(ValidationUtils.buildValueMismatchErrorMessage("Number of child elements not equal for element '"
+                    + localName + "'", sourceChildElements, receivedChildElements));
+        }
+
+        logger.debug("Validation finished for element: {} ({})", localName, received.getNamespaceURI());
+        removeFromPath();
+    }
+
+    private boolean doElementNamespace(String localName, String receivedNamespace, String sourceNamespace) {
+        logger.debug("Validating namespace for element: {}", localName);
+
+        if (!Objects.equals(receivedNamespace, sourceNamespace)) {
+            differences.add(ValidationUtils.buildValueMismatchErrorMessage("Element namespace not equal for element '" +
+                    localName + "'", sourceNamespace, receivedNamespace));
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Handle direct text content of element during validation. The difference is added at given position,
+     * so it is reported before the differences of child elements as in XML tree validation.
+     */
+    private void doText(int position, String localName, String receivedText, String sourceText) {
+        logger.debug("Validating node value for element: {}", localName);
+
+        if (!receivedText.equals(sourceText)) {
+            differences.add(position, ValidationUtils.buildValueMismatchErrorMessage("Node value not equal for element '"
+                    + localName + "'", sourceText, receivedText));
+        } else if (logger.isDebugEnabled()) {
+            logger.debug("Node value '{}': OK", receivedText);
+        }
+    }
+
+    /**
+     * Handle attribute during validation.
+     */
+    private void doAttribute(String localName, Attribute receivedAttribute, List<Attribute> sourceAttributes, boolean ignored) {
+        logger.debug("Validating attribute: {} ({})", receivedAttribute.localName(), receivedAttribute.namespaceUri());
+
+        Attribute sourceAttribute = sourceAttributes.stream()
+                .filter(candidate -> candidate.localName().equals(receivedAttribute.localName())
+                        && Objects.equals(candidate.namespaceUri(), receivedAttribute.namespaceUri()))
+                .findFirst()
+                .orElse(null);
+
+        if (sourceAttribute == null) {
+            differences.add("Attribute validation failed for element '"
+                    + localName + "', unknown attribute "
+                    + receivedAttribute.localName() + " (" + receivedAttribute.namespaceUri() + ")");
+            return;
+        }
+
+        if (ignored) {
+            logger.debug("Attribute '{}' is on ignore list - skipped value validation", receivedAttribute.localName());
+            return;
+        }
+
+        String receivedValue = receivedAttribute.value();
+        String sourceValue = sourceAttribute.value();
+        if (hasText(sourceValue) && sourceValue.trim().equals(CitrusSettings.IGNORE_PLACEHOLDER)) {
+            logger.debug("Attribute: '{}' is ignored by placeholder '{}'", receivedAttribute.localName(), CitrusSettings.IGNORE_PLACEHOLDER);
+        } else if (hasText(sourceValue) && ValidationMatcherUtils.isValidationMatcherExpression(sourceValue.trim())) {
+            resolveValidationMatcher(sourceAttribute.qualifiedName(), receivedValue.trim(), sourceValue.trim());
+        } else if (receivedValue.contains(":") && sourceValue.contains(":")) {
+            doNamespaceQualifiedAttribute(receivedAttribute, sourceAttribute);
+        } else if (!receivedValue.equals(sourceValue)) {
+            differences.add(ValidationUtils.buildValueMismatchErrorMessage("Values not equal for attribute '"
+                    + receivedAttribute.localName() + "'", sourceValue, receivedValue));
+        } else {
+            logger.debug("Attribute '{}'='{}': OK", receivedAttribute.localName(), receivedValue);
+        }
+    }
+
+    /**
+     * Perform validation on namespace qualified attribute values. This includes the validation of namespace presence
+     * and equality.
+     */
+    private void doNamespaceQualifiedAttribute(Attribute receivedAttribute, Attribute sourceAttribute) {
+        String receivedValue = receivedAttribute.value();
+        String sourceValue = sourceAttribute.value();
+
+        if (receivedAttribute.valueNamespace() != null) {
+            if (sourceAttribute.valueNamespace() == null) {
+                differences.add("Received attribute value '" + receivedAttribute.localName() + "' describes namespace qualified attribute value," +
+                        " control value '" + sourceValue + "' does not");
+                return;
+            }
+
+            if (!sourceAttribute.valueNamespace().equals(receivedAttribute.valueNamespace())) {
+                differences.add(ValidationUtils.buildValueMismatchErrorMessage("Values not equal for attribute value namespace '"
+                        + receivedValue + "'", sourceAttribute.valueNamespace(), receivedAttribute.valueNamespace()));
+                return;
+            }
+
+            // remove namespace prefixes as they must not form equality
+            receivedValue = receivedValue.substring(receivedValue.indexOf(':') + 1);
+            sourceValue = sourceValue.substring(sourceValue.indexOf(':') + 1);
+        }
+
+        if (!receivedValue.equals(sourceValue)) {
+            differences.add(ValidationUtils.buildValueMismatchErrorMessage("Values not equal for attribute '"
+                    + receivedAttribute.localName() + "'", sourceValue, receivedValue));
+        }
+    }
+
+    private void resolveValidationMatcher(String name, String receivedValue, String controlValue) {
+        try {
+            ValidationMatcherUtils.resolveValidationMatcher(name, receivedValue, controlValue, context);
+        } catch (ValidationException e) {
+            differences.add(e);
+        }
+    }
+
+    private void removeFromPath() {
+        path.remove(path.size() - 1);
+        pathNames.remove(pathNames.size() - 1);
+    }
+
+    /**
+     * Reads the attributes of the current start element. Prefixes in attribute values are resolved right away
+     * as the namespace scope of the reader moves on with the stream.
+     */
+    private static List<Attribute> attributes(XMLStreamReader reader) {
+        if (reader.getAttributeCount() == 0) {
+            return Collections.emptyList();
+        }
+
+        List<Attribute> attributes = new ArrayList<>(reader.getAttributeCount());
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String value = reader.getAttributeValue(i);
+            String valueNamespace = null;
+            if (value.contains(":")) {
+                valueNamespace = reader.getNamespaceURI(value.substring(0, value.indexOf(':')));
+            }
+
+            attributes.add(new Attribute(hasText(reader.getAttributeNamespace(i)) ? reader.getAttributeNamespace(i) : null,
+                    reader.getAttributeLocalName(i), qualifiedName(reader.getAttributePrefix(i), reader.getAttributeLocalName(i)),
+                    value, hasText(valueNamespace) ? valueNamespace : null));
+        }
+
+        return attributes;
+    }
+
+    /**
+     * Moves the reader to the next start or end element. Text content on the way is appended to the given builder,
+     * comments and processing instructions are skipped.
+     * @return the event type of the element event
+     */
+    private static int nextContent(XMLStreamReader reader, StringBuilder text) throws XMLStreamException {
+        while (true) {
+            int event = reader.next();
+            switch (event) {
+                case XMLStreamConstants.START_ELEMENT, XMLStreamConstants.END_ELEMENT, XMLStreamConstants.END_DOCUMENT:
+                    return event;
+                case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE, XMLStreamConstants.ENTITY_REFERENCE:
+                    if (text != null) {
+                        text.append(reader.getText());
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Counts the remaining child elements of the current element and moves the reader to its end element.
+     */
+    private static int countElements(XMLStreamReader reader, int event, StringBuilder text) throws XMLStreamException {
+        int count = 0;
+        while (event == XMLStreamConstants.START_ELEMENT) {
+            count++;
+            skipElement(reader);
+            event = nextContent(reader, text);
+        }
+
+        return count;
+    }
+
+    /**
+     * Skips the remaining content of the current element and moves the reader to its end element.
+     */
+    private static void skipContent(XMLStreamReader reader, int event) throws XMLStreamException {
+        while (event == XMLStreamConstants.START_ELEMENT) {
+            skipElement(reader);
+            event = nextContent(reader, null);
+        }
+    }
+
+    /**
+     * Skips the element the reader is positioned at including all descendants and moves the reader to its end element.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static boolean toRootElement(XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static String namespaceUri(XMLStreamReader reader) {
+        return hasText(reader.getNamespaceURI()) ? reader.getNamespaceURI() : null;
+    }
+
+    private static String qualifiedName(String prefix, String localName) {
+        return hasText(prefix) ? prefix + ":" + localName : localName;
+    }
+
+    /**
+     * Parses the XPath expression into location steps.
+     * @return the location steps or null when the expression is not supported in streaming validation
+     */
+    private static List<Step> parseXPath(String expression) {
+        if (!expression.startsWith("/")) {
+            return null;
+        }
+
+        List<Step> steps = new ArrayList<>();
+        int position = 0;
+        while (position < expression.length()) {
+            boolean descendant = expression.startsWith("//", position);
+            position += descendant ? 2 : 1;
+
+            int end = expression.indexOf('/', position);
+            String step = expression.substring(position, end < 0 ? expression.length() : end);
+            if (!XPATH_STEP_PATTERN.matcher(step).matches()) {
+                return null;
+            }
+
+            boolean attribute = step.startsWith("@");
+            if (attribute && end >= 0) {
+                // attribute step is only supported as last step
+                return null;
+            }
+
+            if (attribute && descendant) {
+                // descendant-or-self attribute shortcut, e.g. //@id
+                steps.add(new Step(true, false, null, "*"));
+                descendant = false;
+            }
+
+            String name = attribute ? step.substring(1) : step;
+            int separator = name.indexOf(':');
+            steps.add(new Step(descendant, attribute, separator > 0 ? name.substring(0, separator) : null,
+                    separator > 0 ? name.substring(separator + 1) : name));
+
+            position = end < 0 ? expression.length() : end;
+        }
+
+        return steps;
+    }
+
+    /**
+     * Received attribute with namespace of a prefix used in the attribute value.
+     */
+    private record Attribute(String namespaceUri, String localName, String qualifiedName, String value, String valueNamespace) {
+    }
+
+    /**
+     * XPath location step. The namespace is resolved from the step prefix before the validation starts.
+     */
+    private record Step(boolean descendant, boolean attribute, String prefix, String localName, String namespaceUri) {
+
+        Step(boolean descendant, boolean attribute, String prefix, String localName) {
+            this(descendant, attribute, prefix, localName, null);
+        }
+
+        Step resolve(NamespaceContext namespaceContext) {
+            if (prefix == null) {
+                return this;
+            }
+
+            String uri = namespaceContext.getNamespaceURI(prefix);
+            if (!hasText(uri)) {
+                throw new CitrusRuntimeException("Failed to resolve namespace prefix '" + prefix + "' in XPath ignore expression");
+            }
+
+            return new Step(descendant, attribute, prefix, localName, uri);
+        }
+
+        boolean matches(String nodeNamespace, String nodeLocalName) {
+            if (!"*".equals(localName) && !localName.equals(nodeLocalName)) {
+                return false;
+            }
+
+            if (prefix != null) {
+                return namespaceUri.equals(nodeNamespace);
+            }
+
+            // unprefixed names select nodes without namespace, wildcards select nodes in any namespace
+            return "*".equals(localName) || !hasText(nodeNamespace);
+        }
+    }
+
+    /**
+     * Ignore expression evaluated on the path of the current received element. Node path names and element names
+     * ignore the first matching element and all elements with equal node path name. XPath expressions ignore all
+     * matching elements and the first matching attribute.
+     */
+    private final class IgnoreExpression {
+
+        private final String expression;
+        private final String[] names;
+        private List<Step> steps;
+
+        private boolean elementFound;
+        private boolean attributeFound;
+
+        IgnoreExpression(String expression) {
+            this.expression = expression;
+
+            if (XPathUtils.isXPathExpression(expression)) {
+                this.names = null;
+                this.steps = parseXPath(expression);
+
+                if (steps == null) {
+                    throw new CitrusRuntimeException("Unsupported XPath ignore expression in streaming XML validation: " + expression);
+                }
+            } else {
+                this.names = expression.split("\\.");
+                this.steps = null;
+            }
+        }
+
+        boolean isXPath() {
+            return steps != null;
+        }
+
+        void resolve(NamespaceContext namespaceContext) {
+            steps = steps.stream().map(step -> step.resolve(namespaceContext)).toList();
+        }
+
+        /**
+         * Visits the current received element.
+         * @param attributes the attributes of the element
+         * @param ignoredAttributes flags set for all attributes ignored by this expression
+         * @return true when the element is ignored
+         */
+        boolean visit(List<Attribute> attributes, boolean[] ignoredAttributes) {
+            return isXPath() ? visitXPath(attributes, ignoredAttributes) : visitPathName(attributes, ignoredAttributes);
+        }
+
+        private boolean visitPathName(List<Attribute> attributes, boolean[] ignoredAttributes) {
+            String pathName = pathNames.get(pathNames.size() - 1);
+            for (int i = 0; i < attributes.size(); i++) {
+                if (expression.equals(pathName + "." + attributes.get(i).qualifiedName())) {
+                    ignoredAttributes[i] = true;
+                }
+            }
+
+            if (names.length > 1 && !attributeFound && endsWith(names.length - 1)) {
+                // first element matching the path of an attribute expression, e.g. Foo.Bar.attribute
+                attributeFound = true;
+                for (int i = 0; i < attributes.size(); i++) {
+                    if (attributes.get(i).qualifiedName().equals(names[names.length - 1])) {
+                        ignoredAttributes[i] = true;
+                    }
+                }
+            }
+
+            if (expression.equals(pathName)) {
+                return true;
+            }
+
+            if (!elementFound && endsWith(names.length)) {
+                elementFound = true;
+                return true;
+            }
+
+            return false;
+        }
+
+        private boolean visitXPath(List<Attribute> attributes, boolean[] ignoredAttributes) {
+            Step last = steps.get(steps.size() - 1);
+            if (!last.attribute()) {
+                return matches(steps.size(), 0, 0);
+            }
+
+            if (!attributeFound && matches(steps.size() - 1, 0, 0)) {
+                for (int i = 0; i < attributes.size(); i++) {
+                    if (last.matches(attributes.get(i).namespaceUri(), attributes.get(i).localName())) {
+                        ignoredAttributes[i] = true;
+                        attributeFound = true;
+                        break;
+                    }
+                }
+            }
+
+            return false;
+        }
+
+        /**
+         * Checks whether the local names of the current element path end with the given number of leading names.
+         */
+        private boolean endsWith(int count) {
+            if (count > path.size()) {
+                return false;
+            }
+
+            for (int i = 0; i < count; i++) {
+                if (!names[count - 1 - i].equals(path.get(path.size() - 1 - i).getLocalPart())) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        /**
+         * Matches the element steps starting at given step index with the current element path starting at given depth.
+         */
+        private boolean matches(int stepCount, int stepIndex, int depth) {
+            if (stepIndex == stepCount) {
+                return depth == path.size();
+            }
+
+            Step step = steps.get(stepIndex);
+            if (step.descendant()) {
+                for (int i = depth; i < path.size(); i++) {
+                    if (step.matches(path.get(i).getNamespaceURI(), path.get(i).getLocalPart()) && matches(stepCount, stepIndex + 1, i + 1)) {
+                        return true;
+                    }
+                }
+
+                return false;
+            }
+
+            return depth < path.size()
+                    && step.matches(path.get(depth).getNamespaceURI(), path.get(depth).getLocalPart())
+                    && matches(stepCount, stepIndex + 1, depth + 1);
+        }
+    }
+}
@@ -0,0 +1,368 @@
+/*
+ * Copyright the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.citrusframework.validation.xml;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.xml.XMLConstants;
+import javax.xml.namespace.NamespaceContext;
+
+import org.citrusframework.CitrusSettings;
+import org.citrusframework.context.TestContext;
+import org.citrusframework.exceptions.ValidationException;
+import org.citrusframework.validation.ValidationUtils;
+import org.citrusframework.validation.matcher.ValidationMatcherUtils;
+import org.citrusframework.xml.support.XMLUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.xml.DomUtils;
+import org.w3c.dom.Document;
+import org.w3c.dom.DocumentType;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+
+import static org.citrusframework.util.StringUtils.hasText;
+
+/**
+ * Compares a received XML document with a control document node by node. Differences are collected in document
+ * order instead of failing on the first mismatch, so a single run reports several differences of the document
+ * (see {@link XmlDifferences}).
+ * <p>
+ * Ignore expressions are resolved once per received document with {@link XmlValidationUtils#resolveIgnoredNodes},
+ * so checking whether a node is ignored is a simple lookup. Namespace declarations of the documents are looked up
+ * once, too.
+ *
+ * @see DomXmlMessageValidator
+ */
+final class XmlTreeComparison {
+
+    /** Logger */
+    private static final Logger logger = LoggerFactory.getLogger(XmlTreeComparison.class);
+
+    private final TestContext context;
+
+    /** Nodes on the ignore list resolved for the received document */
+    private final XmlValidationUtils.IgnoredNodes ignoredNodes;
+
+    /** Namespace declarations on document level */
+    private final Map<Node, Map<String, String>> documentNamespaces = new IdentityHashMap<>();
+
+    private final XmlDifferences differences = new XmlDifferences();
+
+    XmlTreeComparison(Document received, Set<String> ignoreExpressions, NamespaceContext namespaceContext, TestContext context) {
+        this.ignoredNodes = XmlValidationUtils.resolveIgnoredNodes(received, ignoreExpressions, namespaceContext);
+        this.context = context;
+    }
+
+    /**
+     * Compares the received node with the control node and all their descendants.
+     * @param received
+     * @param source
+     * @return the differences found in document order, empty when both trees are equal
+     */
+    XmlDifferences compare(Node received, Node source) {
+        compareTree(received, source);
+        return differences;
+    }
+
+    private void compareTree(Node received, Node source) {
+        switch (received.getNodeType()) {
+            case Node.DOCUMENT_TYPE_NODE:
+                doDocumentTypeDefinition(received, source);
+                break;
+            case Node.DOCUMENT_NODE:
+                compareTree(received.getFirstChild(), source.getFirstChild());
+                break;
+            case Node.ELEMENT_NODE:
+                doElement(received, source);
+                break;
+            case Node.ATTRIBUTE_NODE:
+                throw new IllegalStateException();
+            case Node.COMMENT_NODE:
+                compareTree(received.getNextSibling(), source);
+                break;
+            case Node.PROCESSING_INSTRUCTION_NODE:
+                logger.debug("Ignored processing instruction ({}={})", received.getLocalName(), received.getNodeValue());
+                break;
+        }
+    }
+
+    /**
+     * Handle document type definition with validation of publicId and systemId.
+     */
+    private void doDocumentTypeDefinition(Node received, Node source) {
+        if (!(source instanceof DocumentType sourceDTD)) {
+            differences.add("Missing document type definition in expected xml fragment");
+            return;
+        }
+
+        DocumentType receivedDTD = (DocumentType) received;
+
+        logger.debug("Validating document type definition: {} ({})", receivedDTD.getPublicId(), receivedDTD.getSystemId());
+
+        doDocumentTypeId("public id", receivedDTD.getPublicId(), sourceDTD.getPublicId());
+        doDocumentTypeId("system id", receivedDTD.getSystemId(), sourceDTD.getSystemId());
+
+        compareTree(received.getNextSibling(), source.getNextSibling());
+    }
+
+    private void doDocumentTypeId(String name, String receivedId, String sourceId) {
+        if (!hasText(sourceId)) {
+            if (receivedId != null) {
+                differences.add(ValidationUtils.buildValueMismatchErrorMessage("Document type " + name + " not equal", sourceId, receivedId));
+            }
+        } else if (sourceId.trim().equals(CitrusSettings.IGNORE_PLACEHOLDER)) {
+            logger.debug("Document type {}: '{}' is ignored by placeholder '{}'", name, receivedId, CitrusSettings.IGNORE_PLACEHOLDER);
+        } else if (!hasText(receivedId) || !receivedId.equals(sourceId)) {
+            differences.add(ValidationUtils.buildValueMismatchErrorMessage("Document type " + name + " not equal", sourceId, receivedId));
+        }
+    }
+
+    /**
+     * Handle element node.
+     */
+    private void doElement(Node received, Node source) {
+        logger.debug("Validating element: {} ({})", received.getLocalName(), received.getNamespaceURI());
+
+        if (!received.getLocalName().equals(source.getLocalName())) {
+            differences.add(ValidationUtils.buildValueMismatchErrorMessage("Element names not equal", source.getLocalName(), received.getLocalName()));
+            return;
+        }
+
+        if (!doElementNamespace(received, source)) {
+            return;
+        }
+
+        //check if element is ignored either by xpath or by ignore placeholder in source message
+        if (ignoredNodes.isElementIgnored(source, received)) {
+            return;
+        }
+
+        //work on attributes
+        logger.debug("Validating attributes for element: {}", received.getLocalName());
+        NamedNodeMap receivedAttr = received.getAttributes();
+        NamedNodeMap sourceAttr = source.getAttributes();
+
+        if (countAttributes(receivedAttr) != countAttributes(sourceAttr)) {
+            differences.add(ValidationUtils.buildValueMismatchErrorMessage("Number of attributes not equal for element '"
+                    + received.getLocalName() + "'", countAttributes(sourceAttr), countAttributes(receivedAttr)));
+        } else {
+            for (int i = 0; i < receivedAttr.getLength(); i++) {
+                doAttribute(received, receivedAttr.item(i), source);
+            }
+        }
+
+        //check if validation matcher on element is specified
+        if (isValidationMatcherExpression(source)) {
+            String receivedValue = received.getFirstChild() != null && received.getFirstChild().getNodeValue() != null ?
+                    received.getFirstChild().getNodeValue().trim() : "";
+            resolveValidationMatcher(source.getNodeName(), receivedValue, source.getFirstChild().getNodeValue().trim());
+            return;
+        }
+
+        doText((Element) received, (Element) source);
+
+        //work on child nodes
+        List<Element> receivedChildElements = DomUtils.getChildElements((Element) received);
+        List<Element> sourceChildElements = DomUtils.getChildElements((Element) source);
+
+        if (receivedChildElements.size() != sourceChildElements.size()) {
+            differences.add(ValidationUtils.buildValueMismatchErrorMessage("Number of child elements not equal for element '"
+                    + received.getLocalName() + "'", sourceChildElements.size(), receivedChildElements.size()));
+            return;
+        }
+
+        for (int i = 0; i < receivedChildElements.size(); i++) {
+            compareTree(receivedChildElements.get(i), sourceChildElements.get(i));
+        }
+
+        logger.debug("Validation finished for element: {} ({})", received.getLocalName(), received.getNamespaceURI());
+    }
+
+    private boolean doElementNamespace(Node received, Node source) {
+        logger.debug("Validating namespace for element: {}", received.getLocalName());
+
+        if (received.getNamespaceURI() != null) {
+            if (source.getNamespaceURI() == null) {
+                differences.add(ValidationUtils.buildValueMismatchErrorMessage("Element namespace not equal for element '" +
+                        received.getLocalName() + "'", null, received.getNamespaceURI()));
+                return false;
+            }
+
+            if (!received.getNamespaceURI().equals(source.getNamespaceURI())) {
+                differences.add(ValidationUtils.buildValueMismatchErrorMessage("Element namespace not equal for element '" +
+                        received.getLocalName() + "'", source.getNamespaceURI(), received.getNamespaceURI()));
+                return false;
+            }
+        } else if (source.getNamespaceURI() != null) {
+            differences.add(ValidationUtils.buildValueMismatchErrorMessage("Element namespace not equal for element '" +
+                    received.getLocalName() + "'", source.getNamespaceURI(), null));
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Handle text node during validation.
+     */
+    private void doText(Element received, Element source) {
+        logger.debug("Validating node value for element: {}", received.getLocalName());
+
+        String receivedText = DomUtils.getTextValue(received).trim();
+        String sourceText = DomUtils.getTextValue(source).trim();
+
+        if (!receivedText.equals(sourceText)) {
+            differences.add(ValidationUtils.buildValueMismatchErrorMessage("Node value not equal for element '"
+                    + received.getLocalName() + "'", sourceText, receivedText));
+        } else if (logger.isDebugEnabled()) {
+            logger.debug("Node value '{}': OK", receivedText);
+        }
+    }
+
+    /**
+     * Handle attribute node during validation.
+     */
+    private void doAttribute(Node receivedElement, Node receivedAttribute, Node sourceElement) {
+        if (receivedAttribute.getNodeName().startsWith(XMLConstants.XMLNS_ATTRIBUTE)) {
+            return;
+        }
+
+        String receivedAttributeName = receivedAttribute.getLocalName();
+
+        logger.debug("Validating attribute: {} ({})", receivedAttributeName, receivedAttribute.getNamespaceURI());
+
+        Node sourceAttribute = sourceElement.getAttributes().getNamedItemNS(receivedAttribute.getNamespaceURI(), receivedAttributeName);
+
+        if (sourceAttribute == null) {
+            differences.add("Attribute validation failed for element '"
+                    + receivedElement.getLocalName() + "', unknown attribute "
+                    + receivedAttributeName + " (" + receivedAttribute.getNamespaceURI() + ")");
+            return;
+        }
+
+        if (ignoredNodes.isAttributeIgnored(receivedElement, receivedAttribute, sourceAttribute)) {
+            return;
+        }
+
+        String receivedValue = receivedAttribute.getNodeValue();
+        String sourceValue = sourceAttribute.getNodeValue();
+        if (isValidationMatcherExpression(sourceAttribute)) {
+            resolveValidationMatcher(sourceAttribute.getNodeName(), receivedValue.trim(), sourceValue.trim());
+        } else if (receivedValue.contains(":") && sourceValue.contains(":")) {
+            doNamespaceQualifiedAttribute(receivedElement, receivedAttribute, sourceElement, sourceAttribute);
+        } else if (!receivedValue.equals(sourceValue)) {
+            differences.add(ValidationUtils.buildValueMismatchErrorMessage("Values not equal for attribute '"
+                    + receivedAttributeName + "'", sourceValue, receivedValue));
+        } else {
+            logger.debug("Attribute '{}'='{}': OK", receivedAttributeName, receivedValue);
+        }
+    }
+
+    /**
+     * Perform validation on namespace qualified attribute values. This includes the validation of namespace presence
+     * and equality.
+     */
+    private void doNamespaceQualifiedAttribute(Node receivedElement, Node receivedAttribute, Node sourceElement, Node sourceAttribute) {
+        String receivedValue = receivedAttribute.getNodeValue();
+        String sourceValue = sourceAttribute.getNodeValue();
+
+        // value has namespace prefix set, do special QName validation
+        String receivedPrefix = receivedValue.substring(0, receivedValue.indexOf(':'));
+        String sourcePrefix = sourceValue.substring(0, sourceValue.indexOf(':'));
+
+        String receivedNamespace = lookupNamespace(receivedElement, receivedPrefix);
+        if (receivedNamespace != null) {
+            String sourceNamespace = lookupNamespace(sourceElement, sourcePrefix);
+
+            if (sourceNamespace == null) {
+                differences.add("Received attribute value '" + receivedAttribute.getLocalName() + "' describes namespace qualified attribute value," +
+                        " control value '" + sourceValue + "' does not");
+                return;
+            }
+
+            if (!sourceNamespace.equals(receivedNamespace)) {
+                differences.add(ValidationUtils.buildValueMismatchErrorMessage("Values not equal for attribute value namespace '"
+                        + receivedValue + "'", sourceNamespace, receivedNamespace));
+                return;
+            }
+
+            // remove namespace prefixes as they must not form equality
+            receivedValue = receivedValue.substring((receivedPrefix + ":").length());
+            sourceValue = sourceValue.substring((sourcePrefix + ":").length());
+        }
+
+        if (!receivedValue.equals(sourceValue)) {
+            differences.add(ValidationUtils.buildValueMismatchErrorMessage("Values not equal for attribute '"
+                    + receivedAttribute.getLocalName() + "'", sourceValue, receivedValue));
+        }
+    }
+
+    /**
+     * Lookup namespace for given prefix declared on the element or on the document root element.
+     */
+    private String lookupNamespace(Node element, String prefix) {
+        Map<String, String> elementNamespaces = XMLUtils.lookupNamespaces(element);
+        if (elementNamespaces.containsKey(prefix)) {
+            return elementNamespaces.get(prefix);
+        }
+
+        return documentNamespaces.computeIfAbsent(element.getOwnerDocument(), XMLUtils::lookupNamespaces).get(prefix);
+    }
+
+    private void resolveValidationMatcher(String name, String receivedValue, String controlValue) {
+        try {
+            ValidationMatcherUtils.resolveValidationMatcher(name, receivedValue, controlValue, context);
+        } catch (ValidationException e) {
+            differences.add(e);
+        }
+    }
+
+    /**
+     * Counts the attribute nodes for an element (xmlns attributes ignored)
+     */
+    private static int countAttributes(NamedNodeMap attributes) {
+        int cntAttributes = 0;
+
+        for (int i = 0; i < attributes.getLength(); i++) {
+            if (!attributes.item(i).getNodeName().startsWith(XMLConstants.XMLNS_ATTRIBUTE)) {
+                cntAttributes++;
+            }
+        }
+
+        return cntAttributes;
+    }
+
+    /**
+     * Checks whether the given node contains a validation matcher
+     */
+    private static boolean isValidationMatcherExpression(Node node) {
+        return switch (node.getNodeType()) {
+            case Node.ELEMENT_NODE ->
+                    node.getFirstChild() != null
+                            && hasText(node.getFirstChild().getNodeValue())
+                            && ValidationMatcherUtils.isValidationMatcherExpression(node.getFirstChild().getNodeValue().trim());
+            case Node.ATTRIBUTE_NODE ->
+                    hasText(node.getNodeValue())
+                            && ValidationMatcherUtils.isValidationMatcherExpression(node.getNodeValue().trim());
+            default -> false; //validation matchers makes no sense
+        };
+    }
+}
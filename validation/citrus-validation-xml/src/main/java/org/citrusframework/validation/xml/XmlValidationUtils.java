@@ -22,10 +22,13 @@ import org.citrusframework.xml.support.XMLUtils;
 import org.citrusframework.xml.xpath.XPathUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
 import javax.xml.namespace.NamespaceContext;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Set;
 
 /**
@@ -53,20 +56,7 @@ public abstract class XmlValidationUtils {
      * @return
      */
     public static boolean isElementIgnored(Node source, Node received, Set<String> ignoreExpressions, NamespaceContext namespaceContext) {
-        if (isElementIgnored(received, ignoreExpressions, namespaceContext)) {
-            if (logger.isDebugEnabled()) {
-                logger.debug("Element: '{}' is on ignore list - skipped validation", received.getLocalName());
-            }
-            return true;
-        } else if (source.getFirstChild() != null &&
-                StringUtils.hasText(source.getFirstChild().getNodeValue()) &&
-                source.getFirstChild().getNodeValue().trim().equals(CitrusSettings.IGNORE_PLACEHOLDER)) {
-            if (logger.isDebugEnabled()) {
-                logger.debug("Element: '{}' is ignored by placeholder '" + CitrusSettings.IGNORE_PLACEHOLDER + "'", received.getLocalName());
-            }
-            return true;
-        }
-        return false;
+        return resolveIgnoredNodes(received.getOwnerDocument(), ignoreExpressions, namespaceContext).isElementIgnored(source, received);
     }
 
     /**
@@ -81,49 +71,7 @@ public abstract class XmlValidationUtils {
             return false;
         }
 
-        /** This is the faster version, but then the ignoreValue name must be
-         * the full path name like: Numbers.NumberItem.AreaCode
-         */
-        if (ignoreExpressions.contains(XMLUtils.getNodesPathName(received))) {
-            return true;
-        }
-
-        /** This is the slower version, but here the ignoreValues can be
-         * the short path name like only: AreaCode
-         *
-         * If there are more nodes with the same short name,
-         * the first one will match, eg. if there are:
-         *      Numbers1.NumberItem.AreaCode
-         *      Numbers2.NumberItem.AreaCode
-         * And ignoreValues contains just: AreaCode
-         * the only first Node: Numbers1.NumberItem.AreaCode will be ignored.
-         */
-        for (String expression : ignoreExpressions) {
-            if (received == XMLUtils.findNodeByName(received.getOwnerDocument(), expression)) {
-                return true;
-            }
-        }
-
-        /** This is the XPath version using XPath expressions in
-         * ignoreValues to identify nodes to be ignored
-         */
-        for (String expression : ignoreExpressions) {
-            if (XPathUtils.isXPathExpression(expression)) {
-                NodeList foundNodes = XPathUtils.evaluateAsNodeList(received.getOwnerDocument(),
-                        expression,
-                        namespaceContext);
-
-                if (foundNodes != null) {
-                    for (int i = 0; i < foundNodes.getLength(); i++) {
-                        if (foundNodes.item(i) != null && foundNodes.item(i).isSameNode(received)) {
-                            return true;
-                        }
-                    }
-                }
-            }
-        }
-
-        return false;
+        return resolveIgnoredNodes(received.getOwnerDocument(), ignoreExpressions, namespaceContext).isElementIgnored(received);
     }
 
     /**
@@ -137,76 +85,135 @@ public abstract class XmlValidationUtils {
      */
     public static boolean isAttributeIgnored(Node receivedElement, Node receivedAttribute, Node sourceAttribute,
                                              Set<String> ignoreMessageElements, NamespaceContext namespaceContext) {
-        if (isAttributeIgnored(receivedElement, receivedAttribute, ignoreMessageElements, namespaceContext)) {
-            if (logger.isDebugEnabled()) {
-                logger.debug("Attribute '{}' is on ignore list - skipped value validation", receivedAttribute.getLocalName());
+        return resolveIgnoredNodes(receivedElement.getOwnerDocument(), ignoreMessageElements, namespaceContext)
+                .isAttributeIgnored(receivedElement, receivedAttribute, sourceAttribute);
+    }
+
+    /**
+     * Evaluates the ignore expressions on the received document. The resulting nodes can be used to check
+     * many nodes of the same document without evaluating the expressions again.
+     * @param received
+     * @param ignoreExpressions
+     * @param namespaceContext
+     * @return
+     */
+    public static IgnoredNodes resolveIgnoredNodes(Document received, Set<String> ignoreExpressions, NamespaceContext namespaceContext) {
+        return new IgnoredNodes(received, ignoreExpressions, namespaceContext);
+    }
+
+    /**
+     * Nodes of a received document that are on the ignore list. Node path names and element names use the first
+     * node found in the document, XPath expressions ignore all matching elements and the first matching attribute.
+     * Node path names such as {@code Numbers.NumberItem.AreaCode} are checked per node.
+     */
+    public static final class IgnoredNodes {
+
+        private final Set<String> ignoreExpressions;
+
+        /** Nodes on the ignore list resolved for the received document */
+        private final Set<Node> ignoredElements = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final Set<Node> ignoredAttributes = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        private IgnoredNodes(Document received, Set<String> ignoreExpressions, NamespaceContext namespaceContext) {
+            this.ignoreExpressions = ignoreExpressions != null ? ignoreExpressions : Collections.emptySet();
+
+            if (received == null) {
+                return;
             }
 
-            return true;
-        } else if ((StringUtils.hasText(sourceAttribute.getNodeValue()) &&
-                sourceAttribute.getNodeValue().trim().equals(CitrusSettings.IGNORE_PLACEHOLDER))) {
-            if (logger.isDebugEnabled()) {
-                logger.debug("Attribute: '{}' is ignored by placeholder '" + CitrusSettings.IGNORE_PLACEHOLDER + "'", receivedAttribute.getLocalName());
+            /* Here the ignoreValues can be the short path name like only: AreaCode
+             *
+             * If there are more nodes with the same short name,
+             * the first one will match, eg. if there are:
+             *      Numbers1.NumberItem.AreaCode
+             *      Numbers2.NumberItem.AreaCode
+             * And ignoreValues contains just: AreaCode
+             * the only first Node: Numbers1.NumberItem.AreaCode will be ignored.
+             */
+            for (String expression : this.ignoreExpressions) {
+                Node node = XMLUtils.findNodeByName(received, expression);
+                if (node != null) {
+                    ignoredElements.add(node);
+                    ignoredAttributes.add(node);
+                }
             }
 
-            return true;
+            /* This is the XPath version using XPath expressions in
+             * ignoreValues to identify nodes to be ignored
+             */
+            for (String expression : this.ignoreExpressions) {
+                if (XPathUtils.isXPathExpression(expression)) {
+                    NodeList foundNodes = XPathUtils.evaluateAsNodeList(received, expression, namespaceContext);
+                    if (foundNodes != null && foundNodes.getLength() > 0) {
+                        for (int i = 0; i < foundNodes.getLength(); i++) {
+                            if (foundNodes.item(i) != null) {
+                                ignoredElements.add(foundNodes.item(i));
+                            }
+                        }
+
+                        if (foundNodes.item(0) != null) {
+                            ignoredAttributes.add(foundNodes.item(0));
+                        }
+                    }
+                }
+            }
         }
 
-        return false;
-    }
+        /**
+         * Checks if given element node is either on ignore list or
+         * contains @ignore@ tag inside control message
+         * @param source
+         * @param received
+         * @return
+         */
+        public boolean isElementIgnored(Node source, Node received) {
+            if (isElementIgnored(received)) {
+                logger.debug("Element: '{}' is on ignore list - skipped validation", received.getLocalName());
+                return true;
+            } else if (source.getFirstChild() != null &&
+                    StringUtils.hasText(source.getFirstChild().getNodeValue()) &&
+                    source.getFirstChild().getNodeValue().trim().equals(CitrusSettings.IGNORE_PLACEHOLDER)) {
+                logger.debug("Element: '{}' is ignored by placeholder '{}'", received.getLocalName(), CitrusSettings.IGNORE_PLACEHOLDER);
+                return true;
+            }
 
-    /**
-     * Checks whether the current attribute is ignored.
-     * @param receivedElement
-     * @param receivedAttribute
-     * @param ignoreMessageElements
-     * @return
-     */
-    private static boolean isAttributeIgnored(Node receivedElement, Node receivedAttribute,
-                                             Set<String> ignoreMessageElements, NamespaceContext namespaceContext) {
-        if (ignoreMessageElements == null || ignoreMessageElements.isEmpty()) {
             return false;
         }
 
-        /** This is the faster version, but then the ignoreValue name must be
-         * the full path name like: Numbers.NumberItem.AreaCode
+        /**
+         * Checks whether the node is ignored by node path expression or xpath expression.
+         * @param received
+         * @return
          */
-        if (ignoreMessageElements.contains(XMLUtils.getNodesPathName(receivedElement) + "." + receivedAttribute.getNodeName())) {
-            return true;
+        public boolean isElementIgnored(Node received) {
+            if (received == null || ignoreExpressions.isEmpty()) {
+                return false;
+            }
+
+            return ignoredElements.contains(received) || ignoreExpressions.contains(XMLUtils.getNodesPathName(received));
         }
 
-        /** This is the slower version, but here the ignoreValues can be
-         * the short path name like only: AreaCode
-         *
-         * If there are more nodes with the same short name,
-         * the first one will match, eg. if there are:
-         *      Numbers1.NumberItem.AreaCode
-         *      Numbers2.NumberItem.AreaCode
-         * And ignoreValues contains just: AreaCode
-         * the only first Node: Numbers1.NumberItem.AreaCode will be ignored.
+        /**
+         * Checks whether the current attribute is ignored either by global ignore placeholder in source attribute value or
+         * by xpath ignore expressions.
+         * @param receivedElement
+         * @param receivedAttribute
+         * @param sourceAttribute
+         * @return
          */
-        for (String expression : ignoreMessageElements) {
-            Node foundAttributeNode = XMLUtils.findNodeByName(receivedElement.getOwnerDocument(), expression);
-
-            if (foundAttributeNode != null && receivedAttribute.isSameNode(foundAttributeNode)) {
+        public boolean isAttributeIgnored(Node receivedElement, Node receivedAttribute, Node sourceAttribute) {
+            if (!ignoreExpressions.isEmpty()
+                    && (ignoredAttributes.contains(receivedAttribute)
+                        || ignoreExpressions.contains(XMLUtils.getNodesPathName(receivedElement) + "." + receivedAttribute.getNodeName()))) {
+                logger.debug("Attribute '{}' is on ignore list - skipped value validation", receivedAttribute.getLocalName());
+                return true;
+            } else if (StringUtils.hasText(sourceAttribute.getNodeValue()) &&
+                    sourceAttribute.getNodeValue().trim().equals(CitrusSettings.IGNORE_PLACEHOLDER)) {
+                logger.debug("Attribute: '{}' is ignored by placeholder '{}'", receivedAttribute.getLocalName(), CitrusSettings.IGNORE_PLACEHOLDER);
                 return true;
             }
-        }
 
-        /** This is the XPath version using XPath expressions in
-         * ignoreValues to identify nodes to be ignored
-         */
-        for (String expression : ignoreMessageElements) {
-            if (XPathUtils.isXPathExpression(expression)) {
-                Node foundAttributeNode = XPathUtils.evaluateAsNode(receivedElement.getOwnerDocument(),
-                        expression,
-                        namespaceContext);
-                if (foundAttributeNode != null && foundAttributeNode.isSameNode(receivedAttribute)) {
-                    return true;
-                }
-            }
+            return false;
         }
-
-        return false;
     }
 }
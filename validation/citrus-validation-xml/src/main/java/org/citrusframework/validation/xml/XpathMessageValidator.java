@@ -68,6 +68,8 @@ public class XpathMessageValidator extends AbstractMessageValidator<XpathMessage
         Document received = XMLUtils.parseMessagePayload(receivedMessage.getPayload(String.class));
         NamespaceContext namespaceContext = getNamespaceContextBuilder(context)
                 .buildContext(receivedMessage, validationContext.getNamespaces());
+        XmlValidationUtils.IgnoredNodes ignoredNodes = XmlValidationUtils.resolveIgnoredNodes(received,
+                validationContext.getIgnoreExpressions(), namespaceContext);
 
         for (Map.Entry<String, Object> entry : validationContext.getXpathExpressions().entrySet()) {
             String xPathExpression = entry.getKey();
@@ -83,9 +85,7 @@ public class XpathMessageValidator extends AbstractMessageValidator<XpathMessage
 
                 //Give ignore elements the chance to prevent the validation in case result type is node
                 if (resultType.equals(XPathExpressionResult.NODE) &&
-                        XmlValidationUtils.isElementIgnored(XPathUtils.evaluateAsNode(received, xPathExpression, namespaceContext),
-                                validationContext.getIgnoreExpressions(),
-                                namespaceContext)) {
+                        ignoredNodes.isElementIgnored(XPathUtils.evaluateAsNode(received, xPathExpression, namespaceContext))) {
                     continue;
                 }
 
@@ -101,7 +101,7 @@ public class XpathMessageValidator extends AbstractMessageValidator<XpathMessage
                             "Element ' " + xPathExpression + "' could not be found in DOM tree");
                 }
 
-                if (XmlValidationUtils.isElementIgnored(node, validationContext.getIgnoreExpressions(), namespaceContext)) {
+                if (ignoredNodes.isElementIgnored(node)) {
                     continue;
                 }
 
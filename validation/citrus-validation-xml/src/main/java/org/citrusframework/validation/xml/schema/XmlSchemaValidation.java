@@ -21,10 +21,12 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import javax.xml.transform.Source;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
+import javax.xml.transform.stream.StreamSource;
 
 import org.citrusframework.CitrusSettings;
 import org.citrusframework.xml.support.XmlValidationHelper;
@@ -101,7 +103,10 @@ public class XmlSchemaValidation implements SchemaValidator<XmlMessageValidation
         }
 
         try {
-            Document doc = XMLUtils.parseMessagePayload(message.getPayload(String.class));
+            // in streaming mode only the root element is read for schema lookup, the payload is validated as stream
+            Document doc = validationContext.isStreaming() ?
+                    XMLUtils.parseRootElement(message.getPayload(String.class)) :
+                    XMLUtils.parseMessagePayload(message.getPayload(String.class));
 
             if (!StringUtils.hasText(doc.getFirstChild().getNamespaceURI())) {
                 return;
@@ -163,12 +168,17 @@ public class XmlSchemaValidation implements SchemaValidator<XmlMessageValidation
                         .toArray(new org.springframework.core.io.Resource[]{}), W3C_XML_SCHEMA_NS_URI);
             }
 
-            SAXParseException[] results = validator.validate(new DOMSource(doc));
+            Source source = validationContext.isStreaming() ?
+                    new StreamSource(XMLUtils.createPayloadReader(message.getPayload(String.class))) : new DOMSource(doc);
+
+            SAXParseException[] results = validator.validate(source);
             if (results.length == 0) {
                 logger.debug("XML schema validation successful: All values OK");
             } else {
 
-                if (logger.isErrorEnabled()) {
+                if (validationContext.isStreaming()) {
+                    logger.error("XML schema validation failed for streamed message with root element '{}'", doc.getFirstChild().getLocalName());
+                } else if (logger.isErrorEnabled()) {
                     logger.error("XML schema validation failed for message:\n{}",
                         XMLUtils.prettyPrint(message.getPayload(String.class)));
                 }
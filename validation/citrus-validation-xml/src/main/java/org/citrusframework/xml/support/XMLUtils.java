@@ -17,6 +17,9 @@
 package org.citrusframework.xml.support;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.Charset;
@@ -25,6 +28,12 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.StringTokenizer;
 import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import org.citrusframework.CitrusSettings;
 import org.citrusframework.exceptions.CitrusRuntimeException;
@@ -51,6 +60,9 @@ public final class XMLUtils {
     /** Configurer instance */
     private static XmlConfigurer configurer;
 
+    /** StAX input factory for streaming XML processing */
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXMLInputFactory();
+
     static {
         configurer = new XmlConfigurer();
         configurer.initialize();
@@ -322,6 +334,86 @@ public final class XMLUtils {
         return parser.parse(receivedInput);
     }
 
+    /**
+     * Creates a reader on the message payload that skips leading whitespace characters, in the same way
+     * the payload is trimmed before parsing with DOM implementation.
+     * @return reader positioned at the first non whitespace character.
+     */
+    public static Reader createPayloadReader(String messagePayload) {
+        int start = 0;
+        while (start < messagePayload.length() && Character.isWhitespace(messagePayload.charAt(start))) {
+            start++;
+        }
+
+        StringReader reader = new StringReader(messagePayload);
+        try {
+            reader.skip(start);
+        } catch (IOException e) {
+            throw new CitrusRuntimeException(e);
+        }
+
+        return reader;
+    }
+
+    /**
+     * Creates StAX stream reader on the message payload. The reader does not build a document tree, so
+     * very large payloads can be processed with low memory footprint. External entities are not resolved.
+     * @return namespace aware stream reader.
+     */
+    public static XMLStreamReader createXMLStreamReader(String messagePayload) {
+        try {
+            return XML_INPUT_FACTORY.createXMLStreamReader(createPayloadReader(messagePayload));
+        } catch (XMLStreamException e) {
+            throw new CitrusRuntimeException("Failed to create XML stream reader for message payload", e);
+        }
+    }
+
+    /**
+     * Reads the root element of the message payload with StAX implementation. The resulting document only holds
+     * an empty root element with the qualified name of the payload root element. This is sufficient for
+     * looking up schemas for the payload without parsing the complete payload into a DOM tree.
+     * @return DOM document holding the empty root element.
+     */
+    public static Document parseRootElement(String messagePayload) {
+        XMLStreamReader reader = createXMLStreamReader(messagePayload);
+        try {
+            while (reader.hasNext() && reader.next() != XMLStreamConstants.START_ELEMENT) {
+                // skip prolog
+            }
+
+            if (!reader.isStartElement()) {
+                throw new CitrusRuntimeException("Failed to find root element in message payload");
+            }
+
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setNamespaceAware(true);
+            Document doc = factory.newDocumentBuilder().newDocument();
+
+            String prefix = reader.getPrefix();
+            doc.appendChild(doc.createElementNS(StringUtils.hasText(reader.getNamespaceURI()) ? reader.getNamespaceURI() : null,
+                    StringUtils.hasText(prefix) ? prefix + ":" + reader.getLocalName() : reader.getLocalName()));
+            return doc;
+        } catch (XMLStreamException | ParserConfigurationException e) {
+            throw new CitrusRuntimeException("Failed to read root element of message payload", e);
+        } finally {
+            try {
+                reader.close();
+            } catch (XMLStreamException e) {
+                // ignore
+            }
+        }
+    }
+
+    private static XMLInputFactory createXMLInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        factory.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, true);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setXMLResolver((publicId, systemId, baseUri, namespace) -> new ByteArrayInputStream(new byte[0]));
+        return factory;
+    }
+
     /**
      * Try to find encoding for document node. Also supports Citrus default encoding set
      * as System property.
@@ -59,7 +59,7 @@ public abstract class AbstractXmlDataDictionary extends AbstractDataDictionary<N
 
         LSSerializer serializer = XMLUtils.createLSSerializer();
 
-        serializer.setFilter(new TranslateFilter(context));
+        serializer.setFilter(new TranslateFilter(createTranslation(doc, context)));
 
         LSOutput output = XMLUtils.createLSOutput();
         String charset = XMLUtils.getTargetCharset(doc).displayName();
@@ -73,14 +73,33 @@ public abstract class AbstractXmlDataDictionary extends AbstractDataDictionary<N
         message.setPayload(writer.toString());
     }
 
+    /**
+     * Creates the translation applied to the elements and attributes of the given document. By default each node is
+     * translated on its own, subclasses may prepare document wide lookups once per document instead.
+     * @param doc the document to translate
+     * @param context the current test context
+     * @return the node translation
+     */
+    protected NodeTranslation createTranslation(Document doc, TestContext context) {
+        return (node, value) -> translate(node, value, context);
+    }
+
+    /**
+     * Translates the value of a single element or attribute node of the document.
+     */
+    @FunctionalInterface
+    protected interface NodeTranslation {
+        String translate(Node node, String value);
+    }
+
     /**
      * Serializer filter uses data dictionary translation on elements and attributes.
      */
-    private class TranslateFilter implements LSSerializerFilter {
-        private TestContext context;
+    private static class TranslateFilter implements LSSerializerFilter {
+        private final NodeTranslation translation;
 
-        public TranslateFilter(TestContext context) {
-            this.context = context;
+        public TranslateFilter(NodeTranslation translation) {
+            this.translation = translation;
         }
 
         @Override
@@ -92,9 +111,9 @@ public abstract class AbstractXmlDataDictionary extends AbstractDataDictionary<N
         public short acceptNode(Node node) {
             if (node instanceof Element element) {
                 if (StringUtils.hasText(DomUtils.getTextValue(element))) {
-                    element.setTextContent(translate(element, DomUtils.getTextValue(element), context));
+                    element.setTextContent(translation.translate(element, DomUtils.getTextValue(element)));
                 } else if (!element.hasChildNodes()) {
-                    String translated = translate(element, "", context);
+                    String translated = translation.translate(element, "");
                     if (StringUtils.hasText(translated)) {
                         element.appendChild(element.getOwnerDocument().createTextNode(translated));
                     }
@@ -103,7 +122,7 @@ public abstract class AbstractXmlDataDictionary extends AbstractDataDictionary<N
                 NamedNodeMap attributes = element.getAttributes();
                 for (int i = 0; i < attributes.getLength(); i++) {
                     Attr attribute = (Attr) attributes.item(i);
-                    attribute.setValue(translate(attribute, attribute.getNodeValue(), context));
+                    attribute.setValue(translation.translate(attribute, attribute.getNodeValue()));
                 }
             }
 
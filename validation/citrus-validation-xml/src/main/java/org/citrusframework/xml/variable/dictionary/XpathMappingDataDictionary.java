@@ -19,24 +19,33 @@ package org.citrusframework.xml.variable.dictionary;
 import org.citrusframework.xml.support.XmlValidationHelper;
 import org.citrusframework.api.common.InitializingPhase;
 import org.citrusframework.context.TestContext;
+import org.citrusframework.exceptions.CitrusRuntimeException;
 import org.citrusframework.xml.support.XMLUtils;
+import org.citrusframework.util.BoundedCache;
 import org.citrusframework.variable.dictionary.DataDictionary;
 import org.citrusframework.api.xml.namespace.DefaultNamespaceContext;
 import org.citrusframework.api.xml.namespace.NamespaceContextBuilder;
 import org.citrusframework.xml.xpath.XPathUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
-import javax.xml.namespace.NamespaceContext;
 import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import java.util.IdentityHashMap;
 import java.util.Map;
 
 /**
  * Xml data dictionary implementation maps elements via XPath expressions. When element is identified by some expression
  * in dictionary value is overwritten accordingly. Namespace context is either evaluated on the fly or by global namespace
  * context builder.
+ * <p>
+ * Each mapping expression is evaluated once per document. The resulting nodes are kept in an identity map holding the
+ * replacement values, which is applied when the document gets serialized. Compiled expressions are cached per namespace
+ * mappings and reused for subsequent messages.
  *
  * @since 1.4
  */
@@ -45,15 +54,19 @@ public class XpathMappingDataDictionary extends AbstractXmlDataDictionary implem
     /** Logger */
     private static final Logger logger = LoggerFactory.getLogger(XpathMappingDataDictionary.class);
 
+    /** Maximum number of cached compiled expressions, the least recently used expressions are evicted first */
+    private static final int MAX_COMPILED_EXPRESSIONS = 1024;
+
     private NamespaceContextBuilder namespaceContextBuilder;
 
+    /** Compiled mapping expressions by expression and namespace mappings */
+    private final BoundedCache<CompiledExpressionKey, XPathExpression> compiledExpressions = new BoundedCache<>(MAX_COMPILED_EXPRESSIONS);
+
     @Override
     public <T> T translate(Node node, T value, TestContext context) {
+        Map<String, String> namespaces = buildNamespaces(node.getOwnerDocument(), context);
         for (Map.Entry<String, String> expressionEntry : mappings.entrySet()) {
-            String expression = expressionEntry.getKey();
-
-            NodeList findings = (NodeList) XPathUtils.evaluateExpression(node.getOwnerDocument(), expression,
-                    buildNamespaceContext(node, context), XPathConstants.NODESET);
+            NodeList findings = evaluate(expressionEntry.getKey(), node.getOwnerDocument(), namespaces);
 
             if (findings != null && containsNode(findings, node)) {
                 if (logger.isDebugEnabled()) {
@@ -66,6 +79,62 @@ public class XpathMappingDataDictionary extends AbstractXmlDataDictionary implem
         return value;
     }
 
+    /**
+     * Evaluates all mapping expressions once on the document and collects the replacement values of the found nodes.
+     * When a node is found by several expressions the first mapping wins.
+     */
+    @Override
+    protected NodeTranslation createTranslation(Document doc, TestContext context) {
+        Map<String, String> namespaces = buildNamespaces(doc, context);
+        Map<Node, String> replacements = new IdentityHashMap<>();
+
+        for (Map.Entry<String, String> expressionEntry : mappings.entrySet()) {
+            NodeList findings = evaluate(expressionEntry.getKey(), doc, namespaces);
+            if (findings != null) {
+                for (int i = 0; i < findings.getLength(); i++) {
+                    replacements.putIfAbsent(findings.item(i), expressionEntry.getValue());
+                }
+            }
+        }
+
+        if (replacements.isEmpty()) {
+            return (node, value) -> value;
+        }
+
+        return (node, value) -> {
+            String replacement = replacements.get(node);
+            if (replacement == null) {
+                return value;
+            }
+
+            if (logger.isDebugEnabled()) {
+                logger.debug("Data dictionary setting element '{}' value: {}", XMLUtils.getNodesPathName(node), replacement);
+            }
+            return convertIfNecessary(replacement, value, context);
+        };
+    }
+
+    /**
+     * Evaluates the mapping expression on the document using a cached compiled expression.
+     */
+    private NodeList evaluate(String expression, Document doc, Map<String, String> namespaces) {
+        CompiledExpressionKey key = new CompiledExpressionKey(expression, namespaces);
+        XPathExpression compiled = compiledExpressions.computeIfAbsent(key, k -> {
+            DefaultNamespaceContext namespaceContext = new DefaultNamespaceContext();
+            namespaceContext.addNamespaces(namespaces);
+            return XPathUtils.compileExpression(expression, namespaceContext);
+        });
+
+        // compiled expressions are not thread safe
+        synchronized (compiled) {
+            try {
+                return (NodeList) compiled.evaluate(doc, XPathConstants.NODESET);
+            } catch (XPathExpressionException e) {
+                throw new CitrusRuntimeException("Can not evaluate xpath expression '" + expression + "'", e);
+            }
+        }
+    }
+
     /**
      * Checks if given node set contains node.
      * @param findings
@@ -83,22 +152,19 @@ public class XpathMappingDataDictionary extends AbstractXmlDataDictionary implem
     }
 
     /**
-     * Builds namespace context with dynamic lookup on received node document and global namespace mappings from
+     * Builds namespace mappings with dynamic lookup on the document and global namespace mappings from
      * namespace context builder.
-     * @param node the element node from message
+     * @param doc the message document
      * @param context the current test context
      * @return
      */
-    private NamespaceContext buildNamespaceContext(Node node, TestContext context) {
-        DefaultNamespaceContext simpleNamespaceContext = new DefaultNamespaceContext();
-        Map<String, String> namespaces = XMLUtils.lookupNamespaces(node.getOwnerDocument());
+    private Map<String, String> buildNamespaces(Document doc, TestContext context) {
+        Map<String, String> namespaces = XMLUtils.lookupNamespaces(doc);
 
         // add default namespace mappings
         namespaces.putAll(getNamespaceContextBuilder(context).getNamespaceMappings());
 
-        simpleNamespaceContext.addNamespaces(namespaces);
-
-        return simpleNamespaceContext;
+        return namespaces;
     }
 
     @Override
@@ -131,4 +197,11 @@ public class XpathMappingDataDictionary extends AbstractXmlDataDictionary implem
     public void setNamespaceContextBuilder(NamespaceContextBuilder namespaceContextBuilder) {
         this.namespaceContextBuilder = namespaceContextBuilder;
     }
+
+    /**
+     * Cache key of compiled mapping expressions. The namespace mappings are part of the key as they are bound
+     * to the expression on compilation.
+     */
+    private record CompiledExpressionKey(String expression, Map<String, String> namespaces) {
+    }
 }
@@ -285,6 +285,22 @@ public abstract class XPathUtils {
         return xpath.compile(xPathExpression);
     }
 
+    /**
+     * Compiles the expression with given namespace context. Compiled expressions are not thread safe, so callers
+     * reusing the expression must synchronize its evaluation.
+     *
+     * @param xPathExpression the expression.
+     * @param nsContext the context.
+     * @return the compiled expression.
+     */
+    public static XPathExpression compileExpression(String xPathExpression, NamespaceContext nsContext) {
+        try {
+            return buildExpression(xPathExpression, nsContext);
+        } catch (XPathExpressionException e) {
+            throw new CitrusRuntimeException("Can not compile xpath expression '" + xPathExpression + "'", e);
+        }
+    }
+
     /**
      * Method to find out whether an expression is of XPath nature or custom dot notation syntax.
      * @param expression the expression string to check.
@@ -18,6 +18,7 @@ package org.citrusframework.validation.xml;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -39,6 +40,7 @@ import org.citrusframework.validation.context.SchemaValidationContext;
 import org.citrusframework.validation.context.ValidationContext;
 import org.citrusframework.validation.context.json.JsonMessageValidationContext;
 import org.citrusframework.validation.context.xml.XmlMessageValidationContext;
+import org.citrusframework.validation.matcher.ValidationMatcherUtils;
 import org.citrusframework.validation.context.script.DefaultScriptValidationContext;
 import org.citrusframework.validation.xml.schema.XmlSchemaValidation;
 import org.citrusframework.xml.schema.XsdSchemaRepository;
@@ -767,6 +769,268 @@ public class DomXmlMessageValidatorTest extends UnitTestSupport {
         validator.validateMessage(message, controlMessage, context, validationContext);
     }
 
+    @Test
+    public void testValidateMessagePayloadCollectsAllDifferences() {
+        Message message = new DefaultMessage("<root>"
+                        + "<element attributeA='attribute-value' attributeB='wrong-value'>"
+                        + "<sub-element1 attribute='A'>wrong text</sub-element1>"
+                        + "<sub-element2 attribute='A'>THIS IS IGNORED BY XPATH</sub-element2>"
+                        + "<sub-element3 attribute='A'>a text</sub-element3>"
+                        + "<sub-element4 attribute='A'>other text</sub-element4>"
+                        + "</element>"
+                    + "</root>");
+
+        Message controlMessage = new DefaultMessage("<root>"
+                        + "<element attributeA='attribute-value' attributeB='attribute-value'>"
+                        + "<sub-element1 attribute='A'>text-value</sub-element1>"
+                        + "<sub-element2 attribute='A'>text-value</sub-element2>"
+                        + "<sub-element3 attribute='A'>a text</sub-element3>"
+                        + "<sub-element4 attribute='A'>@startsWith(text)@</sub-element4>"
+                        + "</element>"
+                    + "</root>");
+
+        XmlMessageValidationContext validationContext = new XmlMessageValidationContext.Builder()
+                .ignore("//root/element/sub-element2")
+                .build();
+
+        DomXmlMessageValidator validator = new DomXmlMessageValidator();
+        try {
+            validator.validateMessage(message, controlMessage, context, validationContext);
+            Assert.fail("Missing validation exception");
+        } catch (ValidationException e) {
+            Assert.assertEquals(e.getMessage(), "Values not equal for attribute 'attributeB', expected 'attribute-value' but was 'wrong-value'");
+            Assert.assertEquals(e.getSuppressed().length, 2);
+            Assert.assertEquals(e.getSuppressed()[0].getMessage(), "Node value not equal for element 'sub-element1', expected 'text-value' but was 'wrong text'");
+            Assert.assertTrue(e.getSuppressed()[1].getMessage().contains("sub-element4"), e.getSuppressed()[1].getMessage());
+        }
+    }
+
+    @Test
+    public void testValidateMessagePayloadKeepsValidationMatcherError() {
+        Message message = new DefaultMessage("<root>"
+                        + "<element attribute='attribute-value'>other text</element>"
+                    + "</root>");
+
+        Message controlMessage = new DefaultMessage("<root>"
+                        + "<element attribute='@startsWith(value)@'>@startsWith(text)@</element>"
+                    + "</root>");
+
+        DomXmlMessageValidator validator = new DomXmlMessageValidator();
+        try {
+            validator.validateMessage(message, controlMessage, context, new XmlMessageValidationContext());
+            Assert.fail("Missing validation exception");
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getMessage().contains("attribute"), e.getMessage());
+            Assert.assertTrue(Arrays.stream(e.getStackTrace())
+                    .anyMatch(element -> element.getClassName().equals(ValidationMatcherUtils.class.getName())));
+            Assert.assertEquals(e.getSuppressed().length, 1);
+            Assert.assertTrue(Arrays.stream(e.getSuppressed()[0].getStackTrace())
+                    .anyMatch(element -> element.getClassName().equals(ValidationMatcherUtils.class.getName())));
+        }
+    }
+
+    @Test
+    public void testValidateMessagePayloadLimitsReportedDifferences() {
+        StringBuilder receivedPayload = new StringBuilder("<root>");
+        StringBuilder controlPayload = new StringBuilder("<root>");
+        for (int i = 0; i < 25; i++) {
+            receivedPayload.append("<element>wrong-").append(i).append("</element>");
+            controlPayload.append("<element>value-").append(i).append("</element>");
+        }
+        receivedPayload.append("</root>");
+        controlPayload.append("</root>");
+
+        DomXmlMessageValidator validator = new DomXmlMessageValidator();
+        try {
+            validator.validateMessage(new DefaultMessage(receivedPayload.toString()), new DefaultMessage(controlPayload.toString()),
+                    context, new XmlMessageValidationContext());
+            Assert.fail("Missing validation exception");
+        } catch (ValidationException e) {
+            Assert.assertEquals(e.getMessage(), "Node value not equal for element 'element', expected 'value-0' but was 'wrong-0'");
+            Assert.assertEquals(e.getSuppressed().length, XmlDifferences.MAX_DIFFERENCES - 1);
+            Assert.assertEquals(e.getSuppressed()[XmlDifferences.MAX_DIFFERENCES - 2].getMessage(),
+                    "Node value not equal for element 'element', expected 'value-9' but was 'wrong-9'");
+        }
+    }
+
+    @Test
+    public void testStreamingValidationCollectsAllDifferences() {
+        Message message = new DefaultMessage("<root>"
+                        + "<element attributeA='attribute-value' attributeB='wrong-value'>"
+                        + "<sub-element1 attribute='A'>wrong text</sub-element1>"
+                        + "<sub-element2 attribute='A'>THIS IS IGNORED BY XPATH</sub-element2>"
+                        + "<sub-element3 attribute='A'>a text</sub-element3>"
+                        + "<sub-element4 attribute='A'>other text</sub-element4>"
+                        + "</element>"
+                        + "<list><item/><item/></list>"
+                    + "</root>");
+
+        Message controlMessage = new DefaultMessage("<root>"
+                        + "<element attributeA='attribute-value' attributeB='attribute-value'>"
+                        + "<sub-element1 attribute='A'>text-value</sub-element1>"
+                        + "<sub-element2 attribute='A'>text-value</sub-element2>"
+                        + "<sub-element3 attribute='A'>a text</sub-element3>"
+                        + "<sub-element4 attribute='A'>@startsWith(text)@</sub-element4>"
+                        + "</element>"
+                        + "<list><item/><item/><item/></list>"
+                    + "</root>");
+
+        XmlMessageValidationContext validationContext = new XmlMessageValidationContext.Builder()
+                .streaming(true)
+                .ignore("//root/element/sub-element2")
+                .build();
+
+        DomXmlMessageValidator validator = new DomXmlMessageValidator();
+        try {
+            validator.validateMessage(message, controlMessage, context, validationContext);
+            Assert.fail("Missing validation exception");
+        } catch (ValidationException e) {
+            Assert.assertEquals(e.getMessage(), "Values not equal for attribute 'attributeB', expected 'attribute-value' but was 'wrong-value'");
+            Assert.assertEquals(e.getSuppressed().length, 3);
+            Assert.assertEquals(e.getSuppressed()[0].getMessage(), "Node value not equal for element 'sub-element1', expected 'text-value' but was 'wrong text'");
+            Assert.assertTrue(e.getSuppressed()[1].getMessage().contains("sub-element4"), e.getSuppressed()[1].getMessage());
+            Assert.assertEquals(e.getSuppressed()[2].getMessage(), "Number of child elements not equal for element 'list', expected '3' but was '2'");
+        }
+    }
+
+    @Test
+    public void testStreamingValidation() {
+        StringBuilder receivedPayload = new StringBuilder("<ns0:root xmlns:ns0='http://citrusframework.org/test' xmlns:xs='http://www.w3.org/2001/XMLSchema'>"
+                + "<ns0:header id='4711' type='xs:string'>"
+                + "<ns0:timestamp>2024-01-01T10:00:00</ns0:timestamp>"
+                + "<ns0:comment><![CDATA[some <b>text</b>]]></ns0:comment>"
+                + "</ns0:header>");
+        StringBuilder controlPayload = new StringBuilder("<ns1:root xmlns:ns1='http://citrusframework.org/test' xmlns:xsd='http://www.w3.org/2001/XMLSchema'>"
+                + "<ns1:header id='0815' type='xsd:string'>"
+                + "<ns1:timestamp>@ignore@</ns1:timestamp>"
+                + "<ns1:comment>some &lt;b&gt;text&lt;/b&gt;</ns1:comment>"
+                + "</ns1:header>");
+
+        for (int i = 0; i < 10000; i++) {
+            receivedPayload.append("<ns0:item index='").append(i).append("'><ns0:value>value-").append(i).append("</ns0:value></ns0:item>");
+            controlPayload.append("<ns1:item index='@isNumber()@'><ns1:value>").append(i % 2 == 0 ? "value-" + i : "@ignore@").append("</ns1:value></ns1:item>");
+        }
+
+        receivedPayload.append("<ns0:trailer><ns0:checksum>unknown</ns0:checksum></ns0:trailer></ns0:root>");
+        controlPayload.append("<ns1:trailer><ns1:checksum>12345</ns1:checksum></ns1:trailer></ns1:root>");
+
+        XmlMessageValidationContext validationContext = new XmlMessageValidationContext.Builder()
+                .streaming(true)
+                .namespaceContext("test", "http://citrusframework.org/test")
+                .ignore("/test:root/test:header/@id")
+                .ignore("root.trailer.checksum")
+                .build();
+
+        validator.validateMessage(new DefaultMessage(receivedPayload.toString()), new DefaultMessage(controlPayload.toString()),
+                context, validationContext);
+    }
+
+    @Test
+    public void testStreamingValidationNamespaces() {
+        Message message = new DefaultMessage("<ns1:root xmlns='http://citrusframework.org/test' xmlns:ns1='http://citrusframework.org/ns1'>"
+                        + "<element>text</element>"
+                    + "</ns1:root>");
+
+        XmlMessageValidationContext validationContext = new XmlMessageValidationContext.Builder()
+                .streaming(true)
+                .namespace("", "http://citrusframework.org/test")
+                .namespace("ns1", "http://citrusframework.org/ns1")
+                .build();
+
+        validator.validateMessage(message, new DefaultMessage(), context, validationContext);
+
+        XmlMessageValidationContext wrongNamespaceContext = new XmlMessageValidationContext.Builder()
+                .streaming(true)
+                .namespace("", "http://citrusframework.org/test")
+                .namespace("ns1", "http://citrusframework.org/wrong")
+                .build();
+
+        try {
+            validator.validateMessage(message, new DefaultMessage(), context, wrongNamespaceContext);
+            Assert.fail("Missing validation exception");
+        } catch (ValidationException e) {
+            Assert.assertEquals(e.getMessage(), "Namespace 'ns1' values not equal: found 'http://citrusframework.org/ns1' " +
+                    "expected 'http://citrusframework.org/wrong' in reference node root");
+        }
+    }
+
+    @Test
+    public void testStreamingValidationReportsDifferencesInDocumentOrder() {
+        Message message = new DefaultMessage("<root>"
+                        + "<list>wrong<item attribute='wrong'/><item/></list>"
+                        + "<element attribute='wrong'>text<sub-element>wrong</sub-element></element>"
+                    + "</root>");
+
+        Message controlMessage = new DefaultMessage("<root>"
+                        + "<list>text<item attribute='value'/><item/><item/></list>"
+                        + "<element attribute='value'>other<sub-element>value</sub-element></element>"
+                    + "</root>");
+
+        List<String> differences = new ArrayList<>();
+        for (boolean streaming : new boolean[] { false, true }) {
+            try {
+                validator.validateMessage(message, controlMessage, context, new XmlMessageValidationContext.Builder()
+                        .streaming(streaming)
+                        .build());
+                Assert.fail("Missing validation exception");
+            } catch (ValidationException e) {
+                List<String> messages = new ArrayList<>();
+                messages.add(e.getMessage());
+                Arrays.stream(e.getSuppressed()).map(Throwable::getMessage).forEach(messages::add);
+
+                if (differences.isEmpty()) {
+                    differences.addAll(messages);
+                } else {
+                    Assert.assertEquals(messages, differences);
+                }
+            }
+        }
+
+        Assert.assertEquals(differences, List.of(
+                "Node value not equal for element 'list', expected 'text' but was 'wrong'",
+                "Number of child elements not equal for element 'list', expected '3' but was '2'",
+                "Values not equal for attribute 'attribute', expected 'value' but was 'wrong'",
+                "Node value not equal for element 'element', expected 'other' but was 'text'",
+                "Node value not equal for element 'sub-element', expected 'value' but was 'wrong'"));
+    }
+
+    @Test
+    public void testStreamingValidationRejectsUnsupportedIgnoreExpression() {
+        Message message = new DefaultMessage("<root><element>a</element><element>b</element></root>");
+        Message controlMessage = new DefaultMessage("<root><element>a</element><element>c</element></root>");
+
+        XmlMessageValidationContext validationContext = new XmlMessageValidationContext.Builder()
+                .streaming(true)
+                .ignore("//element[2]")
+                .ignore("root.element")
+                .build();
+
+        Assert.assertEquals(XmlStreamComparison.getUnsupportedExpressions(validationContext.getIgnoreExpressions()), List.of("//element[2]"));
+        try {
+            validator.validateMessage(message, controlMessage, context, validationContext);
+            Assert.fail("Missing validation exception");
+        } catch (ValidationException e) {
+            Assert.assertEquals(e.getMessage(), "Ignore expressions not supported in streaming XML validation: //element[2] - disable streaming to use these expressions");
+        }
+    }
+
+    @Test(expectedExceptions = ValidationException.class, expectedExceptionsMessageRegExp = ".*Invalid content was found starting with element '\\{\"http://citrusframework.org/test\":wrong\\}'.*")
+    public void testStreamingSchemaValidation() {
+        Message message = new DefaultMessage("  <message xmlns='http://citrusframework.org/test'>"
+                        + "<correlationId>Kx1R123456789</correlationId>"
+                        + "<wrong>Bx1G987654321</wrong>"
+                        + "<test>Hello TestFramework</test>"
+                    + "</message>");
+
+        XmlMessageValidationContext validationContext = new XmlMessageValidationContext.Builder()
+                .streaming(true)
+                .schemaValidation(true)
+                .schema("testSchema")
+                .build();
+
+        validator.validateMessage(message, new DefaultMessage(), context, validationContext);
+    }
+
     @Test(expectedExceptions = {ValidationException.class})
     public void testValidateMessagePayloadWithValidationMatchersFailsBecauseOfAttribute() {
         Message message = new DefaultMessage("<root>"
@@ -17,7 +17,9 @@
 package org.citrusframework.xml.variable.dictionary;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 import org.citrusframework.message.DefaultMessage;
 import org.citrusframework.message.Message;
@@ -89,6 +91,32 @@ public class XpathMappingDataDictionaryTest extends AbstractTestNGUnitTest {
                 </TestMessage>""");
     }
 
+    @Test
+    public void testTranslateLargeDocumentFirstMappingWins() {
+        Map<String, String> mappings = new LinkedHashMap<>();
+        mappings.put("//Item[@id='2']/Value", "special");
+        mappings.put("//Item/Value", "common");
+
+        XpathMappingDataDictionary dictionary = new XpathMappingDataDictionary();
+        dictionary.setMappings(mappings);
+
+        StringBuilder payload = new StringBuilder("<Items>");
+        for (int i = 0; i < 5000; i++) {
+            payload.append("<Item id=\"").append(i).append("\"><Value>value-").append(i).append("</Value></Item>");
+        }
+        payload.append("</Items>");
+
+        for (int run = 0; run < 2; run++) {
+            Message message = new DefaultMessage(payload.toString());
+            dictionary.processMessage(message, context);
+
+            String translated = message.getPayload(String.class);
+            Assert.assertTrue(Pattern.compile("<Item id=\"2\">\\s*<Value>special</Value>").matcher(translated).find(), translated.substring(0, 500));
+            Assert.assertFalse(translated.contains("value-"));
+            Assert.assertEquals(translated.split("<Value>common</Value>", -1).length - 1, 4999);
+        }
+    }
+
     @Test
     public void testTranslateWithNamespaceLookup() {
         Message message = new DefaultMessage("<?xml version=\"1.0\" encoding=\"UTF-8\"?><ns1:TestMessage xmlns:ns1=\"http://www.foo.bar\"><ns1:Text>Hello World!</ns1:Text><ns1:OtherText name=\"foo\">No changes</ns1:OtherText></ns1:TestMessage>");